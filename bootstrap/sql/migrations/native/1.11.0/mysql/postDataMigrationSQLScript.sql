@@ -96,3 +96,39 @@ SET json = JSON_SET(
 )
 WHERE json->>'$.name' IN ('CollateAITierAgentApplication', 'CollateAIQualityAgentApplication')
   AND json->>'$.appType' = 'internal' AND json->>'$.sourcePythonClass' IS NULL;
+
+-- Move the posts of feed threads out of the thread json into thread_post
+INSERT IGNORE INTO thread_post (threadId, postId, postTs, json)
+SELECT t.id, p.postId, COALESCE(p.postTs, t.createdAt), p.post
+FROM thread_entity t,
+     JSON_TABLE(t.json, '$.posts[*]' COLUMNS (
+         postId VARCHAR(36) PATH '$.id',
+         postTs BIGINT PATH '$.postTs',
+         post JSON PATH '$'
+     )) AS p
+WHERE p.postId IS NOT NULL;
+
+UPDATE thread_entity t
+JOIN (
+    SELECT threadId, COUNT(*) AS postsCount, MAX(postTs) AS lastPostTs
+    FROM thread_post
+    GROUP BY threadId
+) p ON p.threadId = t.id
+SET t.json = JSON_SET(JSON_REMOVE(t.json, '$.posts'), '$.postsCount', p.postsCount, '$.lastPostTs', p.lastPostTs)
+WHERE JSON_CONTAINS_PATH(t.json, 'one', '$.posts');
+
+UPDATE thread_entity
+SET json = JSON_SET(JSON_REMOVE(json, '$.posts'), '$.postsCount', 0)
+WHERE JSON_CONTAINS_PATH(json, 'one', '$.posts');
+
+-- Backfill the latest run of each ingestion pipeline
+INSERT IGNORE INTO ingestion_pipeline_latest_status (pipelineId, timestamp, json)
+SELECT latest.id, latest.timestamp, latest.json
+FROM (
+    SELECT p.id, s.timestamp, s.json,
+           ROW_NUMBER() OVER (PARTITION BY s.entityFQNHash ORDER BY s.timestamp DESC) AS rn
+    FROM entity_extension_time_series s
+    JOIN ingestion_pipeline_entity p ON p.fqnHash = s.entityFQNHash
+    WHERE s.extension = 'ingestionPipeline.pipelineStatus'
+) latest
+WHERE latest.rn = 1;
@@ -137,3 +137,69 @@ CREATE INDEX idx_entity_relationship_bidirectional
 ON entity_relationship(fromId, toId, relation, deleted);
 
 
+-- Keyset pagination indexes for change events and the consumer dead-letter queue
+-- Unprocessed events are listed newest first by (eventTime, offset)
+CREATE INDEX idx_change_event_time_offset ON change_event (eventTime, offset);
+
+-- Failed events are listed per subscription (and optionally per source) by (timestamp, extension)
+CREATE INDEX idx_consumers_dlq_id_timestamp_extension ON consumers_dlq (id, timestamp, extension);
+CREATE INDEX idx_consumers_dlq_id_source_timestamp_extension ON consumers_dlq (id, source, timestamp, extension);
+
+-- Posts of a feed thread are stored one row per post instead of inside the thread json
+CREATE TABLE IF NOT EXISTS thread_post (
+    threadId VARCHAR(36) NOT NULL,
+    postId VARCHAR(36) NOT NULL,
+    postTs BIGINT UNSIGNED NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (threadId, postId),
+    INDEX idx_thread_post_thread_ts (threadId, postTs)
+);
+
+-- Activity feed inbox of users and teams, filled when a thread is created or replied to
+CREATE TABLE IF NOT EXISTS activity_feed_inbox (
+    principalId VARCHAR(36) NOT NULL,
+    reason VARCHAR(16) NOT NULL,
+    threadId VARCHAR(36) NOT NULL,
+    PRIMARY KEY (principalId, reason, threadId),
+    INDEX idx_activity_feed_inbox_thread (threadId)
+);
+
+-- Materialized thread counts per entity link, thread type and task status
+CREATE TABLE IF NOT EXISTS thread_count (
+    entityId VARCHAR(36) NOT NULL,
+    entityLinkHash VARCHAR(32) NOT NULL,
+    entityLink VARCHAR(3072) NOT NULL,
+    type VARCHAR(64) NOT NULL,
+    taskStatus VARCHAR(64) NOT NULL DEFAULT '',
+    count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (entityId, entityLinkHash, type, taskStatus)
+);
+
+-- Glossary term search over name, displayName and synonyms, with the synonyms array flattened to
+-- space separated words. The ngram full-text index prefilters the substring LIKE; it is built
+-- without stopwords, so that no ngram of a term name is left out of it
+ALTER TABLE glossary_term_entity ADD COLUMN searchText TEXT GENERATED ALWAYS AS (LOWER(CONCAT_WS(' ', json ->> '$.name', json ->> '$.displayName', REPLACE(REPLACE(REPLACE(REPLACE(json ->> '$.synonyms', '", "', ' '), '["', ''), '"]', ''), '[]', '')))) STORED;
+SET SESSION innodb_ft_enable_stopword = OFF;
+CREATE FULLTEXT INDEX ft_glossary_term_search_text ON glossary_term_entity (searchText) WITH PARSER ngram;
+SET SESSION innodb_ft_enable_stopword = ON;
+
+-- Ancestor/descendant closure of the team hierarchy, maintained as team parents change. depth is
+-- the length of the shortest path from the ancestor down to the descendant
+CREATE TABLE IF NOT EXISTS team_closure (
+    ancestorId VARCHAR(36) NOT NULL,
+    descendantId VARCHAR(36) NOT NULL,
+    depth INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (ancestorId, descendantId),
+    INDEX idx_team_closure_descendant (descendantId, ancestorId)
+);
+
+-- Latest run of each ingestion pipeline, kept in sync with the pipelineStatus time series
+CREATE TABLE IF NOT EXISTS ingestion_pipeline_latest_status (
+    pipelineId VARCHAR(36) NOT NULL,
+    timestamp BIGINT UNSIGNED NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (pipelineId)
+);
+
+-- Incremental Data Insights runs list the entities of a type changed since the last run
+CREATE INDEX idx_change_event_entity_type_time ON change_event (entityType, eventTime);
@@ -100,3 +100,35 @@ SET json = jsonb_set(
 )
 WHERE json->>'name' IN ('CollateAIQualityAgentApplication', 'CollateAITierAgentApplication')
   AND json->>'appType' = 'internal' AND json->>'sourcePythonClass' IS NULL;
+
+-- Move the posts of feed threads out of the thread json into thread_post
+INSERT INTO thread_post (threadId, postId, postTs, json)
+SELECT t.id, p.post->>'id', COALESCE((p.post->>'postTs')::bigint, t.createdAt), p.post
+FROM thread_entity t
+CROSS JOIN LATERAL jsonb_array_elements(
+    CASE WHEN jsonb_typeof(t.json->'posts') = 'array' THEN t.json->'posts' ELSE '[]'::jsonb END
+) AS p(post)
+WHERE p.post->>'id' IS NOT NULL
+ON CONFLICT (threadId, postId) DO NOTHING;
+
+UPDATE thread_entity t
+SET json = (t.json - 'posts') || jsonb_build_object('postsCount', p.postsCount, 'lastPostTs', p.lastPostTs)
+FROM (
+    SELECT threadId, COUNT(*) AS postsCount, MAX(postTs) AS lastPostTs
+    FROM thread_post
+    GROUP BY threadId
+) p
+WHERE p.threadId = t.id AND jsonb_typeof(t.json->'posts') = 'array';
+
+UPDATE thread_entity
+SET json = (json - 'posts') || jsonb_build_object('postsCount', 0)
+WHERE jsonb_typeof(json->'posts') = 'array';
+
+-- Backfill the latest run of each ingestion pipeline
+INSERT INTO ingestion_pipeline_latest_status (pipelineId, timestamp, json)
+SELECT DISTINCT ON (s.entityFQNHash) p.id, s.timestamp, s.json
+FROM entity_extension_time_series s
+JOIN ingestion_pipeline_entity p ON p.fqnHash = s.entityFQNHash
+WHERE s.extension = 'ingestionPipeline.pipelineStatus'
+ORDER BY s.entityFQNHash, s.timestamp DESC
+ON CONFLICT (pipelineId) DO NOTHING;
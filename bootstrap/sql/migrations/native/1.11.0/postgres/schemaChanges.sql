@@ -166,3 +166,70 @@ CREATE INDEX IF NOT EXISTS idx_entity_relationship_bidirectional
 ON entity_relationship(fromId, toId, relation)
 WHERE deleted = FALSE;
 
+
+-- Keyset pagination indexes for change events and the consumer dead-letter queue
+-- Unprocessed events are listed newest first by (eventTime, offset)
+CREATE INDEX IF NOT EXISTS idx_change_event_time_offset ON change_event (eventTime, "offset");
+
+-- Failed events are listed per subscription (and optionally per source) by (timestamp, extension)
+CREATE INDEX IF NOT EXISTS idx_consumers_dlq_id_timestamp_extension ON consumers_dlq (id, timestamp, extension);
+CREATE INDEX IF NOT EXISTS idx_consumers_dlq_id_source_timestamp_extension ON consumers_dlq (id, source, timestamp, extension);
+
+-- Posts of a feed thread are stored one row per post instead of inside the thread json
+CREATE TABLE IF NOT EXISTS thread_post (
+    threadId VARCHAR(36) NOT NULL,
+    postId VARCHAR(36) NOT NULL,
+    postTs BIGINT NOT NULL,
+    json JSONB NOT NULL,
+    PRIMARY KEY (threadId, postId)
+);
+
+CREATE INDEX IF NOT EXISTS idx_thread_post_thread_ts ON thread_post (threadId, postTs);
+
+-- Activity feed inbox of users and teams, filled when a thread is created or replied to
+CREATE TABLE IF NOT EXISTS activity_feed_inbox (
+    principalId VARCHAR(36) NOT NULL,
+    reason VARCHAR(16) NOT NULL,
+    threadId VARCHAR(36) NOT NULL,
+    PRIMARY KEY (principalId, reason, threadId)
+);
+
+CREATE INDEX IF NOT EXISTS idx_activity_feed_inbox_thread ON activity_feed_inbox (threadId);
+
+-- Materialized thread counts per entity link, thread type and task status
+CREATE TABLE IF NOT EXISTS thread_count (
+    entityId VARCHAR(36) NOT NULL,
+    entityLinkHash VARCHAR(32) NOT NULL,
+    entityLink VARCHAR(3072) NOT NULL,
+    type VARCHAR(64) NOT NULL,
+    taskStatus VARCHAR(64) NOT NULL DEFAULT '',
+    count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (entityId, entityLinkHash, type, taskStatus)
+);
+
+-- Glossary term search over name, displayName and synonyms, backed by a trigram index. The
+-- synonyms array is flattened to space separated words
+ALTER TABLE glossary_term_entity ADD COLUMN IF NOT EXISTS searchText TEXT GENERATED ALWAYS AS (LOWER(COALESCE(json ->> 'name', '') || ' ' || COALESCE(json ->> 'displayName', '') || ' ' || REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(json ->> 'synonyms', ''), '", "', ' '), '["', ''), '"]', ''), '[]', ''))) STORED;
+CREATE INDEX IF NOT EXISTS gin_glossary_term_search_text_trgm ON glossary_term_entity USING GIN (searchText gin_trgm_ops);
+
+-- Ancestor/descendant closure of the team hierarchy, maintained as team parents change. depth is
+-- the length of the shortest path from the ancestor down to the descendant
+CREATE TABLE IF NOT EXISTS team_closure (
+    ancestorId VARCHAR(36) NOT NULL,
+    descendantId VARCHAR(36) NOT NULL,
+    depth INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (ancestorId, descendantId)
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_closure_descendant ON team_closure (descendantId, ancestorId);
+
+-- Latest run of each ingestion pipeline, kept in sync with the pipelineStatus time series
+CREATE TABLE IF NOT EXISTS ingestion_pipeline_latest_status (
+    pipelineId VARCHAR(36) NOT NULL,
+    timestamp BIGINT NOT NULL,
+    json JSONB NOT NULL,
+    PRIMARY KEY (pipelineId)
+);
+
+-- Incremental Data Insights runs list the entities of a type changed since the last run
+CREATE INDEX IF NOT EXISTS idx_change_event_entity_type_time ON change_event (entityType, eventTime);
@@ -17,6 +17,7 @@ import org.openmetadata.mcp.tools.DefaultToolContext;
 import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.apps.McpServerProvider;
+import org.openmetadata.service.events.lifecycle.EntityLifecycleEventDispatcher;
 import org.openmetadata.service.limits.Limits;
 import org.openmetadata.service.security.Authorizer;
 import org.openmetadata.service.security.JwtFilter;
@@ -60,6 +61,7 @@ public class McpServer implements McpServerProvider {
             new JwtFilter(
                 SecurityConfigurationManager.getCurrentAuthConfig(),
                 SecurityConfigurationManager.getCurrentAuthzConfig()));
+    EntityLifecycleEventDispatcher.getInstance().registerHandler(toolContext.getToolCache());
     List<McpSchema.Tool> tools = getTools();
     List<McpSchema.Prompt> prompts = getPrompts();
     addStatelessTransport(contextHandler, authFilter, tools, prompts);
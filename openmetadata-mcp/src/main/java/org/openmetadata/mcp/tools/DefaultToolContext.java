@@ -3,6 +3,7 @@ package org.openmetadata.mcp.tools;
 import static org.openmetadata.mcp.McpUtils.getToolProperties;
 
 import io.modelcontextprotocol.spec.McpSchema;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +15,15 @@ import org.openmetadata.service.security.auth.CatalogSecurityContext;
 
 @Slf4j
 public class DefaultToolContext {
+  private final McpToolCache toolCache = new McpToolCache();
+
   public DefaultToolContext() {}
 
+  /** Cache of read-only tool results, invalidated through entity lifecycle events. */
+  public McpToolCache getToolCache() {
+    return toolCache;
+  }
+
   /**
    * Loads tool definitions from a JSON file located at the specified path.
    * The JSON file should contain an array of tool definitions under the "tools" key.
@@ -39,13 +47,18 @@ public class DefaultToolContext {
     Map<String, Object> params = request.arguments();
     Object result;
     try {
+      if (McpToolCache.isCacheable(toolName)) {
+        String cachedResult =
+            toolCache.get(
+                securityContext.getUserPrincipal().getName(),
+                toolName,
+                params,
+                () -> callReadOnlyTool(authorizer, toolName, securityContext, params));
+        return new McpSchema.CallToolResult(
+            List.of(new McpSchema.TextContent(cachedResult)), false);
+      }
+
       switch (toolName) {
-        case "search_metadata":
-          result = new SearchMetadataTool().execute(authorizer, securityContext, params);
-          break;
-        case "get_entity_details":
-          result = new GetEntityTool().execute(authorizer, securityContext, params);
-          break;
         case "create_glossary":
           result = new GlossaryTool().execute(authorizer, limits, securityContext, params);
           break;
@@ -55,9 +68,6 @@ public class DefaultToolContext {
         case "patch_entity":
           result = new PatchEntityTool().execute(authorizer, securityContext, params);
           break;
-        case "get_entity_lineage":
-          result = new GetLineageTool().execute(authorizer, securityContext, params);
-          break;
         default:
           return new McpSchema.CallToolResult(
               List.of(
@@ -94,4 +104,20 @@ public class DefaultToolContext {
           true);
     }
   }
+
+  private String callReadOnlyTool(
+      Authorizer authorizer,
+      String toolName,
+      CatalogSecurityContext securityContext,
+      Map<String, Object> params)
+      throws IOException {
+    McpTool tool =
+        switch (toolName) {
+          case "search_metadata" -> new SearchMetadataTool();
+          case "get_entity_details" -> new GetEntityTool();
+          case "get_entity_lineage" -> new GetLineageTool();
+          default -> throw new IllegalArgumentException("Not a read-only tool: " + toolName);
+        };
+    return JsonUtils.pojoToJson(tool.execute(authorizer, securityContext, params));
+  }
 }
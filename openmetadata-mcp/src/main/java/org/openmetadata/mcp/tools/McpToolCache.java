@@ -0,0 +1,116 @@
+package org.openmetadata.mcp.tools;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.type.ChangeDescription;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.service.events.lifecycle.EntityLifecycleEventHandler;
+import org.openmetadata.service.security.policyevaluator.SubjectContext;
+
+/**
+ * Short-lived cache of read-only tool results, so that agents repeating the same tool call in a
+ * loop don't run the same search or entity lookup every time. Results are cached per user, since
+ * what a tool returns depends on the caller's permissions, and keyed by tool name and arguments.
+ *
+ * <p>Any entity change makes every cached result stale: a search or lineage result can depend on
+ * any entity, so results computed before the change are not served after it.
+ */
+@Slf4j
+public class McpToolCache implements EntityLifecycleEventHandler {
+  private static final Set<String> CACHEABLE_TOOLS =
+      Set.of("search_metadata", "get_entity_details", "get_entity_lineage");
+  private static final long EXPIRY_SECONDS = 30;
+  private static final long MAX_ENTRIES = 10000;
+
+  private final Cache<Key, Entry> cache =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_ENTRIES)
+          .expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS)
+          .build();
+  private final AtomicLong generation = new AtomicLong();
+
+  private record Key(String user, String toolName, Map<String, Object> arguments) {}
+
+  private record Entry(long generation, String result) {}
+
+  /** Runs the tool and returns its result as JSON. */
+  @FunctionalInterface
+  public interface ToolCall {
+    String call() throws Exception;
+  }
+
+  public static boolean isCacheable(String toolName) {
+    return CACHEABLE_TOOLS.contains(toolName);
+  }
+
+  /** Return the cached result of the call, or make the call and cache its result. */
+  public String get(String user, String toolName, Map<String, Object> arguments, ToolCall call)
+      throws Exception {
+    Key key = new Key(user, toolName, arguments != null ? new HashMap<>(arguments) : Map.of());
+    Entry cached = cache.getIfPresent(key);
+    if (cached != null && cached.generation() == generation.get()) {
+      return cached.result();
+    }
+    // Read the generation before the call, so a change made during the call isn't cached over
+    long callGeneration = generation.get();
+    String result = call.call();
+    if (callGeneration == generation.get()) {
+      cache.put(key, new Entry(callGeneration, result));
+    }
+    return result;
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public void onEntityCreated(EntityInterface entity, SubjectContext subjectContext) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onEntityUpdated(
+      EntityInterface entity, ChangeDescription changeDescription, SubjectContext subjectContext) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onEntityUpdated(EntityReference entityRef, SubjectContext subjectContext) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onEntityDeleted(EntityInterface entity, SubjectContext subjectContext) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onEntitySoftDeletedOrRestored(
+      EntityInterface entity, boolean isDeleted, SubjectContext subjectContext) {
+    invalidateAll();
+  }
+
+  @Override
+  public String getHandlerName() {
+    return "McpToolCache";
+  }
+
+  @Override
+  public boolean isAsync() {
+    // Invalidation is cheap, and must be visible as soon as the change is committed
+    return false;
+  }
+}
@@ -4,6 +4,7 @@ import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.service.search.SearchUtil.mapEntityTypesToIndexNames;
 import static org.openmetadata.service.security.DefaultAuthorizer.getSubjectContext;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.ws.rs.core.Response;
@@ -44,6 +45,9 @@ public class SearchMetadataTool implements McpTool {
           "tableType",
           "columnNames");
 
+  private static final TypeReference<Map<String, Object>> SEARCH_RESPONSE_TYPE =
+      new TypeReference<>() {};
+
   private static final List<String> DETAILED_EXCLUDE_KEYS =
       List.of(
           "id",
@@ -159,6 +163,14 @@ public class SearchMetadataTool implements McpTool {
         size,
         includeDeleted);
 
+    // Only fetch the fields the response is built from
+    List<String> sourceFields = new ArrayList<>(ESSENTIAL_FIELDS_ONLY);
+    for (String field : requestedFields) {
+      if (!sourceFields.contains(field)) {
+        sourceFields.add(field);
+      }
+    }
+
     SearchRequest searchRequest;
     if (!nullOrEmpty(queryFilter)) {
       // When queryFilter is provided, use it directly as it's already a transformed OpenSearch
@@ -170,6 +182,7 @@ public class SearchMetadataTool implements McpTool {
               .withSize(size)
               .withFrom(from)
               .withFetchSource(true)
+              .withIncludeSourceFields(sourceFields)
               .withDeleted(includeDeleted);
     } else {
       // Fallback to basic query when no queryFilter is provided
@@ -180,6 +193,7 @@ public class SearchMetadataTool implements McpTool {
               .withSize(size)
               .withFrom(from)
               .withFetchSource(true)
+              .withIncludeSourceFields(sourceFields)
               .withDeleted(includeDeleted);
     }
 
@@ -196,8 +210,7 @@ public class SearchMetadataTool implements McpTool {
     Map<String, Object> searchResponse;
     if (response.getEntity() instanceof String responseStr) {
       LOG.debug("Search returned string response");
-      JsonNode jsonNode = JsonUtils.readTree(responseStr);
-      searchResponse = JsonUtils.convertValue(jsonNode, Map.class);
+      searchResponse = JsonUtils.readValue(responseStr, SEARCH_RESPONSE_TYPE);
     } else {
       LOG.debug("Search returned object response: {}", response.getEntity().getClass().getName());
       searchResponse = JsonUtils.convertValue(response.getEntity(), Map.class);
@@ -0,0 +1,88 @@
+package org.openmetadata.mcp.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class McpToolCacheTest {
+
+  @Test
+  void testCachesIdenticalCallsPerUser() throws Exception {
+    McpToolCache cache = new McpToolCache();
+    AtomicInteger calls = new AtomicInteger();
+    McpToolCache.ToolCall call = () -> "result-" + calls.incrementAndGet();
+
+    String first = cache.get("alice", "search_metadata", Map.of("query", "orders"), call);
+    String repeated = cache.get("alice", "search_metadata", Map.of("query", "orders"), call);
+    String otherUser = cache.get("bob", "search_metadata", Map.of("query", "orders"), call);
+    String otherQuery = cache.get("alice", "search_metadata", Map.of("query", "users"), call);
+
+    assertEquals("result-1", first);
+    assertEquals("result-1", repeated);
+    assertEquals("result-2", otherUser);
+    assertEquals("result-3", otherQuery);
+  }
+
+  @Test
+  void testEntityChangesInvalidateResults() throws Exception {
+    McpToolCache cache = new McpToolCache();
+    AtomicInteger calls = new AtomicInteger();
+    McpToolCache.ToolCall call = () -> "result-" + calls.incrementAndGet();
+
+    Map<String, Object> params = Map.of("entity_type", "table", "fqn", "svc.db.orders");
+
+    cache.get("alice", "get_entity_details", params, call);
+    cache.onEntityUpdated(null, null, null);
+    String afterUpdate = cache.get("alice", "get_entity_details", params, call);
+
+    assertEquals("result-2", afterUpdate);
+  }
+
+  @Test
+  void testDoesNotCacheResultsComputedDuringAChange() throws Exception {
+    McpToolCache cache = new McpToolCache();
+    AtomicInteger calls = new AtomicInteger();
+
+    cache.get(
+        "alice",
+        "get_entity_lineage",
+        Map.of("fqn", "svc.db.orders"),
+        () -> {
+          cache.onEntityDeleted(null, null);
+          return "result-" + calls.incrementAndGet();
+        });
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testDoesNotCacheFailures() {
+    McpToolCache cache = new McpToolCache();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            cache.get(
+                "alice",
+                "search_metadata",
+                Map.of(),
+                () -> {
+                  throw new IllegalStateException("search unavailable");
+                }));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testOnlyReadOnlyToolsAreCacheable() {
+    assertTrue(McpToolCache.isCacheable("search_metadata"));
+    assertTrue(McpToolCache.isCacheable("get_entity_details"));
+    assertTrue(McpToolCache.isCacheable("get_entity_lineage"));
+    assertFalse(McpToolCache.isCacheable("patch_entity"));
+    assertFalse(McpToolCache.isCacheable("create_glossary"));
+  }
+}
@@ -1,7 +1,11 @@
 package org.openmetadata.sdk.api;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.openmetadata.sdk.client.OpenMetadataClient;
+import org.openmetadata.sdk.services.bulk.BulkItemResult;
+import org.openmetadata.sdk.services.bulk.BulkOperationRunner;
 
 /**
  * Pure Fluent API for Bulk operations.
@@ -10,11 +14,14 @@ import org.openmetadata.sdk.client.OpenMetadataClient;
  *
  * Usage Examples:
  * <pre>
- * // Bulk load entities
+ * // Bulk load entities, 200 per request with up to 8 requests in flight
  * var results = Bulk.load()
  *     .entities(tableList)
  *     .updateIfExists(true)
  *     .dryRun(false)
+ *     .chunkSize(200)
+ *     .parallelism(8)
+ *     .onProgress((processed, failed, total) -> log(processed, total))
  *     .execute();
  *
  * // Bulk export entities
@@ -114,9 +121,53 @@ public final class Bulk {
     return new BulkValidator(getClient());
   }
 
+  // ==================== Chunked Operations ====================
+
+  /**
+   * Settings shared by the builders that send their items in chunks: chunk size, number of chunks
+   * in flight, retries of retryable failures and progress reporting. See {@link
+   * BulkOperationRunner}.
+   */
+  public abstract static class ChunkedOperation<B extends ChunkedOperation<B>> {
+    protected final BulkOperationRunner runner = new BulkOperationRunner();
+
+    public B chunkSize(int chunkSize) {
+      runner.chunkSize(chunkSize);
+      return self();
+    }
+
+    public B parallelism(int parallelism) {
+      runner.parallelism(parallelism);
+      return self();
+    }
+
+    public B maxRetries(int maxRetries) {
+      runner.maxRetries(maxRetries);
+      return self();
+    }
+
+    public B onProgress(BulkOperationRunner.ProgressListener progressListener) {
+      runner.onProgress(progressListener);
+      return self();
+    }
+
+    @SuppressWarnings("unchecked")
+    private B self() {
+      return (B) this;
+    }
+  }
+
+  private static Map<String, List<String>> groupIdsByType(List<EntityRef> entities) {
+    Map<String, List<String>> entitiesByType = new LinkedHashMap<>();
+    for (EntityRef entity : entities) {
+      entitiesByType.computeIfAbsent(entity.type, k -> new ArrayList<>()).add(entity.id);
+    }
+    return entitiesByType;
+  }
+
   // ==================== Bulk Importer ====================
 
-  public static class BulkImporter {
+  public static class BulkImporter extends ChunkedOperation<BulkImporter> {
     private final OpenMetadataClient client;
     private final List<Object> entities = new ArrayList<>();
     private boolean updateIfExists = false;
@@ -160,11 +211,15 @@ public final class Bulk {
     public BulkImportResults execute() {
       // For now, use bulkCreate as bulkImport doesn't exist
       // This would need to be enhanced based on actual API capabilities
-      String result =
-          updateIfExists
-              ? client.bulk().bulkUpdate("entity", entities)
-              : client.bulk().bulkCreate("entity", entities);
-      return new BulkImportResults(result);
+      // A create that timed out may have been applied, so it is not sent again
+      runner.idempotent(updateIfExists);
+      return new BulkImportResults(
+          runner.run(
+              Map.of("entity", entities),
+              (type, chunk) ->
+                  updateIfExists
+                      ? client.bulk().bulkUpdateAsync(type, chunk)
+                      : client.bulk().bulkCreateAsync(type, chunk)));
     }
   }
 
@@ -221,7 +276,7 @@ public final class Bulk {
 
   // ==================== Bulk Tag Updater ====================
 
-  public static class BulkTagUpdater {
+  public static class BulkTagUpdater extends ChunkedOperation<BulkTagUpdater> {
     private final OpenMetadataClient client;
     private final List<EntityRef> entities = new ArrayList<>();
     private final Set<String> tagsToAdd = new HashSet<>();
@@ -264,25 +319,22 @@ public final class Bulk {
     }
 
     public BulkUpdateResults execute() {
-      // Process tags for each entity type
-      // Group entities by type for bulk operations
-      Map<String, List<String>> entitiesByType = new HashMap<>();
-      for (EntityRef entity : entities) {
-        entitiesByType.computeIfAbsent(entity.type, k -> new ArrayList<>()).add(entity.id);
-      }
-
-      StringBuilder results = new StringBuilder();
-      for (Map.Entry<String, List<String>> entry : entitiesByType.entrySet()) {
-        if (!tagsToAdd.isEmpty()) {
-          client.bulk().bulkAddTags(entry.getKey(), entry.getValue(), new ArrayList<>(tagsToAdd));
-        }
-        if (!tagsToRemove.isEmpty()) {
-          client
-              .bulk()
-              .bulkRemoveTags(entry.getKey(), entry.getValue(), new ArrayList<>(tagsToRemove));
-        }
-      }
-      return new BulkUpdateResults(results.toString());
+      List<String> added = new ArrayList<>(tagsToAdd);
+      List<String> removed = new ArrayList<>(tagsToRemove);
+      // Tags of a chunk are added, then removed, before the chunk counts as done
+      return new BulkUpdateResults(
+          runner.run(
+              groupIdsByType(entities),
+              (type, ids) -> {
+                CompletableFuture<String> result =
+                    added.isEmpty()
+                        ? CompletableFuture.completedFuture(null)
+                        : client.bulk().bulkAddTagsAsync(type, ids, added);
+                return removed.isEmpty()
+                    ? result
+                    : result.thenCompose(
+                        ignored -> client.bulk().bulkRemoveTagsAsync(type, ids, removed));
+              }));
     }
 
     private Map<String, Object> buildRequest() {
@@ -296,7 +348,7 @@ public final class Bulk {
 
   // ==================== Bulk Deleter ====================
 
-  public static class BulkDeleter {
+  public static class BulkDeleter extends ChunkedOperation<BulkDeleter> {
     private final OpenMetadataClient client;
     private final List<EntityRef> entities = new ArrayList<>();
     private boolean hardDelete = false;
@@ -333,16 +385,10 @@ public final class Bulk {
       return this;
     }
 
-    public void confirm() {
-      // Group entities by type for bulk deletion
-      Map<String, List<String>> entitiesByType = new HashMap<>();
-      for (EntityRef entity : entities) {
-        entitiesByType.computeIfAbsent(entity.type, k -> new ArrayList<>()).add(entity.id);
-      }
-
-      for (Map.Entry<String, List<String>> entry : entitiesByType.entrySet()) {
-        client.bulk().bulkDelete(entry.getKey(), entry.getValue());
-      }
+    public BulkUpdateResults confirm() {
+      return new BulkUpdateResults(
+          runner.run(
+              groupIdsByType(entities), (type, ids) -> client.bulk().bulkDeleteAsync(type, ids)));
     }
   }
 
@@ -493,29 +539,34 @@ public final class Bulk {
   // ==================== Result Classes ====================
 
   public static class BulkImportResults {
-    private final String rawResults;
+    private final List<BulkItemResult<Object>> results;
 
-    BulkImportResults(String rawResults) {
-      this.rawResults = rawResults;
+    BulkImportResults(List<BulkItemResult<Object>> results) {
+      this.results = results;
     }
 
+    /** Raw responses of the requests that succeeded, one per line. */
     public String getRaw() {
-      return rawResults;
+      return rawResponses(results);
+    }
+
+    public List<BulkItemResult<Object>> getResults() {
+      return results;
     }
 
     public int getSuccessCount() {
-      // Parse and return
-      return 0;
+      return (int) results.stream().filter(BulkItemResult::isSuccess).count();
     }
 
     public int getFailureCount() {
-      // Parse and return
-      return 0;
+      return results.size() - getSuccessCount();
     }
 
     public List<ImportError> getErrors() {
-      // Parse and return errors
-      return new ArrayList<>();
+      return results.stream()
+          .filter(result -> !result.isSuccess())
+          .map(result -> new ImportError(String.valueOf(result.getItem()), result.getError()))
+          .toList();
     }
   }
 
@@ -543,26 +594,54 @@ public final class Bulk {
 
   public static class BulkUpdateResults {
     private final String rawResults;
+    private final List<BulkItemResult<String>> results;
 
     BulkUpdateResults(String rawResults) {
       this.rawResults = rawResults;
+      this.results = List.of();
+    }
+
+    BulkUpdateResults(List<BulkItemResult<String>> results) {
+      this.rawResults = rawResponses(results);
+      this.results = results;
     }
 
     public String getRaw() {
       return rawResults;
     }
 
+    /** Outcome of each entity id, with its entity type as group. */
+    public List<BulkItemResult<String>> getResults() {
+      return results;
+    }
+
     public int getUpdatedCount() {
-      // Parse and return
-      return 0;
+      return getUpdatedIds().size();
     }
 
     public List<String> getUpdatedIds() {
-      // Parse and return
-      return new ArrayList<>();
+      return results.stream()
+          .filter(BulkItemResult::isSuccess)
+          .map(BulkItemResult::getItem)
+          .toList();
+    }
+
+    public List<String> getFailedIds() {
+      return results.stream()
+          .filter(result -> !result.isSuccess())
+          .map(BulkItemResult::getItem)
+          .toList();
     }
   }
 
+  private static String rawResponses(List<? extends BulkItemResult<?>> results) {
+    return results.stream()
+        .map(BulkItemResult::getResponse)
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(Collectors.joining("\n"));
+  }
+
   public static class BulkPatchResults {
     private final String rawResults;
 
@@ -12,6 +12,12 @@ public class OpenMetadataConfig {
   private final int writeTimeout;
   private final boolean debug;
   private final boolean testMode;
+  private final int maxIdleConnections;
+  private final long keepAliveDuration;
+  private final int maxRequests;
+  private final int maxRequestsPerHost;
+  private final boolean compressRequests;
+  private final int responseCacheSize;
 
   private OpenMetadataConfig(Builder builder) {
     this.baseUrl = builder.baseUrl;
@@ -22,6 +28,12 @@ public class OpenMetadataConfig {
     this.writeTimeout = builder.writeTimeout;
     this.debug = builder.debug;
     this.testMode = builder.testMode;
+    this.maxIdleConnections = builder.maxIdleConnections;
+    this.keepAliveDuration = builder.keepAliveDuration;
+    this.maxRequests = builder.maxRequests;
+    this.maxRequestsPerHost = builder.maxRequestsPerHost;
+    this.compressRequests = builder.compressRequests;
+    this.responseCacheSize = builder.responseCacheSize;
   }
 
   public String getBaseUrl() {
@@ -60,6 +72,30 @@ public class OpenMetadataConfig {
     return baseUrl;
   }
 
+  public int getMaxIdleConnections() {
+    return maxIdleConnections;
+  }
+
+  public long getKeepAliveDuration() {
+    return keepAliveDuration;
+  }
+
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  public int getMaxRequestsPerHost() {
+    return maxRequestsPerHost;
+  }
+
+  public boolean isCompressRequests() {
+    return compressRequests;
+  }
+
+  public int getResponseCacheSize() {
+    return responseCacheSize;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -73,6 +109,12 @@ public class OpenMetadataConfig {
     private int writeTimeout = 60000; // 60 seconds
     private boolean debug = false;
     private boolean testMode = false;
+    private int maxIdleConnections = 5;
+    private long keepAliveDuration = 300000; // 5 minutes
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private boolean compressRequests = false;
+    private int responseCacheSize = 0; // disabled
 
     private Builder() {}
 
@@ -131,10 +173,58 @@ public class OpenMetadataConfig {
       return this;
     }
 
+    /** Idle connections kept in the pool for reuse. */
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      this.maxIdleConnections = maxIdleConnections;
+      return this;
+    }
+
+    /** Time in milliseconds an idle pooled connection is kept before being closed. */
+    public Builder keepAliveDuration(long keepAliveDuration) {
+      this.keepAliveDuration = keepAliveDuration;
+      return this;
+    }
+
+    /** Async requests running at once; further requests are queued. */
+    public Builder maxRequests(int maxRequests) {
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    /** Async requests running at once against the server. */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    /** Gzip request bodies above 1 KB. Responses are always accepted gzip-encoded. */
+    public Builder compressRequests(boolean compressRequests) {
+      this.compressRequests = compressRequests;
+      return this;
+    }
+
+    /**
+     * Keep the last {@code responseCacheSize} GET responses carrying an ETag and revalidate them
+     * with conditional requests. 0 disables the cache.
+     */
+    public Builder responseCacheSize(int responseCacheSize) {
+      this.responseCacheSize = responseCacheSize;
+      return this;
+    }
+
     public OpenMetadataConfig build() {
       if (baseUrl == null || baseUrl.trim().isEmpty()) {
         throw new IllegalArgumentException("Base URL is required");
       }
+      if (maxIdleConnections < 0 || keepAliveDuration <= 0) {
+        throw new IllegalArgumentException("Invalid connection pool settings");
+      }
+      if (maxRequests < 1 || maxRequestsPerHost < 1) {
+        throw new IllegalArgumentException("Max requests must be at least 1");
+      }
+      if (responseCacheSize < 0) {
+        throw new IllegalArgumentException("Response cache size must not be negative");
+      }
       return new OpenMetadataConfig(this);
     }
   }
@@ -1,6 +1,7 @@
 package org.openmetadata.sdk.fluent.request;
 
 import java.util.function.Function;
+import org.openmetadata.sdk.models.AutoPagingIterable;
 import org.openmetadata.sdk.models.ListParams;
 import org.openmetadata.sdk.models.ListResponse;
 
@@ -126,7 +127,7 @@ public class ListRequest<T> {
    * @return An iterable that fetches pages on demand
    */
   public Iterable<T> fetchAll() {
-    return new PaginatedIterable<>(listFunction, params);
+    return new AutoPagingIterable<>(listFunction, params);
   }
 
   /**
@@ -141,68 +142,4 @@ public class ListRequest<T> {
       fetch().getData().forEach(callback);
     }
   }
-
-  /**
-   * Private helper class for paginated iteration.
-   */
-  private static class PaginatedIterable<T> implements Iterable<T> {
-    private final Function<ListParams, ListResponse<T>> listFunction;
-    private final ListParams initialParams;
-
-    PaginatedIterable(Function<ListParams, ListResponse<T>> listFunction, ListParams params) {
-      this.listFunction = listFunction;
-      this.initialParams = params.copy();
-    }
-
-    @Override
-    public java.util.Iterator<T> iterator() {
-      return new PaginatedIterator<>(listFunction, initialParams);
-    }
-  }
-
-  /**
-   * Private helper class for paginated iterator.
-   */
-  private static class PaginatedIterator<T> implements java.util.Iterator<T> {
-    private final Function<ListParams, ListResponse<T>> listFunction;
-    private final ListParams params;
-    private ListResponse<T> currentPage;
-    private java.util.Iterator<T> currentIterator;
-
-    PaginatedIterator(Function<ListParams, ListResponse<T>> listFunction, ListParams params) {
-      this.listFunction = listFunction;
-      this.params = params;
-      fetchNextPage();
-    }
-
-    private void fetchNextPage() {
-      currentPage = listFunction.apply(params);
-      currentIterator = currentPage.getData().iterator();
-
-      // Update params for next page
-      if (currentPage.getPaging() != null && currentPage.getPaging().getAfter() != null) {
-        params.setAfter(currentPage.getPaging().getAfter());
-      }
-    }
-
-    @Override
-    public boolean hasNext() {
-      if (currentIterator.hasNext()) {
-        return true;
-      }
-
-      // Check if there are more pages
-      if (currentPage.getPaging() != null && currentPage.getPaging().getAfter() != null) {
-        fetchNextPage();
-        return currentIterator.hasNext();
-      }
-
-      return false;
-    }
-
-    @Override
-    public T next() {
-      return currentIterator.next();
-    }
-  }
 }
@@ -0,0 +1,152 @@
+package org.openmetadata.sdk.models;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterable over all the items of a list endpoint, following the {@code after} cursor of each page.
+ * Pages are fetched lazily, so only the current page (and the prefetched one) is held in memory.
+ *
+ * <p>With an executor, the next page is requested as soon as a page is received, so that it is
+ * usually ready by the time the current page has been consumed. A caller stopping before the last
+ * page should close the stream, or the iterator, so that the prefetch is cancelled.
+ *
+ * Usage:
+ * <pre>
+ * for (Table table : client.tables().listAll(new ListParams().setLimit(100))) {
+ *   process(table);
+ * }
+ *
+ * client.tables().stream(new ListParams().setLimit(100)).filter(...).forEach(...);
+ *
+ * try (Stream&lt;Table&gt; tables = client.tables().stream(params, executor)) {
+ *   return tables.filter(...).findFirst();
+ * }
+ * </pre>
+ *
+ * @param <T> The entity type being listed
+ */
+public class AutoPagingIterable<T> implements Iterable<T> {
+  private final Function<ListParams, ListResponse<T>> listFunction;
+  private final ListParams initialParams;
+  private final Executor prefetchExecutor;
+
+  public AutoPagingIterable(Function<ListParams, ListResponse<T>> listFunction, ListParams params) {
+    this(listFunction, params, null);
+  }
+
+  /**
+   * @param prefetchExecutor Executor fetching the next page in the background, or null to fetch
+   *     each page when the previous one is exhausted
+   */
+  public AutoPagingIterable(
+      Function<ListParams, ListResponse<T>> listFunction,
+      ListParams params,
+      Executor prefetchExecutor) {
+    this.listFunction = listFunction;
+    this.initialParams = params != null ? params.copy() : new ListParams();
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  @Override
+  public AutoPagingIterator<T> iterator() {
+    return new AutoPagingIterator<>(listFunction, initialParams.copy(), prefetchExecutor);
+  }
+
+  /** Stream over all the items. Closing the stream cancels the prefetch of the next page. */
+  public Stream<T> stream() {
+    AutoPagingIterator<T> iterator = iterator();
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(iterator::close);
+  }
+
+  /** Iterator over all the items, to be closed when the iteration stops before the last page. */
+  public static final class AutoPagingIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Function<ListParams, ListResponse<T>> listFunction;
+    private final ListParams params;
+    private final Executor prefetchExecutor;
+    private Iterator<T> currentPage = Collections.emptyIterator();
+    private CompletableFuture<ListResponse<T>> nextPage;
+    private boolean hasMorePages = true;
+
+    private AutoPagingIterator(
+        Function<ListParams, ListResponse<T>> listFunction,
+        ListParams params,
+        Executor prefetchExecutor) {
+      this.listFunction = listFunction;
+      this.params = params;
+      this.prefetchExecutor = prefetchExecutor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      // Pages may come back empty while later pages still have items
+      while (!currentPage.hasNext() && hasMorePages) {
+        loadNextPage();
+      }
+      return currentPage.hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return currentPage.next();
+    }
+
+    /**
+     * Stop the iteration. A prefetch still waiting for the executor is cancelled before it sends
+     * its request; the result of one already running is discarded.
+     */
+    @Override
+    public void close() {
+      if (nextPage != null) {
+        nextPage.cancel(false);
+        nextPage = null;
+      }
+      currentPage = Collections.emptyIterator();
+      hasMorePages = false;
+    }
+
+    private void loadNextPage() {
+      ListResponse<T> page = nextPage != null ? join(nextPage) : listFunction.apply(params.copy());
+      nextPage = null;
+      currentPage =
+          page.getData() != null ? page.getData().iterator() : Collections.emptyIterator();
+
+      String after = page.getPaging() != null ? page.getPaging().getAfter() : null;
+      hasMorePages = after != null && !after.equals(params.getAfter());
+      if (hasMorePages) {
+        params.setAfter(after);
+        if (prefetchExecutor != null) {
+          ListParams nextParams = params.copy();
+          nextPage =
+              CompletableFuture.supplyAsync(() -> listFunction.apply(nextParams), prefetchExecutor);
+        }
+      }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw e;
+      }
+    }
+  }
+}
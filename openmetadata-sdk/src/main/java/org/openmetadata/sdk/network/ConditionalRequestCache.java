@@ -0,0 +1,98 @@
+package org.openmetadata.sdk.network;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Client-side cache of GET responses, keyed by URL and revalidated on every use.
+ *
+ * <p>GETs ask the server for a content ETag, which hashes the returned entity. A response carrying
+ * one is kept, and the next GET of the same URL is sent with it in {@code If-None-Match}. The
+ * server answers 304 without a body while the entity, including its relationships, is unchanged,
+ * and the cached body is returned instead. Entries are never served without revalidation, so the
+ * cache cannot return stale entities.
+ *
+ * <p>At most {@code maxEntries} responses are kept, least recently used first out. Bodies larger
+ * than {@link #MAX_BODY_BYTES} are not cached.
+ */
+public class ConditionalRequestCache implements Interceptor {
+  static final long MAX_BODY_BYTES = 1024 * 1024;
+  static final String CONTENT_ETAG_HEADER = "X-Content-ETag";
+
+  private final Map<String, Entry> entries;
+  private final AtomicLong hitCount = new AtomicLong();
+
+  public ConditionalRequestCache(int maxEntries) {
+    this.entries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+              }
+            });
+  }
+
+  private record Entry(String etag, byte[] body, MediaType contentType) {}
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    if (!"GET".equals(request.method()) || request.header("If-None-Match") != null) {
+      return chain.proceed(request);
+    }
+
+    String key = request.url().toString();
+    Entry cached = entries.get(key);
+    Request.Builder conditional = request.newBuilder().header(CONTENT_ETAG_HEADER, "true");
+    if (cached != null) {
+      conditional.header("If-None-Match", cached.etag());
+    }
+    request = conditional.build();
+
+    Response response = chain.proceed(request);
+    if (response.code() == 304 && cached != null) {
+      response.close();
+      hitCount.incrementAndGet();
+      return response
+          .newBuilder()
+          .code(200)
+          .message("OK")
+          .body(ResponseBody.create(cached.body(), cached.contentType()))
+          .build();
+    }
+
+    String etag = response.header(CONTENT_ETAG_HEADER);
+    ResponseBody body = response.body();
+    if (response.code() == 200 && etag != null && body != null) {
+      byte[] bytes = response.peekBody(MAX_BODY_BYTES + 1).bytes();
+      if (bytes.length <= MAX_BODY_BYTES) {
+        entries.put(key, new Entry(etag, bytes, body.contentType()));
+        return response;
+      }
+    }
+    entries.remove(key);
+    return response;
+  }
+
+  /** Number of requests answered from the cache after a 304. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+}
@@ -0,0 +1,54 @@
+package org.openmetadata.sdk.network;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Gzips request bodies of at least {@code minBytes}. The compressed body is buffered so that the
+ * request still carries a Content-Length. Bodies of unknown length are sent as they are.
+ */
+public class GzipRequestInterceptor implements Interceptor {
+  public static final long DEFAULT_MIN_BYTES = 1024;
+
+  private final long minBytes;
+
+  public GzipRequestInterceptor() {
+    this(DEFAULT_MIN_BYTES);
+  }
+
+  public GzipRequestInterceptor(long minBytes) {
+    this.minBytes = minBytes;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    RequestBody body = request.body();
+    if (body == null
+        || request.header("Content-Encoding") != null
+        || body.contentLength() < minBytes) {
+      return chain.proceed(request);
+    }
+    return chain.proceed(
+        request
+            .newBuilder()
+            .header("Content-Encoding", "gzip")
+            .method(request.method(), gzip(body))
+            .build());
+  }
+
+  private static RequestBody gzip(RequestBody body) throws IOException {
+    Buffer compressed = new Buffer();
+    try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+      body.writeTo(sink);
+    }
+    return RequestBody.create(compressed.readByteString(), body.contentType());
+  }
+}
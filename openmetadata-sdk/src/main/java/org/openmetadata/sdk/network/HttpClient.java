@@ -1,5 +1,9 @@
 package org.openmetadata.sdk.network;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import org.openmetadata.sdk.exceptions.OpenMetadataException;
 
@@ -37,4 +41,30 @@ public interface HttpClient {
 
   CompletableFuture<String> executeForStringAsync(
       HttpMethod method, String path, Object requestBody, RequestOptions options);
+
+  /**
+   * Execute a request and read the response body with {@code reader} while it is received, instead
+   * of buffering it into a String first. The stream is closed once the reader returns.
+   */
+  default <T> T executeForStream(
+      HttpMethod method,
+      String path,
+      Object requestBody,
+      RequestOptions options,
+      ResponseReader<T> reader)
+      throws OpenMetadataException {
+    String response = executeForString(method, path, requestBody, options);
+    try (InputStream body =
+        new ByteArrayInputStream(
+            response != null ? response.getBytes(StandardCharsets.UTF_8) : new byte[0])) {
+      return reader.read(body);
+    } catch (IOException e) {
+      throw new OpenMetadataException("Failed to parse response: " + e.getMessage(), e);
+    }
+  }
+
+  @FunctionalInterface
+  interface ResponseReader<T> {
+    T read(InputStream body) throws IOException;
+  }
 }
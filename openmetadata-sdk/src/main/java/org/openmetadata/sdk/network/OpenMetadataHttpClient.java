@@ -1,15 +1,19 @@
 package org.openmetadata.sdk.network;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -33,21 +37,49 @@ public class OpenMetadataHttpClient implements HttpClient {
   private final OkHttpClient okHttpClient;
   private final ObjectMapper objectMapper;
   private final OpenMetadataConfig config;
+  private final ConditionalRequestCache responseCache;
 
   public OpenMetadataHttpClient(OpenMetadataConfig config) {
     this.config = config;
     this.objectMapper =
         new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(config.getMaxRequests());
+    dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+    // OkHttp negotiates HTTP/2 over TLS and transparently requests and decodes gzip responses
     OkHttpClient.Builder builder =
         new OkHttpClient.Builder()
             .connectTimeout(config.getConnectTimeout(), TimeUnit.MILLISECONDS)
             .readTimeout(config.getReadTimeout(), TimeUnit.MILLISECONDS)
-            .writeTimeout(config.getWriteTimeout(), TimeUnit.MILLISECONDS);
+            .writeTimeout(config.getWriteTimeout(), TimeUnit.MILLISECONDS)
+            .connectionPool(
+                new ConnectionPool(
+                    config.getMaxIdleConnections(),
+                    config.getKeepAliveDuration(),
+                    TimeUnit.MILLISECONDS))
+            .dispatcher(dispatcher);
+
+    this.responseCache =
+        config.getResponseCacheSize() > 0
+            ? new ConditionalRequestCache(config.getResponseCacheSize())
+            : null;
+    if (responseCache != null) {
+      builder.addInterceptor(responseCache);
+    }
+    if (config.isCompressRequests()) {
+      builder.addInterceptor(new GzipRequestInterceptor());
+    }
 
     this.okHttpClient = builder.build();
   }
 
+  /** The client-side response cache, or null when {@code responseCacheSize} is 0. */
+  public ConditionalRequestCache getResponseCache() {
+    return responseCache;
+  }
+
   @Override
   public <T> T execute(HttpMethod method, String path, Object requestBody, Class<T> responseClass)
       throws OpenMetadataException {
@@ -166,6 +198,32 @@ public class OpenMetadataHttpClient implements HttpClient {
     return future;
   }
 
+  @Override
+  public <T> T executeForStream(
+      HttpMethod method,
+      String path,
+      Object requestBody,
+      RequestOptions options,
+      ResponseReader<T> reader)
+      throws OpenMetadataException {
+    Request request = buildRequest(method, path, requestBody, options);
+
+    try (Response response = okHttpClient.newCall(request).execute()) {
+      if (!response.isSuccessful()) {
+        handleErrorResponse(response);
+      }
+      ResponseBody responseBody = response.body();
+      if (responseBody == null) {
+        return null;
+      }
+      try (InputStream body = responseBody.byteStream()) {
+        return reader.read(body);
+      }
+    } catch (IOException e) {
+      throw new OpenMetadataException("Network error: " + e.getMessage(), e);
+    }
+  }
+
   private Request buildRequest(
       HttpMethod method, String path, Object requestBody, RequestOptions options) {
     HttpUrl.Builder urlBuilder = HttpUrl.parse(config.getBaseUrl() + path).newBuilder();
@@ -249,12 +307,12 @@ public class OpenMetadataHttpClient implements HttpClient {
         return null;
       }
 
-      try {
-        String responseString = responseBody.string();
-        if (responseString.isEmpty()) {
+      // Parse from the body stream rather than buffering the whole response into a String
+      try (JsonParser parser = objectMapper.getFactory().createParser(responseBody.byteStream())) {
+        if (parser.nextToken() == null) {
           return null;
         }
-        return objectMapper.readValue(responseString, responseClass);
+        return objectMapper.readValue(parser, responseClass);
       } catch (IOException e) {
         throw new OpenMetadataException("Failed to parse response: " + e.getMessage(), e);
       }
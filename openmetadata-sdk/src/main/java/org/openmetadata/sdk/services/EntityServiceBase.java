@@ -1,8 +1,12 @@
 package org.openmetadata.sdk.services;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flipkart.zjsonpatch.JsonDiff;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -11,9 +15,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import okhttp3.HttpUrl;
 import org.openmetadata.sdk.exceptions.OpenMetadataException;
 import org.openmetadata.sdk.models.AllModels;
+import org.openmetadata.sdk.models.AutoPagingIterable;
 import org.openmetadata.sdk.models.ListParams;
 import org.openmetadata.sdk.models.ListResponse;
 import org.openmetadata.sdk.network.HttpClient;
@@ -100,41 +107,80 @@ public abstract class EntityServiceBase<T> {
 
   public ListResponse<T> list(ListParams params) throws OpenMetadataException {
     RequestOptions options = RequestOptions.builder().queryParams(params.toQueryParams()).build();
-    // Use executeForString and manually deserialize with TypeReference to preserve generic type
-    String responseStr = httpClient.executeForString(HttpMethod.GET, basePath, null, options);
-    return deserializeListResponse(responseStr);
+    // Parse the page while it is received, with the entity class to preserve the generic type
+    return httpClient.executeForStream(
+        HttpMethod.GET, basePath, null, options, this::readListResponse);
   }
 
+  /**
+   * Iterate over all the entities matching {@code params}, following the {@code after} cursor from
+   * page to page. {@code params.getLimit()} sets the page size.
+   */
+  public AutoPagingIterable<T> listAll(ListParams params) {
+    return new AutoPagingIterable<>(this::list, params);
+  }
+
+  /**
+   * Like {@link #listAll(ListParams)}, fetching the next page on {@code prefetchExecutor} while the
+   * current page is being consumed. Close the iterator when stopping early, to cancel the prefetch.
+   */
+  public AutoPagingIterable<T> listAll(ListParams params, Executor prefetchExecutor) {
+    return new AutoPagingIterable<>(this::list, params, prefetchExecutor);
+  }
+
+  public Stream<T> stream(ListParams params) {
+    return new AutoPagingIterable<>(this::list, params).stream();
+  }
+
+  /** Close the stream when not consuming it to the end, to cancel the prefetch of the next page. */
+  public Stream<T> stream(ListParams params, Executor prefetchExecutor) {
+    return new AutoPagingIterable<>(this::list, params, prefetchExecutor).stream();
+  }
+
+  /**
+   * @deprecated {@link #list(ListParams)} parses the response while it is received and no longer
+   *     calls this method. Override {@link #readListResponse(InputStream)} to customize it.
+   */
+  @Deprecated
   protected ListResponse<T> deserializeListResponse(String json) throws OpenMetadataException {
-    // Default implementation using Jackson with proper type handling
-    try {
-      // First parse as generic JSON to get the structure
-      JsonNode rootNode = objectMapper.readTree(json);
+    try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      return readListResponse(parser);
+    } catch (IOException e) {
+      throw new OpenMetadataException("Failed to deserialize list response: " + e.getMessage(), e);
+    }
+  }
 
-      // Create new ListResponse
-      ListResponse<T> response = new ListResponse<>();
+  protected ListResponse<T> readListResponse(InputStream body) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+      return readListResponse(parser);
+    }
+  }
 
-      // Parse data array with proper type
-      if (rootNode.has("data") && rootNode.get("data").isArray()) {
+  /**
+   * Read a list response token by token, binding each entity of {@code data} as it is reached, so
+   * that neither the response text nor a tree of the whole page is built.
+   */
+  private ListResponse<T> readListResponse(JsonParser parser) throws IOException {
+    ListResponse<T> response = new ListResponse<>();
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new OpenMetadataException("Failed to deserialize list response: expected an object");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("data".equals(fieldName) && value == JsonToken.START_ARRAY) {
         List<T> items = new ArrayList<>();
-        for (JsonNode node : rootNode.get("data")) {
-          T item = objectMapper.treeToValue(node, getEntityClass());
-          items.add(item);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          items.add(objectMapper.readValue(parser, getEntityClass()));
         }
         response.setData(items);
+      } else if ("paging".equals(fieldName) && value == JsonToken.START_OBJECT) {
+        response.setPaging(objectMapper.readValue(parser, AllModels.Paging.class));
+      } else {
+        parser.skipChildren();
       }
-
-      // Parse paging if present
-      if (rootNode.has("paging")) {
-        AllModels.Paging paging =
-            objectMapper.treeToValue(rootNode.get("paging"), AllModels.Paging.class);
-        response.setPaging(paging);
-      }
-
-      return response;
-    } catch (Exception e) {
-      throw new OpenMetadataException("Failed to deserialize list response: " + e.getMessage(), e);
     }
+    return response;
   }
 
   public T update(UUID id, T entity) throws OpenMetadataException {
@@ -70,4 +70,24 @@ public class BulkAPI {
     return httpClient.executeForString(
         HttpMethod.DELETE, String.format("/v1/bulk/%s/tags", entityType), requestBody);
   }
+
+  public CompletableFuture<String> bulkAddTagsAsync(
+      String entityType, List<String> entityIds, List<String> tags) {
+    Map<String, Object> requestBody =
+        Map.of(
+            "entityIds", entityIds,
+            "tags", tags);
+    return httpClient.executeForStringAsync(
+        HttpMethod.POST, String.format("/v1/bulk/%s/tags", entityType), requestBody);
+  }
+
+  public CompletableFuture<String> bulkRemoveTagsAsync(
+      String entityType, List<String> entityIds, List<String> tags) {
+    Map<String, Object> requestBody =
+        Map.of(
+            "entityIds", entityIds,
+            "tags", tags);
+    return httpClient.executeForStringAsync(
+        HttpMethod.DELETE, String.format("/v1/bulk/%s/tags", entityType), requestBody);
+  }
 }
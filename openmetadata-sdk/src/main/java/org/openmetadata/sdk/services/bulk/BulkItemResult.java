@@ -0,0 +1,61 @@
+package org.openmetadata.sdk.services.bulk;
+
+/**
+ * Outcome of one item of a bulk operation. {@code response} is the raw response of the request
+ * that carried the item, {@code error} the message of the last failure.
+ *
+ * @param <I> The item type, e.g. an entity or an entity id
+ */
+public class BulkItemResult<I> {
+  private final String group;
+  private final I item;
+  private final boolean success;
+  private final String response;
+  private final String error;
+  private final int attempts;
+
+  private BulkItemResult(
+      String group, I item, boolean success, String response, String error, int attempts) {
+    this.group = group;
+    this.item = item;
+    this.success = success;
+    this.response = response;
+    this.error = error;
+    this.attempts = attempts;
+  }
+
+  public static <I> BulkItemResult<I> success(
+      String group, I item, String response, int attempts) {
+    return new BulkItemResult<>(group, item, true, response, null, attempts);
+  }
+
+  public static <I> BulkItemResult<I> failure(String group, I item, String error, int attempts) {
+    return new BulkItemResult<>(group, item, false, null, error, attempts);
+  }
+
+  /** Group the item was sent with, e.g. its entity type. */
+  public String getGroup() {
+    return group;
+  }
+
+  public I getItem() {
+    return item;
+  }
+
+  public boolean isSuccess() {
+    return success;
+  }
+
+  public String getResponse() {
+    return response;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  /** Number of requests made for the item, 1 when it was not retried. */
+  public int getAttempts() {
+    return attempts;
+  }
+}
@@ -0,0 +1,258 @@
+package org.openmetadata.sdk.services.bulk;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.openmetadata.sdk.exceptions.OpenMetadataException;
+import org.openmetadata.sdk.exceptions.RateLimitException;
+
+/**
+ * Runs a bulk operation as chunks of at most {@code chunkSize} items, with at most {@code
+ * parallelism} chunks in flight through the async client.
+ *
+ * <p>A chunk failing with a retryable error (rate limit, timeout, server error or network error)
+ * is retried up to {@code maxRetries} times with exponential backoff. A rate limit response with a
+ * Retry-After header waits that long instead, up to the maximum backoff. A chunk that is not
+ * {@link #idempotent(boolean) idempotent} is only retried when the server did not process it. Every
+ * item of a chunk gets the outcome of its chunk.
+ *
+ * Usage:
+ * <pre>
+ * List&lt;BulkItemResult&lt;String&gt;&gt; results =
+ *     new BulkOperationRunner()
+ *         .chunkSize(200)
+ *         .parallelism(8)
+ *         .onProgress((processed, failed, total) -&gt; log(processed, total))
+ *         .run(Map.of("table", tableIds), (type, ids) -&gt; bulk.bulkDeleteAsync(type, ids));
+ * </pre>
+ */
+public class BulkOperationRunner {
+  public static final int DEFAULT_CHUNK_SIZE = 100;
+  public static final int DEFAULT_PARALLELISM = 4;
+  public static final int DEFAULT_MAX_RETRIES = 3;
+  public static final long DEFAULT_BACKOFF_MILLIS = 500;
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  private int parallelism = DEFAULT_PARALLELISM;
+  private int maxRetries = DEFAULT_MAX_RETRIES;
+  private long backoffMillis = DEFAULT_BACKOFF_MILLIS;
+  private boolean idempotent = true;
+  private ProgressListener progressListener;
+
+  /** Called each time a chunk completes, successfully or not. */
+  @FunctionalInterface
+  public interface ProgressListener {
+    void onProgress(int processedItems, int failedItems, int totalItems);
+  }
+
+  /** Sends one chunk of items of the same group, e.g. the same entity type. */
+  @FunctionalInterface
+  public interface ChunkCall<I> {
+    CompletableFuture<String> call(String group, List<I> items);
+  }
+
+  public BulkOperationRunner chunkSize(int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be at least 1");
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  public BulkOperationRunner parallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public BulkOperationRunner maxRetries(int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("Max retries must not be negative");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  public BulkOperationRunner backoffMillis(long backoffMillis) {
+    if (backoffMillis < 0) {
+      throw new IllegalArgumentException("Backoff must not be negative");
+    }
+    this.backoffMillis = backoffMillis;
+    return this;
+  }
+
+  /**
+   * Whether sending a chunk twice has the same effect as sending it once. A create is not: when a
+   * timed out create was applied by the server, its retry fails with a conflict. Chunks that are
+   * not idempotent are only retried on rate limits, unavailable servers and refused connections.
+   */
+  public BulkOperationRunner idempotent(boolean idempotent) {
+    this.idempotent = idempotent;
+    return this;
+  }
+
+  public BulkOperationRunner onProgress(ProgressListener progressListener) {
+    this.progressListener = progressListener;
+    return this;
+  }
+
+  /**
+   * Run {@code call} over the chunks of every group and wait for all of them. Results are returned
+   * in the order of the items within each group.
+   */
+  public <I> List<BulkItemResult<I>> run(Map<String, List<I>> itemsByGroup, ChunkCall<I> call) {
+    List<Chunk<I>> chunks = new ArrayList<>();
+    int totalItems = 0;
+    for (Map.Entry<String, List<I>> entry : itemsByGroup.entrySet()) {
+      List<I> items = entry.getValue();
+      for (int from = 0; from < items.size(); from += chunkSize) {
+        chunks.add(
+            new Chunk<>(
+                entry.getKey(),
+                new ArrayList<>(items.subList(from, Math.min(from + chunkSize, items.size())))));
+      }
+      totalItems += items.size();
+    }
+
+    Semaphore permits = new Semaphore(parallelism);
+    AtomicInteger processedItems = new AtomicInteger();
+    AtomicInteger failedItems = new AtomicInteger();
+    List<CompletableFuture<Void>> inFlight = new ArrayList<>(chunks.size());
+    int total = totalItems;
+    try {
+      for (Chunk<I> chunk : chunks) {
+        permits.acquire();
+        inFlight.add(
+            attempt(chunk, call, 1)
+                .handle(
+                    (response, error) -> {
+                      chunk.complete(response, error);
+                      int failed =
+                          error != null
+                              ? failedItems.addAndGet(chunk.items.size())
+                              : failedItems.get();
+                      int processed = processedItems.addAndGet(chunk.items.size());
+                      if (progressListener != null) {
+                        progressListener.onProgress(processed, failed, total);
+                      }
+                      return (Void) null;
+                    })
+                .whenComplete((ignored, error) -> permits.release()));
+      }
+      CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OpenMetadataException("Bulk operation interrupted", e);
+    } catch (ExecutionException e) {
+      throw new OpenMetadataException("Bulk operation failed: " + e.getMessage(), e.getCause());
+    }
+
+    List<BulkItemResult<I>> results = new ArrayList<>(total);
+    for (Chunk<I> chunk : chunks) {
+      results.addAll(chunk.results);
+    }
+    return results;
+  }
+
+  private <I> CompletableFuture<String> attempt(Chunk<I> chunk, ChunkCall<I> call, int attempt) {
+    chunk.attempts = attempt;
+    CompletableFuture<String> response;
+    try {
+      response = call.call(chunk.group, chunk.items);
+    } catch (RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    return response
+        .handle(
+            (result, error) -> {
+              if (error == null) {
+                return CompletableFuture.completedFuture(result);
+              }
+              Throwable cause = unwrap(error);
+              if (attempt > maxRetries || !isRetryable(cause, idempotent)) {
+                return CompletableFuture.<String>failedFuture(cause);
+              }
+              return CompletableFuture.runAsync(
+                      () -> {},
+                      CompletableFuture.delayedExecutor(
+                          backoff(attempt, cause), TimeUnit.MILLISECONDS))
+                  .thenCompose(ignored -> attempt(chunk, call, attempt + 1));
+            })
+        .thenCompose(Function.identity());
+  }
+
+  long backoff(int attempt, Throwable error) {
+    if (error instanceof RateLimitException rateLimit && rateLimit.getRetryAfterSeconds() > 0) {
+      return Math.min(
+          MAX_BACKOFF_MILLIS, TimeUnit.SECONDS.toMillis(rateLimit.getRetryAfterSeconds()));
+    }
+    return Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt - 1, 16));
+  }
+
+  static boolean isRetryable(Throwable error) {
+    return isRetryable(error, true);
+  }
+
+  /**
+   * Rate limits, unavailable servers and refused connections were not processed, so they
+   * are always retried. Timeouts, other network errors and other server errors may have been
+   * applied, so they are only retried when the call is idempotent.
+   */
+  static boolean isRetryable(Throwable error, boolean idempotent) {
+    if (error instanceof ConnectException || error.getCause() instanceof ConnectException) {
+      return true;
+    }
+    if (error instanceof IOException || error.getCause() instanceof IOException) {
+      return idempotent;
+    }
+    if (error instanceof OpenMetadataException openMetadataException) {
+      int statusCode = openMetadataException.getStatusCode();
+      if (statusCode == 429 || statusCode == 503) {
+        return true;
+      }
+      return idempotent && (statusCode == 408 || statusCode >= 500);
+    }
+    return false;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    while (error instanceof CompletionException && error.getCause() != null) {
+      error = error.getCause();
+    }
+    return error;
+  }
+
+  private static class Chunk<I> {
+    private final String group;
+    private final List<I> items;
+    private final List<BulkItemResult<I>> results = new ArrayList<>();
+    private volatile int attempts;
+
+    Chunk(String group, List<I> items) {
+      this.group = group;
+      this.items = items;
+    }
+
+    void complete(String response, Throwable error) {
+      Throwable cause = error != null ? unwrap(error) : null;
+      for (I item : items) {
+        results.add(
+            cause == null
+                ? BulkItemResult.success(group, item, response, attempts)
+                : BulkItemResult.failure(group, item, cause.getMessage(), attempts));
+      }
+    }
+  }
+}
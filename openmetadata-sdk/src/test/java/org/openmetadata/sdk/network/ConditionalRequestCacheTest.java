@@ -0,0 +1,159 @@
+package org.openmetadata.sdk.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Map;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.sdk.config.OpenMetadataConfig;
+
+class ConditionalRequestCacheTest {
+  private static final String CONTENT_ETAG = ConditionalRequestCache.CONTENT_ETAG_HEADER;
+  private static final String TABLE_JSON = "{\"id\":\"%s\",\"name\":\"%s\"}";
+
+  private MockWebServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  private OpenMetadataHttpClient client(int responseCacheSize, boolean compressRequests) {
+    return new OpenMetadataHttpClient(
+        OpenMetadataConfig.builder()
+            .baseUrl(server.url("/api").toString())
+            .accessToken("token")
+            .responseCacheSize(responseCacheSize)
+            .compressRequests(compressRequests)
+            .build());
+  }
+
+  private static String table(String name) {
+    return String.format(TABLE_JSON, "6b2ee6f5-4c41-4ea1-a2f6-6d5cd4b1b1d3", name);
+  }
+
+  @Test
+  void testRevalidatesCachedResponse() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody(table("orders")).setHeader(CONTENT_ETAG, "\"v1\""));
+    server.enqueue(new MockResponse().setResponseCode(304).setHeader(CONTENT_ETAG, "\"v1\""));
+    OpenMetadataHttpClient client = client(10, false);
+
+    Table first = client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+    Table second = client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+
+    assertEquals("orders", first.getName());
+    assertEquals("orders", second.getName());
+    RecordedRequest firstRequest = server.takeRequest();
+    assertEquals("true", firstRequest.getHeader(CONTENT_ETAG));
+    assertNull(firstRequest.getHeader("If-None-Match"));
+    assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+    assertEquals(1, client.getResponseCache().getHitCount());
+  }
+
+  @Test
+  void testReplacesEntryWhenEntityChanged() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody(table("orders")).setHeader(CONTENT_ETAG, "\"v1\""));
+    server.enqueue(
+        new MockResponse().setBody(table("orders_v2")).setHeader(CONTENT_ETAG, "\"v2\""));
+    server.enqueue(new MockResponse().setResponseCode(304).setHeader(CONTENT_ETAG, "\"v2\""));
+    OpenMetadataHttpClient client = client(10, false);
+
+    client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+    Table changed = client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+    Table cached = client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+
+    assertEquals("orders_v2", changed.getName());
+    assertEquals("orders_v2", cached.getName());
+    server.takeRequest();
+    server.takeRequest();
+    assertEquals("\"v2\"", server.takeRequest().getHeader("If-None-Match"));
+  }
+
+  @Test
+  void testEvictsLeastRecentlyUsedEntries() throws InterruptedException {
+    for (int i = 0; i < 3; i++) {
+      server.enqueue(
+          new MockResponse().setBody(table("t" + i)).setHeader(CONTENT_ETAG, "\"" + i + "\""));
+    }
+    server.enqueue(new MockResponse().setBody(table("t0")).setHeader(CONTENT_ETAG, "\"0\""));
+    OpenMetadataHttpClient client = client(2, false);
+
+    for (int i = 0; i < 3; i++) {
+      client.execute(HttpMethod.GET, "/v1/tables/" + i, null, Table.class);
+    }
+    client.execute(HttpMethod.GET, "/v1/tables/0", null, Table.class);
+
+    assertEquals(2, client.getResponseCache().size());
+    for (int i = 0; i < 3; i++) {
+      server.takeRequest();
+    }
+    assertNull(server.takeRequest().getHeader("If-None-Match"));
+  }
+
+  @Test
+  void testCacheDisabledByDefault() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody(table("orders")).setHeader(CONTENT_ETAG, "\"v1\""));
+    server.enqueue(new MockResponse().setBody(table("orders")).setHeader(CONTENT_ETAG, "\"v1\""));
+    OpenMetadataHttpClient client = client(0, false);
+
+    client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+    client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+
+    assertNull(client.getResponseCache());
+    server.takeRequest();
+    assertNull(server.takeRequest().getHeader("If-None-Match"));
+  }
+
+  @Test
+  void testCompressesLargeRequestBodies() throws Exception {
+    server.enqueue(new MockResponse().setBody(table("orders")));
+    server.enqueue(new MockResponse().setBody(table("orders")));
+    OpenMetadataHttpClient client = client(0, true);
+    String description = "x".repeat(4096);
+
+    client.execute(HttpMethod.PUT, "/v1/tables", Map.of("description", description), Table.class);
+    client.execute(HttpMethod.PUT, "/v1/tables", Map.of("description", "small"), Table.class);
+
+    RecordedRequest large = server.takeRequest();
+    assertEquals("gzip", large.getHeader("Content-Encoding"));
+    assertTrue(large.getBodySize() < 4096);
+    String decompressed = Okio.buffer(new GzipSource(large.getBody())).readUtf8();
+    assertEquals("{\"description\":\"" + description + "\"}", decompressed);
+
+    RecordedRequest small = server.takeRequest();
+    assertNull(small.getHeader("Content-Encoding"));
+    assertEquals("{\"description\":\"small\"}", small.getBody().readUtf8());
+  }
+
+  @Test
+  void testDecodesGzipResponses() throws Exception {
+    Buffer compressed = new Buffer();
+    try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+      sink.writeUtf8(table("orders"));
+    }
+    server.enqueue(new MockResponse().setBody(compressed).setHeader("Content-Encoding", "gzip"));
+    OpenMetadataHttpClient client = client(0, false);
+
+    Table table = client.execute(HttpMethod.GET, "/v1/tables/1", null, Table.class);
+
+    assertEquals("orders", table.getName());
+    assertEquals("gzip", server.takeRequest().getHeader("Accept-Encoding"));
+  }
+}
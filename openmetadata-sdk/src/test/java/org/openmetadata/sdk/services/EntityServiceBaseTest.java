@@ -5,15 +5,26 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.sdk.client.OpenMetadataClient;
+import org.openmetadata.sdk.models.AutoPagingIterable;
+import org.openmetadata.sdk.models.ListParams;
 import org.openmetadata.sdk.models.ListResponse;
+import org.openmetadata.sdk.network.HttpClient;
 import org.openmetadata.sdk.network.HttpMethod;
 import org.openmetadata.sdk.network.OpenMetadataHttpClient;
 import org.openmetadata.sdk.network.RequestOptions;
@@ -186,9 +197,9 @@ class EntityServiceBaseTest {
 
     ArgumentCaptor<RequestOptions> paramsCaptor = ArgumentCaptor.forClass(RequestOptions.class);
 
-    when(mockHttpClient.executeForString(
-            eq(HttpMethod.GET), eq("/v1/tables"), isNull(), paramsCaptor.capture()))
-        .thenReturn(jsonResponse);
+    when(mockHttpClient.executeForStream(
+            eq(HttpMethod.GET), eq("/v1/tables"), isNull(), paramsCaptor.capture(), any()))
+        .thenAnswer(invocation -> readResponse(invocation, jsonResponse));
 
     ListResponse<Table> result = tableService.list();
 
@@ -196,6 +207,74 @@ class EntityServiceBaseTest {
     assertEquals(2, result.getData().size());
   }
 
+  @Test
+  void testListAllFollowsCursors() {
+    Map<String, String> pages =
+        Map.of(
+            "",
+            "{\"data\":[{\"name\":\"table1\"},{\"name\":\"table2\"}],"
+                + "\"paging\":{\"after\":\"c1\"}}",
+            "c1",
+            "{\"data\":[],\"paging\":{\"after\":\"c2\"}}",
+            "c2",
+            "{\"data\":[{\"name\":\"table3\"}],\"paging\":{\"total\":3}}");
+
+    when(mockHttpClient.executeForStream(
+            eq(HttpMethod.GET), eq("/v1/tables"), isNull(), any(RequestOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              RequestOptions options = invocation.getArgument(3);
+              String after = options.getQueryParams().getOrDefault("after", "");
+              return readResponse(invocation, pages.get(after));
+            });
+
+    ListParams params = new ListParams().setLimit(2);
+    List<String> names = new ArrayList<>();
+    tableService.listAll(params).forEach(table -> names.add(table.getName()));
+    assertEquals(List.of("table1", "table2", "table3"), names);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertEquals(names, tableService.stream(params, executor).map(Table::getName).toList());
+    } finally {
+      executor.shutdownNow();
+    }
+    // The caller's params are not advanced by the iteration
+    assertNull(params.getAfter());
+  }
+
+  @Test
+  void testClosingStopsThePrefetch() {
+    String firstPage = "{\"data\":[{\"name\":\"table1\"}],\"paging\":{\"after\":\"c1\"}}";
+    when(mockHttpClient.executeForStream(
+            eq(HttpMethod.GET), eq("/v1/tables"), isNull(), any(RequestOptions.class), any()))
+        .thenAnswer(invocation -> readResponse(invocation, firstPage));
+    // Holds the prefetches instead of running them, to run them once the iteration is closed
+    List<Runnable> prefetches = new ArrayList<>();
+    ListParams params = new ListParams().setLimit(1);
+
+    try (Stream<Table> tables = tableService.stream(params, prefetches::add)) {
+      assertEquals("table1", tables.findFirst().orElseThrow().getName());
+    }
+    AutoPagingIterable.AutoPagingIterator<Table> iterator =
+        tableService.listAll(params, prefetches::add).iterator();
+    assertEquals("table1", iterator.next().getName());
+    iterator.close();
+
+    assertFalse(iterator.hasNext());
+    assertEquals(2, prefetches.size());
+    prefetches.forEach(Runnable::run);
+    // Only the first page of each iteration was requested
+    verify(mockHttpClient, times(2))
+        .executeForStream(
+            eq(HttpMethod.GET), eq("/v1/tables"), isNull(), any(RequestOptions.class), any());
+  }
+
+  private static Object readResponse(InvocationOnMock invocation, String json) throws Exception {
+    HttpClient.ResponseReader<?> reader = invocation.getArgument(4);
+    return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
   @Test
   void testDelete() {
     String tableId = "table-123";
@@ -0,0 +1,209 @@
+package org.openmetadata.sdk.services.bulk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.sdk.exceptions.ApiException;
+import org.openmetadata.sdk.exceptions.OpenMetadataException;
+import org.openmetadata.sdk.exceptions.RateLimitException;
+
+class BulkOperationRunnerTest {
+
+  private static List<String> ids(int count) {
+    return IntStream.range(0, count).mapToObj(i -> "id-" + i).toList();
+  }
+
+  @Test
+  void testSplitsEachGroupIntoChunks() {
+    Map<String, List<String>> idsByType = new LinkedHashMap<>();
+    idsByType.put("table", ids(5));
+    idsByType.put("topic", ids(2));
+    List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+    List<BulkItemResult<String>> results =
+        new BulkOperationRunner()
+            .chunkSize(2)
+            .run(
+                idsByType,
+                (type, chunk) -> {
+                  calls.add(type + ":" + chunk.size());
+                  return CompletableFuture.completedFuture("ok");
+                });
+
+    assertEquals(4, calls.size());
+    assertEquals(3, calls.stream().filter(call -> call.startsWith("table")).count());
+    assertEquals(7, results.size());
+    assertTrue(results.stream().allMatch(BulkItemResult::isSuccess));
+    assertEquals(ids(5), results.subList(0, 5).stream().map(BulkItemResult::getItem).toList());
+    assertEquals("topic", results.get(6).getGroup());
+  }
+
+  @Test
+  void testBoundsChunksInFlight() {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    try {
+      List<BulkItemResult<String>> results =
+          new BulkOperationRunner()
+              .chunkSize(1)
+              .parallelism(2)
+              .run(
+                  Map.of("table", ids(10)),
+                  (type, chunk) ->
+                      CompletableFuture.supplyAsync(
+                          () -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            try {
+                              Thread.sleep(20);
+                            } catch (InterruptedException e) {
+                              Thread.currentThread().interrupt();
+                            }
+                            inFlight.decrementAndGet();
+                            return "ok";
+                          },
+                          executor));
+
+      assertEquals(10, results.size());
+      assertTrue(maxInFlight.get() <= 2, "max in flight was " + maxInFlight.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRetriesRetryableFailures() {
+    AtomicInteger calls = new AtomicInteger();
+
+    List<BulkItemResult<String>> results =
+        new BulkOperationRunner()
+            .backoffMillis(1)
+            .run(
+                Map.of("table", ids(3)),
+                (type, chunk) ->
+                    calls.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new ApiException("Unavailable", 503))
+                        : CompletableFuture.completedFuture("ok"));
+
+    assertEquals(3, calls.get());
+    assertTrue(results.stream().allMatch(BulkItemResult::isSuccess));
+    assertEquals(3, results.get(0).getAttempts());
+  }
+
+  @Test
+  void testDoesNotRetryClientErrors() {
+    AtomicInteger calls = new AtomicInteger();
+
+    List<BulkItemResult<String>> results =
+        new BulkOperationRunner()
+            .backoffMillis(1)
+            .run(
+                Map.of("table", ids(2)),
+                (type, chunk) -> {
+                  calls.incrementAndGet();
+                  throw new ApiException("Invalid entity", 400);
+                });
+
+    assertEquals(1, calls.get());
+    assertEquals(2, results.size());
+    assertFalse(results.get(0).isSuccess());
+    assertEquals("Invalid entity", results.get(0).getError());
+    assertEquals(1, results.get(0).getAttempts());
+  }
+
+  @Test
+  void testDoesNotRetryCreatesThatMayHaveBeenApplied() {
+    List<Throwable> errors =
+        List.of(
+            new ApiException("Timeout", 408),
+            new ApiException("Bad gateway", 502),
+            new OpenMetadataException("Timed out", new HttpTimeoutException("timed out")));
+    for (Throwable error : errors) {
+      AtomicInteger calls = new AtomicInteger();
+
+      List<BulkItemResult<String>> results =
+          new BulkOperationRunner()
+              .backoffMillis(1)
+              .idempotent(false)
+              .run(
+                  Map.of("table", ids(2)),
+                  (type, chunk) -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.failedFuture(error);
+                  });
+
+      assertEquals(1, calls.get(), error.getMessage());
+      assertFalse(results.get(0).isSuccess());
+      assertEquals(1, results.get(0).getAttempts());
+    }
+  }
+
+  @Test
+  void testRetriesCreatesThatWereNotProcessed() {
+    List<Throwable> errors =
+        List.of(
+            new RateLimitException("Too many requests"),
+            new ApiException("Unavailable", 503),
+            new OpenMetadataException("Refused", new ConnectException("Connection refused")));
+    AtomicInteger calls = new AtomicInteger();
+
+    List<BulkItemResult<String>> results =
+        new BulkOperationRunner()
+            .backoffMillis(1)
+            .idempotent(false)
+            .run(
+                Map.of("table", ids(2)),
+                (type, chunk) -> {
+                  int call = calls.getAndIncrement();
+                  return call < errors.size()
+                      ? CompletableFuture.failedFuture(errors.get(call))
+                      : CompletableFuture.completedFuture("ok");
+                });
+
+    assertEquals(4, calls.get());
+    assertTrue(results.stream().allMatch(BulkItemResult::isSuccess));
+  }
+
+  @Test
+  void testCapsRetryAfterWait() {
+    BulkOperationRunner runner = new BulkOperationRunner().backoffMillis(100);
+
+    assertEquals(2_000, runner.backoff(1, new RateLimitException("Too many requests", 2)));
+    assertEquals(30_000, runner.backoff(1, new RateLimitException("Too many requests", 3_600)));
+    assertEquals(200, runner.backoff(2, new ApiException("Unavailable", 503)));
+    assertEquals(30_000, runner.backoff(20, new ApiException("Unavailable", 503)));
+  }
+
+  @Test
+  void testReportsProgress() {
+    List<int[]> progress = Collections.synchronizedList(new ArrayList<>());
+
+    new BulkOperationRunner()
+        .chunkSize(2)
+        .maxRetries(0)
+        .onProgress(
+            (processed, failed, total) -> progress.add(new int[] {processed, failed, total}))
+        .run(
+            Map.of("table", ids(4)),
+            (type, chunk) ->
+                chunk.contains("id-0")
+                    ? CompletableFuture.failedFuture(new ApiException("Unavailable", 503))
+                    : CompletableFuture.completedFuture("ok"));
+
+    assertEquals(2, progress.size());
+    assertArrayEquals(new int[] {2, 2, 4}, progress.get(0));
+    assertArrayEquals(new int[] {4, 2, 4}, progress.get(1));
+  }
+}
@@ -62,6 +62,7 @@ import org.eclipse.jetty.server.session.SessionHandler;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.websocket.server.config.JettyWebSocketServletContainerInitializer;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.glassfish.jersey.server.ServerProperties;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
@@ -97,6 +98,7 @@ import org.openmetadata.service.jdbi3.MigrationDAO;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.service.jdbi3.locator.ConnectionType;
 import org.openmetadata.service.jobs.EnumCleanupHandler;
+import org.openmetadata.service.jobs.FqnPrefixRenameHandler;
 import org.openmetadata.service.jobs.GenericBackgroundWorker;
 import org.openmetadata.service.jobs.JobDAO;
 import org.openmetadata.service.jobs.JobHandlerRegistry;
@@ -306,6 +308,9 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     environment.jersey().register(ETagRequestFilter.class);
     environment.jersey().register(ETagResponseFilter.class);
 
+    // Accept gzip-encoded request bodies, e.g. from SDK clients compressing large payloads
+    environment.jersey().register(GZipEncoder.class);
+
     // Register User Activity Tracking
     registerUserActivityTracking(environment);
 
@@ -367,6 +372,9 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
   protected @NotNull JobHandlerRegistry getJobHandlerRegistry() {
     JobHandlerRegistry registry = new JobHandlerRegistry();
     registry.register("EnumCleanupHandler", new EnumCleanupHandler(getDao(jdbi)));
+    registry.register(
+        "FqnPrefixRenameHandler",
+        new FqnPrefixRenameHandler(getDao(jdbi), jdbi.onDemand(JobDAO.class)));
     return registry;
   }
 
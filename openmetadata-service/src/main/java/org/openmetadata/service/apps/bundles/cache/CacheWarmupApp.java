@@ -1,6 +1,5 @@
 package org.openmetadata.service.apps.bundles.cache;
 
-import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.service.apps.scheduler.AppScheduler.ON_DEMAND_JOB;
 import static org.openmetadata.service.apps.scheduler.OmAppJobListener.APP_CONFIG;
 import static org.openmetadata.service.apps.scheduler.OmAppJobListener.APP_RUN_STATS;
@@ -8,11 +7,17 @@ import static org.openmetadata.service.apps.scheduler.OmAppJobListener.WEBSOCKET
 import static org.openmetadata.service.socket.WebSocketManager.CACHE_WARMUP_JOB_BROADCAST_CHANNEL;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,22 +39,20 @@ import org.openmetadata.schema.system.Stats;
 import org.openmetadata.schema.system.StepStats;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.utils.JsonUtils;
-import org.openmetadata.schema.utils.ResultList;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.apps.AbstractNativeApplication;
 import org.openmetadata.service.cache.CacheBundle;
+import org.openmetadata.service.cache.CacheConfig;
 import org.openmetadata.service.cache.CacheProvider;
+import org.openmetadata.service.cache.CacheWarmupTracker;
 import org.openmetadata.service.cache.CachedEntityDao;
 import org.openmetadata.service.cache.CachedRelationshipDao;
-import org.openmetadata.service.cache.CachedTagUsageDao;
 import org.openmetadata.service.exception.AppException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.socket.WebSocketManager;
-import org.openmetadata.service.util.RestUtil;
-import org.openmetadata.service.workflows.interfaces.Source;
-import org.openmetadata.service.workflows.searchIndex.PaginatedEntitiesSource;
 import org.quartz.JobExecutionContext;
 
 @Slf4j
@@ -64,11 +67,14 @@ public class CacheWarmupApp extends AbstractNativeApplication {
   private static final int MAX_TOTAL_THREADS = 30;
   private static final String WARMUP_LOCK_KEY = "cache:warmup:lock";
   private static final int LOCK_TTL_SECONDS = 3600; // 1 hour TTL for the lock
+  private static final int USAGE_WINDOW_DAYS = 7;
+  // Bounds the ranking held in memory, the entities ranked below it are read by key range
+  private static final int MAX_RANKED_ENTITIES = 100_000;
+  private static final long BYTES_PER_MB = 1024L * 1024L;
 
   @Getter private EventPublisherJob jobData;
   private ExecutorService producerExecutor;
   private ExecutorService consumerExecutor;
-  private ExecutorService jobExecutor;
   private final AtomicReference<Stats> cacheWarmupStats = new AtomicReference<>();
   private final AtomicReference<Integer> batchSize = new AtomicReference<>(DEFAULT_BATCH_SIZE);
   private JobExecutionContext jobExecutionContext;
@@ -79,7 +85,6 @@ public class CacheWarmupApp extends AbstractNativeApplication {
   private CacheProvider cacheProvider;
   private CachedEntityDao cachedEntityDao;
   private CachedRelationshipDao cachedRelationshipDao;
-  private CachedTagUsageDao cachedTagUsageDao;
 
   private BlockingQueue<WarmupTask> taskQueue;
   private final AtomicBoolean producersDone = new AtomicBoolean(false);
@@ -87,13 +92,37 @@ public class CacheWarmupApp extends AbstractNativeApplication {
   private final AtomicLong totalProcessingTime = new AtomicLong(0);
   private volatile double currentThroughput = 0.0;
 
-  record WarmupTask(
-      String entityType, ResultList<? extends EntityInterface> entities, int offset) {}
+  // Entities queued by usage rank, skipped when their key range is read afterwards
+  private final Set<UUID> rankedIds = ConcurrentHashMap.newKeySet();
+  private final AtomicLong warmedBytes = new AtomicLong(0);
+  private final AtomicBoolean budgetExhausted = new AtomicBoolean(false);
+  private long memoryBudgetBytes = 0;
+
+  record WarmupTask(String entityType, List<UUID> ids) {}
 
   public CacheWarmupApp(CollectionDAO collectionDAO, SearchRepository searchRepository) {
     super(collectionDAO, searchRepository);
   }
 
+  @VisibleForTesting
+  CacheWarmupApp(
+      CollectionDAO collectionDAO,
+      EventPublisherJob jobData,
+      CachedEntityDao cachedEntityDao,
+      long memoryBudgetBytes) {
+    super(collectionDAO, null);
+    this.jobData = jobData;
+    this.cachedEntityDao = cachedEntityDao;
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.taskQueue = new LinkedBlockingQueue<>();
+    batchSize.set(jobData.getBatchSize() != null ? jobData.getBatchSize() : DEFAULT_BATCH_SIZE);
+  }
+
+  @VisibleForTesting
+  BlockingQueue<WarmupTask> getTaskQueue() {
+    return taskQueue;
+  }
+
   @Override
   public void init(App app) {
     super.init(app);
@@ -120,7 +149,6 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     cacheProvider = CacheBundle.getCacheProvider();
     cachedEntityDao = CacheBundle.getCachedEntityDao();
     cachedRelationshipDao = CacheBundle.getCachedRelationshipDao();
-    cachedTagUsageDao = CacheBundle.getCachedTagUsageDao();
 
     if (cacheProvider == null || !cacheProvider.available()) {
       throw new AppException("Cache provider not available for warmup");
@@ -199,6 +227,13 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     }
     batchSize.set(jobData.getBatchSize());
 
+    CacheConfig cacheConfig = CacheBundle.getCacheConfig();
+    memoryBudgetBytes =
+        cacheConfig != null ? Math.max(0, cacheConfig.warmupMemoryBudgetMb) * BYTES_PER_MB : 0;
+    rankedIds.clear();
+    warmedBytes.set(0);
+    budgetExhausted.set(false);
+
     sendUpdates(jobExecutionContext, true);
   }
 
@@ -219,7 +254,12 @@ public class CacheWarmupApp extends AbstractNativeApplication {
 
     ThreadConfiguration threadConfig = calculateThreadConfiguration(totalEntities);
     initializeQueueAndExecutors(threadConfig);
+
+    CacheWarmupTracker tracker = CacheWarmupTracker.getInstance();
+    tracker.warmupStarted();
     executeWarmup(threadConfig.numConsumers);
+    tracker.warmupCompleted();
+    LOG.info("Cache warmup wrote about {} MB", warmedBytes.get() / BYTES_PER_MB);
   }
 
   private ThreadConfiguration calculateThreadConfiguration(long totalEntities) {
@@ -233,7 +273,7 @@ public class CacheWarmupApp extends AbstractNativeApplication {
   }
 
   private ThreadConfiguration adjustThreadsForLimit(int numProducers, int numConsumers) {
-    int totalThreads = numProducers + numConsumers + jobData.getEntities().size();
+    int totalThreads = numProducers + numConsumers;
     if (totalThreads > MAX_TOTAL_THREADS) {
       double ratio = (double) MAX_TOTAL_THREADS / totalThreads;
       numProducers = Math.max(1, (int) (numProducers * ratio));
@@ -248,9 +288,6 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     taskQueue = new LinkedBlockingQueue<>(queueSize);
     producersDone.set(false);
 
-    jobExecutor =
-        Executors.newFixedThreadPool(
-            jobData.getEntities().size(), Thread.ofPlatform().name("warmup-job-", 0).factory());
     consumerExecutor =
         Executors.newFixedThreadPool(
             threadConfig.numConsumers, Thread.ofPlatform().name("warmup-consumer-", 0).factory());
@@ -304,25 +341,27 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     }
   }
 
-  private void processWarmupTask(WarmupTask task) {
+  @VisibleForTesting
+  void processWarmupTask(WarmupTask task) {
+    if (budgetExhausted.get()) {
+      return;
+    }
     String entityType = task.entityType();
-    ResultList<? extends EntityInterface> entities = task.entities();
 
     long startTime = System.currentTimeMillis();
     int successCount = 0;
     int failedCount = 0;
 
-    for (EntityInterface entity : entities.getData()) {
-      try {
-        boolean success = warmupEntity(entityType, entity);
-        if (success) {
-          successCount++;
-        }
-        // Note: Not counting skipped entities (deleted, invalid) as failures
-      } catch (Exception e) {
-        LOG.debug("Error warming up entity {} {}: {}", entityType, entity.getId(), e.getMessage());
-        failedCount++;
-      }
+    try {
+      // Use find method instead of get to avoid UriInfo requirement
+      List<? extends EntityInterface> entities =
+          Entity.getEntityRepository(entityType).find(task.ids(), Include.ALL);
+      long bytes = cachedEntityDao.warmup(entityType, entities);
+      successCount = entities.size();
+      recordWarmedBytes(bytes);
+    } catch (Exception e) {
+      LOG.debug("Error warming up {} entities of type {}", task.ids().size(), entityType, e);
+      failedCount = task.ids().size();
     }
 
     long processingTime = System.currentTimeMillis() - startTime;
@@ -336,56 +375,21 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     sendUpdates(jobExecutionContext);
   }
 
-  private boolean warmupEntity(String entityType, EntityInterface entity) throws Exception {
-    // Skip caching user entities
-    if ("user".equals(entityType)) {
-      return false; // Not cached, but not an error
-    }
-
-    // Validate entity has required fields before caching
-    if (entity.getId() == null) {
-      LOG.warn("Skipping entity with null ID - Type: {}, Name: {}", entityType, entity.getName());
-      return false; // Skip this entity and continue with others
-    }
-
-    EntityRepository<?> repository = Entity.getEntityRepository(entityType);
-
-    // Use find method instead of get to avoid UriInfo requirement
-    EntityInterface fullEntity = repository.find(entity.getId(), Include.ALL);
-
-    // Validate the full entity before caching
-    if (fullEntity == null || fullEntity.getId() == null) {
-      LOG.warn(
-          "Failed to load full entity - Type: {}, ID: {}, Name: {}. Skipping.",
-          entityType,
-          entity.getId(),
-          entity.getName());
-      return false; // Skip this entity and continue with others
-    }
-
-    // Cache the entity - this triggers write-through caching
-    String entityJson = JsonUtils.pojoToJson(fullEntity);
-    cachedEntityDao.putBase(entityType, fullEntity.getId(), entityJson);
-    cachedEntityDao.putByName(entityType, fullEntity.getFullyQualifiedName(), entityJson);
-
-    // Cache entity reference
-    String refJson = JsonUtils.pojoToJson(fullEntity.getEntityReference());
-    cachedEntityDao.putReference(entityType, fullEntity.getId(), refJson);
-    cachedEntityDao.putReferenceByName(entityType, fullEntity.getFullyQualifiedName(), refJson);
-
-    // Cache tags if available (stored in entity hash)
-    if (fullEntity.getTags() != null && !fullEntity.getTags().isEmpty()) {
-      String tagsJson = JsonUtils.pojoToJson(fullEntity.getTags());
-      cachedTagUsageDao.putTags(entityType, entity.getId(), tagsJson);
+  private void recordWarmedBytes(long bytes) {
+    long total = warmedBytes.addAndGet(bytes);
+    if (memoryBudgetBytes > 0
+        && total >= memoryBudgetBytes
+        && budgetExhausted.compareAndSet(false, true)) {
+      LOG.info(
+          "Cache warmup memory budget of {} MB reached, skipping the remaining entities",
+          memoryBudgetBytes / BYTES_PER_MB);
     }
-
-    return true; // Successfully cached the entity
   }
 
   private void signalConsumersToStop(int numConsumers) {
     producersDone.set(true);
     for (int i = 0; i < numConsumers; i++) {
-      taskQueue.offer(new WarmupTask(POISON_PILL, null, -1));
+      taskQueue.offer(new WarmupTask(POISON_PILL, List.of()));
     }
   }
 
@@ -398,77 +402,99 @@ public class CacheWarmupApp extends AbstractNativeApplication {
   }
 
   private void processEntityWarmup() throws InterruptedException {
-    int latchCount = getTotalLatchCount(jobData.getEntities());
-    CountDownLatch producerLatch = new CountDownLatch(latchCount);
+    // Most used entities first, so that they are cached before the memory budget runs out
+    queueMostUsedEntities();
 
+    CountDownLatch producerLatch =
+        new CountDownLatch(jobData.getEntities().size() * EntityDAO.KEY_RANGES.size());
     for (String entityType : jobData.getEntities()) {
-      jobExecutor.submit(() -> processEntityType(entityType, producerLatch));
+      for (EntityDAO.KeyRange range : EntityDAO.KEY_RANGES) {
+        producerExecutor.submit(
+            () ->
+                processKeyRange(
+                    entityType, range.lowerBound(), range.upperBound(), producerLatch));
+      }
     }
 
     while (!producerLatch.await(1, TimeUnit.SECONDS)) {
       if (stopped || Thread.currentThread().isInterrupted()) {
         LOG.info("Stop signal received during warmup");
         producerExecutor.shutdownNow();
-        jobExecutor.shutdownNow();
         return;
       }
     }
   }
 
-  private void processEntityType(String entityType, CountDownLatch producerLatch) {
-    try {
-      int totalEntityRecords = getTotalEntityRecords(entityType);
-      int loadPerThread = calculateNumberOfThreads(totalEntityRecords);
+  /** Queue the entities used in the last week, ranked by their weekly usage count. */
+  @VisibleForTesting
+  void queueMostUsedEntities() throws InterruptedException {
+    String since = LocalDate.now().minusDays(USAGE_WINDOW_DAYS).toString();
+    List<CollectionDAO.UsageDAO.UsageRank> ranking =
+        collectionDAO.usageDAO().listMostUsed(since, MAX_RANKED_ENTITIES);
 
-      if (totalEntityRecords > 0) {
-        for (int i = 0; i < loadPerThread; i++) {
-          int currentOffset = i * batchSize.get();
-          producerExecutor.submit(() -> processBatch(entityType, currentOffset, producerLatch));
+    int size = batchSize.get();
+    for (int from = 0; from < ranking.size(); from += size) {
+      if (stopped || budgetExhausted.get()) {
+        break;
+      }
+      Map<String, List<UUID>> idsByType = new LinkedHashMap<>();
+      for (CollectionDAO.UsageDAO.UsageRank rank :
+          ranking.subList(from, Math.min(from + size, ranking.size()))) {
+        if (isWarmedUp(rank.entityType())) {
+          UUID id = UUID.fromString(rank.entityId());
+          rankedIds.add(id);
+          idsByType.computeIfAbsent(rank.entityType(), type -> new ArrayList<>()).add(id);
         }
       }
-    } catch (Exception e) {
-      LOG.error("Error processing entity type {}", entityType, e);
+      for (Map.Entry<String, List<UUID>> entry : idsByType.entrySet()) {
+        taskQueue.put(new WarmupTask(entry.getKey(), entry.getValue()));
+      }
     }
+    LOG.info("Queued {} most used entities for cache warmup", rankedIds.size());
   }
 
-  private void processBatch(String entityType, int currentOffset, CountDownLatch producerLatch) {
+  @VisibleForTesting
+  void processKeyRange(
+      String entityType, String lowerBound, String upperBound, CountDownLatch producerLatch) {
     try {
-      if (stopped) {
+      if (!isWarmedUp(entityType)) {
         return;
       }
 
-      // Request essential fields to ensure entities are properly deserialized with IDs
-      Source<?> source =
-          new PaginatedEntitiesSource(
-              entityType,
-              batchSize.get(),
-              List.of("id", "name", "fullyQualifiedName", "version", "updatedAt", "updatedBy"));
-      // Properly encode the offset as a cursor like SearchIndexApp does
-      Object resultList =
-          source.readWithCursor(RestUtil.encodeCursor(String.valueOf(currentOffset)));
-
-      if (resultList != null) {
-        @SuppressWarnings("unchecked")
-        ResultList<? extends EntityInterface> entities =
-            (ResultList<? extends EntityInterface>) resultList;
-
-        if (!nullOrEmpty(entities.getData()) && !stopped) {
-          WarmupTask task = new WarmupTask(entityType, entities, currentOffset);
-          taskQueue.put(task);
+      EntityDAO<?> entityDAO = Entity.getEntityRepository(entityType).getDao();
+      String cursor = lowerBound;
+      while (!stopped && !budgetExhausted.get()) {
+        List<String> ids = entityDAO.listIdsAfterInRange(cursor, upperBound, batchSize.get());
+        if (ids.isEmpty()) {
+          break;
+        }
+        cursor = ids.get(ids.size() - 1);
+
+        List<UUID> remaining =
+            ids.stream().map(UUID::fromString).filter(id -> !rankedIds.contains(id)).toList();
+        if (!remaining.isEmpty()) {
+          taskQueue.put(new WarmupTask(entityType, remaining));
         }
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     } catch (Exception e) {
       if (!stopped) {
-        LOG.error("Error processing batch for entity type {}", entityType, e);
+        LOG.error(
+            "Error processing key range [{}, {}) of {}", lowerBound, upperBound, entityType, e);
       }
     } finally {
       producerLatch.countDown();
     }
   }
 
+  private boolean isWarmedUp(String entityType) {
+    // User entities are not cached
+    return jobData.getEntities().contains(entityType) && !"user".equals(entityType);
+  }
+
   private void cleanupExecutors() {
     shutdownExecutor(consumerExecutor, "ConsumerExecutor", 30, TimeUnit.SECONDS);
-    shutdownExecutor(jobExecutor, "JobExecutor", 20, TimeUnit.SECONDS);
     shutdownExecutor(producerExecutor, "ProducerExecutor", 1, TimeUnit.MINUTES);
   }
 
@@ -522,7 +548,8 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     long processed = jobStats.getSuccessRecords() != null ? jobStats.getSuccessRecords() : 0;
     long total = jobStats.getTotalRecords() != null ? jobStats.getTotalRecords() : 0;
 
-    return failed > 0 || (total > 0 && processed < total);
+    // Entities left out once the memory budget is reached are skipped on purpose
+    return failed > 0 || (total > 0 && processed < total && !budgetExhausted.get());
   }
 
   private void handleJobCompletion() {
@@ -561,9 +588,6 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     if (consumerExecutor != null) {
       consumerExecutor.shutdownNow();
     }
-    if (jobExecutor != null) {
-      jobExecutor.shutdownNow();
-    }
 
     if (taskQueue != null) {
       taskQueue.clear();
@@ -731,38 +755,6 @@ public class CacheWarmupApp extends AbstractNativeApplication {
     return new HashSet<>(Entity.getEntityList());
   }
 
-  private int getTotalLatchCount(Set<String> entities) {
-    return entities.stream()
-        .mapToInt(
-            entityType -> {
-              int totalRecords = getTotalEntityRecords(entityType);
-              return calculateNumberOfThreads(totalRecords);
-            })
-        .sum();
-  }
-
-  private int getTotalEntityRecords(String entityType) {
-    if (cacheWarmupStats.get() == null || cacheWarmupStats.get().getEntityStats() == null) {
-      return 0;
-    }
-
-    StepStats statsObj =
-        cacheWarmupStats.get().getEntityStats().getAdditionalProperties().get(entityType);
-    if (statsObj != null) {
-      return statsObj.getTotalRecords() != null ? statsObj.getTotalRecords() : 0;
-    }
-    return 0;
-  }
-
-  private int calculateNumberOfThreads(int totalEntityRecords) {
-    int mod = totalEntityRecords % batchSize.get();
-    if (mod == 0) {
-      return totalEntityRecords / batchSize.get();
-    } else {
-      return (totalEntityRecords / batchSize.get()) + 1;
-    }
-  }
-
   synchronized void updateStats(String entityType, StepStats currentEntityStats) {
     Stats stats = cacheWarmupStats.get();
     if (stats == null) {
@@ -16,9 +16,12 @@ package org.openmetadata.service.apps.bundles.changeEvent;
 import static org.openmetadata.service.events.subscription.AlertUtil.getFilteredEvents;
 import static org.openmetadata.service.events.subscription.AlertUtil.getStartingOffset;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +41,7 @@ import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.schema.utils.ResultList;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventRecord;
 import org.openmetadata.service.util.DIContainer;
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
@@ -56,11 +60,17 @@ public abstract class AbstractEventConsumer
   public static final String OFFSET_EXTENSION = "eventSubscription.Offset";
   public static final String METRICS_EXTENSION = "eventSubscription.metrics";
   public static final String FAILED_EVENT_EXTENSION = "eventSubscription.failedEvent";
+  private static final String FLUSH_METRIC_NAME = "event_subscription.flush.events";
+  static final int MAX_PENDING_SUCCESSFUL_EVENTS = 1000;
+  static final long MAX_FLUSH_INTERVAL_MS = 5000;
   protected final DIContainer dependencies;
   private long offset = -1;
   private long startingOffset = -1;
 
   private AlertMetrics alertMetrics;
+  private final Map<UUID, ChangeEvent> pendingSuccessfulEvents = new LinkedHashMap<>();
+  private long lastFlushTime = System.currentTimeMillis();
+  private DistributionSummary flushSummary;
 
   @Getter @Setter private JobDetail jobDetail;
   protected EventSubscription eventSubscription;
@@ -80,6 +90,7 @@ public abstract class AbstractEventConsumer
     this.startingOffset = eventSubscriptionOffset.getStartingOffset();
     this.alertMetrics = loadInitialMetrics();
     this.destinationMap = loadDestinationsMap(context);
+    this.lastFlushTime = System.currentTimeMillis();
     this.doInit(context);
   }
 
@@ -125,14 +136,45 @@ public abstract class AbstractEventConsumer
             source.toString());
   }
 
-  private void recordSuccessfulChangeEvent(UUID eventSubscriptionId, ChangeEvent event) {
+  private void recordSuccessfulChangeEvent(ChangeEvent event) {
+    pendingSuccessfulEvents.putIfAbsent(event.getId(), event);
+    // Flush when the buffer is full, or when a slow destination has kept delivered events in
+    // memory for too long. The offset is only moved by commit, so flushing early is safe
+    if (pendingSuccessfulEvents.size() >= MAX_PENDING_SUCCESSFUL_EVENTS
+        || System.currentTimeMillis() - lastFlushTime >= MAX_FLUSH_INTERVAL_MS) {
+      flushSuccessfulEvents();
+    }
+  }
+
+  private void flushSuccessfulEvents() {
+    if (pendingSuccessfulEvents.isEmpty()) {
+      return;
+    }
+    List<String> ids = pendingSuccessfulEvents.keySet().stream().map(UUID::toString).toList();
+    List<String> jsons =
+        pendingSuccessfulEvents.values().stream().map(JsonUtils::pojoToJson).toList();
     Entity.getCollectionDAO()
         .eventSubscriptionDAO()
-        .upsertSuccessfulChangeEvent(
-            event.getId().toString(),
-            eventSubscriptionId.toString(),
-            JsonUtils.pojoToJson(event),
-            System.currentTimeMillis());
+        .upsertSuccessfulChangeEvents(
+            ids, eventSubscription.getId().toString(), jsons, System.currentTimeMillis());
+    recordFlush(ids.size());
+    pendingSuccessfulEvents.clear();
+  }
+
+  private void recordFlush(int eventCount) {
+    LOG.debug(
+        "Flushed {} successfully delivered events for Event Subscription: {}",
+        eventCount,
+        eventSubscription.getName());
+    lastFlushTime = System.currentTimeMillis();
+    if (flushSummary == null) {
+      flushSummary =
+          DistributionSummary.builder(FLUSH_METRIC_NAME)
+              .description("Number of delivered change events persisted per consumer flush")
+              .tag("subscription", eventSubscription.getName())
+              .register(Metrics.globalRegistry);
+    }
+    flushSummary.record(eventCount);
   }
 
   private EventSubscriptionOffset loadInitialOffset(JobExecutionContext context) {
@@ -192,43 +234,36 @@ public abstract class AbstractEventConsumer
     // Filter the Change Events based on Alert Trigger Config
     Map<ChangeEvent, Set<UUID>> filteredEvents = getFilteredEvents(eventSubscription, events);
 
+    // Hand each receiver all of its events at once, so destinations can deliver them as a batch
+    Map<UUID, List<ChangeEvent>> eventsByReceiver = new LinkedHashMap<>();
     for (var eventWithReceivers : filteredEvents.entrySet()) {
       for (UUID receiverId : eventWithReceivers.getValue()) {
-        boolean status = sendAlert(receiverId, eventWithReceivers.getKey());
-        if (status) {
-          recordSuccessfulChangeEvent(eventSubscription.getId(), eventWithReceivers.getKey());
-          alertMetrics.withSuccessEvents(alertMetrics.getSuccessEvents() + 1);
-        } else {
-          alertMetrics.withFailedEvents(alertMetrics.getFailedEvents() + 1);
-        }
+        eventsByReceiver
+            .computeIfAbsent(receiverId, id -> new ArrayList<>())
+            .add(eventWithReceivers.getKey());
       }
     }
+
+    for (var receiverEvents : eventsByReceiver.entrySet()) {
+      List<ChangeEvent> delivered = sendAlerts(receiverEvents.getKey(), receiverEvents.getValue());
+      for (ChangeEvent event : delivered) {
+        recordSuccessfulChangeEvent(event);
+      }
+      alertMetrics.withSuccessEvents(alertMetrics.getSuccessEvents() + delivered.size());
+      alertMetrics.withFailedEvents(
+          alertMetrics.getFailedEvents() + receiverEvents.getValue().size() - delivered.size());
+    }
   }
 
   @Override
   public void commit(JobExecutionContext jobExecutionContext) {
     long currentTime = System.currentTimeMillis();
-    // Upsert Offset
     EventSubscriptionOffset eventSubscriptionOffset =
         new EventSubscriptionOffset()
             .withCurrentOffset(offset)
             .withStartingOffset(startingOffset)
             .withTimestamp(currentTime);
 
-    Entity.getCollectionDAO()
-        .eventSubscriptionDAO()
-        .upsertSubscriberExtension(
-            eventSubscription.getId().toString(),
-            OFFSET_EXTENSION,
-            "eventSubscriptionOffset",
-            JsonUtils.pojoToJson(eventSubscriptionOffset));
-
-    jobExecutionContext
-        .getJobDetail()
-        .getJobDataMap()
-        .put(ALERT_OFFSET_KEY, eventSubscriptionOffset);
-
-    // Upsert Metrics
     AlertMetrics metrics =
         new AlertMetrics()
             .withTotalEvents(alertMetrics.getTotalEvents())
@@ -236,13 +271,28 @@ public abstract class AbstractEventConsumer
             .withSuccessEvents(alertMetrics.getSuccessEvents())
             .withTimestamp(currentTime);
 
+    // Delivered events, offset and metrics are written in one transaction. Events are recorded
+    // before the offset moves, so a crash in between re-delivers the batch (at-least-once)
+    List<String> ids = pendingSuccessfulEvents.keySet().stream().map(UUID::toString).toList();
+    List<String> jsons =
+        pendingSuccessfulEvents.values().stream().map(JsonUtils::pojoToJson).toList();
     Entity.getCollectionDAO()
         .eventSubscriptionDAO()
-        .upsertSubscriberExtension(
+        .commitConsumerBatch(
             eventSubscription.getId().toString(),
-            METRICS_EXTENSION,
-            "alertMetrics",
-            JsonUtils.pojoToJson(metrics));
+            ids,
+            jsons,
+            currentTime,
+            List.of(OFFSET_EXTENSION, METRICS_EXTENSION),
+            List.of("eventSubscriptionOffset", "alertMetrics"),
+            List.of(JsonUtils.pojoToJson(eventSubscriptionOffset), JsonUtils.pojoToJson(metrics)));
+    recordFlush(ids.size());
+    pendingSuccessfulEvents.clear();
+
+    jobExecutionContext
+        .getJobDetail()
+        .getJobDataMap()
+        .put(ALERT_OFFSET_KEY, eventSubscriptionOffset);
 
     jobExecutionContext.getJobDetail().getJobDataMap().put(METRICS_EXTENSION, alertMetrics);
 
@@ -252,19 +302,33 @@ public abstract class AbstractEventConsumer
 
   @Override
   public ResultList<ChangeEvent> pollEvents(long offset, long batchSize) {
-    List<String> eventJson = Entity.getCollectionDAO().changeEventDAO().list(batchSize, offset);
+    List<ChangeEventRecord> records =
+        Entity.getCollectionDAO().changeEventDAO().listRecords(batchSize, offset);
     List<ChangeEvent> changeEvents = new ArrayList<>();
     List<EntityError> errorEvents = new ArrayList<>();
-    for (String json : eventJson) {
+    for (ChangeEventRecord eventRecord : records) {
       try {
-        ChangeEvent event = JsonUtils.readValue(json, ChangeEvent.class);
+        ChangeEvent event = JsonUtils.readValue(eventRecord.json(), ChangeEvent.class);
         changeEvents.add(event);
       } catch (Exception ex) {
-        errorEvents.add(new EntityError().withMessage(ex.getMessage()).withEntity(json));
-        LOG.error("Error in Parsing Change Event : {} , Message: {} ", json, ex.getMessage(), ex);
+        errorEvents.add(
+            new EntityError().withMessage(ex.getMessage()).withEntity(eventRecord.json()));
+        LOG.error(
+            "Error in Parsing Change Event : {} , Message: {} ",
+            eventRecord.json(),
+            ex.getMessage(),
+            ex);
       }
     }
-    return new ResultList<>(changeEvents, errorEvents, null, null, eventJson.size());
+    // The after cursor carries the offset of the last row read, so the next poll resumes with an
+    // index seek on the primary key even when the offset sequence has gaps
+    String after = records.isEmpty() ? null : String.valueOf(records.getLast().offset());
+    return new ResultList<>(changeEvents, errorEvents, null, after, records.size());
+  }
+
+  private long nextOffset(ResultList<ChangeEvent> batch, long batchSize) {
+    String after = batch.getPaging().getAfter();
+    return after != null ? Math.max(offset, Long.parseLong(after)) : offset + batchSize;
   }
 
   @Override
@@ -272,11 +336,13 @@ public abstract class AbstractEventConsumer
     // Must Have , Before Execute the Init, Quartz Requires a Non-Arg Constructor
     this.init(jobExecutionContext);
     long batchSize = 0;
+    long next = offset;
     Map<ChangeEvent, Set<UUID>> eventsWithReceivers = new HashMap<>();
     try {
       // Poll Events from Change Event Table
       ResultList<ChangeEvent> batch = pollEvents(offset, eventSubscription.getBatchSize());
       batchSize = batch.getPaging().getTotal();
+      next = nextOffset(batch, batchSize);
       eventsWithReceivers.putAll(createEventsWithReceivers(batch.getData()));
       // Publish Events
       if (!eventsWithReceivers.isEmpty()) {
@@ -294,7 +360,7 @@ public abstract class AbstractEventConsumer
     } finally {
       if (!eventsWithReceivers.isEmpty()) {
         // Commit the Offset
-        offset += batchSize;
+        offset = next;
         commit(jobExecutionContext);
       }
     }
@@ -13,10 +13,23 @@
 
 package org.openmetadata.service.apps.bundles.changeEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 public interface Alert<T> {
   boolean sendAlert(UUID receiverId, T event);
 
+  /** Send {@code events} to one receiver, returning the events that were delivered. */
+  default List<T> sendAlerts(UUID receiverId, List<T> events) {
+    List<T> delivered = new ArrayList<>();
+    for (T event : events) {
+      if (sendAlert(receiverId, event)) {
+        delivered.add(event);
+      }
+    }
+    return delivered;
+  }
+
   boolean getEnabled();
 }
@@ -1,5 +1,7 @@
 package org.openmetadata.service.apps.bundles.changeEvent;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.type.ChangeEvent;
@@ -38,6 +40,18 @@ public class AlertPublisher extends AbstractEventConsumer {
     return false;
   }
 
+  @Override
+  public List<ChangeEvent> sendAlerts(UUID receiverId, List<ChangeEvent> events) {
+    Destination<ChangeEvent> destination = destinationMap.get(receiverId);
+    if (destination == null || !Boolean.TRUE.equals(destination.getEnabled())) {
+      // Logs why nothing is sent, once per event as for single alerts
+      return super.sendAlerts(receiverId, events);
+    }
+    Map<ChangeEvent, EventPublisherException> failures = destination.sendMessages(events);
+    failures.values().forEach(ex -> handleFailedEvent(ex, true));
+    return events.stream().filter(event -> !failures.containsKey(event)).toList();
+  }
+
   @Override
   public boolean getEnabled() {
     return getEventSubscription().getEnabled();
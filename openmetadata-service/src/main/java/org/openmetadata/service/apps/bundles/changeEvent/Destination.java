@@ -17,6 +17,9 @@ import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AC
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AWAITING_RETRY;
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.FAILED;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.entity.events.StatusContext;
@@ -29,6 +32,22 @@ import org.openmetadata.service.events.subscription.AlertUtil;
 public interface Destination<T> {
   void sendMessage(T event) throws EventPublisherException;
 
+  /**
+   * Send a batch of events, returning the failure of every event that could not be delivered.
+   * Destinations that can deliver a batch at once override this, the default sends one by one.
+   */
+  default Map<T, EventPublisherException> sendMessages(List<T> events) {
+    Map<T, EventPublisherException> failures = new LinkedHashMap<>();
+    for (T event : events) {
+      try {
+        sendMessage(event);
+      } catch (EventPublisherException ex) {
+        failures.put(event, ex);
+      }
+    }
+    return failures;
+  }
+
   void sendTestMessage() throws EventPublisherException;
 
   SubscriptionDestination getSubscriptionDestination();
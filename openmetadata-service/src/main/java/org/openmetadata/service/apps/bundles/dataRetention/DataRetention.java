@@ -119,6 +119,7 @@ public class DataRetention extends AbstractNativeApplication {
     entityStats.withAdditionalProperty("broken_mlmodel_entities", new StepStats());
     entityStats.withAdditionalProperty("broken_search_entities", new StepStats());
     entityStats.withAdditionalProperty("orphaned_tag_usages", new StepStats());
+    entityStats.withAdditionalProperty("thread_counts", new StepStats());
 
     retentionStats.setEntityStats(entityStats);
   }
@@ -158,6 +159,27 @@ public class DataRetention extends AbstractNativeApplication {
         "Starting cleanup for profile data with retention period: {} days.",
         profileDataRetentionPeriod);
     cleanProfileData(profileDataRetentionPeriod);
+
+    // Rebuild the thread counts once the old threads are gone
+    LOG.info("Starting reconciliation of thread counts.");
+    reconcileThreadCounts();
+  }
+
+  private void reconcileThreadCounts() {
+    try {
+      int rows = FeedRepository.reconcileThreadCounts(collectionDAO);
+      updateStats("thread_counts", rows, 0);
+      LOG.info("Thread counts reconciled - Counters: {}", rows);
+    } catch (Exception ex) {
+      LOG.error("Failed to reconcile thread counts", ex);
+      internalStatus = AppRunRecord.Status.ACTIVE_ERROR;
+
+      if (failureDetails == null) {
+        failureDetails = new HashMap<>();
+        failureDetails.put("message", ex.getMessage());
+        failureDetails.put("jobStackTrace", ExceptionUtils.getStackTrace(ex));
+      }
+    }
   }
 
   @Transaction
@@ -215,7 +237,9 @@ public class DataRetention extends AbstractNativeApplication {
 
       // Update stats for orphaned relationships
       updateStats(
-          "orphaned_relationships", result.getRelationshipResult().getRelationshipsDeleted(), 0);
+          "orphaned_relationships",
+          result.getRelationshipResult().getRelationshipsDeleted(),
+          result.getRelationshipResult().getRelationshipsFailedToDelete());
 
       // Update stats for each service type
       for (Map.Entry<String, Integer> entry :
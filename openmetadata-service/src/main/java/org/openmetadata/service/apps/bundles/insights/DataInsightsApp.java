@@ -10,6 +10,7 @@ import es.org.elasticsearch.client.RestClient;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
@@ -45,6 +46,7 @@ import org.openmetadata.service.apps.bundles.insights.workflows.dataAssets.DataA
 import org.openmetadata.service.apps.bundles.insights.workflows.dataQuality.DataQualityWorkflow;
 import org.openmetadata.service.apps.bundles.insights.workflows.webAnalytics.WebAnalyticsWorkflow;
 import org.openmetadata.service.exception.SearchIndexException;
+import org.openmetadata.service.jdbi3.AppRepository;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.socket.WebSocketManager;
@@ -364,12 +366,16 @@ public class DataInsightsApp extends AbstractNativeApplication {
   }
 
   private WorkflowStats processDataAssets() {
+    // A recreated data stream has no snapshots to carry forward
+    Optional<Long> lastSuccessfulRunTime =
+        recreateDataAssetsIndex.orElse(false) ? Optional.empty() : getLastSuccessfulRunTime();
     DataAssetsWorkflow workflow =
         new DataAssetsWorkflow(
             dataAssetsConfig,
             timestamp,
             batchSize,
             backfill,
+            lastSuccessfulRunTime,
             dataAssetTypes,
             collectionDAO,
             searchRepository,
@@ -386,6 +392,23 @@ public class DataInsightsApp extends AbstractNativeApplication {
     return workflowStats;
   }
 
+  private Optional<Long> getLastSuccessfulRunTime() {
+    try {
+      AppRepository appRepository = (AppRepository) Entity.getEntityRepository(Entity.APPLICATION);
+      return appRepository.listAppRuns(getApp(), 10, 0).getData().stream()
+          .filter(
+              run ->
+                  run.getStatus() == AppRunRecord.Status.SUCCESS
+                      || run.getStatus() == AppRunRecord.Status.COMPLETED)
+          .map(AppRunRecord::getStartTime)
+          .filter(Objects::nonNull)
+          .findFirst();
+    } catch (Exception ex) {
+      LOG.warn("Couldn't read the last successful run, processing all Data Assets", ex);
+      return Optional.empty();
+    }
+  }
+
   private WorkflowStats processDataQuality() {
     for (String entityType : dataQualityEntities) {
       DataQualityWorkflow workflow =
@@ -5,8 +5,10 @@ import static org.openmetadata.service.apps.bundles.insights.DataInsightsApp.get
 import static org.openmetadata.service.apps.bundles.insights.utils.TimestampUtils.END_TIMESTAMP_KEY;
 import static org.openmetadata.service.apps.bundles.insights.utils.TimestampUtils.START_TIMESTAMP_KEY;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.ENTITY_TYPE_KEY;
+import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.TIMESTAMP_KEY;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getInitialStatsForEntities;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -14,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.EntityInterface;
@@ -35,10 +38,13 @@ import org.openmetadata.service.apps.bundles.insights.workflows.dataAssets.proce
 import org.openmetadata.service.apps.bundles.insights.workflows.dataAssets.processors.DataInsightsOpenSearchProcessor;
 import org.openmetadata.service.exception.SearchIndexException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
+import org.openmetadata.service.search.SearchClient;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.search.elasticsearch.ElasticSearchIndexSink;
 import org.openmetadata.service.search.opensearch.OpenSearchIndexSink;
+import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.workflows.interfaces.Processor;
 import org.openmetadata.service.workflows.interfaces.Sink;
 import org.openmetadata.service.workflows.interfaces.Source;
@@ -49,10 +55,15 @@ public class DataAssetsWorkflow {
   public static final String DATA_STREAM_KEY = "DataStreamKey";
   public static final String ENTITY_TYPE_FIELDS_KEY = "EnityTypeFields";
   private static final String ALL_ENTITIES = "all";
+  private static final String ENTITY_ID_FIELD = "id.keyword";
+  // Above this many changed entities of a type, reprocessing them all is cheaper than the copy
+  private static final int MAX_INCREMENTAL_CHANGES = 10000;
   private final DataAssetsConfig dataAssetsConfig;
   private final int retentionDays = 30;
   private final Long startTimestamp;
   private final Long endTimestamp;
+  // Start of the last successful run, or null to process all the entities
+  private final Long checkpoint;
   private final int batchSize;
   private final SearchRepository searchRepository;
   private final CollectionDAO collectionDAO;
@@ -71,6 +82,7 @@ public class DataAssetsWorkflow {
       Long timestamp,
       int batchSize,
       Optional<DataInsightsApp.Backfill> backfill,
+      Optional<Long> lastSuccessfulRunTime,
       Set<String> entityTypes,
       CollectionDAO collectionDAO,
       SearchRepository searchRepository,
@@ -102,6 +114,16 @@ public class DataAssetsWorkflow {
           TimestampUtils.getStartOfDayTimestamp(TimestampUtils.subtractDays(timestamp, 1));
     }
 
+    // Incremental runs build on the snapshots of the previous run, so that run must have covered
+    // the window's first day and every entity: backfills and service filtered runs process all
+    if (backfill.isEmpty()
+        && Boolean.TRUE.equals(dataAssetsConfig.getIncremental())
+        && dataAssetsConfig.getServiceFilter() == null) {
+      this.checkpoint = lastSuccessfulRunTime.filter(time -> time >= startTimestamp).orElse(null);
+    } else {
+      this.checkpoint = null;
+    }
+
     this.batchSize = batchSize;
     this.searchRepository = searchRepository;
     this.collectionDAO = collectionDAO;
@@ -111,6 +133,11 @@ public class DataAssetsWorkflow {
     this.dataAssetsConfig = dataAssetsConfig;
   }
 
+  @VisibleForTesting
+  Long getCheckpoint() {
+    return checkpoint;
+  }
+
   private void initialize() {
     Stats stats = getInitialStatsForEntities(entityTypes);
     int totalRecords = stats.getJobStats().getTotalRecords();
@@ -191,33 +218,120 @@ public class DataAssetsWorkflow {
     contextData.put(END_TIMESTAMP_KEY, endTimestamp);
 
     for (PaginatedEntitiesSource source : sources) {
+      processSource(source, contextData);
+    }
+  }
+
+  @VisibleForTesting
+  void processSource(PaginatedEntitiesSource source, Map<String, Object> contextData)
+      throws SearchIndexException {
+    contextData.put(
+        DATA_STREAM_KEY,
+        getDataStreamName(searchInterface.getClusterAlias(), source.getEntityType()));
+    contextData.put(ENTITY_TYPE_KEY, source.getEntityType());
+    contextData.put(
+        ENTITY_TYPE_FIELDS_KEY,
+        searchInterface.getEntityAttributeFields(
+            dataInsightsSearchConfiguration, source.getEntityType()));
+
+    if (checkpoint != null && processChangedEntities(source, contextData)) {
+      // Only now, since carrying snapshots forward reads the ones of the previous day
       deleteBasedOnDataRetentionPolicy(
           getDataStreamName(searchRepository.getClusterAlias(), source.getEntityType()));
-      deleteDataBeforeInserting(
-          getDataStreamName(searchInterface.getClusterAlias(), source.getEntityType()));
-      contextData.put(
-          DATA_STREAM_KEY,
-          getDataStreamName(searchInterface.getClusterAlias(), source.getEntityType()));
-      contextData.put(ENTITY_TYPE_KEY, source.getEntityType());
-      contextData.put(
-          ENTITY_TYPE_FIELDS_KEY,
-          searchInterface.getEntityAttributeFields(
-              dataInsightsSearchConfiguration, source.getEntityType()));
-
-      while (!source.isDone().get()) {
-        try {
-          processEntity(source.readNext(null), contextData, source);
-        } catch (SearchIndexException ex) {
-          source.updateStats(
-              ex.getIndexingError().getSuccessCount(), ex.getIndexingError().getFailedCount());
-          String errorMessage =
-              String.format("Failed processing Data from %s: %s", source.getName(), ex);
-          workflowStats.addFailure(errorMessage);
-        } finally {
-          updateWorkflowStats(source.getName(), source.getStats());
-        }
+      return;
+    }
+    deleteBasedOnDataRetentionPolicy(
+        getDataStreamName(searchRepository.getClusterAlias(), source.getEntityType()));
+    deleteDataBeforeInserting(
+        getDataStreamName(searchInterface.getClusterAlias(), source.getEntityType()));
+
+    while (!source.isDone().get()) {
+      try {
+        processEntity(source.readNext(null), contextData, source);
+      } catch (SearchIndexException ex) {
+        source.updateStats(
+            ex.getIndexingError().getSuccessCount(), ex.getIndexingError().getFailedCount());
+        String errorMessage =
+            String.format("Failed processing Data from %s: %s", source.getName(), ex);
+        workflowStats.addFailure(errorMessage);
+      } finally {
+        updateWorkflowStats(source.getName(), source.getStats());
+      }
+    }
+  }
+
+  /**
+   * Rebuild the snapshots of the entities changed since the {@link #checkpoint} and carry the
+   * snapshots of the other entities forward from the previous day, server side. Returns false,
+   * without touching the data stream, when too many entities changed for this to pay off.
+   */
+  private boolean processChangedEntities(
+      PaginatedEntitiesSource source, Map<String, Object> contextData)
+      throws SearchIndexException {
+    String entityType = source.getEntityType();
+    String dataStreamName = (String) contextData.get(DATA_STREAM_KEY);
+    List<String> changedIds =
+        collectionDAO.changeEventDAO().listEntityIdsChangedAfter(entityType, checkpoint);
+    if (changedIds.size() > MAX_INCREMENTAL_CHANGES) {
+      LOG.info(
+          "[Data Insights] {} entities of type {} changed since the last run, processing all.",
+          changedIds.size(),
+          entityType);
+      return false;
+    }
+
+    Long startOfToday = TimestampUtils.getStartOfDayTimestamp(endTimestamp);
+    try {
+      SearchClient searchClient = searchRepository.getSearchClient();
+      // Changed entities get new snapshots below, deleted entities none
+      searchClient.deleteByRangeAndTerms(
+          dataStreamName, TIMESTAMP_KEY, startTimestamp, endTimestamp, ENTITY_ID_FIELD, changedIds);
+      if (checkpoint < startOfToday) {
+        // The last run was yesterday: today, unchanged entities are as they were yesterday
+        searchClient.deleteByRangeQuery(
+            dataStreamName, TIMESTAMP_KEY, null, startOfToday, null, endTimestamp);
+        searchClient.copyByRange(
+            dataStreamName,
+            TIMESTAMP_KEY,
+            startTimestamp,
+            startOfToday - 1,
+            ENTITY_ID_FIELD,
+            changedIds,
+            TIMESTAMP_KEY,
+            startOfToday);
+      }
+    } catch (Exception rx) {
+      throw new SearchIndexException(new IndexingError().withMessage(rx.getMessage()));
+    }
+
+    source.getStats().setTotalRecords(changedIds.size());
+    EntityRepository<?> entityRepository = Entity.getEntityRepository(entityType);
+    Fields fields = Entity.getFields(entityType, List.of("*"));
+    Include include = getListFilter(entityType).getInclude();
+    for (int from = 0; from < changedIds.size(); from += batchSize) {
+      List<UUID> ids =
+          changedIds.subList(from, Math.min(from + batchSize, changedIds.size())).stream()
+              .map(UUID::fromString)
+              .toList();
+      try {
+        processEntity(
+            new ResultList<>(entityRepository.get(null, ids, fields, include)),
+            contextData,
+            source);
+      } catch (SearchIndexException ex) {
+        source.updateStats(
+            ex.getIndexingError().getSuccessCount(), ex.getIndexingError().getFailedCount());
+        workflowStats.addFailure(
+            String.format("Failed processing Data from %s: %s", source.getName(), ex));
+      } catch (Exception ex) {
+        source.updateStats(0, ids.size());
+        workflowStats.addFailure(
+            String.format("Failed reading changed entities of %s: %s", source.getName(), ex));
+      } finally {
+        updateWorkflowStats(source.getName(), source.getStats());
       }
     }
+    return true;
   }
 
   private void processEntity(
@@ -6,16 +6,20 @@ import static org.openmetadata.service.apps.scheduler.OmAppJobListener.APP_RUN_S
 import static org.openmetadata.service.apps.scheduler.OmAppJobListener.WEBSOCKET_STATUS_CHANNEL;
 import static org.openmetadata.service.socket.WebSocketManager.RDF_INDEX_JOB_BROADCAST_CHANNEL;
 
+import com.google.common.annotations.VisibleForTesting;
 import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -29,28 +33,27 @@ import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.schema.system.IndexingError;
 import org.openmetadata.schema.system.Stats;
 import org.openmetadata.schema.system.StepStats;
-import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EntityRelationship;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.utils.JsonUtils;
-import org.openmetadata.schema.utils.ResultList;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.apps.AbstractNativeApplication;
 import org.openmetadata.service.exception.AppException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.EntityDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
-import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.rdf.RdfRepository;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.socket.WebSocketManager;
-import org.openmetadata.service.util.RestUtil;
 import org.quartz.JobExecutionContext;
 
 @Slf4j
 public class RdfIndexApp extends AbstractNativeApplication {
   private static final String ALL = "all";
   private static final int DEFAULT_BATCH_SIZE = 100;
+  // Concurrent readers, kept low to avoid overwhelming Fuseki with concurrent updates
+  private static final int DEFAULT_READER_THREADS = 5;
 
   private final RdfRepository rdfRepository;
   private volatile boolean stopped = false;
@@ -58,13 +61,28 @@ public class RdfIndexApp extends AbstractNativeApplication {
   @Getter private EventPublisherJob jobData;
   private ExecutorService executorService;
   private JobExecutionContext jobExecutionContext;
+  private RdfIndexCheckpoint checkpoint;
   private final AtomicReference<Stats> rdfIndexStats = new AtomicReference<>();
+  private final AtomicBoolean unfinishedRanges = new AtomicBoolean(false);
 
   public RdfIndexApp(CollectionDAO collectionDAO, SearchRepository searchRepository) {
     super(collectionDAO, searchRepository);
     this.rdfRepository = RdfRepository.getInstance();
   }
 
+  @VisibleForTesting
+  RdfIndexApp(
+      CollectionDAO collectionDAO,
+      RdfRepository rdfRepository,
+      EventPublisherJob jobData,
+      RdfIndexCheckpoint checkpoint) {
+    super(collectionDAO, null);
+    this.rdfRepository = rdfRepository;
+    this.jobData = jobData;
+    this.checkpoint = checkpoint;
+    this.rdfIndexStats.set(jobData.getStats());
+  }
+
   @Override
   public void init(App app) {
     super.init(app);
@@ -119,9 +137,15 @@ public class RdfIndexApp extends AbstractNativeApplication {
 
       initializeJob(jobExecutionContext);
 
+      checkpoint = new RdfIndexCheckpoint(getApp(), collectionDAO.appExtensionTimeSeriesDao());
       if (Boolean.TRUE.equals(jobData.getRecreateIndex())) {
+        // Everything is indexed again, so the checkpoint of an interrupted run is of no use
+        checkpoint.clear();
         LOG.info("Clearing existing RDF data");
         clearRdfData();
+      } else if (checkpoint.load()) {
+        // The data of the interrupted run is kept, only what it did not sync is indexed
+        LOG.info("Resuming interrupted RDF Index Job from its checkpoint");
       }
 
       updateJobStatus(EventPublisherJob.Status.RUNNING);
@@ -129,8 +153,17 @@ public class RdfIndexApp extends AbstractNativeApplication {
 
       if (stopped) {
         updateJobStatus(EventPublisherJob.Status.STOPPED);
+        checkpoint.finish(EventPublisherJob.Status.STOPPED);
       } else {
-        updateJobStatus(EventPublisherJob.Status.COMPLETED);
+        EventPublisherJob.Status status = EventPublisherJob.Status.COMPLETED;
+        if (unfinishedRanges.get()) {
+          // A range that could not be read to its end is resumed by the next run
+          status = EventPublisherJob.Status.FAILED;
+        } else if (jobData.getStats().getJobStats().getFailedRecords() > 0) {
+          status = EventPublisherJob.Status.ACTIVE_ERROR;
+        }
+        updateJobStatus(status);
+        checkpoint.finish(status);
       }
 
       LOG.info("RDF Index Job Completed for Entities: {}", jobData.getEntities());
@@ -141,6 +174,9 @@ public class RdfIndexApp extends AbstractNativeApplication {
       } else {
         handleJobFailure(ex);
       }
+      if (checkpoint != null) {
+        checkpoint.finish(jobData.getStatus());
+      }
     } finally {
       sendUpdates(jobExecutionContext, true);
       if (executorService != null) {
@@ -171,190 +207,116 @@ public class RdfIndexApp extends AbstractNativeApplication {
   }
 
   private void reIndexFromStartToEnd() throws InterruptedException {
-    // Reduce thread count to avoid overwhelming Fuseki with concurrent updates
-    int numThreads = Math.min(jobData.getEntities().size(), 5);
+    // Every entity type is read as independent key ranges, so large types are spread over
+    // several readers while each batch is written to the RDF store in a single bulk request
+    unfinishedRanges.set(false);
+    int numTasks = jobData.getEntities().size() * EntityDAO.KEY_RANGES.size();
+    int numThreads = Math.max(1, Math.min(numTasks, getReaderThreads()));
     executorService = Executors.newFixedThreadPool(numThreads);
-    CountDownLatch latch = new CountDownLatch(jobData.getEntities().size());
+    CountDownLatch latch = new CountDownLatch(numTasks);
 
     for (String entityType : jobData.getEntities()) {
-      executorService.submit(
-          () -> {
-            try {
-              processEntityType(entityType);
-            } catch (Exception e) {
-              LOG.error("Error processing entity type {}", entityType, e);
-              updateEntityStats(
-                  entityType,
-                  new StepStats()
-                      .withSuccessRecords(0)
-                      .withFailedRecords(getTotalEntityRecords(entityType)));
-            } finally {
-              latch.countDown();
-            }
-          });
+      for (EntityDAO.KeyRange range : EntityDAO.KEY_RANGES) {
+        String lowerBound = range.lowerBound();
+        String upperBound = range.upperBound();
+        executorService.submit(
+            () -> {
+              try {
+                processKeyRange(entityType, lowerBound, upperBound);
+              } catch (Exception e) {
+                unfinishedRanges.set(true);
+                LOG.error(
+                    "Error processing entity type {} in key range [{}, {})",
+                    entityType,
+                    lowerBound,
+                    upperBound,
+                    e);
+              } finally {
+                latch.countDown();
+              }
+            });
+      }
     }
 
-    latch.await();
+    // Queued ranges never run once the executor is shut down by a stop request
+    while (!latch.await(1, TimeUnit.SECONDS)) {
+      if (stopped) {
+        break;
+      }
+    }
   }
 
-  private void processEntityType(String entityType) {
-    LOG.info("Processing entity type: {}", entityType);
+  private int getReaderThreads() {
+    Integer producerThreads = jobData.getProducerThreads();
+    return producerThreads != null && producerThreads > 1
+        ? producerThreads
+        : DEFAULT_READER_THREADS;
+  }
 
+  @VisibleForTesting
+  void processKeyRange(String entityType, String lowerBound, String upperBound) {
     EntityRepository<?> repository = Entity.getEntityRepository(entityType);
-    String cursor = RestUtil.encodeCursor("0");
+    EntityDAO<?> entityDAO = repository.getDao();
     int batchSize = jobData.getBatchSize() != null ? jobData.getBatchSize() : DEFAULT_BATCH_SIZE;
+    String cursor = checkpoint.getCursor(entityType, lowerBound);
 
-    while (!stopped && cursor != null) {
-      try {
-        EntityDAO<?> entityDAO = repository.getDao();
-        // First fetch the list with minimal fields
-        ResultList<? extends EntityInterface> entities =
-            repository.listWithOffset(
-                entityDAO::listAfter,
-                entityDAO::listCount,
-                new ListFilter(Include.ALL),
-                batchSize,
-                cursor,
-                true,
-                repository.getFields("id"),
-                null);
-
-        if (entities.getData().isEmpty()) {
-          break;
-        }
-
-        // Process each entity with full details
-        processBatchWithFullDetails(entityType, entities.getData(), repository);
-        cursor = entities.getPaging().getAfter();
-
-        // Update progress
-        StepStats currentStats =
-            new StepStats().withSuccessRecords(entities.getData().size()).withFailedRecords(0);
-        updateEntityStats(entityType, currentStats);
-        sendUpdates(jobExecutionContext, false);
-
-      } catch (Exception e) {
-        LOG.error("Error processing batch for entity type {} at cursor {}", entityType, cursor, e);
-        StepStats failedStats = new StepStats().withSuccessRecords(0).withFailedRecords(batchSize);
-        updateEntityStats(entityType, failedStats);
-        break; // Stop processing this entity type on error
-      }
-    }
-  }
-
-  private void processBatchWithFullDetails(
-      String entityType, List<? extends EntityInterface> entities, EntityRepository<?> repository) {
-    for (EntityInterface entity : entities) {
-      if (stopped) {
+    while (!stopped) {
+      List<String> ids = entityDAO.listIdsAfterInRange(cursor, upperBound, batchSize);
+      if (ids.isEmpty()) {
         break;
       }
 
       try {
-        // Fetch the complete entity with all relationships
-        EntityInterface fullEntity =
-            repository.get(null, entity.getId(), repository.getFields("*"));
-
-        // Store entity in RDF
-        rdfRepository.createOrUpdate(fullEntity);
-
-        // Process all relationships from the repository
-        processAllRelationships(entityType, fullEntity, repository);
-
+        syncBatch(entityType, repository, ids);
       } catch (Exception e) {
-        LOG.error("Failed to index entity {} to RDF", entity.getId(), e);
+        // The batch is counted as failed and skipped, so that an entity that cannot be synced
+        // does not hold back the rest of its key range
+        LOG.error("Error syncing entities of type {} with ids {}", entityType, ids, e);
+        updateEntityStats(
+            entityType, new StepStats().withSuccessRecords(0).withFailedRecords(ids.size()));
       }
+
+      cursor = ids.get(ids.size() - 1);
+      checkpoint.update(entityType, lowerBound, cursor);
+      sendUpdates(jobExecutionContext, false);
     }
   }
 
-  private void processAllRelationships(
-      String entityType, EntityInterface entity, EntityRepository<?> repository) {
-    try {
-      List<org.openmetadata.schema.type.EntityRelationship> allRelationships = new ArrayList<>();
-
-      // Process relationships where this entity is the "to" side (incoming relationships)
-      for (Relationship relationshipType : Relationship.values()) {
-        try {
-          List<CollectionDAO.EntityRelationshipRecord> fromRecords =
-              repository.findFromRecords(entity.getId(), entityType, relationshipType, null);
-
-          for (var record : fromRecords) {
-            try {
-              EntityReference fromRef =
-                  Entity.getEntityReferenceById(record.getType(), record.getId(), Include.ALL);
-              EntityReference toRef = entity.getEntityReference();
-
-              org.openmetadata.schema.type.EntityRelationship relationship =
-                  new org.openmetadata.schema.type.EntityRelationship()
-                      .withFromEntity(fromRef.getType())
-                      .withFromId(fromRef.getId())
-                      .withToEntity(toRef.getType())
-                      .withToId(toRef.getId())
-                      .withRelation(relationshipType.ordinal())
-                      .withRelationshipType(relationshipType);
-
-              allRelationships.add(relationship);
-            } catch (Exception e) {
-              LOG.debug(
-                  "Failed to process incoming relationship {} for entity {}",
-                  relationshipType,
-                  entity.getId(),
-                  e);
-            }
-          }
-        } catch (Exception e) {
-          // Some relationship types may not apply to all entities
-          LOG.debug(
-              "Skipping relationship type {} for entity type {}", relationshipType, entityType);
-        }
-      }
+  private void syncBatch(String entityType, EntityRepository<?> repository, List<String> ids) {
+    List<UUID> entityIds = ids.stream().map(UUID::fromString).toList();
+    List<? extends EntityInterface> entities =
+        repository.get(null, entityIds, repository.getFields("*"), Include.ALL);
 
-      // Process relationships where this entity is the "from" side (outgoing relationships)
-      for (Relationship relationshipType : Relationship.values()) {
-        try {
-          List<CollectionDAO.EntityRelationshipRecord> toRecords =
-              repository.findToRecords(entity.getId(), entityType, relationshipType, null);
-
-          for (var record : toRecords) {
-            try {
-              EntityReference fromRef = entity.getEntityReference();
-              EntityReference toRef =
-                  Entity.getEntityReferenceById(record.getType(), record.getId(), Include.ALL);
-
-              org.openmetadata.schema.type.EntityRelationship relationship =
-                  new org.openmetadata.schema.type.EntityRelationship()
-                      .withFromEntity(fromRef.getType())
-                      .withFromId(fromRef.getId())
-                      .withToEntity(toRef.getType())
-                      .withToId(toRef.getId())
-                      .withRelation(relationshipType.ordinal())
-                      .withRelationshipType(relationshipType);
-
-              allRelationships.add(relationship);
-            } catch (Exception e) {
-              LOG.debug(
-                  "Failed to process outgoing relationship {} for entity {}",
-                  relationshipType,
-                  entity.getId(),
-                  e);
-            }
-          }
-        } catch (Exception e) {
-          // Some relationship types may not apply to all entities
-          LOG.debug(
-              "Skipping relationship type {} for entity type {}", relationshipType, entityType);
-        }
-      }
+    int synced = rdfRepository.bulkSyncEntities(entityType, entities);
+    rdfRepository.bulkAddRelationships(collectRelationships(ids));
 
-      // Bulk add all relationships for this entity
-      if (!allRelationships.isEmpty()) {
-        rdfRepository.bulkAddRelationships(allRelationships);
-        LOG.debug(
-            "Bulk added {} relationships for entity {}", allRelationships.size(), entity.getId());
-      }
+    updateEntityStats(
+        entityType,
+        new StepStats().withSuccessRecords(synced).withFailedRecords(ids.size() - synced));
+  }
 
-    } catch (Exception e) {
-      LOG.error("Failed to get relationships for entity {}", entity.getId(), e);
+  /** Incoming and outgoing relationships of all the entities of a batch. */
+  private List<EntityRelationship> collectRelationships(List<String> ids) {
+    CollectionDAO.EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+    List<CollectionDAO.EntityRelationshipObject> records =
+        new ArrayList<>(relationshipDAO.findAllToBatch(ids));
+    records.addAll(relationshipDAO.findAllFromBatch(ids));
+
+    // Relationships between two entities of the batch are returned in both directions
+    Map<String, EntityRelationship> relationships = new LinkedHashMap<>();
+    for (CollectionDAO.EntityRelationshipObject record : records) {
+      Relationship relationshipType = Relationship.values()[record.getRelation()];
+      relationships.putIfAbsent(
+          record.getFromId() + relationshipType + record.getToId(),
+          new EntityRelationship()
+              .withFromEntity(record.getFromEntity())
+              .withFromId(UUID.fromString(record.getFromId()))
+              .withToEntity(record.getToEntity())
+              .withToId(UUID.fromString(record.getToId()))
+              .withRelation(relationshipType.ordinal())
+              .withRelationshipType(relationshipType));
     }
+    return new ArrayList<>(relationships.values());
   }
 
   private Stats initializeTotalRecords(Set<String> entities) {
@@ -0,0 +1,136 @@
+package org.openmetadata.service.apps.bundles.rdf;
+
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.app.App;
+import org.openmetadata.schema.entity.app.AppExtension;
+import org.openmetadata.schema.system.EventPublisherJob;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+
+/**
+ * Last synced id of every key range of every entity type of an RDF index run. It is stored as a
+ * custom extension of the app after each batch and removed once a run completes, so that a stopped
+ * or failed run resumes from where it was interrupted instead of starting over. Checkpoints left by
+ * a run that neither stopped nor failed, e.g. one killed with the server, or older than {@link
+ * #MAX_AGE_MILLIS} are discarded, since the data they point at can no longer be trusted.
+ */
+@Slf4j
+class RdfIndexCheckpoint {
+  static final String CURSORS = "cursors";
+  static final String STATUS = "status";
+  static final String UPDATED_AT = "updatedAt";
+  static final long MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+  private final App app;
+  private final CollectionDAO.AppExtensionTimeSeries dao;
+  // entityType -> lower bound of the key range -> last synced id
+  private final Map<String, Map<String, String>> cursors = new ConcurrentHashMap<>();
+  private Long timestamp;
+  private EventPublisherJob.Status status = EventPublisherJob.Status.RUNNING;
+
+  RdfIndexCheckpoint(App app, CollectionDAO.AppExtensionTimeSeries dao) {
+    this.app = app;
+    this.dao = dao;
+  }
+
+  /**
+   * Load the checkpoint left by a stopped or failed run, returning false when there is none. Any
+   * other leftover checkpoint is removed.
+   */
+  synchronized boolean load() {
+    List<String> records =
+        dao.listAppExtension(
+            app.getId().toString(), 1, 0, AppExtension.ExtensionType.CUSTOM.toString());
+    if (nullOrEmpty(records)) {
+      return false;
+    }
+    AppExtension extension = JsonUtils.readValue(records.get(0), AppExtension.class);
+    Map<String, Object> properties = extension.getAdditionalProperties();
+    Object stored = properties.get(CURSORS);
+    if (stored == null || !isResumable(properties.get(STATUS), properties.get(UPDATED_AT))) {
+      LOG.info("Discarding RDF index checkpoint left with status {}", properties.get(STATUS));
+      clear();
+      return false;
+    }
+    Map<String, Map<String, String>> storedCursors =
+        JsonUtils.convertValue(stored, new TypeReference<>() {});
+    storedCursors.forEach((type, ranges) -> cursors.put(type, new ConcurrentHashMap<>(ranges)));
+    timestamp = extension.getTimestamp();
+    LOG.info("Loaded RDF index checkpoint for entity types {}", cursors.keySet());
+    return true;
+  }
+
+  private static boolean isResumable(Object storedStatus, Object storedUpdatedAt) {
+    boolean interrupted =
+        EventPublisherJob.Status.STOPPED.value().equals(storedStatus)
+            || EventPublisherJob.Status.FAILED.value().equals(storedStatus);
+    return interrupted
+        && storedUpdatedAt instanceof Number updatedAt
+        && System.currentTimeMillis() - updatedAt.longValue() <= MAX_AGE_MILLIS;
+  }
+
+  /** Last synced id of the key range, or its lower bound when nothing was synced yet. */
+  String getCursor(String entityType, String lowerBound) {
+    Map<String, String> ranges = cursors.get(entityType);
+    return ranges != null ? ranges.getOrDefault(lowerBound, lowerBound) : lowerBound;
+  }
+
+  synchronized void update(String entityType, String lowerBound, String lastId) {
+    cursors.computeIfAbsent(entityType, type -> new ConcurrentHashMap<>()).put(lowerBound, lastId);
+    status = EventPublisherJob.Status.RUNNING;
+    save();
+  }
+
+  /**
+   * Record how the run ended: a stopped or failed run keeps the checkpoint with its status so that
+   * the next run resumes it, a run that read every key range to its end removes it.
+   */
+  synchronized void finish(EventPublisherJob.Status runStatus) {
+    if (runStatus != EventPublisherJob.Status.STOPPED
+        && runStatus != EventPublisherJob.Status.FAILED) {
+      clear();
+    } else if (!cursors.isEmpty()) {
+      status = runStatus;
+      save();
+    }
+  }
+
+  synchronized void clear() {
+    dao.delete(app.getId().toString(), AppExtension.ExtensionType.CUSTOM.toString());
+    cursors.clear();
+    timestamp = null;
+  }
+
+  private void save() {
+    Map<String, Map<String, String>> snapshot = new HashMap<>();
+    cursors.forEach((type, ranges) -> snapshot.put(type, new HashMap<>(ranges)));
+    boolean inserted = timestamp == null;
+    if (inserted) {
+      timestamp = System.currentTimeMillis();
+    }
+    AppExtension extension =
+        new AppExtension()
+            .withAppId(app.getId())
+            .withAppName(app.getName())
+            .withTimestamp(timestamp)
+            .withExtension(AppExtension.ExtensionType.CUSTOM)
+            .withAdditionalProperty(CURSORS, snapshot)
+            .withAdditionalProperty(STATUS, status.value())
+            .withAdditionalProperty(UPDATED_AT, System.currentTimeMillis());
+    String json = JsonUtils.pojoToJson(extension);
+    if (inserted) {
+      dao.insert(json, AppExtension.ExtensionType.CUSTOM.toString());
+    } else {
+      dao.update(
+          app.getId().toString(), json, timestamp, AppExtension.ExtensionType.CUSTOM.toString());
+    }
+  }
+}
@@ -13,6 +13,7 @@ import org.openmetadata.service.OpenMetadataApplicationConfig;
 public class CacheBundle implements ConfiguredBundle<OpenMetadataApplicationConfig> {
 
   private static CacheBundle instance;
+  private static CacheConfig cacheConfig;
   private static CacheProvider cacheProvider;
   private static CachedEntityDao cachedEntityDao;
   private static CachedRelationshipDao cachedRelationshipDao;
@@ -31,7 +32,7 @@ public class CacheBundle implements ConfiguredBundle<OpenMetadataApplicationConf
 
   @Override
   public void run(OpenMetadataApplicationConfig configuration, Environment environment) {
-    CacheConfig cacheConfig = configuration.getCacheConfig();
+    cacheConfig = configuration.getCacheConfig();
 
     LOG.info("CacheBundle.run() called with cacheConfig: {}", cacheConfig);
 
@@ -73,6 +74,10 @@ public class CacheBundle implements ConfiguredBundle<OpenMetadataApplicationConf
     }
   }
 
+  public static CacheConfig getCacheConfig() {
+    return cacheConfig;
+  }
+
   public static CacheProvider getCacheProvider() {
     return cacheProvider != null ? cacheProvider : new NoopCacheProvider();
   }
@@ -19,6 +19,9 @@ public class CacheConfig {
   public int relationshipTtlSeconds = 3600; // 1 hour
   public int tagTtlSeconds = 3600; // 1 hour
 
+  // Approximate size of the entries written by the cache warmup, 0 for no limit
+  public long warmupMemoryBudgetMb = 0;
+
   public Redis redis = new Redis();
 
   public static class Redis {
@@ -19,6 +19,16 @@ public interface CacheProvider extends AutoCloseable {
 
   void hdel(String key, String... fields);
 
+  /**
+   * Write many hashes and values with the same TTL. Providers may pipeline them into a single
+   * round trip instead of one per command.
+   */
+  default void setAll(
+      Map<String, Map<String, String>> hashes, Map<String, String> values, Duration ttl) {
+    hashes.forEach((key, fields) -> hset(key, fields, ttl));
+    values.forEach((key, value) -> set(key, value, ttl));
+  }
+
   boolean available();
 
   Map<String, Object> getStats();
@@ -0,0 +1,89 @@
+package org.openmetadata.service.cache;
+
+import io.micrometer.core.instrument.Metrics;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures how much of the reads following a cache warmup were anticipated by it. For an hour after
+ * a warmup completes, every entity read through the cache is counted as pre-warmed or not, and the
+ * pre-warmed fraction is published as {@code cache.warmup.read.coverage}.
+ *
+ * <p>The warmed keys are only known to the server that ran the warmup, so only the reads served by
+ * that server are measured.
+ */
+@Slf4j
+public class CacheWarmupTracker {
+  static final long MEASUREMENT_WINDOW_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final String READS_METRIC = "cache.warmup.reads";
+  private static final CacheWarmupTracker INSTANCE =
+      new CacheWarmupTracker(System::currentTimeMillis);
+
+  static {
+    Metrics.gauge("cache.warmup.read.coverage", INSTANCE, CacheWarmupTracker::getCoverage);
+  }
+
+  private final LongSupplier clock;
+  private final AtomicLong reads = new AtomicLong();
+  private final AtomicLong prewarmedReads = new AtomicLong();
+  private volatile Set<String> warmingKeys = ConcurrentHashMap.newKeySet();
+  private volatile Set<String> warmedKeys = Set.of();
+  private volatile long windowEnd = 0;
+
+  CacheWarmupTracker(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public static CacheWarmupTracker getInstance() {
+    return INSTANCE;
+  }
+
+  public void warmupStarted() {
+    warmingKeys = ConcurrentHashMap.newKeySet();
+  }
+
+  public void recordWarmed(Collection<String> keys) {
+    warmingKeys.addAll(keys);
+  }
+
+  /** Start measuring the reads of the next hour against the keys written by the warmup. */
+  public void warmupCompleted() {
+    warmedKeys = warmingKeys;
+    warmingKeys = ConcurrentHashMap.newKeySet();
+    reads.set(0);
+    prewarmedReads.set(0);
+    windowEnd = clock.getAsLong() + MEASUREMENT_WINDOW_MILLIS;
+    LOG.info("Measuring cache reads of the next hour against {} warmed keys", warmedKeys.size());
+  }
+
+  public void recordRead(String key) {
+    if (clock.getAsLong() > windowEnd) {
+      if (!warmedKeys.isEmpty()) {
+        LOG.info(
+            "Cache warmup covered {} of the {} reads of the following hour",
+            prewarmedReads.get(),
+            reads.get());
+        warmedKeys = Set.of();
+      }
+      return;
+    }
+
+    boolean prewarmed = warmedKeys.contains(key);
+    reads.incrementAndGet();
+    if (prewarmed) {
+      prewarmedReads.incrementAndGet();
+    }
+    Metrics.counter(READS_METRIC, "prewarmed", String.valueOf(prewarmed)).increment();
+  }
+
+  /** Fraction of the reads of the measurement window that hit a key written by the warmup. */
+  public double getCoverage() {
+    long total = reads.get();
+    return total > 0 ? (double) prewarmedReads.get() / total : 0.0;
+  }
+}
@@ -1,18 +1,26 @@
 package org.openmetadata.service.cache;
 
+import com.google.common.annotations.VisibleForTesting;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.SetArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RedisCacheProvider implements CacheProvider {
+  private static final long PIPELINE_TIMEOUT_SECONDS = 30;
   private final CacheConfig config;
   private final CacheKeys keys;
   private RedisClient redisClient;
@@ -26,6 +34,15 @@ public class RedisCacheProvider implements CacheProvider {
     initialize();
   }
 
+  @VisibleForTesting
+  RedisCacheProvider(CacheConfig config, StatefulRedisConnection<String, String> connection) {
+    this.config = config;
+    this.keys = new CacheKeys(config.redis.keyspace);
+    this.connection = connection;
+    this.syncCommands = connection.sync();
+    this.available = true;
+  }
+
   private void initialize() {
     try {
       RedisURI uri = buildRedisURI();
@@ -180,6 +197,40 @@ public class RedisCacheProvider implements CacheProvider {
     }
   }
 
+  @Override
+  public void setAll(
+      Map<String, Map<String, String>> hashes, Map<String, String> values, Duration ttl) {
+    if (!available || (hashes.isEmpty() && values.isEmpty())) return;
+
+    try {
+      // Async commands are sent without waiting for the previous reply, so the whole batch is
+      // pipelined over the shared connection and only awaited once
+      RedisAsyncCommands<String, String> asyncCommands = connection.async();
+      List<RedisFuture<?>> futures = new ArrayList<>();
+      boolean expire = ttl != null && ttl.getSeconds() > 0;
+      hashes.forEach(
+          (key, fields) -> {
+            futures.add(asyncCommands.hset(key, fields));
+            if (expire) {
+              futures.add(asyncCommands.expire(key, ttl.getSeconds()));
+            }
+          });
+      values.forEach(
+          (key, value) ->
+              futures.add(
+                  expire
+                      ? asyncCommands.set(key, value, SetArgs.Builder.ex(ttl.getSeconds()))
+                      : asyncCommands.set(key, value)));
+
+      if (!LettuceFutures.awaitAll(
+          PIPELINE_TIMEOUT_SECONDS, TimeUnit.SECONDS, futures.toArray(new RedisFuture[0]))) {
+        LOG.warn("Timed out writing {} pipelined commands", futures.size());
+      }
+    } catch (Exception e) {
+      LOG.error("Error writing {} hashes and {} keys", hashes.size(), values.size(), e);
+    }
+  }
+
   @Override
   public boolean available() {
     return available;
@@ -40,6 +40,7 @@ import org.openmetadata.schema.entity.events.FailedEventResponse;
 import org.openmetadata.schema.entity.events.SubscriptionDestination;
 import org.openmetadata.schema.entity.events.SubscriptionStatus;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.Paging;
 import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.sdk.PipelineServiceClientInterface;
 import org.openmetadata.service.Entity;
@@ -48,11 +49,13 @@ import org.openmetadata.service.apps.bundles.changeEvent.AbstractEventConsumer;
 import org.openmetadata.service.apps.bundles.changeEvent.AlertPublisher;
 import org.openmetadata.service.clients.pipeline.PipelineServiceClientFactory;
 import org.openmetadata.service.events.subscription.AlertUtil;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventRecord;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.EventSubscriptionRepository;
 import org.openmetadata.service.resources.events.subscription.TypedEvent;
 import org.openmetadata.service.util.DIContainer;
 import org.openmetadata.service.util.OpenMetadataConnectionBuilder;
+import org.openmetadata.service.util.RestUtil;
 import org.quartz.Job;
 import org.quartz.JobBuilder;
 import org.quartz.JobDataMap;
@@ -362,6 +365,12 @@ public class EventSubscriptionScheduler {
 
   public EventSubscriptionDiagnosticInfo getEventSubscriptionDiagnosticInfo(
       UUID subscriptionId, int limit, int paginationOffset, boolean listCountOnly) {
+    return getEventSubscriptionDiagnosticInfo(
+        subscriptionId, limit, paginationOffset, null, listCountOnly);
+  }
+
+  public EventSubscriptionDiagnosticInfo getEventSubscriptionDiagnosticInfo(
+      UUID subscriptionId, int limit, int paginationOffset, String after, boolean listCountOnly) {
     Optional<EventSubscriptionOffset> eventSubscriptionOffsetOptional =
         getEventSubscriptionOffset(subscriptionId);
 
@@ -382,40 +391,87 @@ public class EventSubscriptionScheduler {
 
     boolean hasProcessedAllEvents = checkIfPublisherPublishedAllEvents(subscriptionId);
 
+    // Offset based paging is kept for deep links from older clients; the first page and every
+    // page reached through the after cursor are read with a keyset seek on (eventTime, offset)
+    String nextCursor = null;
+    List<ChangeEvent> allUnprocessedEvents;
+    if (after == null && paginationOffset > 0) {
+      allUnprocessedEvents = getAllUnprocessedEvents(subscriptionId, limit, paginationOffset);
+    } else {
+      List<ChangeEventRecord> page = listUnprocessedEventRecords(subscriptionId, limit, after);
+      allUnprocessedEvents =
+          page.stream().map(r -> JsonUtils.readValue(r.json(), ChangeEvent.class)).toList();
+      if (!page.isEmpty() && page.size() == limit) {
+        nextCursor = encodeEventCursor(page.getLast());
+      }
+    }
     List<ChangeEvent> unprocessedEvents =
-        Optional.ofNullable(getRelevantUnprocessedEvents(subscriptionId, limit, paginationOffset))
-            .orElse(Collections.emptyList());
+        filterRelevantEvents(subscriptionId, allUnprocessedEvents);
+
+    EventSubscriptionDiagnosticInfo diagnosticInfo =
+        new EventSubscriptionDiagnosticInfo()
+            .withLatestOffset(latestOffset)
+            .withCurrentOffset(currentOffset)
+            .withStartingOffset(startingOffset)
+            .withHasProcessedAllEvents(hasProcessedAllEvents)
+            .withSuccessfulEventsCount(successfulEventsCount)
+            .withFailedEventsCount(failedEventsCount)
+            .withTotalUnprocessedEventsCount(totalUnprocessedEventCount)
+            .withRelevantUnprocessedEventsCount((long) unprocessedEvents.size())
+            .withPaging(
+                new Paging()
+                    .withAfter(nextCursor)
+                    .withLimit(limit)
+                    .withTotal((int) totalUnprocessedEventCount));
 
     if (listCountOnly) {
-      return new EventSubscriptionDiagnosticInfo()
-          .withLatestOffset(latestOffset)
-          .withCurrentOffset(currentOffset)
-          .withStartingOffset(startingOffset)
-          .withHasProcessedAllEvents(hasProcessedAllEvents)
-          .withSuccessfulEventsCount(successfulEventsCount)
-          .withFailedEventsCount(failedEventsCount)
-          .withTotalUnprocessedEventsCount(totalUnprocessedEventCount)
-          .withRelevantUnprocessedEventsCount((long) unprocessedEvents.size())
+      return diagnosticInfo
           .withRelevantUnprocessedEventsList(null)
           .withTotalUnprocessedEventsList(null);
     }
 
-    List<ChangeEvent> allUnprocessedEvents =
-        getAllUnprocessedEvents(subscriptionId, limit, paginationOffset);
-
-    return new EventSubscriptionDiagnosticInfo()
-        .withLatestOffset(Entity.getCollectionDAO().changeEventDAO().getLatestOffset())
-        .withCurrentOffset(currentOffset)
-        .withStartingOffset(startingOffset)
-        .withHasProcessedAllEvents(hasProcessedAllEvents)
-        .withSuccessfulEventsCount(successfulEventsCount)
-        .withFailedEventsCount(failedEventsCount)
-        .withTotalUnprocessedEventsCount(totalUnprocessedEventCount)
+    return diagnosticInfo
         .withTotalUnprocessedEventsList(allUnprocessedEvents)
-        .withRelevantUnprocessedEventsCount((long) unprocessedEvents.size())
         .withRelevantUnprocessedEventsList(unprocessedEvents);
   }
 
+  private List<ChangeEventRecord> listUnprocessedEventRecords(
+      UUID subscriptionId, int limit, String after) {
+    long offset =
+        getEventSubscriptionOffset(subscriptionId)
+            .map(EventSubscriptionOffset::getCurrentOffset)
+            .orElse(Entity.getCollectionDAO().changeEventDAO().getLatestOffset());
+
+    long afterEventTime = Long.MAX_VALUE;
+    long afterOffset = Long.MAX_VALUE;
+    if (after != null) {
+      String[] parts = RestUtil.decodeCursor(after).split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid cursor: " + after);
+      }
+      afterEventTime = Long.parseLong(parts[0]);
+      afterOffset = Long.parseLong(parts[1]);
+    }
+    return Entity.getCollectionDAO()
+        .changeEventDAO()
+        .listUnprocessedEventsAfter(offset, afterEventTime, afterOffset, limit);
+  }
+
+  private static String encodeEventCursor(ChangeEventRecord eventRecord) {
+    return RestUtil.encodeCursor(eventRecord.eventTime() + ":" + eventRecord.offset());
+  }
+
+  private List<ChangeEvent> filterRelevantEvents(UUID subscriptionId, List<ChangeEvent> events) {
+    if (events.isEmpty()) {
+      return Collections.emptyList();
+    }
+    EventSubscription subscription = getEventSubscription(subscriptionId);
+    return events.stream()
+        .filter(
+            event -> AlertUtil.checkIfChangeEventIsAllowed(event, subscription.getFilteringRules()))
+        .toList();
+  }
+
   public boolean checkIfPublisherPublishedAllEvents(UUID subscriptionID) {
     long countOfEvents = Entity.getCollectionDAO().changeEventDAO().getLatestOffset();
 
@@ -432,7 +488,7 @@ public class EventSubscriptionScheduler {
         .orElse(countOfEvents);
   }
 
-  public List<ChangeEvent> getRelevantUnprocessedEvents(
+  public List<ChangeEvent> getAllUnprocessedEvents(
       UUID subscriptionId, int limit, int paginationOffset) {
     long offset =
         getEventSubscriptionOffset(subscriptionId)
@@ -443,31 +499,30 @@ public class EventSubscriptionScheduler {
         .changeEventDAO()
         .listUnprocessedEvents(offset, limit, paginationOffset)
         .parallelStream()
-        .map(
-            eventJson -> {
-              ChangeEvent event = JsonUtils.readValue(eventJson, ChangeEvent.class);
-              return AlertUtil.checkIfChangeEventIsAllowed(
-                      event, getEventSubscription(subscriptionId).getFilteringRules())
-                  ? event
-                  : null;
-            })
-        .filter(Objects::nonNull) // Remove null entries (events that did not pass filtering)
-        .toList();
+        .map(eventJson -> JsonUtils.readValue(eventJson, ChangeEvent.class))
+        .collect(Collectors.toList());
   }
 
-  public List<ChangeEvent> getAllUnprocessedEvents(
-      UUID subscriptionId, int limit, int paginationOffset) {
-    long offset =
-        getEventSubscriptionOffset(subscriptionId)
-            .map(EventSubscriptionOffset::getCurrentOffset)
-            .orElse(Entity.getCollectionDAO().changeEventDAO().getLatestOffset());
-
+  /**
+   * Keyset variant of {@link #getFailedEventsByIdAndSource(UUID, String, int, int)}. Failed events
+   * are ordered by failure time, newest first, and the page starts right after the failed event
+   * identified by {@code afterTimestamp} and {@code afterEventId}, which are the timestamp and
+   * change event id of the last event of the previous page.
+   */
+  public List<FailedEventResponse> getFailedEventsByIdAndSource(
+      UUID subscriptionId, String source, int limit, long afterTimestamp, UUID afterEventId) {
+    String afterExtension =
+        String.format("%s-%s", AbstractEventConsumer.FAILED_EVENT_EXTENSION, afterEventId);
+    if (CommonUtil.nullOrEmpty(source)) {
+      return Entity.getCollectionDAO()
+          .changeEventDAO()
+          .listFailedEventsByIdAfter(
+              subscriptionId.toString(), afterTimestamp, afterExtension, limit);
+    }
     return Entity.getCollectionDAO()
         .changeEventDAO()
-        .listUnprocessedEvents(offset, limit, paginationOffset)
-        .parallelStream()
-        .map(eventJson -> JsonUtils.readValue(eventJson, ChangeEvent.class))
-        .collect(Collectors.toList());
+        .listFailedEventsByIdAndSourceAfter(
+            subscriptionId.toString(), source, afterTimestamp, afterExtension, limit);
   }
 
   public List<FailedEventResponse> getFailedEventsByIdAndSource(
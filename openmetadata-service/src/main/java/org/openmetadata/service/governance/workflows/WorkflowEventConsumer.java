@@ -6,9 +6,13 @@ import static org.openmetadata.service.governance.workflows.Workflow.RELATED_ENT
 import static org.openmetadata.service.governance.workflows.Workflow.UPDATED_BY_VARIABLE;
 import static org.openmetadata.service.governance.workflows.WorkflowVariableHandler.getNamespacedVariableName;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -31,10 +35,10 @@ public class WorkflowEventConsumer implements Destination<ChangeEvent> {
 
   // TODO: Understand if we need to consider ENTITY_NO_CHANGE, ENTITY_FIELDS_CHANGED or
   // ENTITY_RESTORED.
-  private static List<EventType> validEventTypes =
-      List.of(EventType.ENTITY_CREATED, EventType.ENTITY_UPDATED);
-  private static List<String> validEntityTypes =
-      List.of(
+  private static final Set<EventType> validEventTypes =
+      Set.of(EventType.ENTITY_CREATED, EventType.ENTITY_UPDATED);
+  private static final Set<String> validEntityTypes =
+      Set.of(
           Entity.GLOSSARY_TERM,
           Entity.TABLE,
           Entity.DASHBOARD,
@@ -101,56 +105,130 @@ public class WorkflowEventConsumer implements Destination<ChangeEvent> {
 
   @Override
   public void sendMessage(ChangeEvent event) throws EventPublisherException {
+    EventPublisherException failure = sendMessages(List.of(event)).get(event);
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Signal the workflows of a batch of events. Entity references are resolved with one query per
+   * entity type, and the signals are delivered in engine transactions of many signals each.
+   */
+  @Override
+  public Map<ChangeEvent, EventPublisherException> sendMessages(List<ChangeEvent> events) {
     // NOTE: We are only consuming ENTITY related events.
-    try {
-      EventType eventType = event.getEventType();
-      String entityType = event.getEntityType();
-
-      // Skip events from governance-bot to prevent infinite loops
-      // These are system-initiated workflow changes that shouldn't trigger new workflows
-      if (GOVERNANCE_BOT.equals(event.getUserName())
-          || (event.getImpersonatedBy() != null
-              && GOVERNANCE_BOT.equals(event.getImpersonatedBy()))) {
-        LOG.debug(
-            "Skipping workflow-initiated event from governance-bot for entity {} of type: {}",
-            event.getEntityFullyQualifiedName(),
-            event.getEntityType());
-        return;
+    Map<ChangeEvent, EventPublisherException> failures = new LinkedHashMap<>();
+    List<ChangeEvent> workflowEvents = events.stream().filter(this::triggersWorkflow).toList();
+    if (workflowEvents.isEmpty()) {
+      return failures;
+    }
+
+    Map<UUID, EntityReference> references = resolveReferences(workflowEvents);
+    List<ChangeEvent> signalledEvents = new ArrayList<>();
+    List<WorkflowHandler.WorkflowSignal> signals = new ArrayList<>();
+    for (ChangeEvent event : workflowEvents) {
+      try {
+        EntityReference entityReference = references.get(event.getEntityId());
+        if (entityReference == null) {
+          entityReference =
+              Entity.getEntityReferenceById(
+                  event.getEntityType(), event.getEntityId(), Include.ALL);
+        }
+        signals.add(buildSignal(event, entityReference));
+        signalledEvents.add(event);
+      } catch (Exception exc) {
+        failures.put(event, publishFailure(event, exc));
       }
+    }
+
+    try {
+      WorkflowHandler.getInstance()
+          .triggerWithSignals(signals)
+          .forEach(
+              (index, exc) ->
+                  failures.put(
+                      signalledEvents.get(index), publishFailure(signalledEvents.get(index), exc)));
+    } catch (Exception exc) {
+      signalledEvents.forEach(event -> failures.put(event, publishFailure(event, exc)));
+    }
+    return failures;
+  }
+
+  private boolean triggersWorkflow(ChangeEvent event) {
+    // Skip events from governance-bot to prevent infinite loops
+    // These are system-initiated workflow changes that shouldn't trigger new workflows
+    if (GOVERNANCE_BOT.equals(event.getUserName())
+        || (event.getImpersonatedBy() != null
+            && GOVERNANCE_BOT.equals(event.getImpersonatedBy()))) {
+      LOG.debug(
+          "Skipping workflow-initiated event from governance-bot for entity {} of type: {}",
+          event.getEntityFullyQualifiedName(),
+          event.getEntityType());
+      return false;
+    }
+    return validEventTypes.contains(event.getEventType())
+        && validEntityTypes.contains(event.getEntityType());
+  }
 
-      if (validEventTypes.contains(eventType) && validEntityTypes.contains(entityType)) {
-        String signal = String.format("%s-%s", entityType, eventType.toString());
+  /**
+   * Resolve the references of the events' entities with one lookup per entity type. Entities the
+   * lookup fails for are left out and resolved one by one, so that one bad event does not fail
+   * the batch.
+   */
+  private static Map<UUID, EntityReference> resolveReferences(List<ChangeEvent> events) {
+    Map<String, List<UUID>> idsByType = new LinkedHashMap<>();
+    for (ChangeEvent event : events) {
+      idsByType
+          .computeIfAbsent(event.getEntityType(), type -> new ArrayList<>())
+          .add(event.getEntityId());
+    }
 
-        EntityReference entityReference =
-            Entity.getEntityReferenceById(entityType, event.getEntityId(), Include.ALL);
-        MessageParser.EntityLink entityLink =
-            new MessageParser.EntityLink(entityType, entityReference.getFullyQualifiedName());
+    Map<UUID, EntityReference> references = new HashMap<>();
+    idsByType.forEach(
+        (entityType, ids) -> {
+          try {
+            for (EntityReference reference :
+                Entity.getEntityReferencesByIds(entityType, ids, Include.ALL)) {
+              references.put(reference.getId(), reference);
+            }
+          } catch (Exception exc) {
+            LOG.debug("Failed to resolve {} references in bulk: {}", entityType, exc.getMessage());
+          }
+        });
+    return references;
+  }
 
-        Map<String, Object> variables = new HashMap<>();
+  private static WorkflowHandler.WorkflowSignal buildSignal(
+      ChangeEvent event, EntityReference entityReference) {
+    String entityType = event.getEntityType();
+    String signal = String.format("%s-%s", entityType, event.getEventType().toString());
+    MessageParser.EntityLink entityLink =
+        new MessageParser.EntityLink(entityType, entityReference.getFullyQualifiedName());
 
-        variables.put(
-            getNamespacedVariableName(GLOBAL_NAMESPACE, RELATED_ENTITY_VARIABLE),
-            entityLink.getLinkString());
+    Map<String, Object> variables = new HashMap<>();
 
-        // Set the updatedBy variable from the change event userName
-        if (event.getUserName() != null) {
-          variables.put(
-              getNamespacedVariableName(GLOBAL_NAMESPACE, UPDATED_BY_VARIABLE),
-              event.getUserName());
-        }
+    variables.put(
+        getNamespacedVariableName(GLOBAL_NAMESPACE, RELATED_ENTITY_VARIABLE),
+        entityLink.getLinkString());
 
-        WorkflowHandler.getInstance().triggerWithSignal(signal, variables);
-      }
-    } catch (Exception exc) {
-      String message =
-          CatalogExceptionMessage.eventPublisherFailedToPublish(
-              GOVERNANCE_WORKFLOW_CHANGE_EVENT, event, exc.getMessage());
-      LOG.error(message);
-      throw new EventPublisherException(
-          CatalogExceptionMessage.eventPublisherFailedToPublish(
-              GOVERNANCE_WORKFLOW_CHANGE_EVENT, exc.getMessage()),
-          Pair.of(subscriptionDestination.getId(), event));
+    // Set the updatedBy variable from the change event userName
+    if (event.getUserName() != null) {
+      variables.put(
+          getNamespacedVariableName(GLOBAL_NAMESPACE, UPDATED_BY_VARIABLE), event.getUserName());
     }
+    return new WorkflowHandler.WorkflowSignal(signal, variables);
+  }
+
+  private EventPublisherException publishFailure(ChangeEvent event, Exception exc) {
+    String message =
+        CatalogExceptionMessage.eventPublisherFailedToPublish(
+            GOVERNANCE_WORKFLOW_CHANGE_EVENT, event, exc.getMessage());
+    LOG.error(message);
+    return new EventPublisherException(
+        CatalogExceptionMessage.eventPublisherFailedToPublish(
+            GOVERNANCE_WORKFLOW_CHANGE_EVENT, exc.getMessage()),
+        Pair.of(subscriptionDestination.getId(), event));
   }
 
   @Override
@@ -3,6 +3,9 @@ package org.openmetadata.service.governance.workflows;
 import static org.openmetadata.service.governance.workflows.WorkflowVariableHandler.getNamespacedVariableName;
 import static org.openmetadata.service.governance.workflows.elements.TriggerFactory.getTriggerWorkflowId;
 
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.bpmn.converter.BpmnXMLConverter;
@@ -63,6 +67,7 @@ import org.openmetadata.service.util.EntityUtil;
 
 @Slf4j
 public class WorkflowHandler {
+  private static final int SIGNAL_BATCH_SIZE = 100;
   private ProcessEngine processEngine;
   private final Map<Object, Object> expressionMap = new HashMap<>();
   private static WorkflowHandler instance;
@@ -87,6 +92,11 @@ public class WorkflowHandler {
     initializeNewProcessEngine(processEngineConfiguration);
   }
 
+  @VisibleForTesting
+  WorkflowHandler(ProcessEngine processEngine) {
+    this.processEngine = processEngine;
+  }
+
   public void initializeExpressionMap(OpenMetadataApplicationConfig config) {
     expressionMap.put("IngestionPipelineMapper", new IngestionPipelineMapper(config));
     expressionMap.put(
@@ -419,6 +429,66 @@ public class WorkflowHandler {
     runtimeService.signalEventReceived(signal, variables);
   }
 
+  /** A signal with the variables of the process instances it starts or resumes. */
+  public record WorkflowSignal(String signal, Map<String, Object> variables) {}
+
+  /**
+   * Deliver {@code signals} in chunks of {@link #SIGNAL_BATCH_SIZE}, each chunk starting and
+   * signalling its process instances in one engine transaction. When a signal fails, its chunk is
+   * reported as failed up to and including that signal, and delivery resumes right after it.
+   *
+   * @return The failure of each signal that could not be delivered, by its index in {@code signals}
+   */
+  public Map<Integer, RuntimeException> triggerWithSignals(List<WorkflowSignal> signals) {
+    Map<Integer, RuntimeException> failures = new HashMap<>();
+    RuntimeService runtimeService = processEngine.getRuntimeService();
+    int from = 0;
+    while (from < signals.size()) {
+      List<WorkflowSignal> chunk =
+          signals.subList(from, Math.min(from + SIGNAL_BATCH_SIZE, signals.size()));
+      AtomicInteger delivered = new AtomicInteger();
+      Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+      try {
+        // Service calls made inside a command reuse its context, hence its transaction
+        processEngine
+            .getManagementService()
+            .executeCommand(
+                commandContext -> {
+                  for (WorkflowSignal signal : chunk) {
+                    runtimeService.signalEventReceived(signal.signal(), signal.variables());
+                    delivered.incrementAndGet();
+                  }
+                  return null;
+                });
+        sample.stop(Metrics.timer("governance.workflow.signal.batch", "mode", "batched"));
+        from += chunk.size();
+      } catch (RuntimeException e) {
+        // Only the engine's writes are rolled back: what the signals before the failing one wrote
+        // to the OpenMetadata store (the trigger's filter and instance records, the main workflow's
+        // tasks and patches) is already committed, so sending them again would duplicate it. They
+        // are reported as failed instead, and only the signals after the failing one, which have
+        // not run at all, are delivered again. A failure past the last signal, i.e. on commit,
+        // fails the whole chunk.
+        int failed = Math.min(delivered.get(), chunk.size() - 1);
+        LOG.warn(
+            "[WorkflowTrigger] Signal {} of a batch of {} failed, resuming after it: {}",
+            failed,
+            chunk.size(),
+            e.getMessage());
+        for (int i = 0; i <= failed; i++) {
+          failures.put(from + i, e);
+        }
+        sample.stop(Metrics.timer("governance.workflow.signal.batch", "mode", "failed"));
+        from += failed + 1;
+      }
+    }
+    Metrics.summary("governance.workflow.signal.batch.size").record(signals.size());
+    Metrics.counter("governance.workflow.signals", "outcome", "delivered")
+        .increment(signals.size() - failures.size());
+    Metrics.counter("governance.workflow.signals", "outcome", "failed").increment(failures.size());
+    return failures;
+  }
+
   private void unlockJobsOnStartup() {
     RuntimeService runtimeService = processEngine.getRuntimeService();
     ManagementService managementService = processEngine.getManagementService();
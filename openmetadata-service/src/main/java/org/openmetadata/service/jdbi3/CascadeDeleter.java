@@ -0,0 +1,148 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.util.DeletionProgress;
+
+/**
+ * Deletes a containment tree bottom up. The tree is walked depth first one batch of parent ids at a
+ * time, so only the batches on the current path are held in memory, and the batches of a level are
+ * deleted concurrently once all their descendants are gone.
+ *
+ * <p>A batch is only deleted when its whole subtree was. Entities that could not be deleted keep
+ * their parents, and the relationships to them, so deleting the root again resumes the deletion.
+ */
+@Slf4j
+class CascadeDeleter {
+
+  @FunctionalInterface
+  interface ChildrenLookup {
+    /** Containment relationships from the given parent ids to their children. */
+    List<EntityRelationshipObject> findChildren(List<String> parentIds);
+  }
+
+  @FunctionalInterface
+  interface BatchDeleter {
+    /** Deletes entities of one type, returning the ids that could not be deleted. */
+    Set<UUID> delete(String entityType, List<UUID> ids);
+  }
+
+  private final int batchSize;
+  private final ChildrenLookup childrenLookup;
+  private final BatchDeleter batchDeleter;
+  private final Executor executor;
+  private final DeletionProgress.Listener progress;
+  // Ids of the batches on the current path, to stop at a relationship that points back up
+  private final Set<UUID> path = new HashSet<>();
+  private final AtomicLong discovered = new AtomicLong();
+  private final AtomicLong deleted = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+
+  CascadeDeleter(
+      int batchSize,
+      ChildrenLookup childrenLookup,
+      BatchDeleter batchDeleter,
+      Executor executor,
+      DeletionProgress.Listener progress) {
+    this.batchSize = batchSize;
+    this.childrenLookup = childrenLookup;
+    this.batchDeleter = batchDeleter;
+    this.executor = executor;
+    this.progress = progress;
+  }
+
+  /**
+   * Deletes the children and all their descendants.
+   *
+   * @return the number of entities that could not be deleted
+   */
+  long delete(List<EntityRelationshipRecord> children) {
+    Map<String, Set<UUID>> level = new LinkedHashMap<>();
+    for (EntityRelationshipRecord child : children) {
+      level.computeIfAbsent(child.getType(), type -> new LinkedHashSet<>()).add(child.getId());
+    }
+    deleteLevel(level);
+    LOG.info("Cascade deleted {} entities, {} could not be deleted", deleted.get(), failed.get());
+    return failed.get();
+  }
+
+  private boolean deleteLevel(Map<String, Set<UUID>> level) {
+    level.values().forEach(ids -> discovered.addAndGet(ids.size()));
+    boolean complete = true;
+    List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+    for (Map.Entry<String, Set<UUID>> entry : level.entrySet()) {
+      String entityType = entry.getKey();
+      for (List<UUID> batch : Lists.partition(new ArrayList<>(entry.getValue()), batchSize)) {
+        if (deleteDescendants(batch)) {
+          futures.add(
+              CompletableFuture.supplyAsync(() -> deleteBatch(entityType, batch), executor));
+        } else {
+          // Keep the batch, and the relationships to what is left below it, for a later retry
+          complete = false;
+        }
+      }
+    }
+    for (CompletableFuture<Boolean> future : futures) {
+      complete &= future.join();
+    }
+    return complete;
+  }
+
+  private boolean deleteDescendants(List<UUID> parents) {
+    List<UUID> added = parents.stream().filter(path::add).toList();
+    try {
+      Map<String, Set<UUID>> children = new LinkedHashMap<>();
+      List<String> parentIds = parents.stream().map(UUID::toString).toList();
+      for (EntityRelationshipObject relationship : childrenLookup.findChildren(parentIds)) {
+        UUID childId = UUID.fromString(relationship.getToId());
+        if (!path.contains(childId)) {
+          children
+              .computeIfAbsent(relationship.getToEntity(), type -> new LinkedHashSet<>())
+              .add(childId);
+        }
+      }
+      return children.isEmpty() || deleteLevel(children);
+    } finally {
+      added.forEach(path::remove);
+    }
+  }
+
+  private boolean deleteBatch(String entityType, List<UUID> batch) {
+    Set<UUID> notDeleted;
+    try {
+      notDeleted = batchDeleter.delete(entityType, batch);
+    } catch (Exception e) {
+      LOG.error("Failed to delete a batch of {} {} entities", batch.size(), entityType, e);
+      notDeleted = Set.copyOf(batch);
+    }
+    failed.addAndGet(notDeleted.size());
+    progress.onProgress(deleted.addAndGet(batch.size() - notDeleted.size()), discovered.get());
+    return notDeleted.isEmpty();
+  }
+}
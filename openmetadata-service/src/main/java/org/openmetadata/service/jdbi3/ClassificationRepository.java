@@ -33,6 +33,7 @@ import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.entity.classification.Classification;
 import org.openmetadata.schema.entity.classification.Tag;
+import org.openmetadata.schema.jobs.FqnPrefixRenameArgs;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.ProviderType;
@@ -44,6 +45,7 @@ import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jobs.FqnPrefixRenameHandler;
 import org.openmetadata.service.resources.tags.ClassificationResource;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
@@ -275,11 +277,23 @@ public class ClassificationRepository extends EntityRepository<Classification> {
   }
 
   public class ClassificationUpdater extends EntityUpdater {
+    // Rename of a large hierarchy, enqueued as a background job once the update is stored
+    private FqnPrefixRenameArgs pendingRename;
+
     public ClassificationUpdater(
         Classification original, Classification updated, Operation operation) {
       super(original, updated, operation);
     }
 
+    @Override
+    protected void afterStoreUpdate() {
+      if (pendingRename != null) {
+        FqnPrefixRenameHandler.enqueueRename(
+            daoCollection, jobDao, pendingRename, updatingUser.getName());
+        pendingRename = null;
+      }
+    }
+
     @Transaction
     @Override
     public void entitySpecificUpdate(boolean consolidatingChanges) {
@@ -302,13 +316,12 @@ public class ClassificationRepository extends EntityRepository<Classification> {
         }
         // on Classification name change - update tag's name under classification
         setFullyQualifiedName(updated);
-        daoCollection
-            .tagDAO()
-            .updateFqn(original.getFullyQualifiedName(), updated.getFullyQualifiedName());
-        daoCollection
-            .tagUsageDAO()
-            .updateTagPrefix(
-                TagSource.CLASSIFICATION.ordinal(),
+        pendingRename =
+            FqnPrefixRenameHandler.renameDescendants(
+                daoCollection,
+                jobDao,
+                CLASSIFICATION,
+                original.getId(),
                 original.getFullyQualifiedName(),
                 updated.getFullyQualifiedName());
         recordChange("name", original.getName(), updated.getName());
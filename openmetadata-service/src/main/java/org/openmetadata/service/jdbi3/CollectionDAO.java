@@ -32,9 +32,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -53,6 +55,7 @@ import org.jdbi.v3.sqlobject.customizer.BindBeanList;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.BindMap;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.jdbi.v3.sqlobject.statement.UseRowMapper;
@@ -364,6 +367,21 @@ public interface CollectionDAO {
   @CreateSqlObject
   FeedDAO feedDAO();
 
+  @CreateSqlObject
+  ThreadPostDAO threadPostDAO();
+
+  @CreateSqlObject
+  ActivityFeedInboxDAO activityFeedInboxDAO();
+
+  @CreateSqlObject
+  ThreadCountDAO threadCountDAO();
+
+  @CreateSqlObject
+  TeamClosureDAO teamClosureDAO();
+
+  @CreateSqlObject
+  IngestionPipelineStatusDAO ingestionPipelineStatusDAO();
+
   @CreateSqlObject
   StoredProcedureDAO storedProcedureDAO();
 
@@ -1391,6 +1409,37 @@ public interface CollectionDAO {
     private Integer count;
   }
 
+  @Getter
+  @Builder
+  class EntityTypePairCount {
+    private String fromEntity;
+    private String toEntity;
+    private long count;
+  }
+
+  /** Relationship whose from and/or to entity is missing from the entity table. */
+  @Getter
+  @Builder
+  class MissingEndpointRelationship {
+    private String fromId;
+    private String toId;
+    private int relation;
+    private boolean fromMissing;
+    private boolean toMissing;
+  }
+
+  /** Lineage relationship and the pipeline referenced in its lineage details. */
+  @Getter
+  @Builder
+  class LineagePipelineReference {
+    private String fromId;
+    private String toId;
+    private String fromEntity;
+    private String toEntity;
+    private String pipelineId;
+    private String pipelineType;
+  }
+
   @Getter
   @Builder
   class EntityRelationshipObject {
@@ -1643,6 +1692,22 @@ public interface CollectionDAO {
       return findToBatchAllTypesWithCondition(fromIds, relation, condition);
     }
 
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json, jsonSchema "
+            + "FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) "
+            + "AND deleted = FALSE")
+    @UseRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findAllToBatch(@BindList("fromIds") List<String> fromIds);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json, jsonSchema "
+            + "FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) "
+            + "AND deleted = FALSE")
+    @UseRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findAllFromBatch(@BindList("toIds") List<String> toIds);
+
     @SqlQuery(
         "SELECT toId, toEntity, json FROM entity_relationship "
             + "WHERE fromId = :fromId AND fromEntity = :fromEntity AND relation = :relation AND toEntity = :toEntity")
@@ -1937,6 +2002,82 @@ public interface CollectionDAO {
     @SqlQuery("SELECT COUNT(*) FROM entity_relationship")
     long getTotalRelationshipCount();
 
+    /**
+     * Upper bound of the next range of at most {@code limit} relationships in fromId order, or null
+     * when no relationship is left after {@code afterFromId}.
+     */
+    @SqlQuery(
+        "SELECT MAX(fromId) FROM (SELECT fromId FROM entity_relationship "
+            + "WHERE fromId > :afterFromId ORDER BY fromId LIMIT :limit) page")
+    String getRelationshipRangeEnd(
+        @Bind("afterFromId") String afterFromId, @Bind("limit") int limit);
+
+    @SqlQuery(
+        "SELECT fromEntity, toEntity, COUNT(*) AS count FROM entity_relationship "
+            + "WHERE fromId > :afterFromId AND fromId <= :toFromId GROUP BY fromEntity, toEntity")
+    @UseRowMapper(EntityTypePairCountMapper.class)
+    List<EntityTypePairCount> countByEntityTypePair(
+        @Bind("afterFromId") String afterFromId, @Bind("toFromId") String toFromId);
+
+    /**
+     * Anti-join of the relationships between two entity types in a fromId range against the tables
+     * of both entity types, returning the relationships with a missing end.
+     */
+    @SqlQuery(
+        "SELECT er.fromId, er.toId, er.relation, "
+            + "CASE WHEN f.id IS NULL THEN 1 ELSE 0 END AS fromMissing, "
+            + "CASE WHEN t.id IS NULL THEN 1 ELSE 0 END AS toMissing "
+            + "FROM entity_relationship er "
+            + "LEFT JOIN <fromTable> f ON f.id = er.fromId "
+            + "LEFT JOIN <toTable> t ON t.id = er.toId "
+            + "WHERE er.fromId > :afterFromId AND er.fromId <= :toFromId "
+            + "AND er.fromEntity = :fromEntity AND er.toEntity = :toEntity "
+            + "AND (f.id IS NULL OR t.id IS NULL)")
+    @UseRowMapper(MissingEndpointRelationshipMapper.class)
+    List<MissingEndpointRelationship> findMissingEndpoints(
+        @Define("fromTable") String fromTable,
+        @Define("toTable") String toTable,
+        @Bind("fromEntity") String fromEntity,
+        @Bind("toEntity") String toEntity,
+        @Bind("afterFromId") String afterFromId,
+        @Bind("toFromId") String toFromId);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, "
+                + "JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id')) AS pipelineId, "
+                + "JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.type')) AS pipelineType "
+                + "FROM entity_relationship "
+                + "WHERE fromId > :afterFromId AND fromId <= :toFromId AND relation = :relation "
+                + "AND JSON_EXTRACT(json, '$.pipeline.id') IS NOT NULL",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT fromId, toId, fromEntity, toEntity, "
+                + "json->'pipeline'->>'id' AS pipelineId, "
+                + "json->'pipeline'->>'type' AS pipelineType "
+                + "FROM entity_relationship "
+                + "WHERE fromId > :afterFromId AND fromId <= :toFromId AND relation = :relation "
+                + "AND json->'pipeline'->>'id' IS NOT NULL",
+        connectionType = POSTGRES)
+    @UseRowMapper(LineagePipelineReferenceMapper.class)
+    List<LineagePipelineReference> findLineagePipelines(
+        @Bind("afterFromId") String afterFromId,
+        @Bind("toFromId") String toFromId,
+        @Bind("relation") int relation);
+
+    @SqlQuery("SELECT id FROM <table> WHERE id IN (<ids>)")
+    List<String> listExistingIds(
+        @Define("table") String table, @BindList("ids") List<String> ids);
+
+    @SqlBatch(
+        "DELETE FROM entity_relationship "
+            + "WHERE fromId = :fromId AND toId = :toId AND relation = :relation")
+    int[] deleteBatch(
+        @Bind("fromId") List<String> fromIds,
+        @Bind("toId") List<String> toIds,
+        @Bind("relation") List<Integer> relations);
+
     //
     // Delete Operations
     //
@@ -2094,6 +2235,45 @@ public interface CollectionDAO {
       }
     }
 
+    class EntityTypePairCountMapper implements RowMapper<EntityTypePairCount> {
+      @Override
+      public EntityTypePairCount map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityTypePairCount.builder()
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .count(rs.getLong("count"))
+            .build();
+      }
+    }
+
+    class MissingEndpointRelationshipMapper implements RowMapper<MissingEndpointRelationship> {
+      @Override
+      public MissingEndpointRelationship map(ResultSet rs, StatementContext ctx)
+          throws SQLException {
+        return MissingEndpointRelationship.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .relation(rs.getInt("relation"))
+            .fromMissing(rs.getInt("fromMissing") == 1)
+            .toMissing(rs.getInt("toMissing") == 1)
+            .build();
+      }
+    }
+
+    class LineagePipelineReferenceMapper implements RowMapper<LineagePipelineReference> {
+      @Override
+      public LineagePipelineReference map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return LineagePipelineReference.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .pipelineId(rs.getString("pipelineId"))
+            .pipelineType(rs.getString("pipelineType"))
+            .build();
+      }
+    }
+
     class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
       @Override
       public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -2264,32 +2444,6 @@ public interface CollectionDAO {
         @Bind("limit") int limit,
         @Bind("paginationOffset") int paginationOffset);
 
-    @SqlQuery(
-        "SELECT json FROM thread_entity <condition> AND "
-            // Entity for which the thread is about is owned by the user or his teams
-            + "(entityId in (SELECT toId FROM entity_relationship WHERE "
-            + "((fromEntity='user' AND fromId= :userId) OR "
-            + "(fromEntity='team' AND fromId IN (<teamIds>))) AND relation=8) OR "
-            + "id in (SELECT toId FROM entity_relationship WHERE (fromEntity='user' AND fromId= :userId AND toEntity='THREAD' AND relation IN (1,2)))) "
-            + "ORDER BY createdAt DESC "
-            + "LIMIT :limit")
-    List<String> listThreadsByOwner(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
-        @Bind("limit") int limit,
-        @Define("condition") String condition);
-
-    @SqlQuery(
-        "SELECT count(id) FROM thread_entity <condition> AND "
-            + "(entityId in (SELECT toId FROM entity_relationship WHERE "
-            + "((fromEntity='user' AND fromId= :userId) OR "
-            + "(fromEntity='team' AND fromId IN (<teamIds>))) AND relation=8) OR "
-            + "id in (SELECT toId FROM entity_relationship WHERE (fromEntity='user' AND fromId= :userId AND toEntity='THREAD' AND relation IN (1,2)))) ")
-    int listCountThreadsByOwner(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
-        @Define("condition") String condition);
-
     @SqlQuery(
         value =
             "SELECT json "
@@ -2403,39 +2557,6 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void update(@BindUUID("id") UUID id, @Bind("json") String json);
 
-    @SqlQuery(
-        "SELECT entityLink, type, taskStatus, COUNT(id) as count FROM ( "
-            + "    SELECT te.entityLink, te.type, te.taskStatus, te.id "
-            + "    FROM thread_entity te "
-            + "    WHERE hash_id IN ( "
-            + "        SELECT fromFQNHash FROM field_relationship "
-            + "        WHERE "
-            + "            (:fqnPrefixHash IS NULL OR toFQNHash LIKE :concatFqnPrefixHash OR toFQNHash = :fqnPrefixHash) "
-            + "            AND fromType = 'THREAD' "
-            + "            AND (:toType IS NULL OR toType LIKE :concatToType OR toType = :toType) "
-            + "            AND relation = 3 "
-            + "    )  "
-            + "    UNION  "
-            + "    SELECT te.entityLink, te.type, te.taskStatus, te.id "
-            + "    FROM thread_entity te "
-            + "    WHERE te.entityId = :entityId "
-            + ") AS combined WHERE combined.type IS NOT NULL "
-            + "GROUP BY type, taskStatus, entityLink")
-    @RegisterRowMapper(ThreadCountFieldMapper.class)
-    List<List<String>> listCountByEntityLink(
-        @BindUUID("entityId") UUID entityId,
-        @BindConcat(
-                value = "concatFqnPrefixHash",
-                original = "fqnPrefixHash",
-                parts = {":fqnPrefixHash", ".%"},
-                hash = true)
-            String fqnPrefixHash,
-        @BindConcat(
-                value = "concatToType",
-                original = "toType",
-                parts = {":toType", ".%"})
-            String toType);
-
     @ConnectionAwareSqlQuery(
         value =
             "SELECT COUNT(te.id) AS count "
@@ -2533,132 +2654,24 @@ public interface CollectionDAO {
         @Bind("userTeamJsonPostgres") String userTeamJsonPostgres);
 
     @SqlQuery(
-        "SELECT json FROM thread_entity <condition> AND "
-            + "entityId in ("
-            + "SELECT toId FROM entity_relationship WHERE "
-            + "((fromEntity='user' AND fromId= :userId) OR "
-            + "(fromEntity='team' AND fromId IN (<teamIds>))) AND relation= :relation) "
+        "SELECT json FROM thread_entity <condition> AND id IN ("
+            + "SELECT threadId FROM activity_feed_inbox "
+            + "WHERE principalId IN (<principalIds>) AND reason IN (<reasons>)) "
             + "ORDER BY createdAt DESC "
             + "LIMIT :limit")
-    List<String> listThreadsByFollows(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
+    List<String> listThreadsFromInbox(
+        @BindList("principalIds") List<String> principalIds,
+        @BindList("reasons") List<String> reasons,
         @Bind("limit") int limit,
-        @Bind("relation") int relation,
         @Define("condition") String condition);
 
     @SqlQuery(
-        "SELECT count(id) FROM thread_entity <condition> AND "
-            + "entityId in ("
-            + "SELECT toId FROM entity_relationship WHERE "
-            + "((fromEntity='user' AND fromId= :userId) OR "
-            + "(fromEntity='team' AND fromId IN (<teamIds>))) AND relation= :relation)")
-    int listCountThreadsByFollows(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
-        @Bind("relation") int relation,
-        @Define("condition") String condition);
-
-    @SqlQuery(
-        "SELECT json FROM ( "
-            + "    SELECT json, createdAt FROM thread_entity te "
-            + "     <condition> AND entityId IN ( "
-            + "        SELECT toId FROM entity_relationship er "
-            + "        WHERE er.relation = 8 "
-            + "        AND ( "
-            + "            (er.fromEntity = 'user' AND er.fromId = :userId) "
-            + "            OR (er.fromEntity = 'team' AND er.fromId IN (<teamIds>)) "
-            + "        ) "
-            + "    )  "
-            + "    UNION   "
-            + "    SELECT json, createdAt FROM thread_entity te  "
-            + "     <condition> AND id IN ( "
-            + "        SELECT toId FROM entity_relationship er  "
-            + "        WHERE er.toEntity = 'THREAD'  "
-            + "        AND er.relation IN (1, 2)  "
-            + "        AND er.fromEntity = 'user'  "
-            + "        AND er.fromId = :userId  "
-            + "    )  "
-            + "    UNION   "
-            + "    SELECT json, createdAt FROM thread_entity te  "
-            + "     <condition> AND id IN ( "
-            + "        SELECT toId FROM entity_relationship er  "
-            + "        WHERE er.relation = 11  "
-            + "        AND ( "
-            + "            (er.fromEntity = 'user' AND er.fromId = :userId)  "
-            + "            OR (er.fromEntity = 'team' AND er.fromId IN (<teamIds>)) "
-            + "        ) "
-            + "    )  "
-            + ") AS combined  "
-            + "ORDER BY createdAt DESC  "
-            + "LIMIT :limit")
-    List<String> listThreadsByOwnerOrFollows(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
-        @Bind("limit") int limit,
-        @Define("condition") String condition);
-
-    @SqlQuery(
-        "SELECT COUNT(id) FROM ( "
-            + "    SELECT te.id FROM thread_entity te  "
-            + "     <condition> AND entityId IN ( "
-            + "        SELECT toId FROM entity_relationship er  "
-            + "        WHERE er.relation = 8  "
-            + "        AND ( "
-            + "            (er.fromEntity = 'user' AND er.fromId = :userId) "
-            + "            OR (er.fromEntity = 'team' AND er.fromId IN (<teamIds>)) "
-            + "        ) "
-            + "    )  "
-            + "    UNION   "
-            + "    SELECT te.id FROM thread_entity te  "
-            + "     <condition> AND id IN ( "
-            + "        SELECT toId FROM entity_relationship er  "
-            + "        WHERE er.toEntity = 'THREAD'  "
-            + "        AND er.relation IN (1, 2)  "
-            + "        AND er.fromEntity = 'user'  "
-            + "        AND er.fromId = :userId  "
-            + "    )  "
-            + "    UNION   "
-            + "    SELECT te.id FROM thread_entity te  "
-            + "     <condition> AND id IN ( "
-            + "        SELECT toId FROM entity_relationship er  "
-            + "        WHERE er.relation = 11  "
-            + "        AND ( "
-            + "            (er.fromEntity = 'user' AND er.fromId = :userId)  "
-            + "            OR (er.fromEntity = 'team' AND er.fromId IN (<teamIds>)) "
-            + "        ) "
-            + "    ) "
-            + ") AS combined")
-    int listCountThreadsByOwnerOrFollows(
-        @BindUUID("userId") UUID userId,
-        @BindList("teamIds") List<String> teamIds,
-        @Define("condition") String condition);
-
-    @SqlQuery(
-        "SELECT json FROM thread_entity <condition> AND "
-            + "hash_id in ("
-            + "SELECT toFQNHash FROM field_relationship WHERE "
-            + "((fromType='user' AND fromFQNHash= :userName) OR "
-            + "(fromType='team' AND fromFQNHash IN (<teamNames>)))  AND toType='THREAD' AND relation= :relation) "
-            + "ORDER BY createdAt DESC "
-            + "LIMIT :limit")
-    List<String> listThreadsByMentions(
-        @Bind("userName") String userName,
-        @BindList("teamNames") List<String> teamNames,
-        @Bind("limit") int limit,
-        @Bind("relation") int relation,
-        @Define("condition") String condition);
-
-    @SqlQuery(
-        "SELECT count(id) FROM thread_entity <condition> AND "
-            + "hash_id in ("
-            + "SELECT toFQNHash FROM field_relationship WHERE "
-            + "((fromType='user' AND fromFQNHash= :userName) OR "
-            + "(fromType='team' AND fromFQNHash IN (<teamNames>)))  AND toType='THREAD' AND relation= :relation) ")
-    int listCountThreadsByMentions(
-        @Bind("userName") String userName,
-        @BindList("teamNames") List<String> teamNames,
-        @Bind("relation") int relation,
+        "SELECT count(id) FROM thread_entity <condition> AND id IN ("
+            + "SELECT threadId FROM activity_feed_inbox "
+            + "WHERE principalId IN (<principalIds>) AND reason IN (<reasons>))")
+    int listCountThreadsFromInbox(
+        @BindList("principalIds") List<String> principalIds,
+        @BindList("reasons") List<String> reasons,
         @Define("condition") String condition);
 
     @SqlQuery(
@@ -2803,6 +2816,528 @@ public interface CollectionDAO {
     }
   }
 
+  /**
+   * Posts of a thread are stored one row per post, so that replying to or editing a post of a busy
+   * thread does not rewrite the whole thread document. The thread itself only keeps summary fields
+   * such as postsCount and lastPostTs.
+   */
+  interface ThreadPostDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO thread_post(threadId, postId, postTs, json) "
+                + "VALUES (:threadId, :postId, :postTs, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO thread_post(threadId, postId, postTs, json) "
+                + "VALUES (:threadId, :postId, :postTs, :json :: jsonb)",
+        connectionType = POSTGRES)
+    void insert(
+        @BindUUID("threadId") UUID threadId,
+        @BindUUID("postId") UUID postId,
+        @Bind("postTs") long postTs,
+        @Bind("json") String json);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_post SET json = :json WHERE threadId = :threadId AND postId = :postId",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_post SET json = (:json :: jsonb) "
+                + "WHERE threadId = :threadId AND postId = :postId",
+        connectionType = POSTGRES)
+    void update(
+        @BindUUID("threadId") UUID threadId,
+        @BindUUID("postId") UUID postId,
+        @Bind("json") String json);
+
+    @SqlQuery("SELECT json FROM thread_post WHERE threadId = :threadId AND postId = :postId")
+    String findById(@BindUUID("threadId") UUID threadId, @BindUUID("postId") UUID postId);
+
+    @SqlQuery(
+        "SELECT json FROM thread_post WHERE threadId = :threadId ORDER BY postTs ASC, postId ASC")
+    List<String> listByThread(@BindUUID("threadId") UUID threadId);
+
+    /** Latest {@code limit} posts of each of the given threads, in chronological order. */
+    @SqlQuery(
+        "SELECT threadId, json FROM ("
+            + "SELECT threadId, postId, postTs, json, "
+            + "ROW_NUMBER() OVER (PARTITION BY threadId ORDER BY postTs DESC, postId DESC) AS rn "
+            + "FROM thread_post WHERE threadId IN (<threadIds>)) latest "
+            + "WHERE rn <= :limit ORDER BY threadId, postTs ASC, postId ASC")
+    @UseRowMapper(ThreadPostMapper.class)
+    List<Pair<String, String>> listLatestByThreads(
+        @BindList("threadIds") List<String> threadIds, @Bind("limit") int limit);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT count(*) FROM thread_post WHERE threadId = :threadId "
+                + "AND json_unquote(json_extract(json, '$.from')) = :from",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT count(*) FROM thread_post WHERE threadId = :threadId "
+                + "AND json->>'from' = :from",
+        connectionType = POSTGRES)
+    int countByAuthor(@BindUUID("threadId") UUID threadId, @Bind("from") String from);
+
+    @SqlUpdate("DELETE FROM thread_post WHERE threadId = :threadId AND postId = :postId")
+    void delete(@BindUUID("threadId") UUID threadId, @BindUUID("postId") UUID postId);
+
+    @SqlUpdate("DELETE FROM thread_post WHERE threadId = :threadId")
+    void deleteByThreadId(@BindUUID("threadId") UUID threadId);
+
+    @SqlUpdate("DELETE FROM thread_post WHERE threadId IN (<threadIds>)")
+    int deleteByThreadIds(@BindList("threadIds") List<String> threadIds);
+
+    class ThreadPostMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("threadId"), rs.getString("json"));
+      }
+    }
+  }
+
+  /**
+   * Activity feed inbox of users and teams. A row is written for every user or team that should see
+   * a thread in their feed, when the thread is created or replied to, so that listing the feed of a
+   * user is a lookup by the user and team ids instead of joins over the relationship tables.
+   */
+  interface ActivityFeedInboxDAO {
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT IGNORE INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "VALUES (:principalId, :reason, :threadId)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "VALUES (:principalId, :reason, :threadId) ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    void insert(
+        @Bind("principalId") List<String> principalIds,
+        @Bind("reason") String reason,
+        @Bind("threadId") String threadId);
+
+    /** Add the threads about an entity to the inbox of the given users or teams. */
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT IGNORE INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT :principalId, :reason, id FROM thread_entity WHERE entityId = :entityId",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT :principalId, :reason, id FROM thread_entity WHERE entityId = :entityId "
+                + "ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    void insertForEntity(
+        @Bind("principalId") List<String> principalIds,
+        @Bind("reason") String reason,
+        @BindUUID("entityId") UUID entityId);
+
+    @SqlUpdate(
+        "DELETE FROM activity_feed_inbox WHERE principalId = :principalId AND reason = :reason "
+            + "AND threadId IN (SELECT id FROM thread_entity WHERE entityId = :entityId)")
+    void deleteForEntity(
+        @BindUUID("principalId") UUID principalId,
+        @Bind("reason") String reason,
+        @BindUUID("entityId") UUID entityId);
+
+    @SqlUpdate("DELETE FROM activity_feed_inbox WHERE threadId = :threadId")
+    void deleteByThreadId(@BindUUID("threadId") UUID threadId);
+
+    @SqlUpdate("DELETE FROM activity_feed_inbox WHERE threadId IN (<threadIds>)")
+    void deleteByThreadIds(@BindList("threadIds") List<String> threadIds);
+
+    @SqlUpdate("DELETE FROM activity_feed_inbox")
+    int deleteAll();
+
+    /** Backfill the inbox of the users and teams related to the entity a thread is about. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT IGNORE INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT er.fromId, :reason, te.id FROM thread_entity te "
+                + "JOIN entity_relationship er ON er.toId = te.entityId "
+                + "WHERE er.relation = :relation AND er.fromEntity IN ('user', 'team')",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT er.fromId, :reason, te.id FROM thread_entity te "
+                + "JOIN entity_relationship er ON er.toId = te.entityId "
+                + "WHERE er.relation = :relation AND er.fromEntity IN ('user', 'team') "
+                + "ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    int insertFromAboutEntity(@Bind("reason") String reason, @Bind("relation") int relation);
+
+    /** Backfill the inbox of the users related to the thread itself, such as creator or replier. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT IGNORE INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT er.fromId, :reason, te.id FROM thread_entity te "
+                + "JOIN entity_relationship er ON er.toId = te.id "
+                + "WHERE er.toEntity = 'THREAD' AND er.fromEntity = 'user' "
+                + "AND er.relation IN (<relations>)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT er.fromId, :reason, te.id FROM thread_entity te "
+                + "JOIN entity_relationship er ON er.toId = te.id "
+                + "WHERE er.toEntity = 'THREAD' AND er.fromEntity = 'user' "
+                + "AND er.relation IN (<relations>) "
+                + "ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    int insertFromThreadRelationship(
+        @Bind("reason") String reason, @BindList("relations") List<Integer> relations);
+
+    /** Backfill the inbox of the users or teams mentioned in a thread or its posts. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT IGNORE INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT p.id, :reason, te.id FROM field_relationship fr "
+                + "JOIN thread_entity te ON te.hash_id = fr.toFQNHash "
+                + "JOIN <principalTable> p ON p.nameHash = fr.fromFQNHash "
+                + "WHERE fr.fromType = :principalType AND fr.toType = 'THREAD' "
+                + "AND fr.relation = :relation",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO activity_feed_inbox(principalId, reason, threadId) "
+                + "SELECT p.id, :reason, te.id FROM field_relationship fr "
+                + "JOIN thread_entity te ON te.hash_id = fr.toFQNHash "
+                + "JOIN <principalTable> p ON p.nameHash = fr.fromFQNHash "
+                + "WHERE fr.fromType = :principalType AND fr.toType = 'THREAD' "
+                + "AND fr.relation = :relation "
+                + "ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    int insertFromMentions(
+        @Bind("reason") String reason,
+        @Define("principalTable") String principalTable,
+        @Bind("principalType") String principalType,
+        @Bind("relation") int relation);
+  }
+
+  /**
+   * Materialized thread counts per entity link, thread type and task status. The counters are
+   * adjusted as threads are created, resolved or deleted so that the feed count of an entity does
+   * not have to scan all of its threads, and are rebuilt from thread_entity by {@link
+   * #rebuildAll()} to repair any drift.
+   */
+  interface ThreadCountDAO {
+    /** Add {@code delta} to the counters of the given threads: 1 after insert, -1 before delete. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO thread_count"
+                + "(entityId, entityLinkHash, entityLink, type, taskStatus, count) "
+                + "SELECT entityId, MD5(entityLink), entityLink, type, COALESCE(taskStatus, ''), "
+                + "COUNT(*) * :delta FROM thread_entity "
+                + "WHERE id IN (<threadIds>) AND entityId IS NOT NULL AND type IS NOT NULL "
+                + "GROUP BY entityId, entityLink, type, taskStatus "
+                + "ON DUPLICATE KEY UPDATE count = count + VALUES(count)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO thread_count"
+                + "(entityId, entityLinkHash, entityLink, type, taskStatus, count) "
+                + "SELECT entityId, MD5(entityLink), entityLink, type, COALESCE(taskStatus, ''), "
+                + "COUNT(*) * :delta FROM thread_entity "
+                + "WHERE id IN (<threadIds>) AND entityId IS NOT NULL AND type IS NOT NULL "
+                + "GROUP BY entityId, entityLink, type, taskStatus "
+                + "ON CONFLICT (entityId, entityLinkHash, type, taskStatus) "
+                + "DO UPDATE SET count = thread_count.count + EXCLUDED.count",
+        connectionType = POSTGRES)
+    void adjust(@BindList("threadIds") List<String> threadIds, @Bind("delta") int delta);
+
+    @SqlQuery(
+        "SELECT entityLink, type, taskStatus, count FROM thread_count "
+            + "WHERE entityId = :entityId AND count > 0")
+    @RegisterRowMapper(FeedDAO.ThreadCountFieldMapper.class)
+    List<List<String>> listByEntityId(@BindUUID("entityId") UUID entityId);
+
+    @SqlUpdate("DELETE FROM thread_count WHERE entityId = :entityId")
+    void deleteByEntityId(@BindUUID("entityId") UUID entityId);
+
+    @SqlUpdate("DELETE FROM thread_count")
+    void deleteAll();
+
+    @SqlUpdate(
+        "INSERT INTO thread_count(entityId, entityLinkHash, entityLink, type, taskStatus, count) "
+            + "SELECT entityId, MD5(entityLink), entityLink, type, COALESCE(taskStatus, ''), "
+            + "COUNT(*) "
+            + "FROM thread_entity WHERE entityId = :entityId AND type IS NOT NULL "
+            + "GROUP BY entityId, entityLink, type, taskStatus")
+    void insertForEntity(@BindUUID("entityId") UUID entityId);
+
+    @SqlUpdate(
+        "INSERT INTO thread_count(entityId, entityLinkHash, entityLink, type, taskStatus, count) "
+            + "SELECT entityId, MD5(entityLink), entityLink, type, COALESCE(taskStatus, ''), "
+            + "COUNT(*) "
+            + "FROM thread_entity WHERE entityId IS NOT NULL AND type IS NOT NULL "
+            + "GROUP BY entityId, entityLink, type, taskStatus")
+    int insertAll();
+
+    /** Recompute the counters of one entity, e.g. after the entity links of its threads changed. */
+    @Transaction
+    default void rebuildForEntity(UUID entityId) {
+      deleteByEntityId(entityId);
+      insertForEntity(entityId);
+    }
+
+    /** Recompute all counters from thread_entity and return the number of counter rows. */
+    @Transaction
+    default int rebuildAll() {
+      deleteAll();
+      return insertAll();
+    }
+  }
+
+  /**
+   * Ancestor/descendant closure of the team hierarchy built from the PARENT_OF relationships
+   * between teams. Every team is its own ancestor at depth 0, and the depth of any other row is the
+   * length of the shortest path from the ancestor down to the descendant. The implicit Organization
+   * parent of teams without a stored parent is not part of the closure.
+   *
+   * <p>Paths do not go through soft deleted teams, so a team below a soft deleted team no longer
+   * inherits from the teams above it, as when the hierarchy was walked one parent at a time.
+   *
+   * <p>Rows are recomputed from entity_relationship for the subtree of a team whose parents or
+   * children changed, or that was soft deleted or restored, see {@link #rebuildSubtree(UUID)}, and
+   * fully by {@link #rebuildAll()}.
+   */
+  interface TeamClosureDAO {
+    @SqlQuery(
+        "SELECT toId FROM entity_relationship WHERE fromId IN (<parentIds>) "
+            + "AND fromEntity = 'team' AND toEntity = 'team' AND relation = :relation")
+    List<String> listChildIds(
+        @BindList("parentIds") List<String> parentIds, @Bind("relation") int relation);
+
+    @SqlQuery("SELECT descendantId FROM team_closure WHERE ancestorId = :ancestorId")
+    List<String> listDescendantIds(@BindUUID("ancestorId") UUID ancestorId);
+
+    /**
+     * Non-deleted ancestors of the given teams, including the teams themselves, nearest first.
+     * Ancestors at the same depth are ordered by id.
+     */
+    @SqlQuery(
+        "SELECT c.ancestorId FROM team_closure c "
+            + "JOIN team_entity t ON t.id = c.ancestorId "
+            + "WHERE c.descendantId IN (<teamIds>) AND t.deleted = FALSE "
+            + "GROUP BY c.ancestorId ORDER BY MIN(c.depth), c.ancestorId")
+    List<String> listAncestorIds(@BindList("teamIds") List<String> teamIds);
+
+    /** Roles of the given teams and of all their non-deleted ancestors. */
+    @SqlQuery(
+        "SELECT DISTINCT r.toId FROM team_closure c "
+            + "JOIN team_entity t ON t.id = c.ancestorId "
+            + "JOIN entity_relationship r ON r.fromId = c.ancestorId "
+            + "WHERE c.descendantId IN (<teamIds>) AND t.deleted = FALSE "
+            + "AND r.fromEntity = 'team' AND r.toEntity = 'role' AND r.relation = :relation")
+    List<String> listInheritedRoleIds(
+        @BindList("teamIds") List<String> teamIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT COUNT(*) FROM team_closure c JOIN team_entity t ON t.id = c.ancestorId "
+            + "WHERE c.descendantId = :teamId AND t.nameHash = :ancestorNameHash "
+            + "AND t.deleted = FALSE")
+    int countAncestorsByName(
+        @BindUUID("teamId") UUID teamId, @BindFQN("ancestorNameHash") String ancestorName);
+
+    @SqlQuery("SELECT COUNT(*) FROM team_closure")
+    int countAll();
+
+    @SqlUpdate("DELETE FROM team_closure WHERE descendantId IN (<teamIds>)")
+    void deleteByDescendantIds(@BindList("teamIds") List<String> teamIds);
+
+    @SqlUpdate("DELETE FROM team_closure WHERE ancestorId = :teamId OR descendantId = :teamId")
+    void deleteByTeamId(@BindUUID("teamId") UUID teamId);
+
+    @SqlUpdate("DELETE FROM team_closure")
+    void deleteAll();
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT IGNORE INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT id, id, 0 FROM team_entity WHERE id IN (<teamIds>)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT id, id, 0 FROM team_entity WHERE id IN (<teamIds>) "
+                + "ON CONFLICT DO NOTHING",
+        connectionType = POSTGRES)
+    void insertSelf(@BindList("teamIds") List<String> teamIds);
+
+    @SqlUpdate(
+        "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+            + "SELECT id, id, 0 FROM team_entity")
+    void insertAllSelf();
+
+    /**
+     * Extend the paths ending at the non-deleted parents of the given teams by one PARENT_OF edge,
+     * adding the paths not yet stored and shortening the stored ones. Returns the number of rows
+     * added or shortened; repeating until it returns 0 completes the closure of the given teams.
+     */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT p.ancestorId, p.descendantId, p.depth FROM ("
+                + "SELECT c.ancestorId, r.toId AS descendantId, MIN(c.depth) + 1 AS depth "
+                + "FROM entity_relationship r "
+                + "JOIN team_closure c ON c.descendantId = r.fromId "
+                + "JOIN team_entity f ON f.id = r.fromId AND f.deleted = FALSE "
+                + "LEFT JOIN team_closure e "
+                + "ON e.ancestorId = c.ancestorId AND e.descendantId = r.toId "
+                + "WHERE r.toId IN (<teamIds>) "
+                + "AND r.fromEntity = 'team' AND r.toEntity = 'team' AND r.relation = :relation "
+                + "AND (e.depth IS NULL OR e.depth > c.depth + 1) "
+                + "GROUP BY c.ancestorId, r.toId) p "
+                + "ON DUPLICATE KEY UPDATE depth = p.depth",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT c.ancestorId, r.toId, MIN(c.depth) + 1 "
+                + "FROM entity_relationship r "
+                + "JOIN team_closure c ON c.descendantId = r.fromId "
+                + "JOIN team_entity f ON f.id = r.fromId AND f.deleted = FALSE "
+                + "LEFT JOIN team_closure e "
+                + "ON e.ancestorId = c.ancestorId AND e.descendantId = r.toId "
+                + "WHERE r.toId IN (<teamIds>) "
+                + "AND r.fromEntity = 'team' AND r.toEntity = 'team' AND r.relation = :relation "
+                + "AND (e.depth IS NULL OR e.depth > c.depth + 1) "
+                + "GROUP BY c.ancestorId, r.toId "
+                + "ON CONFLICT (ancestorId, descendantId) DO UPDATE SET depth = EXCLUDED.depth",
+        connectionType = POSTGRES)
+    int extendPaths(@BindList("teamIds") List<String> teamIds, @Bind("relation") int relation);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT p.ancestorId, p.descendantId, p.depth FROM ("
+                + "SELECT c.ancestorId, r.toId AS descendantId, MIN(c.depth) + 1 AS depth "
+                + "FROM entity_relationship r "
+                + "JOIN team_closure c ON c.descendantId = r.fromId "
+                + "JOIN team_entity f ON f.id = r.fromId AND f.deleted = FALSE "
+                + "LEFT JOIN team_closure e "
+                + "ON e.ancestorId = c.ancestorId AND e.descendantId = r.toId "
+                + "WHERE r.fromEntity = 'team' AND r.toEntity = 'team' AND r.relation = :relation "
+                + "AND (e.depth IS NULL OR e.depth > c.depth + 1) "
+                + "GROUP BY c.ancestorId, r.toId) p "
+                + "ON DUPLICATE KEY UPDATE depth = p.depth",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO team_closure (ancestorId, descendantId, depth) "
+                + "SELECT c.ancestorId, r.toId, MIN(c.depth) + 1 "
+                + "FROM entity_relationship r "
+                + "JOIN team_closure c ON c.descendantId = r.fromId "
+                + "JOIN team_entity f ON f.id = r.fromId AND f.deleted = FALSE "
+                + "LEFT JOIN team_closure e "
+                + "ON e.ancestorId = c.ancestorId AND e.descendantId = r.toId "
+                + "WHERE r.fromEntity = 'team' AND r.toEntity = 'team' AND r.relation = :relation "
+                + "AND (e.depth IS NULL OR e.depth > c.depth + 1) "
+                + "GROUP BY c.ancestorId, r.toId "
+                + "ON CONFLICT (ancestorId, descendantId) DO UPDATE SET depth = EXCLUDED.depth",
+        connectionType = POSTGRES)
+    int extendAllPaths(@Bind("relation") int relation);
+
+    /** Recompute the closure rows of a team and of every team below it. */
+    default void rebuildSubtree(UUID teamId) {
+      Set<String> subtree = new LinkedHashSet<>();
+      List<String> level = List.of(teamId.toString());
+      while (!level.isEmpty()) {
+        subtree.addAll(level);
+        level =
+            listChildIds(level, Relationship.PARENT_OF.ordinal()).stream()
+                .filter(id -> !subtree.contains(id))
+                .distinct()
+                .toList();
+      }
+      rebuild(new ArrayList<>(subtree));
+    }
+
+    /** Remove a hard deleted team from the closure and recompute the rows of its descendants. */
+    default void deleteTeam(UUID teamId) {
+      List<String> descendants = new ArrayList<>(listDescendantIds(teamId));
+      descendants.remove(teamId.toString());
+      deleteByTeamId(teamId);
+      rebuild(descendants);
+    }
+
+    default void rebuild(List<String> teamIds) {
+      if (teamIds.isEmpty()) {
+        return;
+      }
+      deleteByDescendantIds(teamIds);
+      insertSelf(teamIds);
+      int changed;
+      do {
+        changed = extendPaths(teamIds, Relationship.PARENT_OF.ordinal());
+      } while (changed > 0);
+    }
+
+    /** Recompute the whole closure from entity_relationship and return the number of rows. */
+    @Transaction
+    default int rebuildAll() {
+      deleteAll();
+      insertAllSelf();
+      int changed;
+      do {
+        changed = extendAllPaths(Relationship.PARENT_OF.ordinal());
+      } while (changed > 0);
+      return countAll();
+    }
+  }
+
+  /**
+   * Latest status of each ingestion pipeline. The full run history stays in the pipelineStatus
+   * time series; this table only keeps the run with the highest timestamp so that a page of
+   * pipelines reads its latest statuses with one query.
+   */
+  interface IngestionPipelineStatusDAO {
+    /** Store the status unless a more recent run is already stored for the pipeline. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO ingestion_pipeline_latest_status (pipelineId, timestamp, json) "
+                + "VALUES (:pipelineId, :timestamp, :json) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "json = IF(VALUES(timestamp) >= timestamp, VALUES(json), json), "
+                + "timestamp = GREATEST(VALUES(timestamp), timestamp)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO ingestion_pipeline_latest_status (pipelineId, timestamp, json) "
+                + "VALUES (:pipelineId, :timestamp, :json :: jsonb) "
+                + "ON CONFLICT (pipelineId) DO UPDATE "
+                + "SET timestamp = EXCLUDED.timestamp, json = EXCLUDED.json "
+                + "WHERE ingestion_pipeline_latest_status.timestamp <= EXCLUDED.timestamp",
+        connectionType = POSTGRES)
+    void upsert(
+        @BindUUID("pipelineId") UUID pipelineId,
+        @Bind("timestamp") long timestamp,
+        @Bind("json") String json);
+
+    @SqlQuery(
+        "SELECT pipelineId, json FROM ingestion_pipeline_latest_status "
+            + "WHERE pipelineId IN (<pipelineIds>)")
+    @UseRowMapper(PipelineStatusMapper.class)
+    List<Pair<String, String>> listByPipelineIds(
+        @BindList("pipelineIds") List<String> pipelineIds);
+
+    @SqlUpdate("DELETE FROM ingestion_pipeline_latest_status WHERE pipelineId = :pipelineId")
+    void delete(@BindUUID("pipelineId") UUID pipelineId);
+
+    class PipelineStatusMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("pipelineId"), rs.getString("json"));
+      }
+    }
+  }
+
   interface FieldRelationshipDAO {
     @ConnectionAwareSqlUpdate(
         value =
@@ -3192,6 +3727,64 @@ public interface CollectionDAO {
         @Bind("json") String json,
         @Bind("timestamp") long timestamp);
 
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO successful_sent_change_events (change_event_id, event_subscription_id, json, timestamp) "
+                + "VALUES (:change_event_id, :event_subscription_id, :json, :timestamp) "
+                + "ON DUPLICATE KEY UPDATE json = :json, timestamp = :timestamp",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO successful_sent_change_events (change_event_id, event_subscription_id, json, timestamp) "
+                + "VALUES (:change_event_id, :event_subscription_id, CAST(:json AS jsonb), :timestamp) "
+                + "ON CONFLICT (change_event_id, event_subscription_id) "
+                + "DO UPDATE SET json = EXCLUDED.json, timestamp = EXCLUDED.timestamp",
+        connectionType = POSTGRES)
+    void upsertSuccessfulChangeEvents(
+        @Bind("change_event_id") List<String> changeEventIds,
+        @Bind("event_subscription_id") String eventSubscriptionId,
+        @Bind("json") List<String> jsons,
+        @Bind("timestamp") long timestamp);
+
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO change_event_consumers(id, extension, jsonSchema, json) "
+                + "VALUES (:id, :extension, :jsonSchema, :json)"
+                + "ON DUPLICATE KEY UPDATE json = :json, jsonSchema = :jsonSchema",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO change_event_consumers(id, extension, jsonSchema, json) "
+                + "VALUES (:id, :extension, :jsonSchema, (:json :: jsonb)) ON CONFLICT (id, extension) "
+                + "DO UPDATE SET json = EXCLUDED.json, jsonSchema = EXCLUDED.jsonSchema",
+        connectionType = POSTGRES)
+    void upsertSubscriberExtensions(
+        @Bind("id") String id,
+        @Bind("extension") List<String> extensions,
+        @Bind("jsonSchema") List<String> jsonSchemas,
+        @Bind("json") List<String> jsons);
+
+    /**
+     * Persists everything a consumer produced for one polled batch in a single transaction: the
+     * successfully delivered events first, then the subscriber extensions (offset and metrics). If
+     * the transaction fails the offset is not moved, so the batch is re-delivered on the next run.
+     */
+    @Transaction
+    default void commitConsumerBatch(
+        String eventSubscriptionId,
+        List<String> changeEventIds,
+        List<String> changeEventJsons,
+        long timestamp,
+        List<String> extensions,
+        List<String> jsonSchemas,
+        List<String> extensionJsons) {
+      if (!changeEventIds.isEmpty()) {
+        upsertSuccessfulChangeEvents(
+            changeEventIds, eventSubscriptionId, changeEventJsons, timestamp);
+      }
+      upsertSubscriberExtensions(eventSubscriptionId, extensions, jsonSchemas, extensionJsons);
+    }
+
     @SqlQuery(
         "SELECT COUNT(*) FROM successful_sent_change_events WHERE event_subscription_id = :eventSubscriptionId")
     long getSuccessfulRecordCount(@Bind("eventSubscriptionId") String eventSubscriptionId);
@@ -3585,20 +4178,75 @@ public interface CollectionDAO {
             String fqnhash,
         @Bind("termName") String termName);
 
-    // Search glossary terms by both name and displayName using LIKE queries
-    // The displayName column is a generated column added in migration 1.9.3
-    @SqlQuery(
-        "SELECT json FROM glossary_term_entity WHERE deleted = FALSE "
-            + "AND fqnHash LIKE :parentHash "
-            + "AND (LOWER(name) LIKE LOWER(:searchTerm) "
-            + "OR LOWER(COALESCE(displayName, '')) LIKE LOWER(:searchTerm)) "
-            + "ORDER BY name "
-            + "LIMIT :limit OFFSET :offset")
-    List<String> searchGlossaryTerms(
+    // Search glossary terms by name, displayName and synonyms. The generated searchText column
+    // holds all three in lower case, and a LIKE on it keeps plain substring semantics. Postgres
+    // backs the LIKE with a trigram index. MySQL prefilters with its ngram full-text index through
+    // matchCondition, a phrase MATCH for queries with a word of at least ngram_token_size
+    // characters; shorter queries have no indexed ngram and only scan the glossary or parent term.
+    // Matches are ranked by relevance (exact name, name prefix, name or displayName substring,
+    // synonym) and paged with a keyset on (matchRank, name, id). The OFFSET only serves clients
+    // still paging by offset, it is 0 for the first page and for every page read by cursor.
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json, matchRank FROM ("
+                + "SELECT json, name, id, "
+                + "CASE WHEN LOWER(name) = :term THEN 0 "
+                + "WHEN LOWER(name) LIKE :prefixTerm THEN 1 "
+                + "WHEN LOWER(name) LIKE :searchTerm "
+                + "OR LOWER(COALESCE(displayName, '')) LIKE :searchTerm THEN 2 "
+                + "ELSE 3 END AS matchRank "
+                + "FROM glossary_term_entity WHERE deleted = FALSE "
+                + "AND fqnHash LIKE :parentHash <matchCondition> "
+                + "AND searchText LIKE :searchTerm) ranked "
+                + "WHERE matchRank > :afterRank OR (matchRank = :afterRank "
+                + "AND (name > :afterName OR (name = :afterName AND id > :afterId))) "
+                + "ORDER BY matchRank, name, id "
+                + "LIMIT :limit OFFSET :offset",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json, matchRank FROM ("
+                + "SELECT json, name, id, "
+                + "CASE WHEN LOWER(name) = :term THEN 0 "
+                + "WHEN LOWER(name) LIKE :prefixTerm THEN 1 "
+                + "WHEN LOWER(name) LIKE :searchTerm "
+                + "OR LOWER(COALESCE(displayName, '')) LIKE :searchTerm THEN 2 "
+                + "ELSE 3 END AS matchRank "
+                + "FROM glossary_term_entity WHERE deleted = FALSE "
+                + "AND fqnHash LIKE :parentHash "
+                + "AND searchText LIKE :searchTerm) ranked "
+                + "WHERE matchRank > :afterRank OR (matchRank = :afterRank "
+                + "AND (name > :afterName OR (name = :afterName AND id > :afterId))) "
+                + "ORDER BY matchRank, name, id "
+                + "LIMIT :limit OFFSET :offset",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(GlossaryTermMatchMapper.class)
+    List<GlossaryTermMatch> searchGlossaryTerms(
         @Bind("parentHash") String parentHash,
+        @Bind("term") String term,
+        @Bind("prefixTerm") String prefixTerm,
         @Bind("searchTerm") String searchTerm,
+        @Define("matchCondition") String matchCondition,
+        @Bind("phrase") String phrase,
+        @Bind("afterRank") int afterRank,
+        @Bind("afterName") String afterName,
+        @Bind("afterId") String afterId,
         @Bind("limit") int limit,
         @Bind("offset") int offset);
+
+    // Minimum token length of the MySQL ngram full-text parser, a server startup option
+    @ConnectionAwareSqlQuery(value = "SELECT @@ngram_token_size", connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(value = "SELECT 0", connectionType = POSTGRES)
+    int getNgramTokenSize();
+  }
+
+  record GlossaryTermMatch(int matchRank, String json) {}
+
+  class GlossaryTermMatchMapper implements RowMapper<GlossaryTermMatch> {
+    @Override
+    public GlossaryTermMatch map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new GlossaryTermMatch(rs.getInt("matchRank"), rs.getString("json"));
+    }
   }
 
   interface IngestionPipelineDAO extends EntityDAO<IngestionPipeline> {
@@ -4593,30 +5241,74 @@ public interface CollectionDAO {
 
     /** Update all the tagFQN starting with oldPrefix to start with newPrefix due to tag or glossary name change */
     default void updateTagPrefix(int source, String oldPrefix, String newPrefix) {
-      String update =
+      updateTagPrefixBatch(source, oldPrefix, newPrefix, 0);
+    }
+
+    default void updateTargetFQNHashPrefix(
+        int source, String oldTargetFQNHashPrefix, String newTargetFQNHashPrefix) {
+      updateTargetFQNHashPrefixBatch(source, oldTargetFQNHashPrefix, newTargetFQNHashPrefix, 0);
+    }
+
+    /**
+     * Same as {@link #updateTagPrefix} but rewrites at most {@code batchSize} tag labels when it is
+     * positive. Call it until it returns 0 to rename all the labels in short transactions.
+     */
+    default int updateTagPrefixBatch(
+        int source, String oldPrefix, String newPrefix, int batchSize) {
+      String set =
           String.format(
-              "UPDATE tag_usage SET tagFQN = REPLACE(tagFQN, '%s.', '%s.'), tagFQNHash = REPLACE(tagFQNHash, '%s.', '%s.') WHERE source = %s AND tagFQNHash LIKE '%s.%%'",
+              "SET tagFQN = REPLACE(tagFQN, '%s.', '%s.'), tagFQNHash = REPLACE(tagFQNHash, '%s.', '%s.')",
               escapeApostrophe(oldPrefix),
               escapeApostrophe(newPrefix),
               FullyQualifiedName.buildHash(oldPrefix),
-              FullyQualifiedName.buildHash(newPrefix),
-              source,
-              FullyQualifiedName.buildHash(oldPrefix));
-      updateTagPrefixInternal(update);
+              FullyQualifiedName.buildHash(newPrefix));
+      String where =
+          String.format(
+              "source = %s AND tagFQNHash LIKE '%s.%%'",
+              source, FullyQualifiedName.buildHash(oldPrefix));
+      return updateTagUsageBatch(set, where, batchSize);
     }
 
-    default void updateTargetFQNHashPrefix(
-        int source, String oldTargetFQNHashPrefix, String newTargetFQNHashPrefix) {
-      String update =
+    /**
+     * Same as {@link #updateTargetFQNHashPrefix} but rewrites at most {@code batchSize} tag labels
+     * when it is positive. Call it until it returns 0 to rename all the labels in short
+     * transactions.
+     */
+    default int updateTargetFQNHashPrefixBatch(
+        int source, String oldTargetFQNHashPrefix, String newTargetFQNHashPrefix, int batchSize) {
+      String set =
           String.format(
-              "UPDATE tag_usage SET targetFQNHash = REPLACE(targetFQNHash, '%s.', '%s.') WHERE source = %s AND targetFQNHash LIKE '%s.%%'",
+              "SET targetFQNHash = REPLACE(targetFQNHash, '%s.', '%s.')",
               FullyQualifiedName.buildHash(oldTargetFQNHashPrefix),
-              FullyQualifiedName.buildHash(newTargetFQNHashPrefix),
-              source,
-              FullyQualifiedName.buildHash(oldTargetFQNHashPrefix));
-      updateTagPrefixInternal(update);
+              FullyQualifiedName.buildHash(newTargetFQNHashPrefix));
+      String where =
+          String.format(
+              "source = %s AND targetFQNHash LIKE '%s.%%'",
+              source, FullyQualifiedName.buildHash(oldTargetFQNHashPrefix));
+      return updateTagUsageBatch(set, where, batchSize);
     }
 
+    default int updateTagUsageBatch(String set, String where, int batchSize) {
+      if (batchSize <= 0) {
+        String update = String.format("UPDATE tag_usage %s WHERE %s", set, where);
+        return updateTagUsageBatchInternal(update, update);
+      }
+      String mySqlUpdate =
+          String.format("UPDATE tag_usage %s WHERE %s LIMIT %d", set, where, batchSize);
+      // Postgres has no UPDATE ... LIMIT, a batch is selected by ctid instead
+      String postgresUpdate =
+          String.format(
+              "UPDATE tag_usage %s WHERE ctid IN (SELECT ctid FROM tag_usage WHERE %s LIMIT %d)",
+              set, where, batchSize);
+      return updateTagUsageBatchInternal(mySqlUpdate, postgresUpdate);
+    }
+
+    @ConnectionAwareSqlUpdate(value = "<mySqlUpdate>", connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = "<postgresUpdate>", connectionType = POSTGRES)
+    int updateTagUsageBatchInternal(
+        @Define("mySqlUpdate") String mySqlUpdate,
+        @Define("postgresUpdate") String postgresUpdate);
+
     default void rename(int source, String oldFQN, String newFQN) {
       renameInternal(source, oldFQN, newFQN, newFQN); // First rename tagFQN from oldFQN to newFQN
       updateTagPrefix(
@@ -4641,9 +5333,6 @@ public interface CollectionDAO {
         @Bind("newFQN") String newFQN,
         @BindFQN("newFQNHash") String newFQNHash);
 
-    @SqlUpdate("<update>")
-    void updateTagPrefixInternal(@Define("update") String update);
-
     @SqlQuery("select targetFQNHash FROM tag_usage where tagFQNHash = :tagFQNHash")
     @RegisterRowMapper(TagLabelMapper.class)
     List<String> getTargetFQNHashForTag(@BindFQN("tagFQNHash") String tagFQNHash);
@@ -5235,6 +5924,26 @@ public interface CollectionDAO {
             + "ON u1.id = u2.id AND u1.usageDate = u2.maxDate")
     List<UsageDetailsWithId> getLatestUsageBatch(@BindList("ids") List<String> ids);
 
+    /**
+     * At most limit entities with usage since the given date ranked by their highest weekly usage
+     * count, most used first. The ranking is aggregated by a single query, since paginating it
+     * would repeat the aggregation for every page.
+     */
+    @RegisterRowMapper(UsageRankMapper.class)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT id, entityType, MAX(count7) AS score FROM entity_usage "
+                + "WHERE usageDate >= :since AND count7 > 0 GROUP BY id, entityType "
+                + "ORDER BY score DESC, id LIMIT :limit",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT id, entityType, MAX(count7) AS score FROM entity_usage "
+                + "WHERE usageDate >= (:since :: date) AND count7 > 0 GROUP BY id, entityType "
+                + "ORDER BY score DESC, id LIMIT :limit",
+        connectionType = POSTGRES)
+    List<UsageRank> listMostUsed(@Bind("since") String since, @Bind("limit") int limit);
+
     @SqlUpdate("DELETE FROM entity_usage WHERE id = :id")
     void delete(@BindUUID("id") UUID id);
 
@@ -5343,6 +6052,15 @@ public interface CollectionDAO {
         return new UsageDetailsWithId(entityId, usageDetails);
       }
     }
+
+    record UsageRank(String entityId, String entityType, int score) {}
+
+    class UsageRankMapper implements RowMapper<UsageRank> {
+      @Override
+      public UsageRank map(ResultSet r, StatementContext ctx) throws SQLException {
+        return new UsageRank(r.getString("id"), r.getString("entityType"), r.getInt("score"));
+      }
+    }
   }
 
   interface UserDAO extends EntityDAO<User> {
@@ -5791,7 +6509,20 @@ public interface CollectionDAO {
         @Bind("paginationOffset") int paginationOffset);
 
     @SqlQuery(
-        "SELECT json, source FROM consumers_dlq WHERE id = :id ORDER BY timestamp DESC LIMIT :limit OFFSET :paginationOffset")
+        "SELECT ce.offset AS eventOffset, ce.eventTime AS eventTime, ce.json AS json FROM change_event ce "
+            + "WHERE ce.offset > :offset AND (ce.eventTime < :afterEventTime "
+            + "OR (ce.eventTime = :afterEventTime AND ce.offset < :afterOffset)) "
+            + "ORDER BY ce.eventTime DESC, ce.offset DESC LIMIT :limit")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listUnprocessedEventsAfter(
+        @Bind("offset") long offset,
+        @Bind("afterEventTime") long afterEventTime,
+        @Bind("afterOffset") long afterOffset,
+        @Bind("limit") int limit);
+
+    @SqlQuery(
+        "SELECT json, source FROM consumers_dlq WHERE id = :id "
+            + "ORDER BY timestamp DESC, extension DESC LIMIT :limit OFFSET :paginationOffset")
     @RegisterRowMapper(FailedEventResponseMapper.class)
     List<FailedEventResponse> listFailedEventsById(
         @Bind("id") String id,
@@ -5802,7 +6533,8 @@ public interface CollectionDAO {
     long countFailedEvents(@Bind("id") String id);
 
     @SqlQuery(
-        "SELECT json, source FROM consumers_dlq WHERE id = :id AND source = :source ORDER BY timestamp DESC LIMIT :limit OFFSET :paginationOffset")
+        "SELECT json, source FROM consumers_dlq WHERE id = :id AND source = :source "
+            + "ORDER BY timestamp DESC, extension DESC LIMIT :limit OFFSET :paginationOffset")
     @RegisterRowMapper(FailedEventResponseMapper.class)
     List<FailedEventResponse> listFailedEventsByIdAndSource(
         @Bind("id") String id,
@@ -5810,6 +6542,29 @@ public interface CollectionDAO {
         @Bind("limit") int limit,
         @Bind("paginationOffset") int paginationOffset);
 
+    @SqlQuery(
+        "SELECT json, source FROM consumers_dlq WHERE id = :id "
+            + "AND (timestamp < :afterTimestamp OR (timestamp = :afterTimestamp AND extension < :afterExtension)) "
+            + "ORDER BY timestamp DESC, extension DESC LIMIT :limit")
+    @RegisterRowMapper(FailedEventResponseMapper.class)
+    List<FailedEventResponse> listFailedEventsByIdAfter(
+        @Bind("id") String id,
+        @Bind("afterTimestamp") long afterTimestamp,
+        @Bind("afterExtension") String afterExtension,
+        @Bind("limit") int limit);
+
+    @SqlQuery(
+        "SELECT json, source FROM consumers_dlq WHERE id = :id AND source = :source "
+            + "AND (timestamp < :afterTimestamp OR (timestamp = :afterTimestamp AND extension < :afterExtension)) "
+            + "ORDER BY timestamp DESC, extension DESC LIMIT :limit")
+    @RegisterRowMapper(FailedEventResponseMapper.class)
+    List<FailedEventResponse> listFailedEventsByIdAndSourceAfter(
+        @Bind("id") String id,
+        @Bind("source") String source,
+        @Bind("afterTimestamp") long afterTimestamp,
+        @Bind("afterExtension") String afterExtension,
+        @Bind("limit") int limit);
+
     @SqlQuery(
         "SELECT json, source FROM consumers_dlq ORDER BY timestamp DESC LIMIT :limit OFFSET :paginationOffset")
     @RegisterRowMapper(FailedEventResponseMapper.class)
@@ -5859,6 +6614,19 @@ public interface CollectionDAO {
     @SqlQuery("SELECT json FROM change_event ce where ce.offset > :offset")
     List<String> listUnprocessedEvents(@Bind("offset") long offset);
 
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT DISTINCT JSON_UNQUOTE(JSON_EXTRACT(json, '$.entityId')) FROM change_event "
+                + "WHERE entityType = :entityType AND eventTime > :afterTime",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT DISTINCT json->>'entityId' FROM change_event "
+                + "WHERE entityType = :entityType AND eventTime > :afterTime",
+        connectionType = POSTGRES)
+    List<String> listEntityIdsChangedAfter(
+        @Bind("entityType") String entityType, @Bind("afterTime") long afterTime);
+
     @SqlQuery(
         "SELECT CASE WHEN EXISTS (SELECT 1 FROM event_subscription_entity WHERE id = :id) THEN 1 ELSE 0 END AS record_exists")
     int recordExists(@Bind("id") String id);
@@ -5904,6 +6672,12 @@ public interface CollectionDAO {
         "SELECT json FROM change_event ce  WHERE ce.offset > :offset ORDER BY ce.offset ASC LIMIT :limit")
     List<String> list(@Bind("limit") long limit, @Bind("offset") long offset);
 
+    @SqlQuery(
+        "SELECT ce.offset AS eventOffset, ce.eventTime AS eventTime, ce.json AS json FROM change_event ce "
+            + "WHERE ce.offset > :offset ORDER BY ce.offset ASC LIMIT :limit")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listRecords(@Bind("limit") long limit, @Bind("offset") long offset);
+
     @ConnectionAwareSqlQuery(value = "SELECT MAX(offset) FROM change_event", connectionType = MYSQL)
     @ConnectionAwareSqlQuery(
         value = "SELECT MAX(\"offset\") FROM change_event",
@@ -5914,6 +6688,16 @@ public interface CollectionDAO {
     long listCount();
   }
 
+  record ChangeEventRecord(long offset, long eventTime, String json) {}
+
+  class ChangeEventRecordMapper implements RowMapper<ChangeEventRecord> {
+    @Override
+    public ChangeEventRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new ChangeEventRecord(
+          rs.getLong("eventOffset"), rs.getLong("eventTime"), rs.getString("json"));
+    }
+  }
+
   class FailedEventResponseMapper implements RowMapper<FailedEventResponse> {
     @Override
     public FailedEventResponse map(ResultSet rs, StatementContext ctx) throws SQLException {
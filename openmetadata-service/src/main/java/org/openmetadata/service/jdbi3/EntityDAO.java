@@ -137,43 +137,90 @@ public interface EntityDAO<T extends EntityInterface> {
 
   default void updateFqn(String oldPrefix, String newPrefix) {
     LOG.info("Updating FQN for {} from {} to {}", getTableName(), oldPrefix, newPrefix);
+    updateFqnBatch(oldPrefix, newPrefix, 0);
+  }
+
+  /**
+   * Rewrite the fully qualified name of the descendants of {@code oldPrefix}, at most {@code
+   * batchSize} of them when it is positive, so that a rename of a large hierarchy can run in short
+   * transactions. Rewritten rows no longer match the old prefix, so calling it until it returns 0
+   * renames every descendant, including rows written with the old prefix while the rename was in
+   * progress.
+   */
+  default int updateFqnBatch(String oldPrefix, String newPrefix, int batchSize) {
     if (!getNameHashColumn().equals("fqnHash")) {
-      return;
+      return 0;
     }
+    String oldHashPrefix = FullyQualifiedName.buildHash(oldPrefix);
     String mySqlUpdate =
         String.format(
             "UPDATE %s SET json = "
                 + "JSON_REPLACE(json, '$.fullyQualifiedName', REGEXP_REPLACE(JSON_UNQUOTE(JSON_EXTRACT(json, '$.fullyQualifiedName')), '^%s\\.', '%s.')) "
                 + ", fqnHash = REPLACE(fqnHash, '%s.', '%s.') "
-                + "WHERE fqnHash LIKE '%s.%%'",
+                + "WHERE fqnHash LIKE '%s.%%'%s",
             getTableName(),
             escape(oldPrefix),
             escapeApostrophe(newPrefix),
-            FullyQualifiedName.buildHash(oldPrefix),
+            oldHashPrefix,
             FullyQualifiedName.buildHash(newPrefix),
-            FullyQualifiedName.buildHash(oldPrefix));
-
+            oldHashPrefix,
+            batchSize > 0 ? " LIMIT " + batchSize : "");
+
+    // Postgres has no UPDATE ... LIMIT, a batch is selected by id instead
+    String postgresCondition =
+        batchSize > 0
+            ? String.format(
+                "id IN (SELECT id FROM %s WHERE fqnHash LIKE '%s.%%' LIMIT %d)",
+                getTableName(), oldHashPrefix, batchSize)
+            : String.format("fqnHash LIKE '%s.%%'", oldHashPrefix);
     String postgresUpdate =
         String.format(
             "UPDATE %s SET json = "
                 + "REPLACE(json::text, '\"fullyQualifiedName\": \"%s.', "
                 + "'\"fullyQualifiedName\": \"%s.')::jsonb "
                 + ", fqnHash = REPLACE(fqnHash, '%s.', '%s.') "
-                + "WHERE fqnHash LIKE '%s.%%'",
+                + "WHERE %s",
             getTableName(),
             ReindexingUtil.escapeDoubleQuotes(escapeApostrophe(oldPrefix)),
             ReindexingUtil.escapeDoubleQuotes(escapeApostrophe(newPrefix)),
-            FullyQualifiedName.buildHash(oldPrefix),
+            oldHashPrefix,
             FullyQualifiedName.buildHash(newPrefix),
-            FullyQualifiedName.buildHash(oldPrefix));
-    updateFqnInternal(mySqlUpdate, postgresUpdate);
+            postgresCondition);
+    return updateFqnInternal(mySqlUpdate, postgresUpdate);
   }
 
   @ConnectionAwareSqlUpdate(value = "<mySqlUpdate>", connectionType = MYSQL)
   @ConnectionAwareSqlUpdate(value = "<postgresUpdate>", connectionType = POSTGRES)
-  void updateFqnInternal(
+  int updateFqnInternal(
       @Define("mySqlUpdate") String mySqlUpdate, @Define("postgresUpdate") String postgresUpdate);
 
+  /** Count the descendants of the entity with the given fully qualified name. */
+  default int countByFqnPrefix(String fqnPrefix) {
+    if (!getNameHashColumn().equals("fqnHash")) {
+      return 0;
+    }
+    return countByFqnHashPrefix(getTableName(), FullyQualifiedName.buildHash(fqnPrefix) + ".%");
+  }
+
+  @SqlQuery("SELECT count(*) FROM <table> WHERE fqnHash LIKE :fqnHashPrefix")
+  int countByFqnHashPrefix(
+      @Define("table") String table, @Bind("fqnHashPrefix") String fqnHashPrefix);
+
+  /** List the descendants of the entity with the given fully qualified name in fqnHash order. */
+  default List<String> listByFqnPrefix(String fqnPrefix, String afterFqnHash, int limit) {
+    return listByFqnHashPrefix(
+        getTableName(), FullyQualifiedName.buildHash(fqnPrefix) + ".%", afterFqnHash, limit);
+  }
+
+  @SqlQuery(
+      "SELECT json FROM <table> WHERE fqnHash LIKE :fqnHashPrefix AND fqnHash > :afterFqnHash "
+          + "ORDER BY fqnHash LIMIT :limit")
+  List<String> listByFqnHashPrefix(
+      @Define("table") String table,
+      @Bind("fqnHashPrefix") String fqnHashPrefix,
+      @Bind("afterFqnHash") String afterFqnHash,
+      @Bind("limit") int limit);
+
   @SqlQuery("SELECT json FROM <table> WHERE id = :id <cond>")
   String findById(
       @Define("table") String table, @BindUUID("id") UUID id, @Define("cond") String cond);
@@ -396,6 +443,14 @@ public interface EntityDAO<T extends EntityInterface> {
   List<String> listAfterWithOffset(
       @Define("table") String table, @Bind("limit") int limit, @Bind("offset") int offset);
 
+  @SqlQuery(
+      "SELECT id FROM <table> WHERE id > :afterId AND id < :beforeId ORDER BY id LIMIT :limit")
+  List<String> listIdsAfterInRange(
+      @Define("table") String table,
+      @Bind("afterId") String afterId,
+      @Bind("beforeId") String beforeId,
+      @Bind("limit") int limit);
+
   @SqlQuery(
       "SELECT json FROM <table> WHERE <nameHashColumn> = '' or <nameHashColumn> is null LIMIT :limit")
   List<String> migrationListAfterWithOffset(
@@ -617,6 +672,25 @@ public interface EntityDAO<T extends EntityInterface> {
     return listAfterWithOffset(getTableName(), limit, offset);
   }
 
+  /**
+   * Keyset pagination over the id range (afterId, beforeId), including deleted entities. Ranges
+   * can be read independently of each other, e.g. by parallel readers over {@link #KEY_RANGES}.
+   */
+  default List<String> listIdsAfterInRange(String afterId, String beforeId, int limit) {
+    return listIdsAfterInRange(getTableName(), afterId, beforeId, limit);
+  }
+
+  /** Id range (lowerBound, upperBound) to read with {@link #listIdsAfterInRange}. */
+  record KeyRange(String lowerBound, String upperBound) {}
+
+  /** Entity ids are random UUIDs, so these hex prefixes split every table in even key ranges. */
+  List<KeyRange> KEY_RANGES =
+      List.of(
+          new KeyRange("", "4"),
+          new KeyRange("4", "8"),
+          new KeyRange("8", "c"),
+          new KeyRange("c", "g"));
+
   default List<String> migrationListAfterWithOffset(int limit, String nameHashColumn) {
     // No ordering
     return migrationListAfterWithOffset(getTableName(), nameHashColumn, limit);
@@ -198,8 +198,10 @@ import org.openmetadata.service.exception.UnhandledServerException;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
+import org.openmetadata.service.jdbi3.FeedRepository.InboxReason;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
+import org.openmetadata.service.jobs.FqnPrefixRenameHandler;
 import org.openmetadata.service.jobs.JobDAO;
 import org.openmetadata.service.lock.HierarchicalLockManager;
 import org.openmetadata.service.rdf.RdfUpdater;
@@ -210,6 +212,7 @@ import org.openmetadata.service.search.SearchListFilter;
 import org.openmetadata.service.search.SearchRepository;
 import org.openmetadata.service.search.SearchResultListMapper;
 import org.openmetadata.service.search.SearchSortFilter;
+import org.openmetadata.service.util.DeletionProgress;
 import org.openmetadata.service.util.EntityETag;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -879,10 +882,33 @@ public abstract class EntityRepository<T extends EntityInterface> {
       }
       return entity;
     } catch (ExecutionException | UncheckedExecutionException e) {
+      T renamed = findUnderPendingRename(fqn, include);
+      if (renamed != null) {
+        return renamed;
+      }
       throw new EntityNotFoundException(entityNotFound(entityType, fqn));
     }
   }
 
+  /**
+   * While a background job renames the descendants of a glossary or classification, the entities
+   * not yet renamed are still stored under their old name. Look them up there so that the new name
+   * resolves during the rename.
+   */
+  private T findUnderPendingRename(String fqn, Include include) {
+    String oldFqn = FqnPrefixRenameHandler.pendingOldFqn(entityType, fqn);
+    if (oldFqn == null) {
+      return null;
+    }
+    try {
+      T entity = dao.findEntityByName(oldFqn, include);
+      entity.setFullyQualifiedName(fqn);
+      return entity;
+    } catch (EntityNotFoundException e) {
+      return null;
+    }
+  }
+
   public List<T> findByNames(List<String> entityFQNs, Include include) {
     return dao.findEntityByNames(entityFQNs, include);
   }
@@ -1844,6 +1870,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     // Add relationship
     addRelationship(userId, entityId, USER, entityType, Relationship.FOLLOWS);
+    daoCollection
+        .activityFeedInboxDAO()
+        .insertForEntity(List.of(userId.toString()), InboxReason.FOLLOWS.name(), entityId);
 
     ChangeDescription change = new ChangeDescription().withPreviousVersion(entity.getVersion());
     fieldAdded(change, FIELD_FOLLOWERS, List.of(user.getEntityReference()));
@@ -2163,98 +2192,75 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   /**
-   * Batch deletion of children entities for improved performance
+   * Hard deletes a containment tree bottom up with a {@link CascadeDeleter}: set-based relationship
+   * queries per batch of parent ids, and concurrent deletion of the batches of a level. Search
+   * documents of the descendants are removed by the delete-by-query issued when the root is deleted
+   * from search.
    */
-  @Transaction
   protected void batchDeleteChildren(
       List<EntityRelationshipRecord> children, boolean hardDelete, String updatedBy) {
+    LOG.info("Batch deleting the descendants of {} entities", children.size());
+    // The listener is bound to the calling thread, so read it before fanning out
+    CascadeDeleter deleter =
+        new CascadeDeleter(
+            CASCADE_DELETE_BATCH_SIZE,
+            this::findContainedRelationships,
+            (type, ids) -> processDeletionBatch(ids, type, hardDelete, updatedBy),
+            CASCADE_DELETE_EXECUTOR,
+            DeletionProgress.current());
+    long failed = deleter.delete(children);
+    if (failed > 0) {
+      throw new UnhandledServerException(
+          String.format(
+              "%d descendant entities could not be deleted. Delete the entity again to resume",
+              failed));
+    }
+  }
 
-    // Group entities by type for batch processing
-    Map<String, List<UUID>> entitiesByType =
-        children.stream()
-            .collect(
-                Collectors.groupingBy(
-                    EntityRelationshipRecord::getType,
-                    Collectors.mapping(EntityRelationshipRecord::getId, Collectors.toList())));
-
-    LOG.info("Batch deleting {} entities across {} types", children.size(), entitiesByType.size());
-
-    // Process deletion in levels to handle cascading properly
-    for (Map.Entry<String, List<UUID>> entry : entitiesByType.entrySet()) {
-      String childEntityType = entry.getKey();
-      List<UUID> entityIds = entry.getValue();
-
-      LOG.info("Batch processing {} entities of type {}", entityIds.size(), childEntityType);
-
-      // Process in smaller batches to avoid overwhelming the system
-      int batchSize = 50;
-      for (int i = 0; i < entityIds.size(); i += batchSize) {
-        List<UUID> batch = entityIds.subList(i, Math.min(i + batchSize, entityIds.size()));
-        processDeletionBatch(batch, childEntityType, hardDelete, updatedBy);
-      }
+  private List<CollectionDAO.EntityRelationshipObject> findContainedRelationships(
+      List<String> parentIds) {
+    List<CollectionDAO.EntityRelationshipObject> relationships = new ArrayList<>();
+    for (Relationship relation : List.of(Relationship.CONTAINS, Relationship.PARENT_OF)) {
+      relationships.addAll(
+          daoCollection
+              .relationshipDAO()
+              .findToBatchAllTypes(parentIds, relation.ordinal(), Include.ALL));
     }
+    return relationships;
   }
 
   /**
-   * Process a batch of entities for deletion
+   * Removes one batch of entities of the same type whose descendants are already deleted. Each
+   * entity is removed with its relationships in its own transaction, so an entity that fails keeps
+   * the relationship to its parent and is found again when the deletion is retried.
+   *
+   * @return the ids of the entities that could not be deleted
    */
-  @Transaction
-  private void processDeletionBatch(
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private Set<UUID> processDeletionBatch(
       List<UUID> entityIds, String entityType, boolean hardDelete, String updatedBy) {
-
     LOG.debug("Processing batch of {} {} entities", entityIds.size(), entityType);
+    EntityRepository repository = Entity.getEntityRepository(entityType);
+    List<EntityInterface> entities = repository.find(entityIds, Include.ALL);
 
-    // First, collect all grandchildren that need to be deleted
-    List<EntityRelationshipRecord> allGrandchildren = new ArrayList<>();
-    for (UUID entityId : entityIds) {
-      List<EntityRelationshipRecord> grandchildren =
-          daoCollection
-              .relationshipDAO()
-              .findTo(
-                  entityId,
-                  entityType,
-                  List.of(Relationship.CONTAINS.ordinal(), Relationship.PARENT_OF.ordinal()));
-      allGrandchildren.addAll(grandchildren);
-    }
-
-    // Recursively delete grandchildren first
-    if (!allGrandchildren.isEmpty()) {
-      LOG.info("Found {} grandchildren to delete first", allGrandchildren.size());
-      deleteChildren(allGrandchildren, hardDelete, updatedBy);
-    }
-
-    // Now batch delete the entities at this level
-    List<String> stringIds = entityIds.stream().map(UUID::toString).collect(Collectors.toList());
-
-    // Only delete relationships for hard delete
-    // For soft delete, relationships must be preserved for restoration
-    if (hardDelete) {
-      // Batch delete relationships for all entities
-      daoCollection.relationshipDAO().batchDeleteFrom(stringIds, entityType);
-      daoCollection.relationshipDAO().batchDeleteTo(stringIds, entityType);
-    }
-
-    // Delete or soft-delete the entities themselves
-    for (UUID entityId : entityIds) {
+    Set<UUID> failed = new HashSet<>();
+    for (EntityInterface entity : entities) {
       try {
-        @SuppressWarnings("rawtypes")
-        EntityRepository repository = Entity.getEntityRepository(entityType);
         if (repository.supportsSoftDelete && !hardDelete) {
-          // Soft delete
-          EntityInterface entity = repository.find(entityId, Include.ALL);
           entity.setUpdatedBy(updatedBy);
           entity.setUpdatedAt(System.currentTimeMillis());
           entity.setDeleted(true);
           repository.dao.update(entity);
         } else {
-          // Hard delete
-          EntityInterface entity = repository.find(entityId, Include.ALL);
           repository.cleanup(entity);
         }
       } catch (Exception e) {
-        LOG.error("Error deleting entity {} of type {}: {}", entityId, entityType, e.getMessage());
+        LOG.error(
+            "Error deleting entity {} of type {}: {}", entity.getId(), entityType, e.getMessage());
+        failed.add(entity.getId());
       }
     }
+    return failed;
   }
 
   protected final void cleanup(T entityInterface) {
@@ -2324,6 +2330,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     // Remove follower
     deleteRelationship(userId, USER, entityId, entityType, Relationship.FOLLOWS);
+    daoCollection
+        .activityFeedInboxDAO()
+        .deleteForEntity(userId, InboxReason.FOLLOWS.name(), entityId);
 
     ChangeDescription change = new ChangeDescription().withPreviousVersion(entity.getVersion());
     fieldDeleted(change, FIELD_FOLLOWERS, List.of(user));
@@ -3847,6 +3856,22 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
     removeOwners(ownedEntity, removedOwners);
     storeOwners(ownedEntity, newOwners);
+    // Existing threads about the entity move from the activity feed of the removed owners to that
+    // of the new owners
+    for (EntityReference removedOwner : listOrEmpty(removedOwners)) {
+      daoCollection
+          .activityFeedInboxDAO()
+          .deleteForEntity(
+              removedOwner.getId(), InboxReason.ENTITY_OWNER.name(), ownedEntity.getId());
+    }
+    if (!nullOrEmpty(addedOwners)) {
+      daoCollection
+          .activityFeedInboxDAO()
+          .insertForEntity(
+              addedOwners.stream().map(owner -> owner.getId().toString()).toList(),
+              InboxReason.ENTITY_OWNER.name(),
+              ownedEntity.getId());
+    }
   }
 
   public final Fields getFields(String fields) {
@@ -4159,6 +4184,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       changeDescription = new ChangeDescription();
       updateInternal();
       storeUpdate();
+      afterStoreUpdate();
       postUpdate(original, updated);
     }
 
@@ -4177,6 +4203,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       changeDescription = new ChangeDescription();
       updateInternal();
       storeUpdateWithOptimisticLocking();
+      afterStoreUpdate();
       postUpdate(original, updated);
     }
 
@@ -4191,6 +4218,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       changeDescription = new ChangeDescription();
       updateInternalForImport();
       storeUpdate();
+      afterStoreUpdate();
       postUpdate(original, updated);
     }
 
@@ -4372,6 +4400,14 @@ public abstract class EntityRepository<T extends EntityInterface> {
       }
     }
 
+    /**
+     * Called once the updated entity is stored, for work that must not start before that, such as
+     * enqueuing background jobs that act on the stored entity.
+     */
+    protected void afterStoreUpdate() {
+      // Default implementation does nothing
+    }
+
     protected void entitySpecificUpdate(boolean consolidatingChanges) {
       // Default implementation. Override this to add any entity specific field updates
     }
@@ -6616,6 +6652,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
   private static final ExecutorService BOUNDED_BULK_EXECUTOR =
       Executors.newFixedThreadPool(20, Thread.ofVirtual().factory());
 
+  private static final int CASCADE_DELETE_BATCH_SIZE = 500;
+
+  private static final ExecutorService CASCADE_DELETE_EXECUTOR =
+      Executors.newFixedThreadPool(8, Thread.ofVirtual().factory());
+
   private static final ConcurrentHashMap<String, CompletableFuture<BulkOperationResult>> BULK_JOBS =
       new ConcurrentHashMap<>();
 
@@ -433,6 +433,62 @@ public interface EntityTimeSeriesDAO {
         getTimeSeriesTableName(), entityFQNHash, extension, startTs, endTs, orderBy);
   }
 
+  /**
+   * Page of at most {@code limit} records from {@code startTs} on that come before the record with
+   * timestamp {@code beforeTs} and top-level JSON {@code key} value {@code beforeValue}, ordered by
+   * timestamp and then by the key value, latest first. The timestamp and key value of the last
+   * record are the {@code beforeTs} and {@code beforeValue} of the next page, so that records with
+   * the same timestamp are neither skipped nor repeated across pages.
+   */
+  @ConnectionAwareSqlQuery(
+      value =
+          "SELECT json FROM <table> "
+              + "WHERE entityFQNHash = :entityFQNHash AND extension = :extension "
+              + "AND timestamp >= :startTs AND (timestamp < :beforeTs "
+              + "OR (timestamp = :beforeTs AND <mysqlKey> < :beforeValue)) "
+              + "ORDER BY timestamp DESC, <mysqlKey> DESC LIMIT :limit",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlQuery(
+      value =
+          "SELECT json FROM <table> "
+              + "WHERE entityFQNHash = :entityFQNHash AND extension = :extension "
+              + "AND timestamp >= :startTs AND (timestamp < :beforeTs "
+              + "OR (timestamp = :beforeTs AND <psqlKey> < :beforeValue)) "
+              + "ORDER BY timestamp DESC, <psqlKey> DESC LIMIT :limit",
+      connectionType = POSTGRES)
+  List<String> listBeforeTimestampAndKeyInternal(
+      @Define("table") String table,
+      @BindFQN("entityFQNHash") String entityFQNHash,
+      @Bind("extension") String extension,
+      @Bind("startTs") long startTs,
+      @Bind("beforeTs") long beforeTs,
+      @Bind("beforeValue") String beforeValue,
+      @Bind("limit") int limit,
+      @Define("mysqlKey") String mysqlKey,
+      @Define("psqlKey") String psqlKey);
+
+  default List<String> listBeforeTimestampAndKey(
+      String entityFQNHash,
+      String extension,
+      String key,
+      long startTs,
+      long beforeTs,
+      String beforeValue,
+      int limit) {
+    String mysqlKey = String.format("JSON_UNQUOTE(JSON_EXTRACT(json, '$.%s'))", key);
+    String psqlKey = String.format("json->>'%s'", key);
+    return listBeforeTimestampAndKeyInternal(
+        getTimeSeriesTableName(),
+        entityFQNHash,
+        extension,
+        startTs,
+        beforeTs,
+        beforeValue,
+        limit,
+        mysqlKey,
+        psqlKey);
+  }
+
   @ConnectionAwareSqlUpdate(
       value =
           "UPDATE <table> SET json = :json "
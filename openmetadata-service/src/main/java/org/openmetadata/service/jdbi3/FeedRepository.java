@@ -27,10 +27,12 @@ import static org.openmetadata.schema.type.Relationship.ADDRESSED_TO;
 import static org.openmetadata.schema.type.Relationship.CREATED;
 import static org.openmetadata.schema.type.Relationship.IS_ABOUT;
 import static org.openmetadata.schema.type.Relationship.MENTIONED_IN;
+import static org.openmetadata.schema.type.Relationship.OWNS;
 import static org.openmetadata.schema.type.Relationship.REPLIED_TO;
 import static org.openmetadata.schema.type.TaskStatus.Open;
 import static org.openmetadata.service.Entity.GLOSSARY;
 import static org.openmetadata.service.Entity.GLOSSARY_TERM;
+import static org.openmetadata.service.Entity.TEAM;
 import static org.openmetadata.service.Entity.USER;
 import static org.openmetadata.service.exception.CatalogExceptionMessage.ANNOUNCEMENT_INVALID_START_TIME;
 import static org.openmetadata.service.exception.CatalogExceptionMessage.ANNOUNCEMENT_OVERLAP;
@@ -49,8 +51,11 @@ import jakarta.ws.rs.core.UriInfo;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -59,6 +64,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.json.JSONObject;
@@ -94,6 +100,7 @@ import org.openmetadata.service.formatter.decorators.FeedMessageDecorator;
 import org.openmetadata.service.formatter.decorators.MessageDecorator;
 import org.openmetadata.service.formatter.util.FeedMessage;
 import org.openmetadata.service.governance.workflows.WorkflowHandler;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.resources.feeds.FeedResource;
 import org.openmetadata.service.resources.feeds.FeedUtil;
 import org.openmetadata.service.resources.feeds.MessageParser;
@@ -372,7 +379,12 @@ public class FeedRepository {
   @Transaction
   public void store(ThreadContext threadContext) {
     // Insert a new thread
-    dao.feedDAO().insert(JsonUtils.pojoToJson(threadContext.getThread()));
+    Thread thread = threadContext.getThread();
+    dao.feedDAO().insert(FeedUtil.toStoredJson(thread));
+    dao.threadCountDAO().adjust(List.of(thread.getId().toString()), 1);
+    for (Post post : listOrEmpty(thread.getPosts())) {
+      storePost(thread.getId(), post);
+    }
   }
 
   @Transaction
@@ -417,6 +429,25 @@ public class FeedRepository {
 
     // Add mentions to field relationship table
     storeMentions(thread, thread.getMessage());
+
+    // Fan the thread out to the activity feed inbox of the creator, the owners and followers of
+    // the entity and the mentioned users and teams
+    addToInbox(thread.getId(), InboxReason.OWNER, List.of(threadContext.getCreatedBy().getId()));
+    addToInbox(
+        thread.getId(),
+        InboxReason.ENTITY_OWNER,
+        listOrEmpty(entityOwners).stream().map(EntityReference::getId).toList());
+    List<UUID> followers =
+        dao.relationshipDAO()
+            .findFrom(
+                threadContext.getAboutEntity().getId(),
+                about.getEntityType(),
+                Relationship.FOLLOWS.ordinal())
+            .stream()
+            .map(EntityRelationshipRecord::getId)
+            .toList();
+    addToInbox(thread.getId(), InboxReason.FOLLOWS, followers);
+    addToInbox(thread.getId(), InboxReason.MENTIONS, getMentionedPrincipals(thread.getMessage()));
   }
 
   public Thread getTask(EntityLink about, TaskType taskType) {
@@ -444,11 +475,11 @@ public class FeedRepository {
           if (thread.getTask() != null
               && thread.getTask().getType() == taskType
               && thread.getTask().getStatus() == taskStatus) {
-            return thread;
+            return populatePosts(thread);
           }
         } else {
           if (thread.getTask() != null && thread.getTask().getType() == taskType) {
-            return thread;
+            return populatePosts(thread);
           }
         }
       }
@@ -475,13 +506,12 @@ public class FeedRepository {
 
   public Thread get(UUID id) {
     Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    sortPosts(thread);
-    return thread;
+    return populatePosts(thread);
   }
 
   public Thread getTask(Integer id) {
     Thread task = EntityUtil.validate(id, dao.feedDAO().findByTaskId(id), Thread.class);
-    sortPosts(task);
+    populatePosts(task);
     return populateAssignees(task);
   }
 
@@ -591,7 +621,7 @@ public class FeedRepository {
     task.withStatus(TaskStatus.Closed).withClosedBy(user).withClosedAt(System.currentTimeMillis());
     thread.withTask(task).withUpdatedBy(user).withUpdatedAt(System.currentTimeMillis());
 
-    dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+    updateCountedThread(thread);
     addClosingPost(thread, user, closeTask.getComment());
     sortPosts(thread);
   }
@@ -605,7 +635,7 @@ public class FeedRepository {
     task.withStatus(TaskStatus.Closed).withClosedBy(user).withClosedAt(System.currentTimeMillis());
     thread.withTask(task).withUpdatedBy(user).withUpdatedAt(System.currentTimeMillis());
 
-    dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+    updateCountedThread(thread);
     addClosingPost(thread, user, closeTask.getComment());
     sortPosts(thread);
   }
@@ -636,20 +666,21 @@ public class FeedRepository {
     // Validate the user posting the message
     UUID fromUserId = Entity.getEntityReferenceByName(USER, post.getFrom(), NON_DELETED).getId();
 
-    // Update the thread with the new post
     Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
 
     // Populate Assignees if type is task
     populateAssignees(thread);
 
+    // Add relation User -- repliedTo --> Thread only for the first reply of the user
+    boolean relationAlreadyExists = dao.threadPostDAO().countByAuthor(id, post.getFrom()) > 0;
+
+    // Append the post as a row of its own and only update the summary fields of the thread
+    storePost(id, post);
     thread.withUpdatedBy(userName).withUpdatedAt(System.currentTimeMillis());
     FeedUtil.addPost(thread, post);
-    dao.feedDAO().update(id, JsonUtils.pojoToJson(thread));
+    dao.feedDAO().update(id, FeedUtil.toStoredJson(thread));
 
-    // Add relation User -- repliedTo --> Thread
     // Add relationship from thread to the user entity that is posting a reply
-    boolean relationAlreadyExists =
-        thread.getPosts().stream().anyMatch(p -> p.getFrom().equals(post.getFrom()));
     if (!relationAlreadyExists) {
       dao.relationshipDAO()
           .insert(fromUserId, thread.getId(), USER, Entity.THREAD, REPLIED_TO.ordinal());
@@ -657,31 +688,37 @@ public class FeedRepository {
 
     // Add mentions into field relationship table
     storeMentions(thread, post.getMessage());
-    sortPostsInThreads(List.of(thread));
-    return thread;
+
+    // The thread now shows up in the activity feed of the replier and the mentioned users
+    addToInbox(id, InboxReason.OWNER, List.of(fromUserId));
+    addToInbox(id, InboxReason.MENTIONS, getMentionedPrincipals(post.getMessage()));
+    return populatePosts(thread);
   }
 
   public Post getPostById(Thread thread, UUID postId) {
-    Optional<Post> post =
-        thread.getPosts().stream().filter(p -> p.getId().equals(postId)).findAny();
-    if (post.isEmpty()) {
+    String json = dao.threadPostDAO().findById(thread.getId(), postId);
+    if (json == null) {
       throw EntityNotFoundException.byMessage(entityNotFound("Post", postId));
     }
-    return post.get();
+    return JsonUtils.readValue(json, Post.class);
   }
 
   @Transaction
   public DeleteResponse<Post> deletePost(Thread thread, Post post, String userName) {
-    List<Post> posts = thread.getPosts();
-    // Remove the post to be deleted from the posts list
-    posts = posts.stream().filter(p -> !p.getId().equals(post.getId())).toList();
+    dao.threadPostDAO().delete(thread.getId(), post.getId());
+    // Remove the deleted post from the posts list and refresh the summary fields
+    List<Post> posts =
+        listOrEmpty(thread.getPosts()).stream()
+            .filter(p -> !p.getId().equals(post.getId()))
+            .collect(Collectors.toList());
     thread
         .withUpdatedAt(System.currentTimeMillis())
         .withUpdatedBy(userName)
         .withPosts(posts)
-        .withPostsCount(posts.size());
+        .withPostsCount(posts.size())
+        .withLastPostTs(posts.isEmpty() ? null : posts.get(posts.size() - 1).getPostTs());
     // update the json document
-    dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+    dao.feedDAO().update(thread.getId(), FeedUtil.toStoredJson(thread));
     return new DeleteResponse<>(post, ENTITY_DELETED);
   }
 
@@ -700,6 +737,11 @@ public class FeedRepository {
     // Delete all the field relationships to other entities
     dao.fieldRelationshipDAO().deleteAllByPrefix(id.toString());
 
+    // Delete the posts of the thread and remove it from the activity feed inbox and thread counts
+    dao.threadPostDAO().deleteByThreadId(id);
+    dao.activityFeedInboxDAO().deleteByThreadId(id);
+    dao.threadCountDAO().adjust(List.of(id.toString()), -1);
+
     // Finally, delete the thread
     dao.feedDAO().delete(id);
   }
@@ -716,6 +758,11 @@ public class FeedRepository {
     // Delete all the field relationships to other entities
     dao.fieldRelationshipDAO().deleteAllByPrefixes(threadIds);
 
+    // Delete the posts of the threads and remove them from the activity feed inbox and counts
+    dao.threadPostDAO().deleteByThreadIds(threadIds);
+    dao.activityFeedInboxDAO().deleteByThreadIds(threadIds);
+    dao.threadCountDAO().adjust(threadIds, -1);
+
     // Delete the thread and return the count
     return dao.feedDAO().deleteByIds(threadIds);
   }
@@ -742,20 +789,18 @@ public class FeedRepository {
         UUID userId = reference.getId();
         User user = Entity.getEntity(USER, userId, TEAMS_FIELD, ALL);
         List<String> teamIds = getTeamIds(user);
-        List<String> teamNames = getTeamNames(user);
         String userTeamJsonMysql = getUserTeamJsonMysql(userId, teamIds);
         String userTeamJsonPostgres = getUserTeamJsonPostgres(userId, teamIds);
         result =
             dao.feedDAO()
                 .listCountByOwner(
                     userId, teamIds, user.getName(), userTeamJsonMysql, userTeamJsonPostgres);
+        List<String> principalIds = new ArrayList<>(teamIds);
+        principalIds.add(userId.toString());
         mentions =
             dao.feedDAO()
-                .listCountThreadsByMentions(
-                    FullyQualifiedName.buildHash(user.getFullyQualifiedName()),
-                    teamNames,
-                    Relationship.MENTIONED_IN.ordinal(),
-                    " where true ");
+                .listCountThreadsFromInbox(
+                    principalIds, List.of(InboxReason.MENTIONS.name()), " where true ");
       } else {
         mentions = 0;
         // team is not supported
@@ -806,12 +851,7 @@ public class FeedRepository {
 
     } else {
       mentions = 0;
-      result =
-          dao.feedDAO()
-              .listCountByEntityLink(
-                  reference.getId(),
-                  reference.getFullyQualifiedName(),
-                  entityLink.getFullyQualifiedFieldType());
+      result = dao.threadCountDAO().listByEntityId(reference.getId());
       result.forEach(
           l -> {
             ThreadCount threadCount = new ThreadCount().withMentionCount(mentions);
@@ -842,6 +882,22 @@ public class FeedRepository {
     return threadCounts;
   }
 
+  /**
+   * Store an update of the thread, moving it to the thread count of its new task status. Only
+   * updates that may change the type or task status of a thread need to go through here.
+   */
+  private void updateCountedThread(Thread thread) {
+    List<String> threadIds = List.of(thread.getId().toString());
+    dao.threadCountDAO().adjust(threadIds, -1);
+    dao.feedDAO().update(thread.getId(), FeedUtil.toStoredJson(thread));
+    dao.threadCountDAO().adjust(threadIds, 1);
+  }
+
+  /** Rebuild the materialized thread counts from the threads. Returns the number of counters. */
+  public static int reconcileThreadCounts(CollectionDAO dao) {
+    return dao.threadCountDAO().rebuildAll();
+  }
+
   private void computeTotalTaskCount(ThreadCount threadCount) {
     threadCount.setTotalTaskCount(
         (threadCount.getOpenTaskCount() != null ? threadCount.getOpenTaskCount() : 0)
@@ -925,7 +981,7 @@ public class FeedRepository {
         total = filteredThreads.totalCount();
       }
     }
-    sortAndLimitPosts(threads, limitPosts);
+    populateLatestPosts(threads, limitPosts);
     populateAssignees(threads);
 
     String beforeCursor = null;
@@ -980,9 +1036,10 @@ public class FeedRepository {
     populateUserReactions(updated.getReactions());
 
     // delete the existing post and add the updated post
-    List<Post> posts = thread.getPosts();
-    posts =
-        posts.stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
+    List<Post> posts =
+        listOrEmpty(thread.getPosts()).stream()
+            .filter(p -> !p.getId().equals(post.getId()))
+            .collect(Collectors.toList());
     posts.add(updated);
     thread.withPosts(posts).withUpdatedAt(System.currentTimeMillis()).withUpdatedBy(user);
 
@@ -1203,7 +1260,7 @@ public class FeedRepository {
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(original, updated)) {
       populateUserReactions(updated.getReactions());
-      dao.feedDAO().update(updated.getId(), JsonUtils.pojoToJson(updated));
+      updateCountedThread(updated);
       return true;
     }
     return false;
@@ -1213,7 +1270,9 @@ public class FeedRepository {
     // store the updated post
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(originalPost, updatedPost)) {
-      dao.feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+      dao.threadPostDAO()
+          .update(thread.getId(), updatedPost.getId(), JsonUtils.pojoToJson(updatedPost));
+      dao.feedDAO().update(thread.getId(), FeedUtil.toStoredJson(thread));
       return true;
     }
     return false;
@@ -1269,21 +1328,35 @@ public class FeedRepository {
     thread.getPosts().sort(Comparator.comparing(Post::getPostTs));
   }
 
-  private void sortPostsInThreads(List<Thread> threads) {
-    threads.forEach(this::sortPosts);
-  }
-
-  /** Limit the number of posts within each thread to the requested limitPosts. */
-  private void sortAndLimitPosts(List<Thread> threads, int limitPosts) {
-    for (Thread t : threads) {
-      List<Post> posts = t.getPosts();
-      sortPosts(t);
-      if (posts.size() > limitPosts) {
-        // Only keep the last "n" number of posts
-        posts = posts.subList(posts.size() - limitPosts, posts.size());
-        t.withPosts(posts);
+  private void storePost(UUID threadId, Post post) {
+    if (post.getPostTs() == null) {
+      post.setPostTs(System.currentTimeMillis());
+    }
+    dao.threadPostDAO()
+        .insert(threadId, post.getId(), post.getPostTs(), JsonUtils.pojoToJson(post));
+  }
+
+  /** Load all the posts of the thread in chronological order. */
+  private Thread populatePosts(Thread thread) {
+    List<String> jsons = dao.threadPostDAO().listByThread(thread.getId());
+    return thread.withPosts(JsonUtils.readObjects(jsons, Post.class));
+  }
+
+  /** Load only the last "n" posts of each thread with one bounded query for the whole page. */
+  private void populateLatestPosts(List<Thread> threads, int limitPosts) {
+    Map<String, List<Post>> postsByThread = new HashMap<>();
+    if (!threads.isEmpty() && limitPosts > 0) {
+      List<String> threadIds = threads.stream().map(t -> t.getId().toString()).toList();
+      for (Pair<String, String> row :
+          dao.threadPostDAO().listLatestByThreads(threadIds, limitPosts)) {
+        postsByThread
+            .computeIfAbsent(row.getLeft(), k -> new ArrayList<>())
+            .add(JsonUtils.readValue(row.getRight(), Post.class));
       }
     }
+    for (Thread t : threads) {
+      t.withPosts(postsByThread.getOrDefault(t.getId().toString(), new ArrayList<>()));
+    }
   }
 
   private String getUserTeamJsonMysql(UUID userId, List<String> teamIds) {
@@ -1391,13 +1464,12 @@ public class FeedRepository {
   private FilteredThreads getThreadsByOwner(FeedFilter filter, UUID userId, int limit) {
     // add threads on user or team owned entities
     // and threads created by or replied to by the user
-    List<String> teamIds = getTeamIds(userId);
-    List<String> jsons =
-        dao.feedDAO().listThreadsByOwner(userId, teamIds, limit, filter.getCondition());
-    List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
-    int totalCount =
-        dao.feedDAO().listCountThreadsByOwner(userId, teamIds, filter.getCondition(false));
-    return new FilteredThreads(threads, totalCount);
+    return getThreadsFromInbox(
+        userId,
+        List.of(InboxReason.OWNER, InboxReason.ENTITY_OWNER),
+        limit,
+        filter.getCondition(),
+        filter.getCondition(false));
   }
 
   private FilteredThreads getThreadsForGlossary(
@@ -1436,29 +1508,13 @@ public class FeedRepository {
    * with @mention.
    */
   private FilteredThreads getThreadsByMentions(FeedFilter filter, UUID userId, int limit) {
-    User user = Entity.getEntity(Entity.USER, userId, TEAMS_FIELD, ALL);
-    String userNameHash = getUserNameHash(user);
-    // Return the threads where the user or team was mentioned
-    List<String> teamNamesHash = getTeamNames(user);
-
     // Return the threads where the user or team was mentioned
-    List<String> jsons =
-        dao.feedDAO()
-            .listThreadsByMentions(
-                userNameHash,
-                teamNamesHash,
-                limit,
-                Relationship.MENTIONED_IN.ordinal(),
-                filter.getCondition());
-    List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
-    int totalCount =
-        dao.feedDAO()
-            .listCountThreadsByMentions(
-                userNameHash,
-                teamNamesHash,
-                Relationship.MENTIONED_IN.ordinal(),
-                filter.getCondition(false));
-    return new FilteredThreads(threads, totalCount);
+    return getThreadsFromInbox(
+        userId,
+        List.of(InboxReason.MENTIONS),
+        limit,
+        filter.getCondition(),
+        filter.getCondition(false));
   }
 
   /** Get a list of team ids that the given user is a part of. */
@@ -1479,29 +1535,85 @@ public class FeedRepository {
 
   /** Returns the threads that are associated with the entities followed by the user. */
   private FilteredThreads getThreadsByFollows(FeedFilter filter, UUID userId, int limit) {
-    List<String> teamIds = getTeamIds(userId);
-    List<String> jsons =
-        dao.feedDAO()
-            .listThreadsByFollows(
-                userId, teamIds, limit, Relationship.FOLLOWS.ordinal(), filter.getCondition());
-    List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
-    int totalCount =
-        dao.feedDAO()
-            .listCountThreadsByFollows(
-                userId, teamIds, Relationship.FOLLOWS.ordinal(), filter.getCondition());
-    return new FilteredThreads(threads, totalCount);
+    return getThreadsFromInbox(
+        userId, List.of(InboxReason.FOLLOWS), limit, filter.getCondition(), filter.getCondition());
   }
 
   private FilteredThreads getThreadsByOwnerOrFollows(FeedFilter filter, UUID userId, int limit) {
-    List<String> teamIds = getTeamIds(userId);
+    return getThreadsFromInbox(
+        userId,
+        List.of(InboxReason.OWNER, InboxReason.ENTITY_OWNER, InboxReason.FOLLOWS),
+        limit,
+        filter.getCondition(),
+        filter.getCondition());
+  }
+
+  /** List the threads in the activity feed inbox of the user and the teams they belong to. */
+  private FilteredThreads getThreadsFromInbox(
+      UUID userId,
+      List<InboxReason> reasons,
+      int limit,
+      String condition,
+      String countCondition) {
+    List<String> principalIds = new ArrayList<>(getTeamIds(userId));
+    principalIds.add(userId.toString());
+    List<String> reasonNames = reasons.stream().map(InboxReason::name).toList();
     List<String> jsons =
-        dao.feedDAO().listThreadsByOwnerOrFollows(userId, teamIds, limit, filter.getCondition());
+        dao.feedDAO().listThreadsFromInbox(principalIds, reasonNames, limit, condition);
     List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
     int totalCount =
-        dao.feedDAO().listCountThreadsByOwnerOrFollows(userId, teamIds, filter.getCondition());
+        dao.feedDAO().listCountThreadsFromInbox(principalIds, reasonNames, countCondition);
     return new FilteredThreads(threads, totalCount);
   }
 
+  private void addToInbox(UUID threadId, InboxReason reason, Collection<UUID> principalIds) {
+    List<String> ids = principalIds.stream().map(UUID::toString).distinct().toList();
+    if (!ids.isEmpty()) {
+      dao.activityFeedInboxDAO().insert(ids, reason.name(), threadId.toString());
+    }
+  }
+
+  /** Ids of the users and teams mentioned in a message. */
+  private List<UUID> getMentionedPrincipals(String message) {
+    List<UUID> principalIds = new ArrayList<>();
+    for (EntityLink mention : MessageParser.getEntityLinks(message)) {
+      String type = mention.getEntityType();
+      if (USER.equals(type) || TEAM.equals(type)) {
+        try {
+          principalIds.add(
+              Entity.getEntityReferenceByName(type, mention.getEntityFQN(), ALL).getId());
+        } catch (EntityNotFoundException e) {
+          LOG.debug("Mentioned {} {} not found", type, mention.getEntityFQN());
+        }
+      }
+    }
+    return principalIds;
+  }
+
+  /**
+   * Rebuild the activity feed inbox from the thread, ownership, follower and mention relationships.
+   * Threads are fanned out to the inbox when they are created or replied to, so this backfills the
+   * threads created before the inbox existed and picks up ownership or follower changes made after
+   * a thread was created.
+   */
+  public static int rebuildActivityFeedInbox(CollectionDAO dao) {
+    CollectionDAO.ActivityFeedInboxDAO inboxDAO = dao.activityFeedInboxDAO();
+    inboxDAO.deleteAll();
+    int rows = inboxDAO.insertFromAboutEntity(InboxReason.ENTITY_OWNER.name(), OWNS.ordinal());
+    rows +=
+        inboxDAO.insertFromThreadRelationship(
+            InboxReason.OWNER.name(), List.of(CREATED.ordinal(), REPLIED_TO.ordinal()));
+    rows +=
+        inboxDAO.insertFromAboutEntity(InboxReason.FOLLOWS.name(), Relationship.FOLLOWS.ordinal());
+    rows +=
+        inboxDAO.insertFromMentions(
+            InboxReason.MENTIONS.name(), "user_entity", USER, MENTIONED_IN.ordinal());
+    rows +=
+        inboxDAO.insertFromMentions(
+            InboxReason.MENTIONS.name(), "team_entity", TEAM, MENTIONED_IN.ordinal());
+    return rows;
+  }
+
   /** Get a list of team names that the given user is a part of. */
   private List<String> getTeamNames(User user) {
     List<String> teamNames = null;
@@ -1514,10 +1626,6 @@ public class FeedRepository {
     return nullOrEmpty(teamNames) ? List.of(StringUtils.EMPTY) : teamNames;
   }
 
-  private String getUserNameHash(User user) {
-    return user != null ? FullyQualifiedName.buildHash(user.getFullyQualifiedName()) : null;
-  }
-
   public static String resolveDescriptionTaskMessage(TaskDetails task) {
     return String.format(
         "Resolved the Task with Description - %s",
@@ -1540,4 +1648,16 @@ public class FeedRepository {
   }
 
   public record FilteredThreads(List<Thread> threads, int totalCount) {}
+
+  /**
+   * Reason a thread is in the activity feed inbox of a user or team. OWNER rows are for threads the
+   * user created or replied to, ENTITY_OWNER rows for threads about an entity they own, which are
+   * removed again when they stop owning it.
+   */
+  public enum InboxReason {
+    OWNER,
+    ENTITY_OWNER,
+    FOLLOWS,
+    MENTIONS
+  }
 }
@@ -55,6 +55,7 @@ import org.openmetadata.schema.api.data.TermReference;
 import org.openmetadata.schema.entity.data.Glossary;
 import org.openmetadata.schema.entity.data.GlossaryTerm;
 import org.openmetadata.schema.entity.type.Style;
+import org.openmetadata.schema.jobs.FqnPrefixRenameArgs;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.EntityStatus;
 import org.openmetadata.schema.type.Include;
@@ -71,6 +72,7 @@ import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jobs.FqnPrefixRenameHandler;
 import org.openmetadata.service.resources.feeds.MessageParser;
 import org.openmetadata.service.resources.glossary.GlossaryResource;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -444,12 +446,14 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
         new MessageParser.EntityLink(entityType, updated.getFullyQualifiedName());
 
     daoCollection.feedDAO().updateByEntityId(newAbout.getLinkString(), original.getId().toString());
+    daoCollection.threadCountDAO().rebuildForEntity(original.getId());
 
     List<GlossaryTerm> childTerms = getAllTerms(updated);
 
     for (GlossaryTerm child : childTerms) {
       newAbout = new MessageParser.EntityLink(GLOSSARY_TERM, child.getFullyQualifiedName());
       daoCollection.feedDAO().updateByEntityId(newAbout.getLinkString(), child.getId().toString());
+      daoCollection.threadCountDAO().rebuildForEntity(child.getId());
     }
   }
 
@@ -462,11 +466,23 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
 
   /** Handles entity updated from PUT and POST operation. */
   public class GlossaryUpdater extends EntityUpdater {
+    // Rename of a large hierarchy, enqueued as a background job once the update is stored
+    private FqnPrefixRenameArgs pendingRename;
+
     public GlossaryUpdater(Glossary original, Glossary updated, Operation operation) {
       super(original, updated, operation);
       renameAllowed = true;
     }
 
+    @Override
+    protected void afterStoreUpdate() {
+      if (pendingRename != null) {
+        FqnPrefixRenameHandler.enqueueRename(
+            daoCollection, jobDao, pendingRename, updatingUser.getName());
+        pendingRename = null;
+      }
+    }
+
     @Transaction
     @Override
     public void entitySpecificUpdate(boolean consolidatingChanges) {
@@ -484,13 +500,14 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
         // Glossary name changed - update tag names starting from glossary and all the children tags
         LOG.info("Glossary name changed from {} to {}", original.getName(), updated.getName());
         setFullyQualifiedName(updated);
-        daoCollection
-            .glossaryTermDAO()
-            .updateFqn(original.getFullyQualifiedName(), updated.getFullyQualifiedName());
-        daoCollection
-            .tagUsageDAO()
-            .updateTagPrefix(
-                TagSource.GLOSSARY.ordinal(),
+        // Renames the terms, their tag labels and the classification tags applied to them. Large
+        // glossaries are renamed by a background job, see FqnPrefixRenameHandler
+        pendingRename =
+            FqnPrefixRenameHandler.renameDescendants(
+                daoCollection,
+                jobDao,
+                GLOSSARY,
+                original.getId(),
                 original.getFullyQualifiedName(),
                 updated.getFullyQualifiedName());
         recordChange("name", original.getName(), updated.getName());
@@ -501,12 +518,6 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
         List<TagLabel> updatedTags = updated.getTags();
         updatedTags.sort(compareTagLabel);
         applyTags(updatedTags, updated.getFullyQualifiedName());
-        daoCollection
-            .tagUsageDAO()
-            .renameByTargetFQNHash(
-                TagSource.CLASSIFICATION.ordinal(),
-                original.getFullyQualifiedName(),
-                updated.getFullyQualifiedName());
         updateEntityLinksOnGlossaryRename(original, updated);
       }
     }
@@ -48,11 +48,13 @@ import jakarta.json.JsonPatch;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -100,6 +102,7 @@ import org.openmetadata.service.governance.workflows.WorkflowHandler;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
+import org.openmetadata.service.resources.databases.DatasourceConfig;
 import org.openmetadata.service.resources.feeds.MessageParser;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.resources.glossary.GlossaryTermResource;
@@ -121,6 +124,10 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
       "Entity Details is unavailable in Elastic Search. Please reindex to get more Information.";
   private static final String UPDATE_FIELDS = "references,relatedTerms,synonyms,style";
   private static final String PATCH_FIELDS = "references,relatedTerms,synonyms,style";
+  private static final String FULL_TEXT_CONDITION =
+      "AND MATCH(searchText) AGAINST (:phrase IN BOOLEAN MODE)";
+  // ngram_token_size of the MySQL server, read once on the first search
+  private static volatile Integer ngramTokenSize;
 
   final FeedRepository feedRepository = Entity.getFeedRepository();
   private InheritedFieldEntitySearch inheritedFieldEntitySearch;
@@ -894,12 +901,14 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
     EntityLink newAbout = new EntityLink(GLOSSARY_TERM, updated.getFullyQualifiedName());
 
     daoCollection.feedDAO().updateByEntityId(newAbout.getLinkString(), original.getId().toString());
+    daoCollection.threadCountDAO().rebuildForEntity(original.getId());
     List<EntityReference> childTerms =
         findTo(updated.getId(), GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM);
 
     for (EntityReference child : childTerms) {
       newAbout = new EntityLink(entityType, child.getFullyQualifiedName());
       daoCollection.feedDAO().updateByEntityId(newAbout.getLinkString(), child.getId().toString());
+      daoCollection.threadCountDAO().rebuildForEntity(child.getId());
     }
   }
 
@@ -1421,11 +1430,17 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
   }
 
   public ResultList<GlossaryTerm> searchGlossaryTermsById(
-      UUID glossaryId, String query, int limit, int offset, String fieldsParam, Include include) {
+      UUID glossaryId,
+      String query,
+      int limit,
+      int offset,
+      String after,
+      String fieldsParam,
+      Include include) {
     Glossary glossary =
         Entity.getEntity(GLOSSARY, glossaryId, "id,name,fullyQualifiedName", include);
     return searchGlossaryTermsInternal(
-        glossary.getFullyQualifiedName(), query, limit, offset, fieldsParam, include);
+        glossary.getFullyQualifiedName(), query, limit, offset, after, fieldsParam, include);
   }
 
   public ResultList<GlossaryTerm> searchGlossaryTermsByFQN(
@@ -1433,31 +1448,47 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
       String query,
       int limit,
       int offset,
+      String after,
       String fieldsParam,
       Include include) {
-    return searchGlossaryTermsInternal(glossaryFqn, query, limit, offset, fieldsParam, include);
+    return searchGlossaryTermsInternal(
+        glossaryFqn, query, limit, offset, after, fieldsParam, include);
   }
 
   public ResultList<GlossaryTerm> searchGlossaryTermsByParentId(
-      UUID parentId, String query, int limit, int offset, String fieldsParam, Include include) {
+      UUID parentId,
+      String query,
+      int limit,
+      int offset,
+      String after,
+      String fieldsParam,
+      Include include) {
     GlossaryTerm parentTerm =
         Entity.getEntity(GLOSSARY_TERM, parentId, "id,name,fullyQualifiedName,glossary", include);
     return searchGlossaryTermsInternal(
-        parentTerm.getFullyQualifiedName(), query, limit, offset, fieldsParam, include);
+        parentTerm.getFullyQualifiedName(), query, limit, offset, after, fieldsParam, include);
   }
 
   public ResultList<GlossaryTerm> searchGlossaryTermsByParentFQN(
-      String parentFqn, String query, int limit, int offset, String fieldsParam, Include include) {
-    return searchGlossaryTermsInternal(parentFqn, query, limit, offset, fieldsParam, include);
-  }
-
-  private String prepareSearchTerm(String query) {
-    // For LIKE queries, add wildcards
-    return "%" + query.trim() + "%";
+      String parentFqn,
+      String query,
+      int limit,
+      int offset,
+      String after,
+      String fieldsParam,
+      Include include) {
+    return searchGlossaryTermsInternal(
+        parentFqn, query, limit, offset, after, fieldsParam, include);
   }
 
   private ResultList<GlossaryTerm> searchGlossaryTermsInternal(
-      String parentFqn, String query, int limit, int offset, String fieldsParam, Include include) {
+      String parentFqn,
+      String query,
+      int limit,
+      int offset,
+      String after,
+      String fieldsParam,
+      Include include) {
 
     CollectionDAO.GlossaryTermDAO dao = daoCollection.glossaryTermDAO();
 
@@ -1478,46 +1509,93 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
 
       // Convert pagination info
       String before = offset > 0 ? String.valueOf(Math.max(0, offset - limit)) : null;
-      String after =
+      String afterOffset =
           result.getPaging() != null && result.getPaging().getAfter() != null
               ? String.valueOf(offset + limit)
               : null;
       int total =
           result.getPaging() != null ? result.getPaging().getTotal() : result.getData().size();
 
-      return new ResultList<>(result.getData(), before, after, total);
+      return new ResultList<>(result.getData(), before, afterOffset, total);
     }
 
-    // For search queries, fetch limit+1 to determine if there are more pages
-    // Prepare search term for full-text search
-    String searchTerm = prepareSearchTerm(query.trim());
+    // Offset based paging is kept for older clients; the first page and every page reached through
+    // the after cursor are read with a keyset seek on (matchRank, name, id)
+    String term = query.trim().toLowerCase(Locale.ROOT);
+    int afterRank = -1;
+    String afterName = "";
+    String afterId = "";
+    if (after != null) {
+      String[] parts = RestUtil.decodeCursor(after).split(":", 3);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Invalid cursor: " + after);
+      }
+      afterRank = Integer.parseInt(parts[0]);
+      afterId = parts[1];
+      afterName = parts[2];
+      offset = 0;
+    }
 
     // Fetch limit+1 records to check if there's a next page
-    List<String> jsons = dao.searchGlossaryTerms(parentHash, searchTerm, limit + 1, offset);
+    List<CollectionDAO.GlossaryTermMatch> matches =
+        dao.searchGlossaryTerms(
+            parentHash,
+            term,
+            term + "%",
+            "%" + term + "%",
+            getFullTextCondition(term),
+            "\"" + term.replace("\"", " ") + "\"",
+            afterRank,
+            afterName,
+            afterId,
+            limit + 1,
+            offset);
 
     // Check if we have more than limit results
-    boolean hasMore = jsons.size() > limit;
+    boolean hasMore = matches.size() > limit;
     if (hasMore) {
-      // Remove the extra record
-      jsons = jsons.subList(0, limit);
+      matches = matches.subList(0, limit);
     }
 
-    List<GlossaryTerm> terms = new ArrayList<>();
-    for (String json : jsons) {
-      GlossaryTerm term = JsonUtils.readValue(json, GlossaryTerm.class);
-      setFields(term, getFields(fieldsParam));
-      terms.add(term);
+    List<GlossaryTerm> terms = new ArrayList<>(matches.size());
+    for (CollectionDAO.GlossaryTermMatch match : matches) {
+      terms.add(JsonUtils.readValue(match.json(), GlossaryTerm.class));
     }
+    setFieldsInBulk(getFields(fieldsParam), terms);
 
-    // Set up pagination info
-    String before = offset > 0 ? String.valueOf(Math.max(0, offset - limit)) : null;
-    String after = hasMore ? String.valueOf(offset + limit) : null;
+    String before =
+        after == null && offset > 0 ? String.valueOf(Math.max(0, offset - limit)) : null;
+    String nextCursor = null;
+    if (hasMore) {
+      GlossaryTerm last = terms.getLast();
+      nextCursor =
+          RestUtil.encodeCursor(
+              matches.getLast().matchRank() + ":" + last.getId() + ":" + last.getName());
+    }
 
     // For the total count, we only know it's at least offset + terms.size() + (hasMore ? 1 : 0)
     // This is sufficient for pagination without the expensive COUNT query
     int knownTotal = offset + terms.size() + (hasMore ? 1 : 0);
 
-    return new ResultList<>(terms, before, after, knownTotal);
+    return new ResultList<>(terms, before, nextCursor, knownTotal);
+  }
+
+  /**
+   * Full-text prefilter of a glossary term search on MySQL. The ngram parser skips whitespace and
+   * indexes no token shorter than ngram_token_size, so a query without such a word has no ngram to
+   * look up and is only matched by the LIKE.
+   */
+  private String getFullTextCondition(String term) {
+    if (!Boolean.TRUE.equals(DatasourceConfig.getInstance().isMySQL())) {
+      return "";
+    }
+    if (ngramTokenSize == null) {
+      ngramTokenSize = daoCollection.glossaryTermDAO().getNgramTokenSize();
+    }
+    int tokenSize = ngramTokenSize;
+    boolean indexed =
+        Arrays.stream(term.split("\\s+")).anyMatch(word -> word.length() >= tokenSize);
+    return indexed ? FULL_TEXT_CONDITION : "";
   }
 
   /**
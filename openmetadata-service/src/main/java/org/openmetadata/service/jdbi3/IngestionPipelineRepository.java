@@ -19,6 +19,7 @@ import static org.openmetadata.service.Entity.INGESTION_PIPELINE;
 
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.json.JSONObject;
 import org.openmetadata.schema.EntityInterface;
@@ -150,13 +152,17 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
 
     // Batch fetch service references for all pipelines
     Map<UUID, EntityReference> serviceRefs = batchFetchServices(pipelines);
+    Map<UUID, PipelineStatus> latestStatuses =
+        fields.contains("pipelineStatuses")
+            ? batchFetchLatestPipelineStatuses(pipelines)
+            : Map.of();
 
     // Set service field for all pipelines
     for (IngestionPipeline pipeline : pipelines) {
       EntityReference serviceRef = serviceRefs.get(pipeline.getId());
       pipeline.setPipelineStatuses(
           fields.contains("pipelineStatuses")
-              ? getLatestPipelineStatus(pipeline)
+              ? latestStatuses.get(pipeline.getId())
               : pipeline.getPipelineStatuses());
       if (serviceRef != null) {
         pipeline.withService(serviceRef);
@@ -226,6 +232,7 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
     daoCollection
         .entityExtensionTimeSeriesDao()
         .delete(ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION);
+    daoCollection.ingestionPipelineStatusDAO().delete(ingestionPipelineId);
     setFieldsInternal(ingestionPipeline, Fields.EMPTY_FIELDS);
     return ingestionPipeline;
   }
@@ -299,6 +306,7 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
     daoCollection
         .entityExtensionTimeSeriesDao()
         .delete(entity.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION);
+    daoCollection.ingestionPipelineStatusDAO().delete(entity.getId());
   }
 
   @Override
@@ -381,6 +389,12 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
               PIPELINE_STATUS_JSON_SCHEMA,
               JsonUtils.pojoToJson(pipelineStatus));
     }
+    daoCollection
+        .ingestionPipelineStatusDAO()
+        .upsert(
+            ingestionPipeline.getId(),
+            pipelineStatus.getTimestamp(),
+            JsonUtils.pojoToJson(pipelineStatus));
     ChangeDescription change =
         addPipelineStatusChangeDescription(
             ingestionPipeline.getVersion(), pipelineStatus, storedPipelineStatus);
@@ -430,6 +444,57 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
         allPipelineStatusList.size());
   }
 
+  /**
+   * Page of at most {@code limit} runs between {@code startTs} and {@code endTs}, latest first and
+   * then by run id. {@code after} is the cursor returned with the previous page, holding the
+   * timestamp and run id of its last run. Queued runs from the pipeline service client are only
+   * part of the first page.
+   */
+  public ResultList<PipelineStatus> listPipelineStatus(
+      String ingestionPipelineFQN, Long startTs, Long endTs, int limit, String after) {
+    IngestionPipeline ingestionPipeline =
+        getByName(null, ingestionPipelineFQN, getFields("service"));
+    long beforeTs = endTs + 1;
+    String beforeRunId = "";
+    if (after != null) {
+      String[] parts = RestUtil.decodeCursor(after).split(":", 2);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid cursor: " + after);
+      }
+      long cursorTs = Long.parseLong(parts[0]);
+      if (cursorTs < beforeTs) {
+        beforeTs = cursorTs;
+        beforeRunId = parts[1];
+      }
+    }
+    List<PipelineStatus> pipelineStatusList =
+        JsonUtils.readObjects(
+            daoCollection
+                .entityExtensionTimeSeriesDao()
+                .listBeforeTimestampAndKey(
+                    ingestionPipeline.getFullyQualifiedName(),
+                    PIPELINE_STATUS_EXTENSION,
+                    RUN_ID_EXTENSION_KEY,
+                    startTs,
+                    beforeTs,
+                    beforeRunId,
+                    limit + 1),
+            PipelineStatus.class);
+    String afterCursor = null;
+    if (pipelineStatusList.size() > limit) {
+      pipelineStatusList = pipelineStatusList.subList(0, limit);
+      PipelineStatus last = pipelineStatusList.get(limit - 1);
+      afterCursor = RestUtil.encodeCursor(last.getTimestamp() + ":" + last.getRunId());
+    }
+    List<PipelineStatus> allPipelineStatusList = new ArrayList<>();
+    if (after == null && pipelineServiceClient != null) {
+      allPipelineStatusList = pipelineServiceClient.getQueuedPipelineStatus(ingestionPipeline);
+    }
+    allPipelineStatusList.addAll(pipelineStatusList);
+    return new ResultList<>(
+        allPipelineStatusList, after, afterCursor, allPipelineStatusList.size());
+  }
+
   /* Get the status of the external application by converting the configuration so that it can be
    * served like an App configuration */
   public ResultList<PipelineStatus> listExternalAppStatus(
@@ -468,10 +533,22 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
   }
 
   public PipelineStatus getLatestPipelineStatus(IngestionPipeline ingestionPipeline) {
-    return JsonUtils.readValue(
-        getLatestExtensionFromTimeSeries(
-            ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION),
-        PipelineStatus.class);
+    return batchFetchLatestPipelineStatuses(List.of(ingestionPipeline))
+        .get(ingestionPipeline.getId());
+  }
+
+  private Map<UUID, PipelineStatus> batchFetchLatestPipelineStatuses(
+      List<IngestionPipeline> pipelines) {
+    List<String> pipelineIds =
+        pipelines.stream().map(pipeline -> pipeline.getId().toString()).toList();
+    Map<UUID, PipelineStatus> latestStatuses = new HashMap<>();
+    for (Pair<String, String> row :
+        daoCollection.ingestionPipelineStatusDAO().listByPipelineIds(pipelineIds)) {
+      latestStatuses.put(
+          UUID.fromString(row.getLeft()),
+          JsonUtils.readValue(row.getRight(), PipelineStatus.class));
+    }
+    return latestStatuses;
   }
 
   public PipelineStatus getPipelineStatus(String ingestionPipelineFQN, UUID pipelineStatusRunId) {
@@ -667,6 +744,32 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
     }
   }
 
+  public Map<String, Object> getLogTail(String pipelineFQN, UUID runId, int lines) {
+    try {
+      if (isLogStorageEnabled()) {
+        return logStorage.getLogTail(pipelineFQN, runId, lines);
+      } else {
+        throw new IllegalStateException("Log storage is not configured");
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to get log tail for pipeline: {}, runId: {}", pipelineFQN, runId, e);
+      throw new RuntimeException("Failed to get log tail", e);
+    }
+  }
+
+  public InputStream getLogInputStream(String pipelineFQN, UUID runId) {
+    try {
+      if (isLogStorageEnabled()) {
+        return logStorage.getLogInputStream(pipelineFQN, runId);
+      } else {
+        throw new IllegalStateException("Log storage is not configured");
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to open logs for pipeline: {}, runId: {}", pipelineFQN, runId, e);
+      throw new RuntimeException("Failed to open logs", e);
+    }
+  }
+
   private Map<String, Object> getLogsFromPipelineService(String pipelineFQN, String afterCursor) {
     // Fall back to traditional pipeline service logs (Airflow/Argo)
     IngestionPipeline pipeline =
@@ -17,6 +17,7 @@ import org.jdbi.v3.sqlobject.SingleValue;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 
@@ -116,13 +117,20 @@ public interface MigrationDAO {
 
   @SqlQuery(
       value =
-          "SELECT installed_rank, version, migrationFileName, checksum, installed_on, metrics FROM SERVER_CHANGE_LOG ORDER BY version ASC")
+          "SELECT installed_rank, version, migrationFileName, checksum, installed_on, metrics FROM SERVER_CHANGE_LOG WHERE version NOT LIKE '%#%' ORDER BY version ASC")
   @RegisterRowMapper(FromServerChangeLogMapper.class)
   List<ServerChangeLog> listMetricsFromDBMigrations();
 
-  @SqlQuery("SELECT version FROM SERVER_CHANGE_LOG")
+  @SqlQuery("SELECT version FROM SERVER_CHANGE_LOG WHERE version NOT LIKE '%#%'")
   List<String> getMigrationVersions();
 
+  // Data migration step checkpoints are stored as <version>#<step>[#<partition>]
+  @SqlQuery("SELECT version FROM SERVER_CHANGE_LOG WHERE version LIKE :prefix")
+  List<String> listMigrationCheckpoints(@Bind("prefix") String prefix);
+
+  @SqlUpdate("DELETE FROM SERVER_CHANGE_LOG WHERE version LIKE :prefix")
+  void deleteMigrationCheckpoints(@Bind("prefix") String prefix);
+
   @SqlQuery(
       "SELECT version FROM SERVER_CHANGE_LOG WHERE migrationFileName LIKE '%/migrations/flyway/%' ORDER BY version")
   List<String> getFlywayMigrationVersions();
@@ -238,6 +238,7 @@ public class NotificationTemplateRepository extends EntityRepository<Notificatio
     try {
       prepare(existing, true);
       store(existing, true);
+      HandlebarsNotificationMessageEngine.invalidateTemplateCache();
     } catch (IllegalArgumentException e) {
       throw new IOException(
           String.format("Failed to validate seed template '%s': %s", fqn, e.getMessage()), e);
@@ -50,6 +50,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -487,6 +488,7 @@ public class TeamRepository extends EntityRepository<Team> {
     for (EntityReference policy : listOrEmpty(team.getPolicies())) {
       addRelationship(team.getId(), policy.getId(), TEAM, POLICY, Relationship.HAS);
     }
+    daoCollection.teamClosureDAO().rebuildSubtree(team.getId());
   }
 
   @Override
@@ -522,6 +524,17 @@ public class TeamRepository extends EntityRepository<Team> {
     }
   }
 
+  @Override
+  protected void postDelete(Team team, boolean hardDelete) {
+    super.postDelete(team, hardDelete);
+    if (hardDelete) {
+      daoCollection.teamClosureDAO().deleteTeam(team.getId());
+    } else {
+      // The teams below a soft deleted team no longer inherit through it
+      daoCollection.teamClosureDAO().rebuildSubtree(team.getId());
+    }
+  }
+
   @Override
   protected void entitySpecificCleanup(Team team) {
     // When a team is deleted, if the children team don't have another parent, set Organization as
@@ -553,7 +566,60 @@ public class TeamRepository extends EntityRepository<Team> {
   }
 
   private List<EntityReference> getInheritedRoles(Team team) {
-    return SubjectContext.getRolesForTeams(getParentsForInheritedRoles(team));
+    return getRolesForTeams(getParentsForInheritedRoles(team));
+  }
+
+  /**
+   * Default roles of the given teams and of all the teams above them, including Organization, read
+   * from the team closure in a single query.
+   */
+  public List<EntityReference> getRolesForTeams(List<EntityReference> teams) {
+    if (nullOrEmpty(teams)) {
+      return new ArrayList<>();
+    }
+    List<String> roleIds =
+        daoCollection
+            .teamClosureDAO()
+            .listInheritedRoleIds(withOrganization(teams), Relationship.HAS.ordinal());
+    return EntityUtil.populateEntityReferencesById(EntityUtil.strToIds(roleIds), Entity.ROLE);
+  }
+
+  /**
+   * Ids of the given teams and of all the non-deleted teams above them, nearest first and ordered
+   * by id within a level. Organization is always included, last when no stored path reaches it.
+   */
+  public List<UUID> listAncestorIds(List<EntityReference> teams) {
+    if (nullOrEmpty(teams)) {
+      return new ArrayList<>();
+    }
+    List<String> teamIds =
+        daoCollection
+            .teamClosureDAO()
+            .listAncestorIds(teams.stream().map(team -> team.getId().toString()).toList());
+    List<UUID> ancestorIds = EntityUtil.strToIds(teamIds);
+    if (organization != null && !ancestorIds.contains(organization.getId())) {
+      // Teams without a stored parent are under Organization
+      ancestorIds.add(organization.getId());
+    }
+    return ancestorIds;
+  }
+
+  /** Return true if the team is the team named {@code parentTeam} or one of its descendants. */
+  public boolean isInTeam(String parentTeam, UUID teamId) {
+    if (ORGANIZATION_NAME.equals(parentTeam)) {
+      return true;
+    }
+    return daoCollection.teamClosureDAO().countAncestorsByName(teamId, parentTeam) > 0;
+  }
+
+  private List<String> withOrganization(List<EntityReference> teams) {
+    Set<String> teamIds = new LinkedHashSet<>();
+    teams.forEach(team -> teamIds.add(team.getId().toString()));
+    if (organization != null) {
+      // Teams without a stored parent are under Organization
+      teamIds.add(organization.getId().toString());
+    }
+    return new ArrayList<>(teamIds);
   }
 
   protected void entitySpecificCleanup(User entityInterface) {
@@ -583,56 +649,40 @@ public class TeamRepository extends EntityRepository<Team> {
             .filter(t -> !t.getName().equals(ORGANIZATION_NAME))
             .toList();
 
+    Map<UUID, Team> teamsById = new HashMap<>();
+    for (Team team : allTeams) {
+      teamsById.put(team.getId(), team);
+    }
     Map<UUID, TeamHierarchy> hierarchyMap = new HashMap<>();
     for (Team team : joinableTeams) {
-      if (!hierarchyMap.containsKey(team.getId())) {
-        hierarchyMap.put(team.getId(), getTeamHierarchy(team));
-      }
+      hierarchyMap.putIfAbsent(team.getId(), getTeamHierarchy(team));
     }
 
+    // Link every team to its parents with map lookups so that listing stays linear in the number
+    // of teams
+    Map<UUID, Set<UUID>> childIdsByParent = new HashMap<>();
+    Set<UUID> childIds = new HashSet<>();
     for (Team team : joinableTeams) {
-      if (team.getParents() == null) {
-        continue;
-      }
-      for (EntityReference parentRef : team.getParents()) {
+      TeamHierarchy childNode = hierarchyMap.get(team.getId());
+      for (EntityReference parentRef : listOrEmpty(team.getParents())) {
         if (parentRef.getName().equals(ORGANIZATION_NAME)) {
           continue;
         }
-
-        Team parentTeam =
-            allTeams.stream()
-                .filter(t -> t.getId().equals(parentRef.getId()))
-                .findFirst()
-                .orElse(null);
+        Team parentTeam = teamsById.get(parentRef.getId());
         if (parentTeam == null) {
           continue;
         }
-
-        hierarchyMap.putIfAbsent(parentTeam.getId(), getTeamHierarchy(parentTeam));
-        TeamHierarchy parentNode = hierarchyMap.get(parentTeam.getId());
-        TeamHierarchy childNode = hierarchyMap.get(team.getId());
-
-        if (parentNode.getChildren() == null) {
-          parentNode.setChildren(new ArrayList<>());
-        }
-
-        boolean childAlreadyAdded =
-            parentNode.getChildren().stream()
-                .anyMatch(child -> child.getId().equals(childNode.getId()));
-        if (!childAlreadyAdded) {
+        TeamHierarchy parentNode =
+            hierarchyMap.computeIfAbsent(parentTeam.getId(), id -> getTeamHierarchy(parentTeam));
+        Set<UUID> linkedChildIds =
+            childIdsByParent.computeIfAbsent(parentNode.getId(), id -> new HashSet<>());
+        if (linkedChildIds.add(team.getId())) {
           parentNode.getChildren().add(childNode);
+          childIds.add(team.getId());
         }
       }
     }
 
-    Set<UUID> childIds = new HashSet<>();
-    for (TeamHierarchy node : hierarchyMap.values()) {
-      if (node.getChildren() != null) {
-        for (TeamHierarchy child : node.getChildren()) {
-          childIds.add(child.getId());
-        }
-      }
-    }
     List<TeamHierarchy> topLevelNodes =
         hierarchyMap.values().stream()
             .filter(node -> !childIds.contains(node.getId()))
@@ -1117,6 +1167,15 @@ public class TeamRepository extends EntityRepository<Team> {
       updatePolicies(original, updated);
     }
 
+    @Override
+    protected void afterStoreUpdate() {
+      if (Boolean.TRUE.equals(original.getDeleted())
+          && !Boolean.TRUE.equals(updated.getDeleted())) {
+        // The teams below a restored team inherit through it again
+        daoCollection.teamClosureDAO().rebuildSubtree(updated.getId());
+      }
+    }
+
     private void updateUsers(Team origTeam, Team updatedTeam) {
       List<EntityReference> origUsers = listOrEmpty(origTeam.getUsers());
       List<EntityReference> updatedUsers = listOrEmpty(updatedTeam.getUsers());
@@ -1194,6 +1253,9 @@ public class TeamRepository extends EntityRepository<Team> {
           Relationship.PARENT_OF,
           TEAM,
           original.getId());
+      if (!sameTeams(origParents, updatedParents)) {
+        daoCollection.teamClosureDAO().rebuildSubtree(original.getId());
+      }
     }
 
     private void updateChildren(Team original, Team updated) {
@@ -1208,6 +1270,21 @@ public class TeamRepository extends EntityRepository<Team> {
           origParents,
           updatedParents,
           false);
+      if (!sameTeams(origParents, updatedParents)) {
+        // Removed children are no longer below this team, added ones now are
+        for (EntityReference child : origParents) {
+          daoCollection.teamClosureDAO().rebuildSubtree(child.getId());
+        }
+        daoCollection.teamClosureDAO().rebuildSubtree(original.getId());
+      }
+    }
+
+    private boolean sameTeams(List<EntityReference> teams, List<EntityReference> otherTeams) {
+      Set<UUID> teamIds = new HashSet<>();
+      teams.forEach(team -> teamIds.add(team.getId()));
+      Set<UUID> otherTeamIds = new HashSet<>();
+      otherTeams.forEach(team -> otherTeamIds.add(team.getId()));
+      return teamIds.equals(otherTeamIds);
     }
 
     private void updatePolicies(Team original, Team updated) {
@@ -0,0 +1,277 @@
+package org.openmetadata.service.jobs;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+import static org.openmetadata.service.Entity.CLASSIFICATION;
+import static org.openmetadata.service.Entity.GLOSSARY;
+import static org.openmetadata.service.Entity.GLOSSARY_TERM;
+import static org.openmetadata.service.Entity.TAG;
+
+import com.google.common.base.Suppliers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.jobs.BackgroundJob;
+import org.openmetadata.schema.jobs.FqnPrefixRenameArgs;
+import org.openmetadata.schema.type.TagLabel.TagSource;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.FullyQualifiedName;
+
+/**
+ * Renames the descendants of a renamed glossary or classification. Small hierarchies are renamed
+ * inline in the transaction of the parent update; larger ones are renamed by this background job
+ * in batches of {@link #BATCH_SIZE} rows, so that no statement locks the whole subtree at once.
+ *
+ * <p>Every batch only touches rows still stored under the old prefix, so a step is done once a
+ * batch updates nothing. Completed steps and the number of renamed entities are checkpointed in the
+ * job arguments and a restarted job resumes from there.
+ */
+@Slf4j
+public class FqnPrefixRenameHandler implements JobHandler {
+  public static final int BATCH_SIZE = 1000;
+  public static final int SYNC_RENAME_LIMIT = 5000;
+  private static final String STEP_ENTITIES = "entities";
+  private static final String STEP_TAG_LABELS = "tagLabels";
+  private static final String STEP_TAG_TARGETS = "tagTargets";
+  private static final String STEP_SEARCH_INDEX = "searchIndex";
+  private static final List<String> ACTIVE_STATUSES =
+      List.of(BackgroundJob.Status.PENDING.name(), BackgroundJob.Status.RUNNING.name());
+
+  // Replaced whenever a rename starts or completes on this server, so that it is never stale here
+  private static volatile Supplier<List<FqnPrefixRenameArgs>> activeRenames =
+      memoizeActiveRenames(null);
+
+  private final CollectionDAO daoCollection;
+  private final JobDAO jobDao;
+
+  public FqnPrefixRenameHandler(CollectionDAO daoCollection, JobDAO jobDao) {
+    this.daoCollection = daoCollection;
+    this.jobDao = jobDao;
+  }
+
+  /**
+   * Rename the descendants of an entity from {@code oldFqn} to {@code newFqn}. Small hierarchies
+   * are renamed inline and null is returned. For larger ones the arguments of the rename job are
+   * returned, to be passed to {@link #enqueueRename} once the renamed entity is stored: a job
+   * enqueued before that could start renaming ahead of the parent, or for an update that failed.
+   */
+  public static FqnPrefixRenameArgs renameDescendants(
+      CollectionDAO daoCollection,
+      JobDAO jobDao,
+      String entityType,
+      UUID entityId,
+      String oldFqn,
+      String newFqn) {
+    int total = descendantDao(entityType).countByFqnPrefix(oldFqn);
+    if (total <= SYNC_RENAME_LIMIT || jobDao == null) {
+      for (String step : steps(entityType)) {
+        if (!STEP_SEARCH_INDEX.equals(step)) {
+          int renamed;
+          do {
+            renamed = renameBatch(daoCollection, step, entityType, oldFqn, newFqn);
+          } while (renamed > 0);
+        }
+      }
+      return null;
+    }
+    return new FqnPrefixRenameArgs()
+        .withEntityType(entityType)
+        .withEntityId(entityId)
+        .withOldFqn(oldFqn)
+        .withNewFqn(newFqn)
+        .withTotalRecords(total)
+        .withProcessedRecords(0);
+  }
+
+  /** Enqueue the background job renaming the descendants, returning the id of the job. */
+  public static long enqueueRename(
+      CollectionDAO daoCollection, JobDAO jobDao, FqnPrefixRenameArgs args, String createdBy) {
+    long jobId =
+        jobDao.insertJob(
+            BackgroundJob.JobType.FQN_PREFIX_RENAME,
+            new FqnPrefixRenameHandler(daoCollection, jobDao),
+            JsonUtils.pojoToJson(args),
+            createdBy);
+    refreshActiveRenames(null);
+    LOG.info(
+        "Renaming {} descendants of {} {} from {} to {} in background job {}",
+        args.getTotalRecords(),
+        args.getEntityType(),
+        args.getEntityId(),
+        args.getOldFqn(),
+        args.getNewFqn(),
+        jobId);
+    return jobId;
+  }
+
+  /**
+   * Fully qualified name under which an entity is still stored while a rename of one of its
+   * ancestors is running, or null if no rename covers {@code fqn}.
+   */
+  public static String pendingOldFqn(String entityType, String fqn) {
+    if (!GLOSSARY_TERM.equals(entityType) && !TAG.equals(entityType)) {
+      return null;
+    }
+    return pendingOldFqn(entityType, fqn, activeRenames.get());
+  }
+
+  static String pendingOldFqn(
+      String entityType, String fqn, List<FqnPrefixRenameArgs> activeRenames) {
+    for (FqnPrefixRenameArgs rename : activeRenames) {
+      String newPrefix = rename.getNewFqn() + Entity.SEPARATOR;
+      if (entityType.equals(descendantType(rename.getEntityType()))
+          && fqn.startsWith(newPrefix)) {
+        return rename.getOldFqn() + fqn.substring(rename.getNewFqn().length());
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void runJob(BackgroundJob job) throws BackgroundJobException {
+    FqnPrefixRenameArgs args;
+    try {
+      args = JsonUtils.convertValue(job.getJobArgs(), FqnPrefixRenameArgs.class);
+    } catch (IllegalArgumentException e) {
+      throw new BackgroundJobException(job.getId(), "Invalid arguments " + job.getJobArgs());
+    }
+    try {
+      List<String> completedSteps = new ArrayList<>(listOrEmpty(args.getCompletedSteps()));
+      for (String step : steps(args.getEntityType())) {
+        if (completedSteps.contains(step)) {
+          LOG.debug("Skipping completed step {} of rename job {}", step, job.getId());
+          continue;
+        }
+        if (STEP_SEARCH_INDEX.equals(step)) {
+          reindexDescendants(args);
+        } else {
+          int renamed;
+          do {
+            renamed =
+                renameBatch(
+                    daoCollection, step, args.getEntityType(), args.getOldFqn(), args.getNewFqn());
+            if (renamed > 0 && STEP_ENTITIES.equals(step)) {
+              args.setProcessedRecords(args.getProcessedRecords() + renamed);
+              jobDao.updateJobArgs(job.getId(), JsonUtils.pojoToJson(args));
+            }
+          } while (renamed > 0);
+        }
+        completedSteps.add(step);
+        args.setCompletedSteps(completedSteps);
+        jobDao.updateJobArgs(job.getId(), JsonUtils.pojoToJson(args));
+      }
+      // The job is only marked completed once this returns, leave it out of the active renames
+      refreshActiveRenames(job.getId());
+      LOG.info(
+          "Completed rename of {} descendants from {} to {}",
+          args.getProcessedRecords(),
+          args.getOldFqn(),
+          args.getNewFqn());
+    } catch (Exception e) {
+      throw new BackgroundJobException(
+          job.getId(), "Failed to run FqnPrefixRenameHandler job. Error:" + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean sendStatusToWebSocket() {
+    return true;
+  }
+
+  private void reindexDescendants(FqnPrefixRenameArgs args) {
+    String descendantType = descendantType(args.getEntityType());
+    @SuppressWarnings("unchecked")
+    EntityRepository<EntityInterface> repository =
+        (EntityRepository<EntityInterface>) Entity.getEntityRepository(descendantType);
+    Fields fields = Entity.getFields(descendantType, List.of("*"));
+    String afterFqnHash = "";
+    List<String> jsons;
+    do {
+      jsons = repository.getDao().listByFqnPrefix(args.getNewFqn(), afterFqnHash, BATCH_SIZE);
+      if (jsons.isEmpty()) {
+        break;
+      }
+      List<EntityInterface> entities =
+          new ArrayList<>(
+              JsonUtils.readObjects(jsons, Entity.getEntityClassFromType(descendantType)));
+      repository.setFieldsInBulk(fields, entities);
+      Entity.getSearchRepository().createEntitiesIndex(entities);
+      afterFqnHash =
+          FullyQualifiedName.buildHash(entities.get(entities.size() - 1).getFullyQualifiedName());
+    } while (jsons.size() == BATCH_SIZE);
+  }
+
+  private static int renameBatch(
+      CollectionDAO daoCollection, String step, String entityType, String oldFqn, String newFqn) {
+    return switch (step) {
+      case STEP_ENTITIES -> descendantDao(entityType).updateFqnBatch(oldFqn, newFqn, BATCH_SIZE);
+      case STEP_TAG_LABELS -> daoCollection
+          .tagUsageDAO()
+          .updateTagPrefixBatch(tagSource(entityType).ordinal(), oldFqn, newFqn, BATCH_SIZE);
+      case STEP_TAG_TARGETS -> daoCollection
+          .tagUsageDAO()
+          .updateTargetFQNHashPrefixBatch(
+              TagSource.CLASSIFICATION.ordinal(), oldFqn, newFqn, BATCH_SIZE);
+      default -> throw new IllegalArgumentException("Unknown rename step " + step);
+    };
+  }
+
+  private static List<String> steps(String entityType) {
+    return GLOSSARY.equals(entityType)
+        ? List.of(STEP_ENTITIES, STEP_TAG_LABELS, STEP_TAG_TARGETS, STEP_SEARCH_INDEX)
+        : List.of(STEP_ENTITIES, STEP_TAG_LABELS, STEP_SEARCH_INDEX);
+  }
+
+  private static String descendantType(String entityType) {
+    return switch (entityType) {
+      case GLOSSARY -> GLOSSARY_TERM;
+      case CLASSIFICATION -> TAG;
+      default -> throw new IllegalArgumentException(
+          "Prefix rename is not supported for entity type " + entityType);
+    };
+  }
+
+  private static TagSource tagSource(String entityType) {
+    return GLOSSARY.equals(entityType) ? TagSource.GLOSSARY : TagSource.CLASSIFICATION;
+  }
+
+  private static EntityDAO<?> descendantDao(String entityType) {
+    return Entity.getEntityRepository(descendantType(entityType)).getDao();
+  }
+
+  /**
+   * Drop the memoized active renames, so that the next lookup lists them again. {@code
+   * completedJobId}, when not null, is the job that just completed but is still marked running.
+   */
+  static void refreshActiveRenames(Long completedJobId) {
+    activeRenames = memoizeActiveRenames(completedJobId);
+  }
+
+  private static Supplier<List<FqnPrefixRenameArgs>> memoizeActiveRenames(Long completedJobId) {
+    return Suppliers.memoizeWithExpiration(
+        () -> listActiveRenames(completedJobId), 5, TimeUnit.SECONDS);
+  }
+
+  private static List<FqnPrefixRenameArgs> listActiveRenames(Long completedJobId) {
+    JobDAO jobDao = Entity.getJobDAO();
+    if (jobDao == null) {
+      return List.of();
+    }
+    List<FqnPrefixRenameArgs> renames = new ArrayList<>();
+    for (BackgroundJob job :
+        jobDao.listJobs(BackgroundJob.JobType.FQN_PREFIX_RENAME.value(), ACTIVE_STATUSES)) {
+      if (!job.getId().equals(completedJobId)) {
+        renames.add(JsonUtils.convertValue(job.getJobArgs(), FqnPrefixRenameArgs.class));
+      }
+    }
+    return renames;
+  }
+}
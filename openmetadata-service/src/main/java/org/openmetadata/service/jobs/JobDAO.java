@@ -5,6 +5,7 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -12,6 +13,7 @@ import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementException;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.openmetadata.schema.jobs.BackgroundJob;
@@ -97,6 +99,24 @@ public interface JobDAO {
     updateJobStatusInternal(id, status.name());
   }
 
+  /** Store the arguments of a running job, used by jobs that checkpoint their progress there. */
+  @ConnectionAwareSqlUpdate(
+      value =
+          "UPDATE background_jobs SET jobArgs = :jobArgs, updatedAt = (UNIX_TIMESTAMP(NOW(3)) * 1000) WHERE id = :id",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlUpdate(
+      value =
+          "UPDATE background_jobs SET jobArgs = :jobArgs::jsonb, updatedAt = (EXTRACT(EPOCH FROM NOW()) * 1000) WHERE id = :id",
+      connectionType = POSTGRES)
+  void updateJobArgs(@Bind("id") long id, @Bind("jobArgs") String jobArgs);
+
+  @SqlQuery(
+      "SELECT id, jobType, methodName, jobArgs, status, createdAt, updatedAt, createdBy FROM background_jobs "
+          + "WHERE jobType = :jobType AND status IN (<statuses>) ORDER BY createdAt")
+  @RegisterRowMapper(BackgroundJobMapper.class)
+  List<BackgroundJob> listJobs(
+      @Bind("jobType") String jobType, @BindList("statuses") List<String> statuses);
+
   @SqlQuery(
       "SELECT id, jobType, methodName, jobArgs, status, createdAt, updatedAt, createdBy FROM background_jobs WHERE id = :id")
   @RegisterRowMapper(BackgroundJobMapper.class)
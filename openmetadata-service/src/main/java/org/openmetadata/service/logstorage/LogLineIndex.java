@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2025 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.logstorage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sparse line-offset index for a log object. It records the byte offset of every
+ * {@code interval}-th line while the log is being written, so that a page of lines can later be
+ * served with a single ranged GET instead of downloading and splitting the whole object.
+ *
+ * <p>Lines follow {@link java.io.BufferedReader#readLine()} semantics on {@code \n}: a trailing
+ * newline does not start a new line. The serialized form is plain text:
+ *
+ * <pre>
+ * OMLOGIDX1
+ * interval totalLines totalBytes
+ * offset of line 0
+ * offset of line interval
+ * ...
+ * </pre>
+ */
+final class LogLineIndex {
+  static final int DEFAULT_INTERVAL = 1000;
+  private static final String HEADER = "OMLOGIDX1";
+
+  private final int interval;
+  private final List<Long> offsets;
+  private long newlines;
+  private long totalBytes;
+  private byte lastByte = '\n';
+
+  LogLineIndex(int interval) {
+    this.interval = interval;
+    this.offsets = new ArrayList<>();
+    this.offsets.add(0L);
+  }
+
+  private LogLineIndex(int interval, List<Long> offsets, long totalLines, long totalBytes) {
+    this.interval = interval;
+    this.offsets = offsets;
+    this.totalBytes = totalBytes;
+    this.newlines = totalLines;
+    this.lastByte = '\n';
+  }
+
+  /** Account for bytes appended to the log object. */
+  void update(byte[] bytes, int off, int len) {
+    for (int i = off; i < off + len; i++) {
+      if (bytes[i] == '\n') {
+        newlines++;
+        if (newlines % interval == 0) {
+          offsets.add(totalBytes + (i - off) + 1);
+        }
+      }
+    }
+    if (len > 0) {
+      lastByte = bytes[off + len - 1];
+      totalBytes += len;
+    }
+  }
+
+  /** Account for a single byte appended to the log object. */
+  void update(int b) {
+    totalBytes++;
+    if (b == '\n') {
+      newlines++;
+      if (newlines % interval == 0) {
+        offsets.add(totalBytes);
+      }
+    }
+    lastByte = (byte) b;
+  }
+
+  long totalLines() {
+    return totalBytes > 0 && lastByte != '\n' ? newlines + 1 : newlines;
+  }
+
+  long totalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * Byte range covering lines {@code [startLine, endLine)}, together with the number of lines to
+   * skip at the start of the range. Returns null when the range holds no lines.
+   */
+  Range rangeFor(long startLine, long endLine) {
+    long lines = totalLines();
+    endLine = Math.min(endLine, lines);
+    if (startLine < 0 || startLine >= endLine) {
+      return null;
+    }
+    int startBlock = (int) (startLine / interval);
+    long from = offsets.get(startBlock);
+    int endBlock = (int) ((endLine + interval - 1) / interval);
+    long to = endBlock < offsets.size() ? offsets.get(endBlock) - 1 : totalBytes - 1;
+    return new Range(from, to, startLine - (long) startBlock * interval, endLine - startLine);
+  }
+
+  String serialize() {
+    StringBuilder builder = new StringBuilder(HEADER).append('\n');
+    builder.append(interval).append(' ').append(totalLines()).append(' ').append(totalBytes);
+    for (Long offset : offsets) {
+      builder.append('\n').append(offset);
+    }
+    return builder.append('\n').toString();
+  }
+
+  /** Parse a serialized index, returning null if the content is not a line index. */
+  static LogLineIndex parse(String content) {
+    if (content == null || !content.startsWith(HEADER)) {
+      return null;
+    }
+    try {
+      String[] lines = content.split("\n");
+      String[] header = lines[1].trim().split(" ");
+      List<Long> offsets = new ArrayList<>(lines.length - 2);
+      for (int i = 2; i < lines.length; i++) {
+        if (!lines[i].isBlank()) {
+          offsets.add(Long.parseLong(lines[i].trim()));
+        }
+      }
+      if (offsets.isEmpty()) {
+        return null;
+      }
+      return new LogLineIndex(
+          Integer.parseInt(header[0]), offsets, Long.parseLong(header[1]), Long.parseLong(header[2]));
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /** Inclusive byte range of a ranged GET and the lines to read from it. */
+  record Range(long from, long to, long skipLines, long lines) {
+    String header() {
+      return "bytes=" + from + "-" + to;
+    }
+  }
+}
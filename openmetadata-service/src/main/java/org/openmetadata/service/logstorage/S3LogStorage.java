@@ -52,6 +52,7 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -71,6 +72,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ExpirationStatus;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
@@ -120,6 +122,10 @@ public class S3LogStorage implements LogStorageInterface {
   private final Cache<String, SimpleLogBuffer> recentLogsCache =
       Caffeine.newBuilder().maximumSize(200).expireAfterAccess(30, TimeUnit.MINUTES).build();
 
+  // Line-offset indexes of completed log objects, keyed by log object key
+  private final Cache<String, LogLineIndex> lineIndexCache =
+      Caffeine.newBuilder().maximumSize(500).expireAfterAccess(30, TimeUnit.MINUTES).build();
+
   private final Map<String, List<LogStreamListener>> activeListeners = new ConcurrentHashMap<>();
   private StreamableLogsMetrics metrics;
 
@@ -289,11 +295,13 @@ public class S3LogStorage implements LogStorageInterface {
     }
 
     String key = buildS3Key(pipelineFQN, runId);
+    lineIndexCache.invalidate(key);
     MultipartS3OutputStream stream =
         new MultipartS3OutputStream(
             s3AsyncClient,
             bucketName,
             key,
+            buildIndexS3Key(pipelineFQN, runId),
             enableSSE,
             storageClass,
             isCustomEndpoint,
@@ -338,11 +346,13 @@ public class S3LogStorage implements LogStorageInterface {
                   }
 
                   String key = buildS3Key(pipelineFQN, runId);
+                  lineIndexCache.invalidate(key);
                   MultipartS3OutputStream stream =
                       new MultipartS3OutputStream(
                           s3AsyncClient,
                           bucketName,
                           key,
+                          buildIndexS3Key(pipelineFQN, runId),
                           enableSSE,
                           storageClass,
                           isCustomEndpoint,
@@ -517,6 +527,24 @@ public class S3LogStorage implements LogStorageInterface {
 
       long totalSize = headResponse.contentLength();
 
+      // Serve the page with a ranged read when the object has a matching line-offset index
+      LogLineIndex lineIndex = getLineIndex(pipelineFQN, runId);
+      if (lineIndex != null && lineIndex.totalBytes() == totalSize) {
+        long startLine =
+            afterCursor != null && !afterCursor.isEmpty() ? Long.parseLong(afterCursor) : 0;
+        long endLine = Math.min(startLine + limit, lineIndex.totalLines());
+        result.put("logs", String.join("\n", readLineRange(key, lineIndex, startLine, endLine)));
+        result.put("after", endLine < lineIndex.totalLines() ? String.valueOf(endLine) : null);
+        result.put("total", totalSize);
+        if (metrics != null) {
+          metrics.recordS3Read();
+          if (s3Sample != null) {
+            metrics.recordS3Operation(s3Sample);
+          }
+        }
+        return result;
+      }
+
       GetObjectRequest getRequest = GetObjectRequest.builder().bucket(bucketName).key(key).build();
 
       try (InputStream objectContent = s3Client.getObject(getRequest);
@@ -564,6 +592,92 @@ public class S3LogStorage implements LogStorageInterface {
     }
   }
 
+  @Override
+  public Map<String, Object> getLogTail(String pipelineFQN, UUID runId, int lines)
+      throws IOException {
+    StreamContext activeStream = activeStreams.get(pipelineFQN + "/" + runId);
+    LogLineIndex lineIndex = activeStream == null ? getLineIndex(pipelineFQN, runId) : null;
+    if (lineIndex == null) {
+      // Still running, or written before line indexes existed
+      return LogStorageInterface.super.getLogTail(pipelineFQN, runId, lines);
+    }
+
+    String key = buildS3Key(pipelineFQN, runId);
+    long endLine = lineIndex.totalLines();
+    long startLine = Math.max(0, endLine - lines);
+    try {
+      Map<String, Object> result = new HashMap<>();
+      result.put("logs", String.join("\n", readLineRange(key, lineIndex, startLine, endLine)));
+      result.put("after", null);
+      result.put("total", lineIndex.totalBytes());
+      if (metrics != null) {
+        metrics.recordS3Read();
+      }
+      return result;
+    } catch (Exception e) {
+      if (metrics != null) {
+        metrics.recordS3Error();
+      }
+      throw new IOException("Failed to get log tail from S3", e);
+    }
+  }
+
+  /**
+   * Load the line-offset index written next to a completed log object. Returns null if the object
+   * has no index, e.g. logs uploaded before indexes were introduced.
+   */
+  private LogLineIndex getLineIndex(String pipelineFQN, UUID runId) {
+    String key = buildS3Key(pipelineFQN, runId);
+    LogLineIndex cached = lineIndexCache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    try {
+      GetObjectRequest request =
+          GetObjectRequest.builder()
+              .bucket(bucketName)
+              .key(buildIndexS3Key(pipelineFQN, runId))
+              .build();
+      ResponseBytes<GetObjectResponse> bytes = s3Client.getObjectAsBytes(request);
+      LogLineIndex index = bytes == null ? null : LogLineIndex.parse(bytes.asUtf8String());
+      if (index != null) {
+        lineIndexCache.put(key, index);
+      }
+      return index;
+    } catch (NoSuchKeyException e) {
+      return null;
+    } catch (Exception e) {
+      LOG.debug("Failed to read line index for {}/{}: {}", pipelineFQN, runId, e.getMessage());
+      return null;
+    }
+  }
+
+  /** Read lines {@code [startLine, endLine)} of a log object with a single ranged GET. */
+  private List<String> readLineRange(
+      String key, LogLineIndex lineIndex, long startLine, long endLine) throws IOException {
+    LogLineIndex.Range range = lineIndex.rangeFor(startLine, endLine);
+    if (range == null) {
+      return Collections.emptyList();
+    }
+    GetObjectRequest request =
+        GetObjectRequest.builder().bucket(bucketName).key(key).range(range.header()).build();
+    List<String> lines = new ArrayList<>((int) Math.min(range.lines(), 10_000));
+    try (InputStream objectContent = s3Client.getObject(request);
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(objectContent, StandardCharsets.UTF_8))) {
+      String line;
+      for (long skipped = 0; skipped < range.skipLines(); skipped++) {
+        if (reader.readLine() == null) {
+          return lines;
+        }
+      }
+      while (lines.size() < range.lines() && (line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
   @Override
   public UUID getLatestRunId(String pipelineFQN) throws IOException {
     List<UUID> runs = listRuns(pipelineFQN, 1);
@@ -652,6 +766,7 @@ public class S3LogStorage implements LogStorageInterface {
 
     // Clear memory cache for this stream
     recentLogsCache.invalidate(streamKey);
+    lineIndexCache.invalidate(key);
 
     try {
       // Delete main logs file
@@ -659,14 +774,24 @@ public class S3LogStorage implements LogStorageInterface {
           DeleteObjectRequest.builder().bucket(bucketName).key(key).build();
       s3Client.deleteObject(request);
 
-      // Delete partial logs file if it exists
+      // Delete partial logs and line index files if they exist
       try {
-        DeleteObjectRequest partialRequest =
-            DeleteObjectRequest.builder().bucket(bucketName).key(partialKey).build();
-        s3Client.deleteObject(partialRequest);
+        DeleteObjectsRequest sidecarRequest =
+            DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(
+                    Delete.builder()
+                        .objects(
+                            ObjectIdentifier.builder().key(partialKey).build(),
+                            ObjectIdentifier.builder()
+                                .key(buildIndexS3Key(pipelineFQN, runId))
+                                .build())
+                        .build())
+                .build();
+        s3Client.deleteObjects(sidecarRequest);
       } catch (Exception e) {
-        // Partial file may not exist, which is fine
-        LOG.debug("Could not delete partial logs file (may not exist): {}", e.getMessage());
+        // Sidecar files may not exist, which is fine
+        LOG.debug("Could not delete partial logs or index file: {}", e.getMessage());
       }
     } catch (Exception e) {
       throw new IOException("Failed to delete logs from S3", e);
@@ -1111,6 +1236,8 @@ public class S3LogStorage implements LogStorageInterface {
     private final S3AsyncClient s3AsyncClient;
     private final String bucketName;
     private final String key;
+    private final String indexKey;
+    private final LogLineIndex lineIndex = new LogLineIndex(LogLineIndex.DEFAULT_INTERVAL);
     private final boolean enableSSE;
     private final StorageClass storageClass;
     private final boolean isCustomEndpoint;
@@ -1129,6 +1256,7 @@ public class S3LogStorage implements LogStorageInterface {
         S3AsyncClient s3AsyncClient,
         String bucketName,
         String key,
+        String indexKey,
         boolean enableSSE,
         StorageClass storageClass,
         boolean isCustomEndpoint,
@@ -1139,6 +1267,7 @@ public class S3LogStorage implements LogStorageInterface {
       this.s3AsyncClient = s3AsyncClient;
       this.bucketName = bucketName;
       this.key = key;
+      this.indexKey = indexKey;
       this.enableSSE = enableSSE;
       this.storageClass = storageClass;
       this.isCustomEndpoint = isCustomEndpoint;
@@ -1189,6 +1318,7 @@ public class S3LogStorage implements LogStorageInterface {
         throw new IOException("Stream is closed");
       }
       buffer.write(b);
+      lineIndex.update(b);
       if (buffer.size() >= PART_SIZE) {
         uploadPart();
       }
@@ -1200,6 +1330,7 @@ public class S3LogStorage implements LogStorageInterface {
         throw new IOException("Stream is closed");
       }
       buffer.write(b, off, len);
+      lineIndex.update(b, off, len);
       if (buffer.size() >= PART_SIZE) {
         uploadPart();
       }
@@ -1241,6 +1372,7 @@ public class S3LogStorage implements LogStorageInterface {
             if (metrics != null) {
               metrics.recordS3Write();
             }
+            writeLineIndex();
           } else if (uploadId != null) {
             AbortMultipartUploadRequest abortRequest =
                 AbortMultipartUploadRequest.builder()
@@ -1322,6 +1454,32 @@ public class S3LogStorage implements LogStorageInterface {
       }
     }
 
+    /**
+     * Write the line-offset index next to the completed log object. Readers fall back to a full
+     * scan when the index is missing, so a failure here is not fatal.
+     */
+    private void writeLineIndex() {
+      try {
+        PutObjectRequest.Builder requestBuilder =
+            PutObjectRequest.builder().bucket(bucketName).key(indexKey).contentType("text/plain");
+        if (enableSSE && !isCustomEndpoint) {
+          if (sseAlgorithm != null) {
+            requestBuilder.serverSideEncryption(sseAlgorithm);
+            if (sseAlgorithm == ServerSideEncryption.AWS_KMS && kmsKeyId != null) {
+              requestBuilder.ssekmsKeyId(kmsKeyId);
+            }
+          } else {
+            requestBuilder.serverSideEncryption(ServerSideEncryption.AES256);
+          }
+        }
+        s3AsyncClient
+            .putObject(requestBuilder.build(), AsyncRequestBody.fromString(lineIndex.serialize()))
+            .join();
+      } catch (Exception e) {
+        LOG.warn("Failed to write line index for {}: {}", key, e.getMessage());
+      }
+    }
+
     /**
      * Get the count of pending part uploads for monitoring
      */
@@ -1492,6 +1650,14 @@ public class S3LogStorage implements LogStorageInterface {
     return String.format("%s/%s/%s/partial.txt", cleanPrefix, sanitizedFQN, runId);
   }
 
+  /**
+   * Build S3 key for the line-offset index written next to a completed log file
+   */
+  private String buildIndexS3Key(String pipelineFQN, UUID runId) {
+    String key = buildS3Key(pipelineFQN, runId);
+    return key.substring(0, key.length() - "logs.txt".length()) + "logs.idx";
+  }
+
   /**
    * Simple append-only log buffer that maintains chronological order
    */
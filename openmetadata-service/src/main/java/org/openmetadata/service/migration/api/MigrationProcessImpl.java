@@ -29,6 +29,7 @@ public class MigrationProcessImpl implements MigrationProcess {
   protected CollectionDAO collectionDAO;
   protected Jdbi jdbi;
   protected Handle handle;
+  protected MigrationStepRunner stepRunner;
   protected AuthenticationConfiguration authenticationConfiguration;
   private final MigrationFile migrationFile;
   private OpenMetadataApplicationConfig openMetadataApplicationConfig;
@@ -45,6 +46,8 @@ public class MigrationProcessImpl implements MigrationProcess {
     this.jdbi = jdbi;
     this.collectionDAO = handle.attach(CollectionDAO.class);
     this.migrationDAO = handle.attach(MigrationDAO.class);
+    this.stepRunner =
+        new MigrationStepRunner(jdbi, migrationFile.version, migrationFile.getMigrationsFilePath());
     this.openMetadataApplicationConfig = this.migrationFile.openMetadataApplicationConfig;
     this.authenticationConfiguration = SecurityConfigurationManager.getCurrentAuthConfig();
   }
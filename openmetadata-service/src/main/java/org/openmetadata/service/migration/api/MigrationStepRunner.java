@@ -0,0 +1,210 @@
+package org.openmetadata.service.migration.api;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Jdbi;
+import org.json.JSONObject;
+import org.openmetadata.service.jdbi3.MigrationDAO;
+
+/**
+ * Runs the data migration steps of a single migration version and checkpoints them in
+ * SERVER_CHANGE_LOG, so that a migration interrupted half way resumes from the last completed step
+ * instead of starting over.
+ *
+ * <p>Checkpoints are stored under the version key {@code <version>#<step>} for a completed step and
+ * {@code <version>#<step>#<partition>} for a completed partition of a partitioned step. They are
+ * removed once the whole migration version has been recorded, see {@link #clearCheckpoints}.
+ */
+@Slf4j
+public class MigrationStepRunner {
+  public static final String CHECKPOINT_SEPARATOR = "#";
+  private static final String STEP_COMPLETED = "STEP_COMPLETED";
+  private static final String PARTITION_COMPLETED = "PARTITION_COMPLETED";
+  private static final int DEFAULT_PARALLELISM =
+      Math.min(8, Math.max(2, Runtime.getRuntime().availableProcessors()));
+  private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+  private final MigrationDAO migrationDAO;
+  private final String version;
+  private final String migrationsPath;
+  private final int parallelism;
+
+  public MigrationStepRunner(Jdbi jdbi, String version, String migrationsPath) {
+    this(jdbi.onDemand(MigrationDAO.class), version, migrationsPath, DEFAULT_PARALLELISM);
+  }
+
+  public MigrationStepRunner(
+      MigrationDAO migrationDAO, String version, String migrationsPath, int parallelism) {
+    this.migrationDAO = migrationDAO;
+    this.version = version;
+    this.migrationsPath = migrationsPath;
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /** Run a step unless a previous run of this migration version already completed it. */
+  public void runStep(String stepName, Runnable step) {
+    String stepKey = stepKey(stepName);
+    if (isCompleted(stepKey)) {
+      LOG.info("[MigrationWorkflow] Version : {} skipping completed step {}", version, stepName);
+      return;
+    }
+    long start = System.currentTimeMillis();
+    step.run();
+    checkpoint(stepKey, STEP_COMPLETED, System.currentTimeMillis() - start, 1);
+  }
+
+  /**
+   * Run a step whose work can be split into independent partitions. Partitions run in parallel on a
+   * bounded pool; each one is checkpointed as it completes so a rerun only processes what is left.
+   * The step is marked completed only if every partition succeeded, otherwise the first failure is
+   * rethrown after all partitions have finished. Callers must let it propagate, so that the version
+   * is not recorded and the next run resumes from the completed partitions.
+   *
+   * <p>The work for a partition must be idempotent and must not share a JDBI {@code Handle} with
+   * other partitions.
+   */
+  public <K> void runPartitionedStep(
+      String stepName, List<K> partitions, Function<K, String> partitionKey, Consumer<K> work) {
+    String stepKey = stepKey(stepName);
+    if (isCompleted(stepKey)) {
+      LOG.info("[MigrationWorkflow] Version : {} skipping completed step {}", version, stepName);
+      return;
+    }
+    Set<String> completedPartitions = listCompletedPartitions(stepKey);
+    List<K> pending = new ArrayList<>();
+    for (K partition : partitions) {
+      if (!completedPartitions.contains(partitionKey.apply(partition))) {
+        pending.add(partition);
+      }
+    }
+    LOG.info(
+        "[MigrationWorkflow] Version : {} step {} has {} partitions, {} already completed",
+        version,
+        stepName,
+        partitions.size(),
+        partitions.size() - pending.size());
+
+    StepProgress progress = new StepProgress(stepName, pending.size());
+    List<Throwable> failures = new ArrayList<>();
+    long start = System.currentTimeMillis();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().factory());
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>(pending.size());
+      for (K partition : pending) {
+        Runnable task =
+            () -> {
+              long partitionStart = System.currentTimeMillis();
+              work.accept(partition);
+              checkpoint(
+                  stepKey + CHECKPOINT_SEPARATOR + partitionKey.apply(partition),
+                  PARTITION_COMPLETED,
+                  System.currentTimeMillis() - partitionStart,
+                  1);
+            };
+        futures.add(
+            CompletableFuture.runAsync(task, executor)
+                .whenComplete((ignored, error) -> progress.completed()));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).join();
+        } catch (Exception e) {
+          LOG.error(
+              "[MigrationWorkflow] Version : {} step {} failed for partition {}",
+              version,
+              stepName,
+              partitionKey.apply(pending.get(i)),
+              e);
+          failures.add(e.getCause() != null ? e.getCause() : e);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    if (!failures.isEmpty()) {
+      RuntimeException failure =
+          new IllegalStateException(
+              String.format(
+                  "Migration step %s of version %s failed for %d of %d partitions",
+                  stepName, version, failures.size(), pending.size()),
+              failures.get(0));
+      failures.stream().skip(1).forEach(failure::addSuppressed);
+      throw failure;
+    }
+    checkpoint(stepKey, STEP_COMPLETED, System.currentTimeMillis() - start, partitions.size());
+    migrationDAO.deleteMigrationCheckpoints(stepKey + CHECKPOINT_SEPARATOR + "%");
+  }
+
+  /** Remove every checkpoint of the given migration version once the version is recorded. */
+  public static void clearCheckpoints(MigrationDAO migrationDAO, String version) {
+    migrationDAO.deleteMigrationCheckpoints(version + CHECKPOINT_SEPARATOR + "%");
+  }
+
+  private String stepKey(String stepName) {
+    return version + CHECKPOINT_SEPARATOR + stepName;
+  }
+
+  private boolean isCompleted(String stepKey) {
+    return STEP_COMPLETED.equals(migrationDAO.getVersionMigrationChecksum(stepKey));
+  }
+
+  private Set<String> listCompletedPartitions(String stepKey) {
+    String prefix = stepKey + CHECKPOINT_SEPARATOR;
+    Set<String> completed = new HashSet<>();
+    for (String checkpoint : migrationDAO.listMigrationCheckpoints(prefix + "%")) {
+      completed.add(checkpoint.substring(prefix.length()));
+    }
+    return completed;
+  }
+
+  private void checkpoint(String key, String status, long elapsedMs, int partitions) {
+    JSONObject metrics = new JSONObject();
+    metrics.put("elapsedMs", elapsedMs);
+    metrics.put("partitions", partitions);
+    migrationDAO.upsertServerMigration(key, migrationsPath, status, metrics.toString());
+  }
+
+  private class StepProgress {
+    private final String stepName;
+    private final int total;
+    private final long start = System.currentTimeMillis();
+    private final AtomicInteger done = new AtomicInteger();
+    private volatile long lastLogged = start;
+
+    StepProgress(String stepName, int total) {
+      this.stepName = stepName;
+      this.total = total;
+    }
+
+    void completed() {
+      int completed = done.incrementAndGet();
+      long now = System.currentTimeMillis();
+      if (completed < total && now - lastLogged < PROGRESS_LOG_INTERVAL_MS) {
+        return;
+      }
+      lastLogged = now;
+      long elapsed = now - start;
+      long etaSeconds = (elapsed * (total - completed) / Math.max(1, completed)) / 1000;
+      LOG.info(
+          "[MigrationWorkflow] Version : {} step {} progress {}/{} ({}%), elapsed {}s, ETA {}s",
+          version,
+          stepName,
+          completed,
+          total,
+          total == 0 ? 100 : completed * 100 / total,
+          elapsed / 1000,
+          etaSeconds);
+    }
+  }
+}
@@ -426,5 +426,6 @@ public class MigrationWorkflow {
         step.getMigrationsPath(),
         UUID.randomUUID().toString(),
         metrics.toString());
+    MigrationStepRunner.clearCheckpoints(migrationDAO, step.getVersion());
   }
 }
@@ -3,6 +3,7 @@ package org.openmetadata.service.migration.mysql.v1110;
 import java.util.Map;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.FeedRepository;
 import org.openmetadata.service.jdbi3.locator.ConnectionType;
 import org.openmetadata.service.migration.QueryStatus;
 import org.openmetadata.service.migration.api.MigrationProcessImpl;
@@ -35,5 +36,23 @@ public class Migration extends MigrationProcessImpl {
   @SneakyThrows
   public void runDataMigration() {
     this.migrationUtil.migrateFlywayHistory(handle);
+    stepRunner.runStep(
+        "activityFeedInbox",
+        () -> {
+          int rows = FeedRepository.rebuildActivityFeedInbox(collectionDAO);
+          LOG.info("Backfilled the activity feed inbox with {} entries", rows);
+        });
+    stepRunner.runStep(
+        "threadCounts",
+        () -> {
+          int rows = FeedRepository.reconcileThreadCounts(collectionDAO);
+          LOG.info("Backfilled {} thread counts", rows);
+        });
+    stepRunner.runStep(
+        "teamClosure",
+        () -> {
+          int rows = collectionDAO.teamClosureDAO().rebuildAll();
+          LOG.info("Backfilled the team closure with {} rows", rows);
+        });
   }
 }
@@ -29,11 +29,11 @@ public class Migration extends MigrationProcessImpl {
     updateDataInsightsApplication();
 
     // Lineage
-    runLineageMigrationForNullColumn(handle);
-    runLineageMigrationForNonNullColumn(handle);
-    runMigrationServiceLineage(handle);
-    runMigrationForDomainLineage(handle);
-    runMigrationForDataProductsLineage(handle);
+    stepRunner.runStep("lineageNullColumn", () -> runLineageMigrationForNullColumn(handle));
+    stepRunner.runStep("lineageNonNullColumn", () -> runLineageMigrationForNonNullColumn(handle));
+    runMigrationServiceLineage(jdbi, stepRunner);
+    runMigrationForDomainLineage(jdbi, stepRunner);
+    runMigrationForDataProductsLineage(jdbi, stepRunner);
 
     // DI
     createServiceCharts();
@@ -16,6 +16,7 @@ import java.util.UUID;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.ServiceEntityInterface;
@@ -49,6 +50,7 @@ import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.PolicyRepository;
 import org.openmetadata.service.jdbi3.WorkflowDefinitionRepository;
+import org.openmetadata.service.migration.api.MigrationStepRunner;
 import org.openmetadata.service.resources.databases.DatasourceConfig;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.FullyQualifiedName;
@@ -394,38 +396,38 @@ public class MigrationUtil {
                         .withName("ai"))));
   }
 
-  public static void runMigrationForDomainLineage(Handle handle) {
-    try {
-      List<Domain> allDomains = getAllDomains();
-      for (Domain fromDomain : allDomains) {
-        for (Domain toDomain : allDomains) {
-          insertDomainAndDataProductLineage(
-              handle, fromDomain.getEntityReference(), toDomain.getEntityReference());
-        }
-      }
-
-    } catch (Exception ex) {
-      LOG.error(
-          "Error while updating null json rows with createdAt, createdBy, updatedAt and updatedBy for lineage.",
-          ex);
-    }
+  public static void runMigrationForDomainLineage(Jdbi jdbi, MigrationStepRunner stepRunner) {
+    List<Domain> allDomains = getAllDomains();
+    stepRunner.runPartitionedStep(
+        "domainLineage",
+        allDomains,
+        domain -> domain.getId().toString(),
+        fromDomain ->
+            jdbi.useHandle(
+                handle -> {
+                  for (Domain toDomain : allDomains) {
+                    insertDomainAndDataProductLineage(
+                        handle, fromDomain.getEntityReference(), toDomain.getEntityReference());
+                  }
+                }));
   }
 
-  public static void runMigrationForDataProductsLineage(Handle handle) {
-    try {
-      List<DataProduct> allDataProducts = getAllDataProducts();
-      for (DataProduct fromDataProduct : allDataProducts) {
-        for (DataProduct toDataProduct : allDataProducts) {
-          insertDomainAndDataProductLineage(
-              handle, fromDataProduct.getEntityReference(), toDataProduct.getEntityReference());
-        }
-      }
-
-    } catch (Exception ex) {
-      LOG.error(
-          "Error while updating null json rows with createdAt, createdBy, updatedAt and updatedBy for lineage.",
-          ex);
-    }
+  public static void runMigrationForDataProductsLineage(Jdbi jdbi, MigrationStepRunner stepRunner) {
+    List<DataProduct> allDataProducts = getAllDataProducts();
+    stepRunner.runPartitionedStep(
+        "dataProductLineage",
+        allDataProducts,
+        dataProduct -> dataProduct.getId().toString(),
+        fromDataProduct ->
+            jdbi.useHandle(
+                handle -> {
+                  for (DataProduct toDataProduct : allDataProducts) {
+                    insertDomainAndDataProductLineage(
+                        handle,
+                        fromDataProduct.getEntityReference(),
+                        toDataProduct.getEntityReference());
+                  }
+                }));
   }
 
   private static void insertDomainAndDataProductLineage(
@@ -462,20 +464,21 @@ public class MigrationUtil {
     }
   }
 
-  public static void runMigrationServiceLineage(Handle handle) {
-    try {
-      // Get all services except DRIVE which doesn't exist in v1.7.0
-      List<ServiceEntityInterface> allServices = getAllServicesForLineageExcludingDrive();
-      for (ServiceEntityInterface fromService : allServices) {
-        for (ServiceEntityInterface toService : allServices) {
-          insertServiceLineageDetails(handle, fromService, toService);
-        }
-      }
-    } catch (Exception ex) {
-      LOG.error(
-          "Error while updating null json rows with createdAt, createdBy, updatedAt and updatedBy for lineage.",
-          ex);
-    }
+  public static void runMigrationServiceLineage(Jdbi jdbi, MigrationStepRunner stepRunner) {
+    // Get all services except DRIVE which doesn't exist in v1.7.0
+    List<ServiceEntityInterface> allServices = getAllServicesForLineageExcludingDrive();
+    // Each source service is an independent partition: it only writes its own outgoing edges
+    stepRunner.runPartitionedStep(
+        "serviceLineage",
+        allServices,
+        service -> service.getEntityReference().getType() + ":" + service.getId(),
+        fromService ->
+            jdbi.useHandle(
+                handle -> {
+                  for (ServiceEntityInterface toService : allServices) {
+                    insertServiceLineageDetails(handle, fromService, toService);
+                  }
+                }));
   }
 
   private static List<ServiceEntityInterface> getAllServicesForLineageExcludingDrive() {
@@ -14,9 +14,15 @@ package org.openmetadata.service.notifications;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -43,6 +49,12 @@ public class HandlebarsNotificationMessageEngine implements NotificationMessageE
 
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
+  // System template resolved for an entity type and event type, out of the entity-specific,
+  // generic and default templates. Invalidated on template changes, the expiry bounds staleness
+  // across servers
+  private static final Cache<String, NotificationTemplate> SYSTEM_TEMPLATES =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(5, TimeUnit.MINUTES).build();
+
   private final NotificationTemplateRepository templateRepository;
   private final NotificationTemplateProcessor templateProcessor;
   private final Map<SubscriptionDestination.SubscriptionType, ChannelRenderer> channelRenderers;
@@ -135,7 +147,8 @@ public class HandlebarsNotificationMessageEngine implements NotificationMessageE
         : displayName;
   }
 
-  private NotificationTemplate resolveTemplate(ChangeEvent event, EventSubscription subscription) {
+  @VisibleForTesting
+  NotificationTemplate resolveTemplate(ChangeEvent event, EventSubscription subscription) {
     // 1. Check if subscription has custom template assigned
     EntityReference templateRef = subscription.getNotificationTemplate();
     if (templateRef != null) {
@@ -163,11 +176,28 @@ public class HandlebarsNotificationMessageEngine implements NotificationMessageE
     // This handles multi-part camelCase: logicalTestCaseAdded -> logical-test-case-added
     String eventTypeKebab =
         event.getEventType().value().replaceAll("([a-z])([A-Z]+)", "$1-$2").toLowerCase();
+    String entityType = event.getEntityType().toLowerCase();
+    try {
+      return SYSTEM_TEMPLATES.get(
+          entityType + ":" + eventTypeKebab,
+          () -> resolveSystemTemplate(entityType, eventTypeKebab));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Drop the resolved system templates. Called whenever a notification template changes. */
+  public static void invalidateTemplateCache() {
+    SYSTEM_TEMPLATES.invalidateAll();
+  }
 
+  private NotificationTemplate resolveSystemTemplate(String entityType, String eventTypeKebab) {
     // Try entity-specific template: system-notification-{entityType}-{eventType}
     String entitySpecificTemplateName =
-        String.format(
-            "system-notification-%s-%s", event.getEntityType().toLowerCase(), eventTypeKebab);
+        String.format("system-notification-%s-%s", entityType, eventTypeKebab);
     NotificationTemplate entitySpecificTemplate =
         templateRepository.findByNameOrNull(entitySpecificTemplateName, Include.ALL);
     if (entitySpecificTemplate != null) {
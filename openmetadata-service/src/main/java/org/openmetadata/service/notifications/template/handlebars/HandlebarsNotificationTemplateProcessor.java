@@ -3,8 +3,13 @@ package org.openmetadata.service.notifications.template.handlebars;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.jknack.handlebars.Template;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.api.events.NotificationTemplateValidationRequest;
 import org.openmetadata.schema.api.events.NotificationTemplateValidationResponse;
@@ -12,23 +17,40 @@ import org.openmetadata.service.notifications.template.NotificationTemplateProce
 
 @Slf4j
 public class HandlebarsNotificationTemplateProcessor implements NotificationTemplateProcessor {
+  // A compiled template depends only on its source, so the source is the cache key. An edited
+  // template compiles to a new entry and the stale one ages out
+  private static final Cache<String, Template> COMPILED_TEMPLATES =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
 
   private final Handlebars handlebars;
 
   public HandlebarsNotificationTemplateProcessor() {
-    this.handlebars = HandlebarsProvider.getInstance();
+    this(HandlebarsProvider.getInstance());
+  }
+
+  @VisibleForTesting
+  HandlebarsNotificationTemplateProcessor(Handlebars handlebars) {
+    this.handlebars = handlebars;
   }
 
   @Override
   public String process(String templateString, Map<String, Object> context) {
     try {
-      Template template = handlebars.compileInline(templateString);
+      Template template = compile(templateString);
       return template.apply(context);
     } catch (Exception e) {
       throw new RuntimeException("Failed to process template: " + e.getMessage(), e);
     }
   }
 
+  private Template compile(String templateString) throws Exception {
+    try {
+      return COMPILED_TEMPLATES.get(templateString, () -> handlebars.compileInline(templateString));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw e.getCause() instanceof Exception cause ? cause : e;
+    }
+  }
+
   @Override
   public NotificationTemplateValidationResponse validate(
       NotificationTemplateValidationRequest request) {
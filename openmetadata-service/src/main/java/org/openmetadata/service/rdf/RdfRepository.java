@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -834,27 +835,29 @@ public class RdfRepository {
         config.getStorageType().toString());
   }
 
-  public void bulkSyncEntities(String entityType, List<? extends EntityInterface> entities) {
-    if (!isEnabled()) {
-      return;
+  /**
+   * Store a batch of entities of the same type with a single bulk upload to the RDF store.
+   * Entities that cannot be translated are skipped; failures of the store are propagated.
+   *
+   * @return the number of entities stored
+   */
+  public int bulkSyncEntities(String entityType, List<? extends EntityInterface> entities) {
+    if (!isEnabled() || entities.isEmpty()) {
+      return 0;
     }
 
-    try {
-      LOG.info(
-          "Starting bulk sync for entity type: {} with {} entities", entityType, entities.size());
-
-      for (EntityInterface entity : entities) {
-        try {
-          createOrUpdate(entity);
-        } catch (Exception e) {
-          LOG.error("Failed to sync entity {} of type {}", entity.getId(), entityType, e);
-        }
+    Map<UUID, Model> entityModels = new LinkedHashMap<>();
+    for (EntityInterface entity : entities) {
+      try {
+        entityModels.put(entity.getId(), translator.toRdf(entity));
+      } catch (Exception e) {
+        LOG.error("Failed to translate entity {} of type {} to RDF", entity.getId(), entityType, e);
       }
-
-      LOG.info("Completed bulk sync for entity type: {}", entityType);
-    } catch (Exception e) {
-      LOG.error("Failed bulk sync for entity type: {}", entityType, e);
     }
+
+    storageService.bulkStoreEntities(entityType, entityModels);
+    LOG.debug("Bulk synced {} entities of type {} to RDF", entityModels.size(), entityType);
+    return entityModels.size();
   }
 
   public void clearAll() {
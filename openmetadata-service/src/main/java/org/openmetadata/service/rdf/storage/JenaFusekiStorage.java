@@ -4,6 +4,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -29,21 +30,37 @@ import org.openmetadata.schema.api.configuration.rdf.RdfConfiguration;
 @Slf4j
 public class JenaFusekiStorage implements RdfStorageInterface {
 
+  private static final String DEFAULT_BASE_URI = "https://open-metadata.org/";
   private static final String DEFAULT_GRAPH = "https://open-metadata.org/graph/default";
   private static final String METADATA_GRAPH = "https://open-metadata.org/graph/metadata";
+  // Keeps INSERT DATA payloads well below the default request size limits of Fuseki
+  private static final int MAX_TRIPLES_PER_UPDATE = 5000;
 
   private final RDFConnection connection;
   private final String baseUri;
 
   public JenaFusekiStorage(RdfConfiguration config) {
-    this.baseUri =
-        config.getBaseUri() != null ? config.getBaseUri().toString() : "https://open-metadata.org/";
+    this(
+        createConnection(config),
+        config.getBaseUri() != null ? config.getBaseUri().toString() : DEFAULT_BASE_URI);
+  }
+
+  /**
+   * Use an existing connection, e.g. one to a local in-memory dataset
+   */
+  JenaFusekiStorage(RDFConnection connection, String baseUri) {
+    this.connection = connection;
+    this.baseUri = baseUri;
+    loadOntology();
+  }
 
+  private static RDFConnection createConnection(RdfConfiguration config) {
     String endpoint =
         config.getRemoteEndpoint() != null && !config.getRemoteEndpoint().toString().isEmpty()
             ? config.getRemoteEndpoint().toString()
             : "http://openmetadata-fuseki:3030/openmetadata";
 
+    RDFConnection connection;
     if (config.getUsername() != null && config.getPassword() != null) {
       java.net.http.HttpClient httpClient =
           java.net.http.HttpClient.newBuilder()
@@ -57,13 +74,13 @@ public class JenaFusekiStorage implements RdfStorageInterface {
                   })
               .build();
 
-      this.connection =
+      connection =
           RDFConnectionFuseki.create().destination(endpoint).httpClient(httpClient).build();
     } else {
-      this.connection = RDFConnectionFuseki.create().destination(endpoint).build();
+      connection = RDFConnectionFuseki.create().destination(endpoint).build();
     }
     LOG.info("Connected to Apache Jena Fuseki at {}", endpoint);
-    loadOntology();
+    return connection;
   }
 
   private void loadOntology() {
@@ -114,6 +131,47 @@ public class JenaFusekiStorage implements RdfStorageInterface {
     }
   }
 
+  @Override
+  public void bulkStoreEntities(String entityType, Map<UUID, Model> entityModels) {
+    if (entityModels.isEmpty()) {
+      return;
+    }
+    String graphUri = baseUri + "graph/" + entityType;
+
+    try {
+      StringBuilder entityUris = new StringBuilder();
+      Model graphModel = ModelFactory.createDefaultModel();
+      for (Map.Entry<UUID, Model> entry : entityModels.entrySet()) {
+        entityUris
+            .append('<')
+            .append(baseUri)
+            .append("entity/")
+            .append(entityType)
+            .append('/')
+            .append(entry.getKey())
+            .append("> ");
+        graphModel.add(entry.getValue());
+      }
+      String deleteQuery =
+          String.format(
+              "DELETE { GRAPH <%s> { ?s ?p ?o } } "
+                  + "WHERE { GRAPH <%s> { VALUES ?s { %s} ?s ?p ?o } }",
+              graphUri, graphUri, entityUris);
+
+      connection.update(UpdateFactory.create(deleteQuery));
+      // A single Graph Store Protocol upload for the whole batch
+      connection.load(graphUri, graphModel);
+      LOG.debug(
+          "Stored {} entities ({} triples) in graph {}",
+          entityModels.size(),
+          graphModel.size(),
+          graphUri);
+    } catch (Exception e) {
+      LOG.error("Failed to bulk store entities in Fuseki", e);
+      throw new RuntimeException("Failed to bulk store entities in RDF", e);
+    }
+  }
+
   @Override
   public void storeRelationship(
       String fromType, UUID fromId, String toType, UUID toId, String relationshipType) {
@@ -183,32 +241,37 @@ public class JenaFusekiStorage implements RdfStorageInterface {
 
   @Override
   public void bulkStoreRelationships(List<RelationshipData> relationships) {
-    StringBuilder insertData = new StringBuilder();
-    insertData.append("PREFIX om: <").append(baseUri).append("ontology/> ");
-    insertData.append("INSERT DATA { GRAPH <").append(DEFAULT_GRAPH).append("> { ");
-
-    for (RelationshipData rel : relationships) {
-      insertData.append(
-          String.format(
-              "<%sentity/%s/%s> om:%s <%sentity/%s/%s> . ",
-              baseUri,
-              rel.getFromType(),
-              rel.getFromId(),
-              rel.getRelationshipType(),
-              baseUri,
-              rel.getToType(),
-              rel.getToId()));
-    }
+    for (int from = 0; from < relationships.size(); from += MAX_TRIPLES_PER_UPDATE) {
+      List<RelationshipData> chunk =
+          relationships.subList(
+              from, Math.min(from + MAX_TRIPLES_PER_UPDATE, relationships.size()));
+      StringBuilder insertData = new StringBuilder();
+      insertData.append("PREFIX om: <").append(baseUri).append("ontology/> ");
+      insertData.append("INSERT DATA { GRAPH <").append(DEFAULT_GRAPH).append("> { ");
+
+      for (RelationshipData rel : chunk) {
+        insertData.append(
+            String.format(
+                "<%sentity/%s/%s> om:%s <%sentity/%s/%s> . ",
+                baseUri,
+                rel.getFromType(),
+                rel.getFromId(),
+                rel.getRelationshipType(),
+                baseUri,
+                rel.getToType(),
+                rel.getToId()));
+      }
 
-    insertData.append("} }");
+      insertData.append("} }");
 
-    try {
-      UpdateRequest request = UpdateFactory.create(insertData.toString());
-      connection.update(request);
-      LOG.info("Bulk stored {} relationships", relationships.size());
-    } catch (Exception e) {
-      LOG.error("Failed to bulk store relationships in Fuseki", e);
-      throw new RuntimeException("Failed to bulk store relationships in RDF", e);
+      try {
+        UpdateRequest request = UpdateFactory.create(insertData.toString());
+        connection.update(request);
+        LOG.debug("Bulk stored {} relationships", chunk.size());
+      } catch (Exception e) {
+        LOG.error("Failed to bulk store relationships in Fuseki", e);
+        throw new RuntimeException("Failed to bulk store relationships in RDF", e);
+      }
     }
   }
 
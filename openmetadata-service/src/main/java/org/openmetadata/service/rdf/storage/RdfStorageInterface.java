@@ -1,6 +1,7 @@
 package org.openmetadata.service.rdf.storage;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.Getter;
 import org.apache.jena.rdf.model.Model;
@@ -16,6 +17,14 @@ public interface RdfStorageInterface {
    */
   void storeEntity(String entityType, UUID entityId, Model entityModel);
 
+  /**
+   * Store multiple entity models of the same type, replacing the triples previously stored for
+   * them. Stores supporting bulk graph uploads should override this with a single request.
+   */
+  default void bulkStoreEntities(String entityType, Map<UUID, Model> entityModels) {
+    entityModels.forEach((entityId, entityModel) -> storeEntity(entityType, entityId, entityModel));
+  }
+
   /**
    * Store a relationship between two entities
    */
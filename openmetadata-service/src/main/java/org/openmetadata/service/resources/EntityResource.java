@@ -77,6 +77,7 @@ import org.openmetadata.service.util.BulkAssetsOperationResponse;
 import org.openmetadata.service.util.CSVExportResponse;
 import org.openmetadata.service.util.CSVImportResponse;
 import org.openmetadata.service.util.DeleteEntityResponse;
+import org.openmetadata.service.util.DeletionProgress;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.RestUtil;
@@ -516,6 +517,7 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     if (hardDelete) {
       limits.invalidateCache(entityType);
     }
+    afterDelete(response.entity());
     addHref(uriInfo, response.entity());
     return response.toResponse();
   }
@@ -538,12 +540,17 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     ExecutorService executorService = AsyncService.getInstance().getExecutorService();
     executorService.submit(
         () -> {
+          DeletionProgress.set(
+              (deleted, total) ->
+                  WebsocketNotificationHandler.sendDeleteOperationProgressNotification(
+                      jobId, securityContext, entity, deleted, total));
           try {
             DeleteResponse<T> deleteResponse =
                 repository.delete(userName, id, recursive, hardDelete);
             if (hardDelete) {
               limits.invalidateCache(entityType);
             }
+            afterDelete(deleteResponse.entity());
             WebsocketNotificationHandler.sendDeleteOperationCompleteNotification(
                 jobId, securityContext, deleteResponse.entity());
           } catch (Exception e) {
@@ -552,6 +559,8 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
                 securityContext,
                 entity,
                 e.getMessage() == null ? e.toString() : e.getMessage());
+          } finally {
+            DeletionProgress.clear();
           }
         });
 
@@ -580,10 +589,17 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     DeleteResponse<T> response =
         repository.deleteByName(
             securityContext.getUserPrincipal().getName(), name, recursive, hardDelete);
+    afterDelete(response.entity());
     addHref(uriInfo, response.entity());
     return response.toResponse();
   }
 
+  /**
+   * Called once an entity deleted through this resource, synchronously or not, has been deleted
+   * from the store. Override to drop state derived from the entity.
+   */
+  protected void afterDelete(T entity) {}
+
   public Response restoreEntity(UriInfo uriInfo, SecurityContext securityContext, UUID id) {
     OperationContext operationContext =
         new OperationContext(entityType, MetadataOperation.EDIT_ALL);
@@ -64,6 +64,7 @@ import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.NotificationTemplateRepository;
 import org.openmetadata.service.limits.Limits;
+import org.openmetadata.service.notifications.HandlebarsNotificationMessageEngine;
 import org.openmetadata.service.notifications.template.handlebars.HandlebarsHelperMetadata;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.resources.EntityResource;
@@ -356,7 +357,7 @@ public class NotificationTemplateResource
       @Valid CreateNotificationTemplate create) {
     NotificationTemplate template =
         mapper.createToEntity(create, securityContext.getUserPrincipal().getName());
-    return create(uriInfo, securityContext, template);
+    return invalidatingTemplateCaches(create(uriInfo, securityContext, template));
   }
 
   @PATCH
@@ -400,7 +401,8 @@ public class NotificationTemplateResource
     NotificationTemplate existing = repository.get(null, id, repository.getFields("*"));
 
     if (!isTemplateFieldPatch(patch)) {
-      return patchInternal(uriInfo, securityContext, id, patch, ChangeSource.MANUAL);
+      return invalidatingTemplateCaches(
+          patchInternal(uriInfo, securityContext, id, patch, ChangeSource.MANUAL));
     }
 
     ResourceContext<NotificationTemplate> ctx = getResourceContextById(id);
@@ -418,7 +420,22 @@ public class NotificationTemplateResource
                     ctx));
 
     AuthorizationLogic logic = isSystem ? AuthorizationLogic.ALL : AuthorizationLogic.ANY;
-    return patchInternal(uriInfo, securityContext, authRequests, logic, id, patch);
+    return invalidatingTemplateCaches(
+        patchInternal(uriInfo, securityContext, authRequests, logic, id, patch));
+  }
+
+  /**
+   * Drop the resolved templates once a write through this resource has returned, so that the next
+   * notification reads the template as stored rather than a copy cached before the write.
+   */
+  private static Response invalidatingTemplateCaches(Response response) {
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
+    return response;
+  }
+
+  @Override
+  protected void afterDelete(NotificationTemplate template) {
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
   }
 
   private boolean isTemplateFieldPatch(JsonPatch patch) {
@@ -473,7 +490,8 @@ public class NotificationTemplateResource
     NotificationTemplate existing = repository.getByName(null, fqn, repository.getFields("*"));
 
     if (!isTemplateFieldPatch(patch)) {
-      return patchInternal(uriInfo, securityContext, existing.getId(), patch, ChangeSource.MANUAL);
+      return invalidatingTemplateCaches(
+          patchInternal(uriInfo, securityContext, existing.getId(), patch, ChangeSource.MANUAL));
     }
 
     ResourceContext<NotificationTemplate> ctx = getResourceContextByName(fqn);
@@ -491,7 +509,8 @@ public class NotificationTemplateResource
                     ctx));
 
     AuthorizationLogic logic = isSystem ? AuthorizationLogic.ALL : AuthorizationLogic.ANY;
-    return patchInternal(uriInfo, securityContext, authRequests, logic, existing.getId(), patch);
+    return invalidatingTemplateCaches(
+        patchInternal(uriInfo, securityContext, authRequests, logic, existing.getId(), patch));
   }
 
   @PUT
@@ -551,7 +570,8 @@ public class NotificationTemplateResource
     }
 
     final NotificationTemplate updated = mapper.createToEntity(create, principal);
-    return createOrUpdate(uriInfo, securityContext, authRequests, authorizationLogic, updated);
+    return invalidatingTemplateCaches(
+        createOrUpdate(uriInfo, securityContext, authRequests, authorizationLogic, updated));
   }
 
   @DELETE
@@ -694,6 +714,7 @@ public class NotificationTemplateResource
     RestUtil.PutResponse<NotificationTemplate> put =
         repository.restoreEntity(securityContext.getUserPrincipal().getName(), existing.getId());
     repository.restoreFromSearch(put.getEntity());
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
     addHref(uriInfo, put.getEntity());
     LOG.info(
         "Restored {}:{}", Entity.getEntityTypeFromObject(put.getEntity()), put.getEntity().getId());
@@ -739,6 +760,7 @@ public class NotificationTemplateResource
                 getResourceContextById(id)));
     authorizer.authorizeRequests(securityContext, authRequests, AuthorizationLogic.ALL);
     repository.resetToDefault(template);
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
     return Response.ok().build();
   }
 
@@ -783,6 +805,7 @@ public class NotificationTemplateResource
                 getResourceContextByName(fqn)));
     authorizer.authorizeRequests(securityContext, authRequests, AuthorizationLogic.ALL);
     repository.resetToDefault(template);
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
     return Response.ok().build();
   }
 
@@ -873,6 +873,12 @@ public class EventSubscriptionResource
       @Parameter(description = "UUID of the Event Subscription", schema = @Schema(type = "UUID"))
           @PathParam("subscriptionId")
           UUID subscriptionId,
+      @Parameter(
+              description =
+                  "Returns the page of unprocessed events after this cursor. Takes precedence over paginationOffset",
+              schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after,
       @Parameter(description = "Return only count if true")
           @QueryParam("listCountOnly")
           @DefaultValue("false")
@@ -891,7 +897,7 @@ public class EventSubscriptionResource
       EventSubscriptionDiagnosticInfo diagnosticInfo =
           EventSubscriptionScheduler.getInstance()
               .getEventSubscriptionDiagnosticInfo(
-                  subscriptionId, limit, paginationOffset, listCountOnly);
+                  subscriptionId, limit, paginationOffset, after, listCountOnly);
 
       return Response.ok().entity(diagnosticInfo).build();
     } catch (Exception e) {
@@ -939,6 +945,12 @@ public class EventSubscriptionResource
       @Parameter(description = "Name of the Event Subscription", schema = @Schema(type = "string"))
           @PathParam("subscriptionName")
           String subscriptionName,
+      @Parameter(
+              description =
+                  "Returns the page of unprocessed events after this cursor. Takes precedence over paginationOffset",
+              schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after,
       @Parameter(description = "Return only count if true")
           @QueryParam("listCountOnly")
           @DefaultValue("false")
@@ -961,7 +973,7 @@ public class EventSubscriptionResource
       EventSubscriptionDiagnosticInfo diagnosticInfo =
           EventSubscriptionScheduler.getInstance()
               .getEventSubscriptionDiagnosticInfo(
-                  subscription.getId(), limit, paginationOffset, listCountOnly);
+                  subscription.getId(), limit, paginationOffset, after, listCountOnly);
 
       return Response.ok().entity(diagnosticInfo).build();
     } catch (Exception e) {
@@ -1012,15 +1024,29 @@ public class EventSubscriptionResource
           int paginationOffset,
       @Parameter(description = "Source of the failed events", schema = @Schema(type = "string"))
           @QueryParam("source")
-          String source) {
+          String source,
+      @Parameter(
+              description =
+                  "Timestamp of the last failed event of the previous page. When set together with afterEventId, the page is read with a keyset seek instead of paginationOffset",
+              schema = @Schema(type = "integer"))
+          @QueryParam("afterTimestamp")
+          Long afterTimestamp,
+      @Parameter(
+              description = "Change event id of the last failed event of the previous page",
+              schema = @Schema(type = "UUID"))
+          @QueryParam("afterEventId")
+          UUID afterEventId) {
     OperationContext operationContext =
         new OperationContext(entityType, MetadataOperation.VIEW_ALL);
     authorizer.authorize(securityContext, operationContext, getResourceContextById(id));
 
     try {
       List<FailedEventResponse> failedEvents =
-          EventSubscriptionScheduler.getInstance()
-              .getFailedEventsByIdAndSource(id, source, limit, paginationOffset);
+          afterTimestamp != null && afterEventId != null
+              ? EventSubscriptionScheduler.getInstance()
+                  .getFailedEventsByIdAndSource(id, source, limit, afterTimestamp, afterEventId)
+              : EventSubscriptionScheduler.getInstance()
+                  .getFailedEventsByIdAndSource(id, source, limit, paginationOffset);
 
       return Response.ok().entity(failedEvents).build();
     } catch (Exception e) {
@@ -1069,7 +1095,18 @@ public class EventSubscriptionResource
           int paginationOffset,
       @Parameter(description = "Source of the failed events", schema = @Schema(type = "string"))
           @QueryParam("source")
-          String source) {
+          String source,
+      @Parameter(
+              description =
+                  "Timestamp of the last failed event of the previous page. When set together with afterEventId, the page is read with a keyset seek instead of paginationOffset",
+              schema = @Schema(type = "integer"))
+          @QueryParam("afterTimestamp")
+          Long afterTimestamp,
+      @Parameter(
+              description = "Change event id of the last failed event of the previous page",
+              schema = @Schema(type = "UUID"))
+          @QueryParam("afterEventId")
+          UUID afterEventId) {
     OperationContext operationContext =
         new OperationContext(entityType, MetadataOperation.VIEW_ALL);
     authorizer.authorize(securityContext, operationContext, getResourceContextByName(name));
@@ -1078,8 +1115,13 @@ public class EventSubscriptionResource
       EventSubscription subscription = repository.getByName(null, name, repository.getFields("id"));
 
       List<FailedEventResponse> failedEvents =
-          EventSubscriptionScheduler.getInstance()
-              .getFailedEventsByIdAndSource(subscription.getId(), source, limit, paginationOffset);
+          afterTimestamp != null && afterEventId != null
+              ? EventSubscriptionScheduler.getInstance()
+                  .getFailedEventsByIdAndSource(
+                      subscription.getId(), source, limit, afterTimestamp, afterEventId)
+              : EventSubscriptionScheduler.getInstance()
+                  .getFailedEventsByIdAndSource(
+                      subscription.getId(), source, limit, paginationOffset);
 
       return Response.ok().entity(failedEvents).build();
 
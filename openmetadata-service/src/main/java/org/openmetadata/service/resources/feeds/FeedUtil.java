@@ -26,9 +26,26 @@ public final class FeedUtil {
   private FeedUtil() {}
 
   public static void addPost(Thread thread, Post post) {
-    // Add new post to the thread
-    thread.getPosts().add(post);
-    thread.withPostsCount(thread.getPosts().size());
+    // Posts are stored separately, the thread only keeps the count and time of the latest post
+    int postsCount = thread.getPostsCount() == null ? 0 : thread.getPostsCount();
+    long lastPostTs = thread.getLastPostTs() == null ? 0 : thread.getLastPostTs();
+    thread
+        .withPostsCount(postsCount + 1)
+        .withLastPostTs(Math.max(lastPostTs, post.getPostTs()));
+  }
+
+  /**
+   * Thread json as stored in thread_entity. Posts are stored as rows of thread_post, so replying to
+   * a thread does not rewrite every earlier post.
+   */
+  public static String toStoredJson(Thread thread) {
+    List<Post> posts = thread.getPosts();
+    thread.setPosts(null);
+    try {
+      return JsonUtils.pojoToJson(thread);
+    } finally {
+      thread.setPosts(posts);
+    }
   }
 
   public static void cleanUpTaskForAssignees(UUID entityId, String entityType) {
@@ -42,7 +59,7 @@ public final class FeedUtil {
               entityReference.getId().equals(entityId)
                   && entityReference.getType().equals(entityType));
       thread.getTask().setAssignees(assignees);
-      Entity.getCollectionDAO().feedDAO().update(thread.getId(), JsonUtils.pojoToJson(thread));
+      Entity.getCollectionDAO().feedDAO().update(thread.getId(), toStoredJson(thread));
     }
   }
 }
@@ -25,6 +25,12 @@ import org.openmetadata.service.util.EntityETag;
 /**
  * JAX-RS filter that automatically adds ETag headers to GET responses
  * containing EntityInterface entities.
+ *
+ * <p>Requests sending the X-Content-ETag header also get an X-Content-ETag
+ * response header hashing the returned entity, and a 304 Not Modified without
+ * the entity when their If-None-Match header holds it. The version ETag is not
+ * used for 304s: it does not change when only relationships or other requested
+ * fields change, and browsers revalidate their cache with it.
  */
 @Provider
 public class ETagResponseFilter implements ContainerResponseFilter {
@@ -41,6 +47,31 @@ public class ETagResponseFilter implements ContainerResponseFilter {
       EntityInterface entity = (EntityInterface) responseContext.getEntity();
       String etag = EntityETag.generateETag(entity);
       responseContext.getHeaders().add("ETag", etag);
+
+      if (requestContext.getHeaderString(EntityETag.CONTENT_ETAG_HEADER) == null) {
+        return;
+      }
+      String contentETag = EntityETag.generateContentETag(entity);
+      responseContext.getHeaders().add(EntityETag.CONTENT_ETAG_HEADER, contentETag);
+
+      String ifNoneMatch = requestContext.getHeaderString(EntityETag.IF_NONE_MATCH_HEADER);
+      if (matches(ifNoneMatch, contentETag)) {
+        responseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+        responseContext.setEntity(null);
+      }
+    }
+  }
+
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmed = candidate.trim();
+      if ("*".equals(trimmed) || etag.equals(trimmed)) {
+        return true;
+      }
     }
+    return false;
   }
 }
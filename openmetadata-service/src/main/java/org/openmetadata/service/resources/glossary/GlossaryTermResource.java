@@ -326,6 +326,11 @@ public class GlossaryTermResource extends EntityResource<GlossaryTerm, GlossaryT
           @Min(value = 0, message = "must be greater than or equal to 0")
           @QueryParam("offset")
           int offsetParam,
+      @Parameter(
+              description =
+                  "Returns the page of matching terms after this cursor. Takes precedence over offset")
+          @QueryParam("after")
+          String after,
       @Parameter(
               description = "Fields requested in the returned terms",
               schema = @Schema(type = "string", example = FIELDS))
@@ -356,19 +361,19 @@ public class GlossaryTermResource extends EntityResource<GlossaryTerm, GlossaryT
     if (glossaryId != null) {
       result =
           repository.searchGlossaryTermsById(
-              glossaryId, query, limitParam, offsetParam, fieldsParam, include);
+              glossaryId, query, limitParam, offsetParam, after, fieldsParam, include);
     } else if (glossaryFqn != null) {
       result =
           repository.searchGlossaryTermsByFQN(
-              glossaryFqn, query, limitParam, offsetParam, fieldsParam, include);
+              glossaryFqn, query, limitParam, offsetParam, after, fieldsParam, include);
     } else if (parentId != null) {
       result =
           repository.searchGlossaryTermsByParentId(
-              parentId, query, limitParam, offsetParam, fieldsParam, include);
+              parentId, query, limitParam, offsetParam, after, fieldsParam, include);
     } else if (parentFqn != null) {
       result =
           repository.searchGlossaryTermsByParentFQN(
-              parentFqn, query, limitParam, offsetParam, fieldsParam, include);
+              parentFqn, query, limitParam, offsetParam, after, fieldsParam, include);
     } else {
       // Search across all glossary terms without parent filter
       ListFilter filter = new ListFilter(include);
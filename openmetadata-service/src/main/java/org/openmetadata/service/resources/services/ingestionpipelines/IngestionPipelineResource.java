@@ -53,6 +53,7 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -1177,7 +1178,24 @@ public class IngestionPipelineResource
               schema = @Schema(type = "number"))
           @NonNull
           @QueryParam("endTs")
-          Long endTs) {
+          Long endTs,
+      @Parameter(
+              description =
+                  "Limit the number of pipeline status returned. All the runs between `startTs` "
+                      + "and `endTs` are returned when not set.",
+              schema = @Schema(type = "integer"))
+          @Min(value = 1, message = "must be greater than or equal to 1")
+          @Max(value = 10000, message = "must be less than or equal to 10000")
+          @QueryParam("limit")
+          Integer limit,
+      @Parameter(
+              description = "Returns the runs after this cursor, used with `limit`",
+              schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after) {
+    if (limit != null) {
+      return repository.listPipelineStatus(fqn, startTs, endTs, limit, after);
+    }
     return repository.listPipelineStatus(fqn, startTs, endTs);
   }
 
@@ -1441,6 +1459,106 @@ public class IngestionPipelineResource
     }
   }
 
+  @GET
+  @Path("/logs/{fqn}/{runId}/tail")
+  @Operation(
+      operationId = "getPipelineLogTail",
+      summary = "Get the last lines of the logs for a pipeline run",
+      description =
+          "Get the last lines of the logs for a specific pipeline run identified by FQN and runId",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Pipeline logs",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "404", description = "Logs not found")
+      })
+  public Response getPipelineLogTail(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fully qualified name of the ingestion pipeline",
+              schema = @Schema(type = "string"))
+          @PathParam("fqn")
+          String fqn,
+      @Parameter(description = "Run ID", schema = @Schema(type = "string")) @PathParam("runId")
+          UUID runId,
+      @Parameter(
+              description = "Maximum number of lines to return",
+              schema = @Schema(type = "integer"))
+          @QueryParam("lines")
+          @DefaultValue("1000")
+          @Min(value = 1, message = "must be greater than or equal to 1")
+          @Max(value = 10000, message = "must be less than or equal to 10000")
+          int lines) {
+    try {
+      OperationContext operationContext =
+          new OperationContext(entityType, MetadataOperation.VIEW_ALL);
+      authorizer.authorize(securityContext, operationContext, getResourceContextByName(fqn));
+
+      Map<String, Object> logs = repository.getLogTail(fqn, runId, lines);
+
+      return Response.ok(logs, MediaType.APPLICATION_JSON_TYPE).build();
+    } catch (Exception e) {
+      LOG.error("Failed to get log tail for pipeline: {}, runId: {}", fqn, runId, e);
+      return Response.status(Response.Status.NOT_FOUND)
+          .entity(Map.of("message", e.getMessage()))
+          .type(MediaType.APPLICATION_JSON_TYPE)
+          .build();
+    }
+  }
+
+  @GET
+  @Path("/logs/{fqn}/{runId}/download")
+  @Produces(MediaType.APPLICATION_OCTET_STREAM)
+  @Operation(
+      operationId = "downloadPipelineLogs",
+      summary = "Download the logs of a pipeline run as a stream",
+      description =
+          "Stream the complete logs of a specific pipeline run identified by FQN and runId"
+              + " without buffering them on the server.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Log content as a downloadable stream",
+            content = @Content(mediaType = "application/octet-stream")),
+        @ApiResponse(responseCode = "404", description = "Logs not found")
+      })
+  public Response downloadPipelineLogs(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fully qualified name of the ingestion pipeline",
+              schema = @Schema(type = "string"))
+          @PathParam("fqn")
+          String fqn,
+      @Parameter(description = "Run ID", schema = @Schema(type = "string")) @PathParam("runId")
+          UUID runId) {
+    try {
+      OperationContext operationContext =
+          new OperationContext(entityType, MetadataOperation.VIEW_ALL);
+      authorizer.authorize(securityContext, operationContext, getResourceContextByName(fqn));
+
+      InputStream logStream = repository.getLogInputStream(fqn, runId);
+      StreamingOutput streamingOutput =
+          output -> {
+            try (InputStream input = logStream) {
+              input.transferTo(output);
+            }
+          };
+      String filename = String.format("ingestion_logs_%s_%s.txt", fqn, runId);
+      return Response.ok(streamingOutput)
+          .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
+          .build();
+    } catch (Exception e) {
+      LOG.error("Failed to download logs for pipeline: {}, runId: {}", fqn, runId, e);
+      return Response.status(Response.Status.NOT_FOUND)
+          .entity(Map.of("message", e.getMessage()))
+          .type(MediaType.APPLICATION_JSON_TYPE)
+          .build();
+    }
+  }
+
   @GET
   @Path("/logs/{fqn}")
   @Operation(
@@ -44,6 +44,7 @@ import org.openmetadata.schema.api.search.SearchSettings;
 import org.openmetadata.schema.auth.EmailRequest;
 import org.openmetadata.schema.configuration.EntityRulesSettings;
 import org.openmetadata.schema.configuration.SecurityConfiguration;
+import org.openmetadata.schema.jobs.BackgroundJob;
 import org.openmetadata.schema.settings.Settings;
 import org.openmetadata.schema.settings.SettingsType;
 import org.openmetadata.schema.system.SecurityValidationResponse;
@@ -60,6 +61,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.cache.CacheBundle;
 import org.openmetadata.service.clients.pipeline.PipelineServiceClientFactory;
+import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.SystemSettingsException;
 import org.openmetadata.service.exception.UnhandledServerException;
 import org.openmetadata.service.jdbi3.EntityRepository;
@@ -794,4 +796,34 @@ public class SystemResource {
     Map<String, Object> stats = CacheBundle.getCacheProvider().getStats();
     return Response.ok(stats).build();
   }
+
+  @GET
+  @Path("/jobs/{id}")
+  @Operation(
+      operationId = "getBackgroundJob",
+      summary = "Get a background job",
+      description =
+          "Get the status and progress of a background job, such as the rename of a large glossary",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Background job",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BackgroundJob.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Background job for instance {id} is not found")
+      })
+  public BackgroundJob getBackgroundJob(
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the background job", schema = @Schema(type = "long"))
+          @PathParam("id")
+          long id) {
+    authorizer.authorizeAdmin(securityContext);
+    return Entity.getJobDAO()
+        .fetchJobById(id)
+        .orElseThrow(() -> new EntityNotFoundException("Background job " + id + " not found"));
+  }
 }
@@ -235,6 +235,54 @@ public interface EntityManagementClient {
       String termValue)
       throws IOException;
 
+  /**
+   * Deletes documents matching a range query whose term field has any of the given values.
+   *
+   * @param index the index name
+   * @param rangeFieldName the field name to apply the range query on
+   * @param gte greater than or equal to value (inclusive), can be null
+   * @param lte less than or equal to value (inclusive), can be null
+   * @param termKey the field name for the terms query
+   * @param termValues the values for the terms query
+   * @throws IOException if there's an error during the delete operation
+   */
+  void deleteByRangeAndTerms(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String termKey,
+      List<String> termValues)
+      throws IOException;
+
+  /**
+   * Copies the documents matching a range query back into the same index with {@code fieldName}
+   * set to {@code fieldValue}, server side. Documents whose excluded term field has one of the
+   * excluded values are not copied. A copy gets the {@code id} field of its source document
+   * suffixed with {@code fieldValue}, so copying the same documents again does not duplicate them,
+   * and copies of copies keep ids of the same length.
+   *
+   * @param index the index or data stream name
+   * @param rangeFieldName the field name to apply the range query on
+   * @param gte greater than or equal to value (inclusive), can be null
+   * @param lte less than or equal to value (inclusive), can be null
+   * @param excludedTermKey the field name for the excluded terms
+   * @param excludedTermValues the values of the documents not to copy, can be empty
+   * @param fieldName the field to set on the copies
+   * @param fieldValue the value to set on the copies
+   * @throws IOException if there's an error during the copy operation
+   */
+  void copyByRange(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String excludedTermKey,
+      List<String> excludedTermValues,
+      String fieldName,
+      Object fieldValue)
+      throws IOException;
+
   /**
    * Updates column FQNs in upstream lineage data across all documents in the index.
    * This method updates both toColumn and fromColumns fields in the lineage column mappings.
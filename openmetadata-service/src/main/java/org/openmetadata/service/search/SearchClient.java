@@ -354,6 +354,12 @@ public interface SearchClient
           }
           """;
 
+  String COPY_WITH_FIELD_VALUE_SCRIPT =
+      """
+          ctx._source[params.field] = params.value;
+          ctx._id = ctx._source.id + '-' + params.value;
+          """;
+
   String NOT_IMPLEMENTED_ERROR_TYPE = "NOT_IMPLEMENTED";
 
   String ENTITY_RELATIONSHIP_DIRECTION_ENTITY = "entityRelationship.entity.fqnHash.keyword";
@@ -572,6 +572,40 @@ public class ElasticSearchClient implements SearchClient {
     entityManager.deleteByRangeAndTerm(index, rangeFieldName, gt, gte, lt, lte, termKey, termValue);
   }
 
+  @Override
+  public void deleteByRangeAndTerms(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String termKey,
+      List<String> termValues)
+      throws IOException {
+    entityManager.deleteByRangeAndTerms(index, rangeFieldName, gte, lte, termKey, termValues);
+  }
+
+  @Override
+  public void copyByRange(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String excludedTermKey,
+      List<String> excludedTermValues,
+      String fieldName,
+      Object fieldValue)
+      throws IOException {
+    entityManager.copyByRange(
+        index,
+        rangeFieldName,
+        gte,
+        lte,
+        excludedTermKey,
+        excludedTermValues,
+        fieldName,
+        fieldValue);
+  }
+
   @Override
   public BulkResponse bulkElasticSearch(List<BulkOperation> operations) throws IOException {
     return newClient.bulk(b -> b.operations(operations).refresh(Refresh.True));
@@ -3,6 +3,7 @@ package org.openmetadata.service.search.elasticsearch;
 import static org.openmetadata.service.exception.CatalogGenericExceptionMapper.getResponse;
 import static org.openmetadata.service.search.SearchClient.ADD_UPDATE_ENTITY_RELATIONSHIP;
 import static org.openmetadata.service.search.SearchClient.ADD_UPDATE_LINEAGE;
+import static org.openmetadata.service.search.SearchClient.COPY_WITH_FIELD_VALUE_SCRIPT;
 import static org.openmetadata.service.search.SearchClient.DELETE_COLUMN_LINEAGE_SCRIPT;
 import static org.openmetadata.service.search.SearchClient.UPDATE_COLUMN_LINEAGE_SCRIPT;
 import static org.openmetadata.service.search.SearchClient.UPDATE_FQN_PREFIX_SCRIPT;
@@ -14,9 +15,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import es.co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import es.co.elastic.clients.elasticsearch.ElasticsearchClient;
 import es.co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
+import es.co.elastic.clients.elasticsearch._types.Conflicts;
 import es.co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import es.co.elastic.clients.elasticsearch._types.ErrorCause;
 import es.co.elastic.clients.elasticsearch._types.FieldValue;
+import es.co.elastic.clients.elasticsearch._types.OpType;
 import es.co.elastic.clients.elasticsearch._types.Refresh;
 import es.co.elastic.clients.elasticsearch._types.ScriptLanguage;
 import es.co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
@@ -27,6 +30,7 @@ import es.co.elastic.clients.elasticsearch.core.BulkResponse;
 import es.co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import es.co.elastic.clients.elasticsearch.core.DeleteResponse;
 import es.co.elastic.clients.elasticsearch.core.GetResponse;
+import es.co.elastic.clients.elasticsearch.core.ReindexResponse;
 import es.co.elastic.clients.elasticsearch.core.SearchResponse;
 import es.co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
 import es.co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
@@ -747,6 +751,126 @@ public class ElasticSearchEntityManager implements EntityManagementClient {
     }
   }
 
+  @Override
+  public void deleteByRangeAndTerms(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String termKey,
+      List<String> termValues)
+      throws IOException {
+    if (!isClientAvailable) {
+      LOG.error("Elasticsearch client is not available. Cannot delete by range and terms query.");
+      return;
+    }
+    if (termValues.isEmpty()) {
+      return;
+    }
+
+    Query combinedQuery =
+        Query.of(
+            q ->
+                q.bool(
+                    b ->
+                        b.must(rangeQuery(rangeFieldName, gte, lte))
+                            .must(termsQuery(termKey, termValues))));
+
+    DeleteByQueryResponse response =
+        client.deleteByQuery(d -> d.index(index).query(combinedQuery).refresh(true));
+
+    LOG.info(
+        "DeleteByRangeAndTerms response from ES - Deleted: {}, Failures: {}",
+        response.deleted(),
+        response.failures().size());
+
+    if (!response.failures().isEmpty()) {
+      String failureDetails =
+          response.failures().stream()
+              .map(BulkIndexByScrollFailure::toString)
+              .collect(Collectors.joining("; "));
+      LOG.error("DeleteByRangeAndTerms encountered failures: {}", failureDetails);
+    }
+  }
+
+  @Override
+  public void copyByRange(
+      String index,
+      String rangeFieldName,
+      Object gte,
+      Object lte,
+      String excludedTermKey,
+      List<String> excludedTermValues,
+      String fieldName,
+      Object fieldValue)
+      throws IOException {
+    if (!isClientAvailable) {
+      LOG.error("Elasticsearch client is not available. Cannot copy by range query.");
+      return;
+    }
+
+    Query query =
+        Query.of(
+            q ->
+                q.bool(
+                    b -> {
+                      b.must(rangeQuery(rangeFieldName, gte, lte));
+                      if (!excludedTermValues.isEmpty()) {
+                        b.mustNot(termsQuery(excludedTermKey, excludedTermValues));
+                      }
+                      return b;
+                    }));
+    Map<String, JsonData> params =
+        Map.of("field", JsonData.of(fieldName), "value", JsonData.of(fieldValue));
+
+    // Data streams only accept creates. Copies that already exist are skipped as conflicts
+    ReindexResponse response =
+        client.reindex(
+            r ->
+                r.source(s -> s.index(index).query(query))
+                    .dest(d -> d.index(index).opType(OpType.Create))
+                    .script(
+                        s ->
+                            s.inline(
+                                i ->
+                                    i.lang(ScriptLanguage.Painless)
+                                        .source(COPY_WITH_FIELD_VALUE_SCRIPT)
+                                        .params(params)))
+                    .conflicts(Conflicts.Proceed)
+                    .refresh(true));
+
+    LOG.info(
+        "CopyByRange response from ES - Created: {}, Conflicts: {}, Failures: {}",
+        response.created(),
+        response.versionConflicts(),
+        response.failures().size());
+
+    if (!response.failures().isEmpty()) {
+      String failureDetails =
+          response.failures().stream()
+              .map(BulkIndexByScrollFailure::toString)
+              .collect(Collectors.joining("; "));
+      LOG.error("CopyByRange encountered failures: {}", failureDetails);
+    }
+  }
+
+  private static Query rangeQuery(String fieldName, Object gte, Object lte) {
+    return Query.of(
+        q ->
+            q.range(
+                r -> {
+                  RangeQuery.Builder builder = new RangeQuery.Builder().field(fieldName);
+                  if (gte != null) builder.gte(JsonData.of(gte));
+                  if (lte != null) builder.lte(JsonData.of(lte));
+                  return builder;
+                }));
+  }
+
+  private static Query termsQuery(String fieldName, List<String> values) {
+    List<FieldValue> fieldValues = values.stream().map(FieldValue::of).toList();
+    return Query.of(q -> q.terms(t -> t.field(fieldName).terms(tf -> tf.value(fieldValues))));
+  }
+
   @Override
   public void updateColumnsInUpstreamLineage(
       String indexName, HashMap<String, String> originalUpdatedColumnFqnMap) {
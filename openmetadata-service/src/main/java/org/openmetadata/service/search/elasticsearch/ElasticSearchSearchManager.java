@@ -535,6 +535,18 @@ public class ElasticSearchSearchManager implements SearchManagementClient {
           factory.findAssetTypeConfig(request.getIndex(), searchSettings);
       factory.addConfiguredAggregationsV2(requestBuilder, assetConfig);
 
+      // Only fetch the requested source fields
+      if (!nullOrEmpty(request.getIncludeSourceFields())
+          || !nullOrEmpty(request.getExcludeSourceFields())) {
+        requestBuilder.fetchSource(
+            !nullOrEmpty(request.getIncludeSourceFields())
+                ? request.getIncludeSourceFields().toArray(String[]::new)
+                : null,
+            !nullOrEmpty(request.getExcludeSourceFields())
+                ? request.getExcludeSourceFields().toArray(String[]::new)
+                : null);
+      }
+
       // Set pagination
       requestBuilder.from(request.getFrom());
       requestBuilder.size(request.getSize());
@@ -16,19 +16,31 @@ package org.openmetadata.service.secrets;
 import static org.openmetadata.schema.security.secrets.SecretsManagerProvider.MANAGED_AWS;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.CreateSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.DeleteSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
 import software.amazon.awssdk.services.secretsmanager.model.Tag;
 import software.amazon.awssdk.services.secretsmanager.model.UpdateSecretRequest;
 
 @Slf4j
 public class AWSSecretsManager extends AWSBasedSecretsManager {
+  // Maximum number of secret ids accepted by a single BatchGetSecretValue call
+  private static final int BATCH_GET_LIMIT = 20;
   private static AWSSecretsManager instance = null;
   private SecretsManagerClient secretsClient;
 
@@ -83,6 +95,27 @@ public class AWSSecretsManager extends AWSBasedSecretsManager {
     return this.secretsClient.getSecretValue(getSecretValueRequest).secretString();
   }
 
+  @Override
+  protected Map<String, String> getSecrets(Set<String> secretNames) {
+    Map<String, String> values = new HashMap<>();
+    try {
+      for (List<String> batch : Lists.partition(new ArrayList<>(secretNames), BATCH_GET_LIMIT)) {
+        BatchGetSecretValueResponse response =
+            this.secretsClient.batchGetSecretValue(
+                BatchGetSecretValueRequest.builder().secretIdList(batch).build());
+        for (SecretValueEntry entry : response.secretValues()) {
+          if (entry.secretString() != null) {
+            values.put(entry.name(), entry.secretString());
+          }
+        }
+      }
+    } catch (SdkException e) {
+      // e.g. the role is not allowed to call BatchGetSecretValue, the secrets are read one by one
+      LOG.warn("Failed to batch get {} secrets due to [{}]", secretNames.size(), e.getMessage());
+    }
+    return values;
+  }
+
   @Override
   protected void deleteSecretInternal(String secretName) {
     DeleteSecretRequest deleteSecretRequest =
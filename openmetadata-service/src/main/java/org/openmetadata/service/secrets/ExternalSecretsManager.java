@@ -13,14 +13,49 @@
 
 package org.openmetadata.service.secrets;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.openmetadata.schema.security.secrets.SecretsManagerProvider;
+import org.openmetadata.service.exception.SecretsManagerException;
 import org.openmetadata.service.exception.UnhandledServerException;
 
+/**
+ * Secrets manager backed by an external provider. Secret values read from the provider are cached
+ * for {@link #SECRET_CACHE_TTL_SECONDS}, so that decrypting the same connection over and over does
+ * not make one remote call per password field. Secrets that could not be read are remembered for
+ * the shorter {@link #MISSING_SECRET_CACHE_TTL_SECONDS}. Concurrent reads of a secret that is not
+ * cached share a single provider call.
+ *
+ * <p>Storing or deleting a secret through this class invalidates its cache entry. A secret updated
+ * directly in the provider is picked up once its cache entry expires.
+ */
 public abstract class ExternalSecretsManager extends SecretsManager {
   public static final String NULL_SECRET_STRING = "null";
+  static final long SECRET_CACHE_TTL_SECONDS = 300;
+  static final long MISSING_SECRET_CACHE_TTL_SECONDS = 30;
+  private static final long SECRET_CACHE_SIZE = 10000;
   private final long waitTimeBetweenStoreCalls;
+  private final Cache<String, String> secretValues =
+      CacheBuilder.newBuilder()
+          .maximumSize(SECRET_CACHE_SIZE)
+          .expireAfterWrite(SECRET_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+  private final Cache<String, RuntimeException> missingSecrets =
+      CacheBuilder.newBuilder()
+          .maximumSize(SECRET_CACHE_SIZE)
+          .expireAfterWrite(MISSING_SECRET_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
 
   protected ExternalSecretsManager(
       SecretsManagerProvider secretsManagerProvider,
@@ -44,6 +79,54 @@ public abstract class ExternalSecretsManager extends SecretsManager {
     }
   }
 
+  @Override
+  public String getSecretValue(String secretWithPrefix) {
+    String secretName = secretWithPrefix.split(SECRET_FIELD_PREFIX, 2)[1];
+    try {
+      return secretValues.get(secretName, () -> loadSecret(secretName));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof SecretNotFoundException) {
+        return null;
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new SecretsManagerException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  @Override
+  public Map<String, String> getSecretValues(Collection<String> secretsWithPrefix) {
+    Map<String, String> values = new HashMap<>();
+    Set<String> toLoad = new HashSet<>();
+    for (String secretWithPrefix : secretsWithPrefix) {
+      String secretName = secretWithPrefix.split(SECRET_FIELD_PREFIX, 2)[1];
+      String value = secretValues.getIfPresent(secretName);
+      if (value != null) {
+        values.put(secretWithPrefix, value);
+      } else if (missingSecrets.getIfPresent(secretName) == null) {
+        toLoad.add(secretName);
+      }
+    }
+    if (toLoad.size() > 1) {
+      getSecrets(toLoad).forEach(secretValues::put);
+    }
+    // Whatever the batch did not return goes through the single-secret path, which rethrows or
+    // records the failure
+    for (String secretWithPrefix : secretsWithPrefix) {
+      values.computeIfAbsent(secretWithPrefix, this::getSecretValue);
+    }
+    return values;
+  }
+
+  /**
+   * GET the values of several secrets by name. Providers that can read many secrets in one call
+   * override this; secrets that could not be read are left out of the result.
+   */
+  protected Map<String, String> getSecrets(Set<String> secretNames) {
+    return Map.of();
+  }
+
   public void upsertSecret(String secretName, String secretValue) {
     if (existSecret(secretName)) {
       updateSecret(secretName, secretValue != null ? secretValue : NULL_SECRET_STRING);
@@ -52,6 +135,16 @@ public abstract class ExternalSecretsManager extends SecretsManager {
       storeSecret(secretName, secretValue != null ? secretValue : NULL_SECRET_STRING);
       sleep();
     }
+    invalidateSecret(secretName);
+  }
+
+  @Override
+  protected void deleteSecret(String secretName) {
+    try {
+      super.deleteSecret(secretName);
+    } finally {
+      invalidateSecret(secretName);
+    }
   }
 
   public boolean existSecret(String secretName) {
@@ -64,6 +157,35 @@ public abstract class ExternalSecretsManager extends SecretsManager {
     }
   }
 
+  @VisibleForTesting
+  void invalidateSecret(String secretName) {
+    secretValues.invalidate(secretName);
+    missingSecrets.invalidate(secretName);
+  }
+
+  @VisibleForTesting
+  void invalidateSecrets() {
+    secretValues.invalidateAll();
+    missingSecrets.invalidateAll();
+  }
+
+  private String loadSecret(String secretName) {
+    RuntimeException failure = missingSecrets.getIfPresent(secretName);
+    if (failure != null) {
+      throw failure;
+    }
+    try {
+      String value = getSecret(secretName);
+      if (value == null) {
+        throw new SecretNotFoundException(secretName);
+      }
+      return value;
+    } catch (RuntimeException e) {
+      missingSecrets.put(secretName, e);
+      throw e;
+    }
+  }
+
   abstract void storeSecret(String secretName, String secretValue);
 
   abstract void updateSecret(String secretName, String secretValue);
@@ -83,4 +205,11 @@ public abstract class ExternalSecretsManager extends SecretsManager {
   public String cleanNullOrEmpty(String secretValue) {
     return Objects.isNull(secretValue) || secretValue.isEmpty() ? NULL_SECRET_STRING : secretValue;
   }
+
+  /** The provider has no value for the secret; {@link #getSecretValue} returns null for it. */
+  private static class SecretNotFoundException extends SecretsManagerException {
+    SecretNotFoundException(String secretName) {
+      super(String.format("Secret [%s] not found", secretName));
+    }
+  }
 }
@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.secrets;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openmetadata.annotations.PasswordField;
+import org.openmetadata.service.exception.ReflectionException;
+import org.openmetadata.service.util.ReflectionUtil;
+
+/**
+ * Getters of a class that can lead to a {@link PasswordField} value, computed once per class. The
+ * secrets manager and the password masker walk objects through these plans instead of invoking
+ * every getter of every nested object.
+ *
+ * <p>A getter is part of the plan when it is annotated with {@link PasswordField}, or when the
+ * object it returns may hold password fields: its declared type is an OpenMetadata class from which
+ * a password field is reachable, or a type like {@code Object} whose runtime class is only known
+ * when walking the object. Callers still decide at runtime whether to recurse into a value, using
+ * the plan of the value's own class.
+ */
+public final class PasswordFieldPlan {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, String.class);
+  private static final List<String> OPENMETADATA_PACKAGES = List.of("openmetadata", "collate");
+
+  private static final ClassValue<PasswordFieldPlan> PLANS =
+      new ClassValue<>() {
+        @Override
+        protected PasswordFieldPlan computeValue(Class<?> type) {
+          return build(type);
+        }
+      };
+
+  private final List<Accessor> accessors;
+
+  private PasswordFieldPlan(List<Accessor> accessors) {
+    this.accessors = accessors;
+  }
+
+  public static PasswordFieldPlan of(Class<?> type) {
+    return PLANS.get(type);
+  }
+
+  /** Accessors of the getters that can lead to a password field, in no particular order. */
+  public List<Accessor> accessors() {
+    return accessors;
+  }
+
+  /**
+   * Getter of a field, and for {@link PasswordField} getters the matching {@code String} setter.
+   * {@code fieldName} is the getter name without the {@code get} prefix.
+   */
+  public record Accessor(
+      String fieldName, boolean password, MethodHandle getter, MethodHandle setter) {
+
+    public Object get(Object target) {
+      try {
+        return (Object) getter.invokeExact(target);
+      } catch (Throwable e) {
+        throw new ReflectionException(e.getMessage());
+      }
+    }
+
+    public void set(Object target, String value) {
+      if (setter == null) {
+        throw new ReflectionException(
+            String.format("%s.set%s(java.lang.String)", target.getClass().getName(), fieldName));
+      }
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable e) {
+        throw new ReflectionException(e.getMessage());
+      }
+    }
+  }
+
+  private static PasswordFieldPlan build(Class<?> type) {
+    List<Accessor> accessors = new ArrayList<>();
+    for (Method method : type.getMethods()) {
+      if (!ReflectionUtil.isGetMethodOfObject(method)) {
+        continue;
+      }
+      boolean password = method.getAnnotation(PasswordField.class) != null;
+      if (password || mayLeadToPassword(method.getReturnType())) {
+        String fieldName = method.getName().replaceFirst("get", "");
+        accessors.add(
+            new Accessor(
+                fieldName,
+                password,
+                getter(method),
+                password ? setter(type, "set" + fieldName) : null));
+      }
+    }
+    return new PasswordFieldPlan(List.copyOf(accessors));
+  }
+
+  /** Whether a value declared with this type may hold a password field somewhere inside it. */
+  private static boolean mayLeadToPassword(Class<?> declaredType) {
+    if (isOpenValue(declaredType)) {
+      return true;
+    }
+    if (!isOpenMetadataClass(declaredType)) {
+      return false;
+    }
+    Set<Class<?>> visited = new HashSet<>();
+    Deque<Class<?>> toVisit = new ArrayDeque<>();
+    toVisit.add(declaredType);
+    while (!toVisit.isEmpty()) {
+      Class<?> type = toVisit.poll();
+      if (!visited.add(type)) {
+        continue;
+      }
+      for (Method method : type.getMethods()) {
+        if (!ReflectionUtil.isGetMethodOfObject(method)) {
+          continue;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (method.getAnnotation(PasswordField.class) != null || isOpenValue(returnType)) {
+          return true;
+        }
+        if (isOpenMetadataClass(returnType)) {
+          toVisit.add(returnType);
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Types whose values can be OpenMetadata objects of any class, e.g. {@code Object authType}. */
+  private static boolean isOpenValue(Class<?> type) {
+    if (type == Object.class) {
+      return true;
+    }
+    boolean isAbstract = type.isInterface() || Modifier.isAbstract(type.getModifiers());
+    return isAbstract
+        && !type.isArray()
+        && !Collection.class.isAssignableFrom(type)
+        && !Map.class.isAssignableFrom(type)
+        && !type.getPackageName().startsWith("java.");
+  }
+
+  private static boolean isOpenMetadataClass(Class<?> type) {
+    return !type.isEnum()
+        && !type.isArray()
+        && Arrays.stream(type.getPackageName().split("\\."))
+            .anyMatch(OPENMETADATA_PACKAGES::contains);
+  }
+
+  private static MethodHandle getter(Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      // Public method declared in a non-public class, fall back to reflection
+      try {
+        MethodHandle invoke =
+            MethodHandles.publicLookup()
+                .findStatic(
+                    ReflectionUtil.class,
+                    "getObjectFromMethod",
+                    MethodType.methodType(Object.class, Method.class, Object.class));
+        return MethodHandles.insertArguments(invoke, 0, method);
+      } catch (ReflectiveOperationException ex) {
+        throw new ReflectionException(ex.getMessage());
+      }
+    }
+  }
+
+  private static MethodHandle setter(Class<?> type, String name) {
+    try {
+      Method method = type.getMethod(name, String.class);
+      return MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
@@ -17,9 +17,10 @@ import static java.util.Objects.isNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import jakarta.ws.rs.core.Response;
-import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -27,7 +28,6 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.openmetadata.annotations.PasswordField;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.auth.BasicAuthMechanism;
 import org.openmetadata.schema.auth.JWTAuthMechanism;
@@ -45,7 +45,6 @@ import org.openmetadata.service.fernet.Fernet;
 import org.openmetadata.service.secrets.converter.ClassConverterFactory;
 import org.openmetadata.service.util.AuthenticationMechanismBuilder;
 import org.openmetadata.service.util.IngestionPipelineBuilder;
-import org.openmetadata.service.util.ReflectionUtil;
 
 @Slf4j
 public abstract class SecretsManager {
@@ -84,6 +83,18 @@ public abstract class SecretsManager {
     return getSecret(secretName);
   }
 
+  /**
+   * GET the values of several secrets, keyed by their `secret:/` reference. Implementations whose
+   * provider can read many secrets in one call override this.
+   */
+  public Map<String, String> getSecretValues(Collection<String> secretsWithPrefix) {
+    Map<String, String> values = new HashMap<>();
+    for (String secretWithPrefix : secretsWithPrefix) {
+      values.put(secretWithPrefix, getSecretValue(secretWithPrefix));
+    }
+    return values;
+  }
+
   /**
    * GET a secret using the SM implementation if the string starts with `secret:/`
    */
@@ -323,37 +334,29 @@ public abstract class SecretsManager {
   private Object encryptPasswordFields(Object toEncryptObject, String secretId, boolean store) {
     try {
       if (!DO_NOT_ENCRYPT_CLASSES.contains(toEncryptObject.getClass())) {
-        // for each get method
-        Arrays.stream(toEncryptObject.getClass().getMethods())
-            .filter(ReflectionUtil::isGetMethodOfObject)
-            .forEach(
-                method -> {
-                  Object obj = ReflectionUtil.getObjectFromMethod(method, toEncryptObject);
-                  String fieldName = method.getName().replaceFirst("get", "");
-                  // if the object matches the package of openmetadata
-                  if (CommonUtil.isOpenMetadataObject(obj)) {
-                    // encryptPasswordFields
-                    encryptPasswordFields(
-                        obj,
-                        buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)),
-                        store);
-                    // check if it has annotation
-                  } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                    // store value if proceed
-                    String newFieldValue =
-                        storeValue(
-                            fieldName, fernet.decryptIfApplies((String) obj), secretId, store);
-                    // get setMethod
-                    Method toSet = ReflectionUtil.getToSetMethod(toEncryptObject, obj, fieldName);
-                    // set new value
-                    ReflectionUtil.setValueInMethod(
-                        toEncryptObject,
-                        Fernet.isTokenized(newFieldValue)
-                            ? newFieldValue
-                            : store ? fernet.encrypt(newFieldValue) : newFieldValue,
-                        toSet);
-                  }
-                });
+        // for each get method that can lead to a password field
+        for (PasswordFieldPlan.Accessor accessor :
+            PasswordFieldPlan.of(toEncryptObject.getClass()).accessors()) {
+          Object obj = accessor.get(toEncryptObject);
+          String fieldName = accessor.fieldName();
+          // if the object matches the package of openmetadata
+          if (CommonUtil.isOpenMetadataObject(obj)) {
+            // encryptPasswordFields
+            encryptPasswordFields(
+                obj, buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)), store);
+            // check if it has annotation
+          } else if (obj != null && accessor.password()) {
+            // store value if proceed
+            String newFieldValue =
+                storeValue(fieldName, fernet.decryptIfApplies((String) obj), secretId, store);
+            // set new value
+            accessor.set(
+                toEncryptObject,
+                Fernet.isTokenized(newFieldValue)
+                    ? newFieldValue
+                    : store ? fernet.encrypt(newFieldValue) : newFieldValue);
+          }
+        }
       }
       return toEncryptObject;
     } catch (Exception e) {
@@ -368,29 +371,23 @@ public abstract class SecretsManager {
 
   private Object decryptPasswordFields(Object toDecryptObject) {
     try {
-      // for each get method
-      Arrays.stream(toDecryptObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toDecryptObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (CommonUtil.isOpenMetadataObject(obj)) {
-                  // encryptPasswordFields
-                  decryptPasswordFields(obj);
-                  // check if it has annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  String fieldValue = (String) obj;
-                  // get setMethod
-                  Method toSet = ReflectionUtil.getToSetMethod(toDecryptObject, obj, fieldName);
-                  // set new value
-                  ReflectionUtil.setValueInMethod(
-                      toDecryptObject,
-                      Fernet.isTokenized(fieldValue) ? fernet.decrypt(fieldValue) : fieldValue,
-                      toSet);
-                }
-              });
+      // for each get method that can lead to a password field
+      for (PasswordFieldPlan.Accessor accessor :
+          PasswordFieldPlan.of(toDecryptObject.getClass()).accessors()) {
+        Object obj = accessor.get(toDecryptObject);
+        // if the object matches the package of openmetadata
+        if (CommonUtil.isOpenMetadataObject(obj)) {
+          // encryptPasswordFields
+          decryptPasswordFields(obj);
+          // check if it has annotation
+        } else if (obj != null && accessor.password()) {
+          String fieldValue = (String) obj;
+          // set new value
+          accessor.set(
+              toDecryptObject,
+              Fernet.isTokenized(fieldValue) ? fernet.decrypt(fieldValue) : fieldValue);
+        }
+      }
       return toDecryptObject;
     } catch (Exception e) {
       LOG.error("Error trying to decrypt object due to [{}]", e.getMessage());
@@ -402,35 +399,14 @@ public abstract class SecretsManager {
   }
 
   /**
-   * Get the object and use the secrets manager to get the right value to show
+   * Get the object and use the secrets manager to get the right value to show. All the secrets
+   * referenced by the object are resolved together with {@link #getSecretValues}.
    */
   private Object getSecretFields(Object toDecryptObject) {
     try {
-      // for each get method
-      Arrays.stream(toDecryptObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toDecryptObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (CommonUtil.isOpenMetadataObject(obj)) {
-                  // encryptPasswordFields
-                  getSecretFields(obj);
-                  // check if it has annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  String fieldValue = (String) obj;
-                  // get setMethod
-                  Method toSet = ReflectionUtil.getToSetMethod(toDecryptObject, obj, fieldName);
-                  // set new value
-                  ReflectionUtil.setValueInMethod(
-                      toDecryptObject,
-                      Boolean.TRUE.equals(isSecret(fieldValue))
-                          ? getSecretValue(fieldValue)
-                          : fieldValue,
-                      toSet);
-                }
-              });
+      Set<String> secretReferences = new HashSet<>();
+      collectSecretReferences(toDecryptObject, secretReferences);
+      setSecretFields(toDecryptObject, getSecretValues(secretReferences));
       return toDecryptObject;
     } catch (Exception e) {
       throw new SecretsManagerException(
@@ -440,6 +416,39 @@ public abstract class SecretsManager {
     }
   }
 
+  private void collectSecretReferences(Object object, Set<String> secretReferences) {
+    for (PasswordFieldPlan.Accessor accessor :
+        PasswordFieldPlan.of(object.getClass()).accessors()) {
+      Object obj = accessor.get(object);
+      if (CommonUtil.isOpenMetadataObject(obj)) {
+        collectSecretReferences(obj, secretReferences);
+      } else if (obj != null
+          && accessor.password()
+          && Boolean.TRUE.equals(isSecret((String) obj))) {
+        secretReferences.add((String) obj);
+      }
+    }
+  }
+
+  private void setSecretFields(Object toDecryptObject, Map<String, String> secretValues) {
+    // for each get method that can lead to a password field
+    for (PasswordFieldPlan.Accessor accessor :
+        PasswordFieldPlan.of(toDecryptObject.getClass()).accessors()) {
+      Object obj = accessor.get(toDecryptObject);
+      // if the object matches the package of openmetadata
+      if (CommonUtil.isOpenMetadataObject(obj)) {
+        setSecretFields(obj, secretValues);
+        // check if it has annotation
+      } else if (obj != null && accessor.password()) {
+        String fieldValue = (String) obj;
+        // set new value
+        accessor.set(
+            toDecryptObject,
+            Boolean.TRUE.equals(isSecret(fieldValue)) ? secretValues.get(fieldValue) : fieldValue);
+      }
+    }
+  }
+
   protected abstract String storeValue(
       String fieldName, String value, String secretId, boolean store);
 
@@ -491,6 +500,10 @@ public abstract class SecretsManager {
 
   protected abstract void deleteSecretInternal(String secretName);
 
+  protected void deleteSecret(String secretName) {
+    deleteSecretInternal(secretName);
+  }
+
   public void deleteSecretsFromServiceConnectionConfig(
       Object connectionConfig,
       String connectionType,
@@ -530,23 +543,19 @@ public abstract class SecretsManager {
 
   private void deleteSecrets(Object toDeleteSecretsFrom, String secretId) {
     if (!DO_NOT_ENCRYPT_CLASSES.contains(toDeleteSecretsFrom.getClass())) {
-      Arrays.stream(toDeleteSecretsFrom.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toDeleteSecretsFrom);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // check if it has annotation:
-                // We are replicating the logic that we use for storing the fields we need to
-                // encrypt at encryptPasswordFields
-                if (CommonUtil.isOpenMetadataObject(obj)) {
-                  deleteSecrets(
-                      obj, buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)));
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  deleteSecretInternal(
-                      buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)));
-                }
-              });
+      for (PasswordFieldPlan.Accessor accessor :
+          PasswordFieldPlan.of(toDeleteSecretsFrom.getClass()).accessors()) {
+        Object obj = accessor.get(toDeleteSecretsFrom);
+        String fieldName = accessor.fieldName();
+        // check if it has annotation:
+        // We are replicating the logic that we use for storing the fields we need to
+        // encrypt at encryptPasswordFields
+        if (CommonUtil.isOpenMetadataObject(obj)) {
+          deleteSecrets(obj, buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)));
+        } else if (obj != null && accessor.password()) {
+          deleteSecret(buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)));
+        }
+      }
     }
   }
 
@@ -17,14 +17,11 @@ import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.schema.type.Include.NON_DELETED;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.policies.Policy;
@@ -35,6 +32,7 @@ import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.TeamRepository;
 import org.openmetadata.service.util.FullyQualifiedName;
 
 /** Subject context used for Access Control Policies */
@@ -42,6 +40,7 @@ import org.openmetadata.service.util.FullyQualifiedName;
 public record SubjectContext(User user, String impersonatedBy) {
   private static final String USER_FIELDS = "roles,teams,isAdmin,profile,domains";
   public static final String TEAM_FIELDS = "defaultRoles, policies, parents, profile,domains";
+  private static final String TEAM_POLICY_FIELDS = "defaultRoles,policies";
 
   public static SubjectContext getSubjectContext(String userName) {
     User user = Entity.getEntityByName(Entity.USER, userName, USER_FIELDS, NON_DELETED);
@@ -153,35 +152,15 @@ public record SubjectContext(User user, String impersonatedBy) {
 
   /** Return true if the team is part of the hierarchy of parentTeam */
   public static boolean isInTeam(String parentTeam, EntityReference team) {
-    Deque<EntityReference> stack = new ArrayDeque<>();
-    stack.push(team); // Start with team and see if the parent matches
-    while (!stack.isEmpty()) {
-      try {
-        Team parent = Entity.getEntity(Entity.TEAM, stack.pop().getId(), "parents", NON_DELETED);
-        if (parent.getName().equals(parentTeam)) {
-          return true;
-        }
-        listOrEmpty(parent.getParents())
-            .forEach(stack::push); // Continue to go up the chain of parents
-      } catch (Exception ex) {
-        // Ignore and return false
-      }
-    }
-    return false;
+    return getTeamRepository().isInTeam(parentTeam, team.getId());
   }
 
   public static List<EntityReference> getRolesForTeams(List<EntityReference> teams) {
-    List<EntityReference> roles = new ArrayList<>();
-    for (EntityReference teamRef : listOrEmpty(teams)) {
-      try {
-        Team team = Entity.getEntity(Entity.TEAM, teamRef.getId(), TEAM_FIELDS, NON_DELETED);
-        roles.addAll(team.getDefaultRoles());
-        roles.addAll(getRolesForTeams(team.getParents()));
-      } catch (Exception ex) {
-        // Ignore and continue
-      }
-    }
-    return roles.stream().distinct().collect(Collectors.toList());
+    return getTeamRepository().getRolesForTeams(teams);
+  }
+
+  private static TeamRepository getTeamRepository() {
+    return (TeamRepository) Entity.getEntityRepository(Entity.TEAM);
   }
 
   public List<EntityReference> getUserDomains() {
@@ -204,25 +183,11 @@ public record SubjectContext(User user, String impersonatedBy) {
 
   /** Return true if the given user has any roles the list of roles */
   public static boolean hasRole(User user, String role) {
-    Deque<EntityReference> stack = new ArrayDeque<>();
     // If user has one of the roles directly assigned then return true
     if (hasRole(user.getRoles(), role)) {
       return true;
     }
-    listOrEmpty(user.getTeams()).forEach(stack::push); // Continue to go up the chain of parents
-    while (!stack.isEmpty()) {
-      try {
-        Team parent = Entity.getEntity(Entity.TEAM, stack.pop().getId(), TEAM_FIELDS, NON_DELETED);
-        if (hasRole(parent.getDefaultRoles(), role)) {
-          return true;
-        }
-        listOrEmpty(parent.getParents())
-            .forEach(stack::push); // Continue to go up the chain of parents
-      } catch (Exception ex) {
-        // Ignore the exception and return false
-      }
-    }
-    return false;
+    return hasRole(getRolesForTeams(user.getTeams()), role);
   }
 
   private static boolean hasRole(List<EntityReference> userRoles, String expectedRole) {
@@ -374,11 +339,12 @@ public record SubjectContext(User user, String impersonatedBy) {
         iterators.add(new RolePolicyIterator(Entity.USER, user.getName(), user.getRoles()));
       }
 
-      // Next, iterate over policies of teams to which the user belongs to
+      // Next, iterate over policies of teams to which the user belongs to, and of the teams above
+      // them, nearest first
       // Note that ** Bots don't inherit policies or default roles from teams **
       if (!Boolean.TRUE.equals(user.getIsBot())) {
-        for (EntityReference team : user.getTeams()) {
-          iterators.add(new TeamPolicyIterator(team.getId(), teamsVisited, false));
+        for (UUID teamId : getTeamRepository().listAncestorIds(user.getTeams())) {
+          iterators.add(new TeamPolicyIterator(teamId, teamsVisited, false));
         }
       }
 
@@ -387,10 +353,11 @@ public record SubjectContext(User user, String impersonatedBy) {
         for (EntityReference resourceOwner : resourceOwners) {
           if (resourceOwner.getType().equals(Entity.TEAM)) {
             try {
-              Team team =
-                  Entity.getEntity(
-                      Entity.TEAM, resourceOwner.getId(), TEAM_FIELDS, Include.NON_DELETED);
-              iterators.add(new TeamPolicyIterator(team.getId(), teamsVisited, true));
+              List<UUID> teamIds =
+                  getTeamRepository().listAncestorIds(List.of(resourceOwner));
+              for (UUID teamId : teamIds) {
+                iterators.add(new TeamPolicyIterator(teamId, teamsVisited, true));
+              }
             } catch (Exception ex) {
               // Ignore
             }
@@ -422,7 +389,8 @@ public record SubjectContext(User user, String impersonatedBy) {
 
   /**
    * A class that allows iterating over policies of a team using iterator of iterators. For a team, the policies in team
-   * roles are visited one by one, followed by the policies in the parent teams.
+   * roles are visited one by one, followed by the policies of the team. The parent teams, read from the team
+   * closure, get iterators of their own.
    */
   static class TeamPolicyIterator implements Iterator<PolicyContext> {
     private int iteratorIndex = 0;
@@ -430,7 +398,7 @@ public record SubjectContext(User user, String impersonatedBy) {
 
     /** Policy iterator for a team */
     TeamPolicyIterator(UUID teamId, List<UUID> teamsVisited, boolean skipRoles) {
-      Team team = Entity.getEntity(Entity.TEAM, teamId, TEAM_FIELDS, Include.NON_DELETED);
+      Team team = Entity.getEntity(Entity.TEAM, teamId, TEAM_POLICY_FIELDS, Include.NON_DELETED);
 
       // If a team is already visited (because user can belong to multiple teams
       // and a team can belong to multiple teams) then don't visit the roles/policies of that team
@@ -443,9 +411,6 @@ public record SubjectContext(User user, String impersonatedBy) {
         if (team.getPolicies() != null) {
           iterators.add(new PolicyIterator(Entity.TEAM, team.getName(), null, team.getPolicies()));
         }
-        for (EntityReference parentTeam : listOrEmpty(team.getParents())) {
-          iterators.add(new TeamPolicyIterator(parentTeam.getId(), teamsVisited, skipRoles));
-        }
       }
     }
 
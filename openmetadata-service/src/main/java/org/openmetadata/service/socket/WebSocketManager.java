@@ -3,6 +3,7 @@ package org.openmetadata.service.socket;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.service.Entity.USER;
 
+import io.micrometer.core.instrument.Metrics;
 import io.socket.engineio.server.EngineIoServer;
 import io.socket.engineio.server.EngineIoServerOptions;
 import io.socket.socketio.server.SocketIoNamespace;
@@ -10,9 +11,13 @@ import io.socket.socketio.server.SocketIoServer;
 import io.socket.socketio.server.SocketIoSocket;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
@@ -39,15 +44,55 @@ public class WebSocketManager {
   public static final String MOVE_GLOSSARY_TERM_CHANNEL = "moveGlossaryTermChannel";
   public static final String RDF_INDEX_JOB_BROADCAST_CHANNEL = "rdfIndexJobStatus";
   public static final String CHART_DATA_STREAM_CHANNEL = "chartDataStream";
+  // Several messages flushed together, as a JSON array of {event, message}
+  public static final String BATCH_CHANNEL = "batch";
+  // Number of messages per channel dropped for a user whose queue was full
+  public static final String MESSAGES_DROPPED_CHANNEL = "messagesDropped";
+
+  // Channels whose messages are full status snapshots: only the latest pending one is sent
+  private static final Set<String> SNAPSHOT_CHANNELS =
+      Set.of(
+          SEARCH_INDEX_JOB_BROADCAST_CHANNEL,
+          DATA_INSIGHTS_JOB_BROADCAST_CHANNEL,
+          CACHE_WARMUP_JOB_BROADCAST_CHANNEL,
+          RDF_INDEX_JOB_BROADCAST_CHANNEL);
+  private static final long FLUSH_INTERVAL_MILLIS = 250;
+  private static final int OUTBOX_CAPACITY = 1000;
+  // Most messages written to the sockets of one user per flush, see flush()
+  private static final int MAX_MESSAGES_PER_FLUSH = 100;
 
   @Getter
   private final Map<UUID, Map<String, SocketIoSocket>> activityFeedEndpoints =
       new ConcurrentHashMap<>();
 
+  private final Map<UUID, WebSocketOutbox> outboxes = new ConcurrentHashMap<>();
+  private final WebSocketOutbox.ChannelListener channelMetrics =
+      new WebSocketOutbox.ChannelListener() {
+        @Override
+        public void onCoalesced(String event) {
+          Metrics.counter("websocket.messages.coalesced", "channel", event).increment();
+        }
+
+        @Override
+        public void onDropped(String event) {
+          Metrics.counter("websocket.messages.dropped", "channel", event).increment();
+        }
+      };
+
   private WebSocketManager(EngineIoServerOptions eiOptions) {
     engineIoServer = new EngineIoServer(eiOptions);
     socketIoServer = new SocketIoServer(engineIoServer);
     initializeHandlers();
+
+    Metrics.gauge(
+        "websocket.outbox.pending",
+        outboxes,
+        all -> all.values().stream().mapToInt(WebSocketOutbox::size).sum());
+    ScheduledExecutorService flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("websocket-flusher").daemon().factory());
+    flusher.scheduleWithFixedDelay(
+        this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
   }
 
   private void initializeHandlers() {
@@ -119,22 +164,29 @@ public class WebSocketManager {
   }
 
   public void broadCastMessageToAll(String event, String message) {
-    activityFeedEndpoints.forEach(
-        (key, value) -> value.forEach((key1, value1) -> value1.send(event, message)));
+    activityFeedEndpoints.keySet().forEach(receiver -> sendToOne(receiver, event, message));
   }
 
   public void sendToOne(UUID receiver, String event, String message) {
+    sendToOne(receiver, event, message, SNAPSHOT_CHANNELS.contains(event) ? event : null);
+  }
+
+  /**
+   * Queue a message for all the sockets of the receiver. A pending message of the same event with
+   * the same {@code coalesceKey}, e.g. a progress update of the same job, is replaced by this one.
+   */
+  public void sendToOne(UUID receiver, String event, String message, String coalesceKey) {
     if (activityFeedEndpoints.containsKey(receiver)) {
-      activityFeedEndpoints.get(receiver).forEach((key, value) -> value.send(event, message));
+      outboxes
+          .computeIfAbsent(receiver, k -> new WebSocketOutbox(OUTBOX_CAPACITY, channelMetrics))
+          .offer(event, message, coalesceKey);
     }
   }
 
   public void sendToOne(String username, String event, String message) {
     try {
       UUID receiver = Entity.getEntityReferenceByName(USER, username, Include.NON_DELETED).getId();
-      if (activityFeedEndpoints.containsKey(receiver)) {
-        activityFeedEndpoints.get(receiver).forEach((key, value) -> value.send(event, message));
-      }
+      sendToOne(receiver, event, message);
     } catch (EntityNotFoundException ex) {
       LOG.error("User with {} not found", username);
     }
@@ -149,6 +201,53 @@ public class WebSocketManager {
     receivers.forEach(e -> sendToOne(e.getId(), event, message));
   }
 
+  /**
+   * Send the pending messages of every user: a single message as its own event, several as one
+   * {@link #BATCH_CHANNEL} frame.
+   *
+   * <p>The Engine.IO server does not expose how much is buffered for a socket, and {@code send}
+   * never blocks, so there is no backpressure from slow clients. Instead, at most {@link
+   * #MAX_MESSAGES_PER_FLUSH} messages are written per user and flush, and the others wait in the
+   * outbox. A user receiving more than that keeps filling the outbox, whose oldest messages are
+   * then dropped and reported with {@link #MESSAGES_DROPPED_CHANNEL}. A client that cannot read
+   * even that rate stops answering pings and is disconnected by the Engine.IO ping timeout, which
+   * frees its buffer.
+   */
+  void flush() {
+    for (Map.Entry<UUID, WebSocketOutbox> entry : outboxes.entrySet()) {
+      try {
+        Map<String, SocketIoSocket> sockets = activityFeedEndpoints.get(entry.getKey());
+        if (sockets == null || sockets.isEmpty()) {
+          outboxes.remove(entry.getKey());
+          continue;
+        }
+        List<WebSocketOutbox.OutboundMessage> messages =
+            entry.getValue().drain(MAX_MESSAGES_PER_FLUSH);
+        Map<String, Integer> dropped = entry.getValue().drainDropped();
+        if (!dropped.isEmpty()) {
+          messages.add(
+              new WebSocketOutbox.OutboundMessage(
+                  MESSAGES_DROPPED_CHANNEL, JsonUtils.pojoToJson(dropped)));
+        }
+        if (messages.isEmpty()) {
+          continue;
+        }
+        WebSocketOutbox.OutboundMessage frame =
+            messages.size() == 1
+                ? messages.get(0)
+                : new WebSocketOutbox.OutboundMessage(
+                    BATCH_CHANNEL, JsonUtils.pojoToJson(messages));
+        sockets.values().forEach(socket -> socket.send(frame.event(), frame.message()));
+        messages.forEach(
+            message ->
+                Metrics.counter("websocket.messages.sent", "channel", message.event())
+                    .increment());
+      } catch (Exception e) {
+        LOG.error("Failed to flush WebSocket messages for user {}", entry.getKey(), e);
+      }
+    }
+  }
+
   public static class WebSocketManagerBuilder {
     private WebSocketManagerBuilder() {}
 
@@ -0,0 +1,98 @@
+package org.openmetadata.service.socket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of the messages waiting to be sent to one user, drained by the {@link
+ * WebSocketManager} flusher on a short timer.
+ *
+ * <p>A message offered with a coalesce key replaces the pending message with the same key, e.g. a
+ * job status snapshot replaces the previous snapshot of the same job, keeping its place in the
+ * queue. When the queue is full, the oldest message is dropped rather than blocking the sender,
+ * and the next drain reports how many messages of each channel were dropped.
+ */
+public class WebSocketOutbox {
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  private final int capacity;
+  private final ChannelListener listener;
+  private final LinkedHashMap<Object, OutboundMessage> pending = new LinkedHashMap<>();
+  private final Map<String, Integer> droppedByChannel = new LinkedHashMap<>();
+
+  public record OutboundMessage(String event, String message) {}
+
+  /** Notified of messages that will not be sent as offered. */
+  public interface ChannelListener {
+    void onCoalesced(String event);
+
+    void onDropped(String event);
+  }
+
+  public WebSocketOutbox(int capacity, ChannelListener listener) {
+    this.capacity = capacity;
+    this.listener = listener;
+  }
+
+  /**
+   * Queue a message. With a non-null {@code coalesceKey}, a pending message of the same event and
+   * key is replaced instead.
+   */
+  public synchronized void offer(String event, String message, String coalesceKey) {
+    Object key =
+        coalesceKey != null ? new CoalesceKey(event, coalesceKey) : SEQUENCE.incrementAndGet();
+    OutboundMessage outbound = new OutboundMessage(event, message);
+    if (pending.containsKey(key)) {
+      pending.put(key, outbound);
+      listener.onCoalesced(event);
+      return;
+    }
+    if (pending.size() >= capacity) {
+      Iterator<OutboundMessage> oldest = pending.values().iterator();
+      String droppedEvent = oldest.next().event();
+      oldest.remove();
+      droppedByChannel.merge(droppedEvent, 1, Integer::sum);
+      listener.onDropped(droppedEvent);
+    }
+    pending.put(key, outbound);
+  }
+
+  /** Take all pending messages, in the order they were first queued. */
+  public synchronized List<OutboundMessage> drain() {
+    return drain(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Take at most {@code maxMessages} pending messages, oldest first. The others stay queued for the
+   * next drain.
+   */
+  public synchronized List<OutboundMessage> drain(int maxMessages) {
+    List<OutboundMessage> messages = new ArrayList<>(Math.min(maxMessages, pending.size()));
+    Iterator<OutboundMessage> oldest = pending.values().iterator();
+    while (oldest.hasNext() && messages.size() < maxMessages) {
+      messages.add(oldest.next());
+      oldest.remove();
+    }
+    return messages;
+  }
+
+  /** Take the number of messages dropped per channel since the last call. */
+  public synchronized Map<String, Integer> drainDropped() {
+    if (droppedByChannel.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, Integer> dropped = new LinkedHashMap<>(droppedByChannel);
+    droppedByChannel.clear();
+    return dropped;
+  }
+
+  public synchronized int size() {
+    return pending.size();
+  }
+
+  private record CoalesceKey(String event, String key) {}
+}
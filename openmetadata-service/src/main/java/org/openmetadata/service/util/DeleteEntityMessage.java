@@ -10,6 +10,8 @@ public class DeleteEntityMessage {
   @Getter @Setter private String status;
   @Getter @Setter private String entityName;
   @Getter @Setter private String error;
+  @Getter @Setter private Long deletedCount;
+  @Getter @Setter private Long totalCount;
 
   public DeleteEntityMessage(String jobId, String status, String error) {
     this.jobId = jobId;
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+/**
+ * Carries the progress listener of an asynchronous delete job to the repository code that runs the
+ * cascade deletion. The listener is bound to the thread that starts the delete; code that fans out
+ * to worker threads must read it with {@link #current()} before submitting work.
+ */
+public final class DeletionProgress {
+  private static final ThreadLocal<Listener> CURRENT = new ThreadLocal<>();
+  private static final Listener NO_OP = (deleted, total) -> {};
+
+  /**
+   * Receives the number of entities deleted so far and the number found so far. The total grows as
+   * the deletion walks deeper into the hierarchy.
+   */
+  @FunctionalInterface
+  public interface Listener {
+    void onProgress(long deleted, long total);
+  }
+
+  private DeletionProgress() {}
+
+  public static void set(Listener listener) {
+    CURRENT.set(listener);
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  public static Listener current() {
+    Listener listener = CURRENT.get();
+    return listener == null ? NO_OP : listener;
+  }
+}
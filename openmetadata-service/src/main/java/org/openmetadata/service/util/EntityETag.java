@@ -19,6 +19,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.exception.PreconditionFailedException;
 
 /**
@@ -32,6 +33,7 @@ public class EntityETag {
   public static final String ETAG_HEADER = "ETag";
   public static final String IF_MATCH_HEADER = "If-Match";
   public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+  public static final String CONTENT_ETAG_HEADER = "X-Content-ETag";
 
   private static final String ETAG_PREFIX = "\"";
   private static final String ETAG_SUFFIX = "\"";
@@ -59,6 +61,21 @@ public class EntityETag {
     return ETAG_PREFIX + hash + ETAG_SUFFIX;
   }
 
+  /**
+   * Generate an ETag from the serialized entity. Unlike {@link #generateETag}, it also changes
+   * when only the requested fields or the relationships of the entity change, such as a new
+   * follower, which do not bump the version.
+   *
+   * @param entity The entity as returned in the response body
+   * @return ETag string hashing the JSON of the entity
+   */
+  public static String generateContentETag(EntityInterface entity) {
+    if (entity == null) {
+      return null;
+    }
+    return ETAG_PREFIX + generateHash(JsonUtils.pojoToJson(entity)) + ETAG_SUFFIX;
+  }
+
   /**
    * Generate a weak ETag that only considers the version.
    * Weak ETags are prefixed with W/ and are useful when byte-for-byte equality is not required.
@@ -13,14 +13,21 @@
 
 package org.openmetadata.service.util;
 
-import static org.openmetadata.schema.type.Include.ALL;
 import static org.openmetadata.service.util.OpenMetadataOperations.printToAsciiTable;
 
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,29 +38,44 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
-import org.openmetadata.service.jdbi3.EntityRepository;
-import org.openmetadata.service.jdbi3.EntityTimeSeriesRepository;
-import org.openmetadata.service.jdbi3.FeedRepository;
-import org.openmetadata.service.util.relationshipcleanup.DefaultRelationshipValidator;
-import org.openmetadata.service.util.relationshipcleanup.LineageRelationshipValidator;
-import org.openmetadata.service.util.relationshipcleanup.RelationshipValidator;
-
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityTypePairCount;
+import org.openmetadata.service.jdbi3.CollectionDAO.LineagePipelineReference;
+import org.openmetadata.service.jdbi3.CollectionDAO.MissingEndpointRelationship;
+
+/**
+ * Finds and deletes relationships whose from or to entity no longer exists.
+ *
+ * <p>Relationships are scanned in ranges of {@code batchSize} rows in fromId order. Within a range,
+ * the relationships of every (fromEntity, toEntity) pair are anti-joined against the tables of both
+ * entity types, so the database returns only the orphans instead of the cleanup looking up both
+ * ends of every relationship. Lineage relationships are also orphaned when the pipeline in their
+ * lineage details is gone. Orphans of a range are deleted in one batch before moving on.
+ *
+ * <p>Only the first {@link #MAX_ORPHANS_IN_RESULT} orphans are kept in the result and printed, the
+ * counts cover all of them. Pass a report file to get every orphan, written as CSV while scanning.
+ */
 @Slf4j
 public class EntityRelationshipCleanup {
+  static final int MAX_ORPHANS_IN_RESULT = 10000;
+  private static final int ID_LOOKUP_BATCH_SIZE = 1000;
+  private static final String REPORT_HEADER = "fromEntity,fromId,toEntity,toId,relation,reason";
 
   private final CollectionDAO collectionDAO;
-  private final Map<String, EntityRepository<?>> entityRepositories = new HashMap<>();
-  private final Map<String, EntityTimeSeriesRepository<?>> entityTimeSeriesRepositoy =
-      new HashMap<>();
-  private final FeedRepository feedRepository;
+  private final Map<String, String> entityTables = new HashMap<>();
+  private final Set<String> entityTypesWithoutTable = new HashSet<>();
   private final boolean dryRun;
+  private final Path reportFile;
 
   public EntityRelationshipCleanup(CollectionDAO collectionDAO, boolean dryRun) {
+    this(collectionDAO, dryRun, null);
+  }
+
+  public EntityRelationshipCleanup(CollectionDAO collectionDAO, boolean dryRun, Path reportFile) {
     this.collectionDAO = collectionDAO;
     this.dryRun = dryRun;
-    this.feedRepository = new FeedRepository();
-    initializeEntityRepositories();
-    initializeTimeSeriesRepositories();
+    this.reportFile = reportFile;
+    initializeEntityTables();
   }
 
   @Data
@@ -78,31 +100,34 @@ public class EntityRelationshipCleanup {
     private int totalRelationshipsScanned;
     private int orphanedRelationshipsFound;
     private int relationshipsDeleted;
+    private int relationshipsFailedToDelete;
     private List<OrphanedRelationship> orphanedRelationships;
     private Map<String, Integer> orphansByEntityType;
     private Map<String, Integer> orphansByRelationType;
   }
 
-  private void initializeEntityRepositories() {
+  /** Table holding the entities of each type: entity, time series or feed table. */
+  private void initializeEntityTables() {
     for (String entityType : Entity.getEntityList()) {
       try {
-        EntityRepository<?> repository = Entity.getEntityRepository(entityType);
-        entityRepositories.put(entityType, repository);
+        entityTables.put(
+            entityType, Entity.getEntityRepository(entityType).getDao().getTableName());
       } catch (EntityNotFoundException e) {
         LOG.debug("No repository found for entity type: {}", entityType);
       }
     }
-  }
-
-  private void initializeTimeSeriesRepositories() {
     for (String entityType : Entity.getEntityList()) {
       try {
-        EntityTimeSeriesRepository<?> repository = Entity.getEntityTimeSeriesRepository(entityType);
-        entityTimeSeriesRepositoy.put(entityType, repository);
+        entityTables.putIfAbsent(
+            entityType,
+            Entity.getEntityTimeSeriesRepository(entityType)
+                .getTimeSeriesDao()
+                .getTimeSeriesTableName());
       } catch (EntityNotFoundException e) {
         LOG.debug("No repository found for entity type: {}", entityType);
       }
     }
+    entityTables.putIfAbsent(Entity.THREAD, "thread_entity");
   }
 
   public EntityCleanupResult performCleanup(int batchSize) {
@@ -116,73 +141,44 @@ public class EntityRelationshipCleanup {
             .orphansByRelationType(new HashMap<>())
             .build();
 
-    try {
-      long totalRelationships = collectionDAO.relationshipDAO().getTotalRelationshipCount();
-      result.setTotalRelationshipsScanned((int) totalRelationships);
-
-      LOG.info(
-          "Found {} total relationships to scan. Processing in batches of {}",
-          totalRelationships,
-          batchSize);
-
-      long offset = 0;
-      int processedCount = 0;
-      int batchNumber = 1;
-
-      while (offset < totalRelationships) {
-        LOG.info("Processing batch {} (offset: {}, limit: {})", batchNumber, offset, batchSize);
-
-        List<CollectionDAO.EntityRelationshipObject> relationshipBatch =
-            collectionDAO.relationshipDAO().getAllRelationshipsPaginated(offset, batchSize);
-
-        if (relationshipBatch.isEmpty()) {
-          LOG.info("No more relationships to process");
-          break;
+    try (Writer report = openReport()) {
+      EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+      String afterFromId = "";
+      String rangeEnd;
+      int rangeNumber = 0;
+
+      while ((rangeEnd = relationshipDAO.getRelationshipRangeEnd(afterFromId, batchSize)) != null) {
+        rangeNumber++;
+        List<OrphanedRelationship> orphans = findOrphans(afterFromId, rangeEnd, result);
+        for (OrphanedRelationship orphan : orphans) {
+          recordOrphan(result, orphan, report);
         }
-
-        for (CollectionDAO.EntityRelationshipObject relationship : relationshipBatch) {
-          OrphanedRelationship orphan = validateRelationship(relationship);
-          if (orphan != null) {
-            result.getOrphanedRelationships().add(orphan);
-
-            result
-                .getOrphansByEntityType()
-                .merge(orphan.getFromEntity() + "->" + orphan.getToEntity(), 1, Integer::sum);
-            result.getOrphansByRelationType().merge(orphan.getRelationshipName(), 1, Integer::sum);
-          }
-          processedCount++;
+        if (!dryRun && !orphans.isEmpty()) {
+          deleteOrphanedRelationships(orphans, result);
         }
+        afterFromId = rangeEnd;
 
-        offset += relationshipBatch.size();
-        batchNumber++;
-
-        if (processedCount % (batchSize * 10) == 0 || offset >= totalRelationships) {
+        if (rangeNumber % 10 == 0) {
           LOG.info(
-              "Progress: {}/{} relationships processed, {} orphaned relationships found",
-              processedCount,
-              totalRelationships,
-              result.getOrphanedRelationships().size());
+              "Progress: {} relationships processed, {} orphaned relationships found",
+              result.getTotalRelationshipsScanned(),
+              result.getOrphanedRelationshipsFound());
         }
       }
 
-      result.setOrphanedRelationshipsFound(result.getOrphanedRelationships().size());
-
       LOG.info(
           "Completed scanning {} relationships. Found {} orphaned relationships",
-          processedCount,
+          result.getTotalRelationshipsScanned(),
           result.getOrphanedRelationshipsFound());
 
       displayOrphanedRelationships(result);
-      if (!dryRun && !result.getOrphanedRelationships().isEmpty()) {
-        result.setRelationshipsDeleted(
-            deleteOrphanedRelationships(result.getOrphanedRelationships()));
-      }
 
       LOG.info(
-          "Entity relationship cleanup completed. Scanned: {}, Found: {}, Deleted: {}",
-          processedCount,
+          "Entity relationship cleanup completed. Scanned: {}, Found: {}, Deleted: {}, Failed: {}",
+          result.getTotalRelationshipsScanned(),
           result.getOrphanedRelationshipsFound(),
-          result.getRelationshipsDeleted());
+          result.getRelationshipsDeleted(),
+          result.getRelationshipsFailedToDelete());
 
     } catch (Exception e) {
       LOG.error("Error during entity relationship cleanup", e);
@@ -192,185 +188,223 @@ public class EntityRelationshipCleanup {
     return result;
   }
 
-  private OrphanedRelationship validateRelationship(
-      CollectionDAO.EntityRelationshipObject relationship) {
-    try {
-      String fromEntity = relationship.getFromEntity();
-      String toEntity = relationship.getToEntity();
-
-      if (!doEntityHaveAnyRepository(fromEntity)) {
-        LOG.error(
-            "No repository found for from entity type: {}, the entity will not be cleaned",
-            fromEntity);
-        return null;
+  /** Orphans among the relationships with {@code afterFromId < fromId <= toFromId}. */
+  private List<OrphanedRelationship> findOrphans(
+      String afterFromId, String toFromId, EntityCleanupResult result) {
+    EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+    List<OrphanedRelationship> orphans = new ArrayList<>();
+    Set<String> orphanKeys = new HashSet<>();
+
+    for (EntityTypePairCount pair : relationshipDAO.countByEntityTypePair(afterFromId, toFromId)) {
+      result.setTotalRelationshipsScanned(
+          result.getTotalRelationshipsScanned() + (int) pair.getCount());
+      String fromTable = getEntityTable(pair.getFromEntity());
+      String toTable = getEntityTable(pair.getToEntity());
+      if (fromTable == null || toTable == null) {
+        continue;
       }
-
-      if (!doEntityHaveAnyRepository(toEntity)) {
-        LOG.error(
-            "No repository found for to entity type: {}, the entity will not be cleaned", toEntity);
-        return null;
+      for (MissingEndpointRelationship missing :
+          relationshipDAO.findMissingEndpoints(
+              fromTable,
+              toTable,
+              pair.getFromEntity(),
+              pair.getToEntity(),
+              afterFromId,
+              toFromId)) {
+        String reason;
+        if (missing.isFromMissing() && missing.isToMissing()) {
+          reason = "Both fromEntity and toEntity do not exist";
+        } else if (missing.isFromMissing()) {
+          reason = "fromEntity does not exist";
+        } else {
+          reason = "toEntity does not exist";
+        }
+        orphans.add(
+            orphan(
+                missing.getFromId(),
+                missing.getToId(),
+                pair.getFromEntity(),
+                pair.getToEntity(),
+                missing.getRelation(),
+                reason));
+        orphanKeys.add(orphanKey(missing.getFromId(), missing.getToId(), missing.getRelation()));
       }
+    }
 
-      RelationshipValidator validator = getValidatorForRelationship(relationship.getRelation());
-      RelationshipValidator.ValidationResult result =
-          validator.validate(relationship, this::entityExists);
+    orphans.addAll(findMissingPipelines(afterFromId, toFromId, orphanKeys));
+    return orphans;
+  }
 
-      if (!result.isOrphaned()) {
-        return null;
+  /**
+   * Lineage relationships in the range whose pipeline no longer exists. Relationships already
+   * orphaned by a missing end, and pipelines of unknown type or with an invalid id, are skipped.
+   */
+  private List<OrphanedRelationship> findMissingPipelines(
+      String afterFromId, String toFromId, Set<String> orphanKeys) {
+    int upstream = Relationship.UPSTREAM.ordinal();
+    Map<String, List<LineagePipelineReference>> lineageByPipelineType = new HashMap<>();
+    for (LineagePipelineReference lineage :
+        collectionDAO.relationshipDAO().findLineagePipelines(afterFromId, toFromId, upstream)) {
+      if (orphanKeys.contains(orphanKey(lineage.getFromId(), lineage.getToId(), upstream))
+          || getEntityTable(lineage.getFromEntity()) == null
+          || getEntityTable(lineage.getToEntity()) == null
+          || lineage.getPipelineType() == null
+          || !entityTables.containsKey(lineage.getPipelineType())
+          || !isUuid(lineage.getPipelineId())) {
+        continue;
       }
-
-      return OrphanedRelationship.builder()
-          .fromId(relationship.getFromId())
-          .toId(relationship.getToId())
-          .fromEntity(fromEntity)
-          .toEntity(toEntity)
-          .relation(relationship.getRelation())
-          .reason(result.getReason())
-          .relationshipName(getRelationshipName(relationship.getRelation()))
-          .build();
-
-    } catch (Exception e) {
-      LOG.debug(
-          "Error validating relationship {}->{}: {}",
-          relationship.getFromId(),
-          relationship.getToId(),
-          e.getMessage());
-
-      return OrphanedRelationship.builder()
-          .fromId(relationship.getFromId())
-          .toId(relationship.getToId())
-          .fromEntity(relationship.getFromEntity())
-          .toEntity(relationship.getToEntity())
-          .relation(relationship.getRelation())
-          .reason("Validation error: " + e.getMessage())
-          .relationshipName(getRelationshipName(relationship.getRelation()))
-          .build();
+      lineageByPipelineType
+          .computeIfAbsent(lineage.getPipelineType(), type -> new ArrayList<>())
+          .add(lineage);
     }
-  }
 
-  private RelationshipValidator getValidatorForRelationship(int relation) {
-    if (relation == Relationship.UPSTREAM.ordinal()) {
-      return new LineageRelationshipValidator();
+    List<OrphanedRelationship> orphans = new ArrayList<>();
+    for (Map.Entry<String, List<LineagePipelineReference>> entry :
+        lineageByPipelineType.entrySet()) {
+      String table = entityTables.get(entry.getKey());
+      List<String> pipelineIds =
+          entry.getValue().stream()
+              .map(LineagePipelineReference::getPipelineId)
+              .distinct()
+              .toList();
+      Set<String> existingIds = new HashSet<>();
+      for (List<String> ids : Lists.partition(pipelineIds, ID_LOOKUP_BATCH_SIZE)) {
+        existingIds.addAll(collectionDAO.relationshipDAO().listExistingIds(table, ids));
+      }
+      for (LineagePipelineReference lineage : entry.getValue()) {
+        if (!existingIds.contains(lineage.getPipelineId())) {
+          orphans.add(
+              orphan(
+                  lineage.getFromId(),
+                  lineage.getToId(),
+                  lineage.getFromEntity(),
+                  lineage.getToEntity(),
+                  upstream,
+                  "Pipeline entity referenced in lineage does not exist"));
+        }
+      }
     }
-    return new DefaultRelationshipValidator();
-  }
-
-  private boolean doEntityHaveAnyRepository(String entityType) {
-    return entityRepositories.containsKey(entityType)
-        || entityTimeSeriesRepositoy.containsKey(entityType)
-        || entityType.equals(Entity.THREAD);
+    return orphans;
   }
 
-  private boolean entityExists(UUID entityId, String entityType) {
-    if (entityRepositories.get(entityType) != null) {
-      return checkInEntityRepository(entityId, entityType);
+  private String getEntityTable(String entityType) {
+    String table = entityTables.get(entityType);
+    if (table == null && entityTypesWithoutTable.add(entityType)) {
+      LOG.error(
+          "No repository found for entity type: {}, its relationships will not be cleaned",
+          entityType);
     }
+    return table;
+  }
 
-    if (entityTimeSeriesRepositoy.get(entityType) != null) {
-      return checkInEntityTimeSeriesRepository(entityId, entityType);
+  private void recordOrphan(EntityCleanupResult result, OrphanedRelationship orphan, Writer report)
+      throws IOException {
+    result.setOrphanedRelationshipsFound(result.getOrphanedRelationshipsFound() + 1);
+    if (result.getOrphanedRelationships().size() < MAX_ORPHANS_IN_RESULT) {
+      result.getOrphanedRelationships().add(orphan);
     }
+    result
+        .getOrphansByEntityType()
+        .merge(orphan.getFromEntity() + "->" + orphan.getToEntity(), 1, Integer::sum);
+    result.getOrphansByRelationType().merge(orphan.getRelationshipName(), 1, Integer::sum);
+    report.write(
+        String.join(
+                ",",
+                orphan.getFromEntity(),
+                orphan.getFromId(),
+                orphan.getToEntity(),
+                orphan.getToId(),
+                orphan.getRelationshipName(),
+                orphan.getReason())
+            + System.lineSeparator());
+  }
 
-    if (entityType.equals(Entity.THREAD)) {
-      return checkInFeedRepository(entityId);
+  private Writer openReport() throws IOException {
+    if (reportFile == null) {
+      return Writer.nullWriter();
     }
-
-    return true;
+    LOG.info("Writing orphaned relationships to {}", reportFile);
+    Writer writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+    writer.write(REPORT_HEADER + System.lineSeparator());
+    return writer;
   }
 
-  private boolean checkInEntityRepository(UUID entityId, String entityType) {
-    try {
-      EntityRepository<?> repository = entityRepositories.get(entityType);
-      repository.get(null, entityId, EntityUtil.Fields.EMPTY_FIELDS, ALL, false);
-      return true;
-    } catch (EntityNotFoundException e) {
-      LOG.debug("Entity {}:{} not found in repository: {}", entityType, entityId, e.getMessage());
-      return false;
-    } catch (Exception ex) {
-      LOG.debug("Entity {}:{} encountered exception: {}", entityType, entityId, ex.getMessage());
-      // If any other exception occurs, we assume the entity is not valid
-      return true;
-    }
+  private OrphanedRelationship orphan(
+      String fromId, String toId, String fromEntity, String toEntity, int relation, String reason) {
+    return OrphanedRelationship.builder()
+        .fromId(fromId)
+        .toId(toId)
+        .fromEntity(fromEntity)
+        .toEntity(toEntity)
+        .relation(relation)
+        .reason(reason)
+        .relationshipName(getRelationshipName(relation))
+        .build();
   }
 
-  private boolean checkInEntityTimeSeriesRepository(UUID entityId, String entityType) {
-    try {
-      EntityTimeSeriesRepository<?> repository = entityTimeSeriesRepositoy.get(entityType);
-      return repository.getById(entityId) != null;
-    } catch (Exception ex) {
-      LOG.debug("Entity {}:{} encountered exception: {}", entityType, entityId, ex.getMessage());
-      return true;
-    }
+  private static String orphanKey(String fromId, String toId, int relation) {
+    return fromId + ":" + toId + ":" + relation;
   }
 
-  private boolean checkInFeedRepository(UUID entityId) {
+  private static boolean isUuid(String id) {
     try {
-      return feedRepository.get(entityId) != null;
-    } catch (EntityNotFoundException e) {
-      LOG.debug(
-          "Entity {}:{} not found in repository: {}", Entity.THREAD, entityId, e.getMessage());
-      return false;
-    } catch (Exception ex) {
-      LOG.debug("Entity {}:{} encountered exception: {}", Entity.THREAD, entityId, ex.getMessage());
+      UUID.fromString(id);
       return true;
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return false;
     }
   }
 
   /**
-   * Deletes orphaned relationships from the database
+   * Deletes orphaned relationships from the database in one batch. When the batch fails, none of
+   * its relationships are deleted and all of them are counted as failed.
    */
-  private int deleteOrphanedRelationships(List<OrphanedRelationship> orphanedRelationships) {
-    LOG.info("Deleting {} orphaned relationships", orphanedRelationships.size());
-    int deletedCount = 0;
-
+  private void deleteOrphanedRelationships(
+      List<OrphanedRelationship> orphanedRelationships, EntityCleanupResult result) {
+    LOG.debug("Deleting {} orphaned relationships", orphanedRelationships.size());
+    List<String> fromIds = new ArrayList<>(orphanedRelationships.size());
+    List<String> toIds = new ArrayList<>(orphanedRelationships.size());
+    List<Integer> relations = new ArrayList<>(orphanedRelationships.size());
     for (OrphanedRelationship orphan : orphanedRelationships) {
-      try {
-        UUID fromId = UUID.fromString(orphan.getFromId());
-        UUID toId = UUID.fromString(orphan.getToId());
-
-        int deleted =
-            collectionDAO
-                .relationshipDAO()
-                .delete(
-                    fromId,
-                    orphan.getFromEntity(),
-                    toId,
-                    orphan.getToEntity(),
-                    orphan.getRelation());
+      fromIds.add(orphan.getFromId());
+      toIds.add(orphan.getToId());
+      relations.add(orphan.getRelation());
+    }
 
+    int deletedCount = 0;
+    try {
+      for (int deleted : collectionDAO.relationshipDAO().deleteBatch(fromIds, toIds, relations)) {
         if (deleted > 0) {
           deletedCount++;
-          LOG.debug(
-              "Deleted orphaned relationship: {} {} -> {} {}",
-              orphan.getFromEntity(),
-              orphan.getFromId(),
-              orphan.getToEntity(),
-              orphan.getToId());
         }
-      } catch (Exception e) {
-        LOG.error(
-            "Failed to delete orphaned relationship: {} {} -> {} {}: {}",
-            orphan.getFromEntity(),
-            orphan.getFromId(),
-            orphan.getToEntity(),
-            orphan.getToId(),
-            e.getMessage());
       }
+    } catch (Exception e) {
+      LOG.error("Failed to delete a batch of {} orphaned relationships", fromIds.size(), e);
+      result.setRelationshipsFailedToDelete(
+          result.getRelationshipsFailedToDelete() + orphanedRelationships.size());
+      return;
     }
 
-    LOG.info(
+    LOG.debug(
         "Successfully deleted {} out of {} orphaned relationships",
         deletedCount,
         orphanedRelationships.size());
-    return deletedCount;
+    result.setRelationshipsDeleted(result.getRelationshipsDeleted() + deletedCount);
   }
 
   private void displayOrphanedRelationships(EntityCleanupResult result) {
-    if (result.getOrphanedRelationships().isEmpty()) {
+    if (result.getOrphanedRelationshipsFound() == 0) {
       LOG.info("No orphaned relationships found. All entity relationships are valid.");
       return;
     }
 
     LOG.info("Found {} orphaned relationships", result.getOrphanedRelationshipsFound());
+    if (result.getOrphanedRelationshipsFound() > result.getOrphanedRelationships().size()) {
+      LOG.info(
+          "Showing the first {} orphaned relationships{}",
+          result.getOrphanedRelationships().size(),
+          reportFile != null ? ", all of them are listed in " + reportFile : "");
+    }
 
     // Display detailed table of orphaned relationships
     List<String> columns =
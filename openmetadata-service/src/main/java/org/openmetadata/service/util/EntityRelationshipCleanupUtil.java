@@ -13,6 +13,7 @@
 
 package org.openmetadata.service.util;
 
+import java.nio.file.Path;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,11 +32,18 @@ public class EntityRelationshipCleanupUtil {
   private final CollectionDAO collectionDAO;
   private final boolean dryRun;
   private final int batchSize;
+  private final Path reportFile;
 
   public EntityRelationshipCleanupUtil(CollectionDAO collectionDAO, boolean dryRun, int batchSize) {
+    this(collectionDAO, dryRun, batchSize, null);
+  }
+
+  public EntityRelationshipCleanupUtil(
+      CollectionDAO collectionDAO, boolean dryRun, int batchSize, Path reportFile) {
     this.collectionDAO = collectionDAO;
     this.dryRun = dryRun;
     this.batchSize = batchSize;
+    this.reportFile = reportFile;
   }
 
   @Data
@@ -64,15 +72,16 @@ public class EntityRelationshipCleanupUtil {
       // Step 1: Clean up orphaned relationships
       LOG.info("=== Step 1: Orphaned Relationships Cleanup ===");
       EntityRelationshipCleanup relationshipCleanup =
-          new EntityRelationshipCleanup(collectionDAO, dryRun);
+          new EntityRelationshipCleanup(collectionDAO, dryRun, reportFile);
       EntityRelationshipCleanup.EntityCleanupResult relationshipResult =
           relationshipCleanup.performCleanup(batchSize);
       result.setRelationshipResult(relationshipResult);
 
       LOG.info(
-          "Orphaned relationships - Found: {}, Deleted: {}",
+          "Orphaned relationships - Found: {}, Deleted: {}, Failed: {}",
           relationshipResult.getOrphanedRelationshipsFound(),
-          relationshipResult.getRelationshipsDeleted());
+          relationshipResult.getRelationshipsDeleted(),
+          relationshipResult.getRelationshipsFailedToDelete());
 
       // Step 2: Clean up broken service hierarchies
       LOG.info("=== Step 2: Service Hierarchy Cleanup ===");
@@ -133,6 +142,9 @@ public class EntityRelationshipCleanupUtil {
       LOG.info(
           "Orphaned relationships found: {}", relationshipResult.getOrphanedRelationshipsFound());
       LOG.info("Orphaned relationships deleted: {}", relationshipResult.getRelationshipsDeleted());
+      LOG.info(
+          "Orphaned relationships failed to delete: {}",
+          relationshipResult.getRelationshipsFailedToDelete());
     }
 
     // Print hierarchy cleanup summary using the reusable component
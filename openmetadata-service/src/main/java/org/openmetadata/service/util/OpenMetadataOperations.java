@@ -26,6 +26,7 @@ import io.dropwizard.jersey.validation.Validators;
 import jakarta.validation.Validator;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -83,6 +84,7 @@ import org.openmetadata.service.jdbi3.AppRepository;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.EventSubscriptionRepository;
+import org.openmetadata.service.jdbi3.FeedRepository;
 import org.openmetadata.service.jdbi3.IngestionPipelineRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.MigrationDAO;
@@ -728,7 +730,13 @@ public class OpenMetadataOperations implements Callable<Integer> {
               description =
                   "Skip the service hierarchy cleanup and only perform generic relationship cleanup.",
               defaultValue = "false")
-          boolean skipHierarchyCleanup) {
+          boolean skipHierarchyCleanup,
+      @Option(
+              names = {"--report-file"},
+              description =
+                  "Write every orphaned relationship found to this CSV file. Only the first "
+                      + "10000 are printed to the console.")
+          String reportFile) {
     try {
       boolean dryRun = !delete;
       LOG.info(
@@ -741,23 +749,28 @@ public class OpenMetadataOperations implements Callable<Integer> {
       if (skipHierarchyCleanup) {
         // Only perform relationship cleanup
         LOG.info("=== Entity Relationship Cleanup Only ===");
-        EntityRelationshipCleanup cleanup = new EntityRelationshipCleanup(collectionDAO, dryRun);
+        EntityRelationshipCleanup cleanup =
+            new EntityRelationshipCleanup(
+                collectionDAO, dryRun, reportFile != null ? Path.of(reportFile) : null);
         EntityRelationshipCleanup.EntityCleanupResult result = cleanup.performCleanup(batchSize);
 
         LOG.info("Total relationships scanned: {}", result.getTotalRelationshipsScanned());
         LOG.info("Orphaned relationships found: {}", result.getOrphanedRelationshipsFound());
         LOG.info("Relationships deleted: {}", result.getRelationshipsDeleted());
+        LOG.info("Relationships failed to delete: {}", result.getRelationshipsFailedToDelete());
 
         if (dryRun && result.getOrphanedRelationshipsFound() > 0) {
           LOG.info("To actually delete these orphaned relationships, run with --delete");
           return 1;
         }
+        if (result.getRelationshipsFailedToDelete() > 0) {
+          return 1;
+        }
       } else {
         // Perform comprehensive cleanup (relationships + hierarchies)
         EntityRelationshipCleanupUtil comprehensiveCleanup =
-            dryRun
-                ? EntityRelationshipCleanupUtil.forDryRun(collectionDAO, batchSize)
-                : EntityRelationshipCleanupUtil.forActualCleanup(collectionDAO, batchSize);
+            new EntityRelationshipCleanupUtil(
+                collectionDAO, dryRun, batchSize, reportFile != null ? Path.of(reportFile) : null);
 
         EntityRelationshipCleanupUtil.CleanupResult result =
             comprehensiveCleanup.performComprehensiveCleanup();
@@ -768,6 +781,9 @@ public class OpenMetadataOperations implements Callable<Integer> {
               "To actually delete these orphaned relationships and broken entities, run with --delete");
           return 1;
         }
+        if (result.getRelationshipResult().getRelationshipsFailedToDelete() > 0) {
+          return 1;
+        }
       }
 
       return 0;
@@ -818,6 +834,42 @@ public class OpenMetadataOperations implements Callable<Integer> {
     }
   }
 
+  @Command(
+      name = "rebuild-activity-feed-inbox",
+      description =
+          "Rebuilds the activity feed inbox of users and teams from the thread relationships. "
+              + "Use it to pick up ownership and follower changes for existing threads.")
+  public Integer rebuildActivityFeedInbox() {
+    try {
+      LOG.info("Rebuilding the activity feed inbox");
+      parseConfig();
+      int rows = FeedRepository.rebuildActivityFeedInbox(collectionDAO);
+      LOG.info("Activity feed inbox rebuilt with {} entries", rows);
+      return 0;
+    } catch (Exception e) {
+      LOG.error("Failed to rebuild the activity feed inbox due to ", e);
+      return 1;
+    }
+  }
+
+  @Command(
+      name = "reconcile-thread-counts",
+      description =
+          "Rebuilds the materialized thread counts of entities from the threads. "
+              + "Use it to repair the conversation and task counts shown for entities.")
+  public Integer reconcileThreadCounts() {
+    try {
+      LOG.info("Reconciling the thread counts");
+      parseConfig();
+      int rows = FeedRepository.reconcileThreadCounts(collectionDAO);
+      LOG.info("Thread counts reconciled with {} entries", rows);
+      return 0;
+    } catch (Exception e) {
+      LOG.error("Failed to reconcile the thread counts due to ", e);
+      return 1;
+    }
+  }
+
   @Command(name = "reindex", description = "Re Indexes data into search engine from command line.")
   public Integer reIndex(
       @Option(
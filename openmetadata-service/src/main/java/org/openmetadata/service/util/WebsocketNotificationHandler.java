@@ -136,7 +136,7 @@ public class WebsocketNotificationHandler {
           .sendToManyWithUUID(receiversList, WebSocketManager.TASK_BROADCAST_CHANNEL, jsonThread);
     } else {
       List<MessageParser.EntityLink> mentions;
-      Post latestPost = thread.getPosts().get(thread.getPostsCount() - 1);
+      Post latestPost = thread.getPosts().get(thread.getPosts().size() - 1);
       mentions = MessageParser.getEntityLinks(latestPost.getMessage());
       notifyMentionedUsers(mentions, jsonThread);
     }
@@ -161,7 +161,7 @@ public class WebsocketNotificationHandler {
     if (thread.getPostsCount() == 0) {
       mentions = MessageParser.getEntityLinks(thread.getMessage());
     } else {
-      Post latestPost = thread.getPosts().get(thread.getPostsCount() - 1);
+      Post latestPost = thread.getPosts().get(thread.getPosts().size() - 1);
       mentions = MessageParser.getEntityLinks(latestPost.getMessage());
     }
     notifyMentionedUsers(mentions, jsonThread);
@@ -265,6 +265,25 @@ public class WebsocketNotificationHandler {
     }
   }
 
+  public static void sendDeleteOperationProgressNotification(
+      String jobId,
+      SecurityContext securityContext,
+      EntityInterface entity,
+      long deleted,
+      long total) {
+    DeleteEntityMessage message =
+        new DeleteEntityMessage(jobId, "IN_PROGRESS", entity.getName(), null);
+    message.setDeletedCount(deleted);
+    message.setTotalCount(total);
+    String jsonMessage = JsonUtils.pojoToJson(message);
+    UUID userId = getUserIdFromSecurityContext(securityContext);
+    if (userId != null) {
+      // Only the latest pending progress of the job is sent
+      WebSocketManager.getInstance()
+          .sendToOne(userId, WebSocketManager.DELETE_ENTITY_CHANNEL, jsonMessage, jobId);
+    }
+  }
+
   public static void sendDeleteOperationFailedNotification(
       String jobId, SecurityContext securityContext, EntityInterface entity, String error) {
     DeleteEntityMessage message = new DeleteEntityMessage(jobId, "FAILED", entity.getName(), error);
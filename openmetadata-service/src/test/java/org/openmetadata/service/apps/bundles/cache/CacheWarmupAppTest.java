@@ -0,0 +1,146 @@
+package org.openmetadata.service.apps.bundles.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.system.EventPublisherJob;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.cache.CachedEntityDao;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+
+class CacheWarmupAppTest {
+  private static final UUID HOTTEST = UUID.fromString("30000000-0000-4000-8000-000000000001");
+  private static final UUID TERM = UUID.fromString("a0000000-0000-4000-8000-000000000002");
+  private static final UUID WARM = UUID.fromString("10000000-0000-4000-8000-000000000003");
+  private static final UUID USER = UUID.fromString("20000000-0000-4000-8000-000000000004");
+  private static final UUID COLD = UUID.fromString("e0000000-0000-4000-8000-000000000006");
+  private static final UUID UNUSED = UUID.fromString("20000000-0000-4000-8000-000000000005");
+
+  private CollectionDAO.UsageDAO usageDAO;
+  private EntityDAO<?> tableDAO;
+  private EntityRepository<?> tableRepository;
+  private CachedEntityDao cachedEntityDao;
+  private CollectionDAO collectionDAO;
+  private MockedStatic<Entity> entityMock;
+
+  @BeforeEach
+  void setUp() {
+    collectionDAO = mock(CollectionDAO.class);
+    usageDAO = mock(CollectionDAO.UsageDAO.class);
+    when(collectionDAO.usageDAO()).thenReturn(usageDAO);
+    tableDAO = mock(EntityDAO.class);
+    tableRepository = mock(EntityRepository.class);
+    doReturn(tableDAO).when(tableRepository).getDao();
+    doReturn(List.of(new Table())).when(tableRepository).find(anyList(), eq(Include.ALL));
+    entityMock = mockStatic(Entity.class);
+    entityMock.when(() -> Entity.getEntityRepository(Entity.TABLE)).thenReturn(tableRepository);
+    cachedEntityDao = mock(CachedEntityDao.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+  }
+
+  private CacheWarmupApp app(long memoryBudgetBytes) {
+    EventPublisherJob jobData =
+        new EventPublisherJob()
+            .withEntities(Set.of(Entity.TABLE, Entity.GLOSSARY_TERM, Entity.USER))
+            .withBatchSize(3);
+    return new CacheWarmupApp(collectionDAO, jobData, cachedEntityDao, memoryBudgetBytes);
+  }
+
+  private static CollectionDAO.UsageDAO.UsageRank rank(UUID id, String entityType, int score) {
+    return new CollectionDAO.UsageDAO.UsageRank(id.toString(), entityType, score);
+  }
+
+  private static List<CacheWarmupApp.WarmupTask> drain(CacheWarmupApp app) {
+    List<CacheWarmupApp.WarmupTask> tasks = new ArrayList<>();
+    app.getTaskQueue().drainTo(tasks);
+    return tasks;
+  }
+
+  @Test
+  void testMostUsedEntitiesAreQueuedInRankOrderBeforeTheirKeyRanges() throws Exception {
+    when(usageDAO.listMostUsed(anyString(), anyInt()))
+        .thenReturn(
+            List.of(
+                rank(HOTTEST, Entity.TABLE, 50),
+                rank(TERM, Entity.GLOSSARY_TERM, 40),
+                rank(WARM, Entity.TABLE, 30),
+                rank(USER, Entity.USER, 20),
+                rank(COLD, Entity.TABLE, 10)));
+    doReturn(List.of(HOTTEST.toString(), UNUSED.toString()))
+        .when(tableDAO)
+        .listIdsAfterInRange("", "4", 3);
+    doReturn(List.of()).when(tableDAO).listIdsAfterInRange(UNUSED.toString(), "4", 3);
+    CacheWarmupApp app = app(0);
+
+    app.queueMostUsedEntities();
+    app.processKeyRange(Entity.TABLE, "", "4", new CountDownLatch(1));
+
+    // The ranking is read once and queued a batch at a time, users are never cached
+    verify(usageDAO).listMostUsed(anyString(), anyInt());
+    assertEquals(
+        List.of(
+            new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(HOTTEST, WARM)),
+            new CacheWarmupApp.WarmupTask(Entity.GLOSSARY_TERM, List.of(TERM)),
+            new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(COLD)),
+            // Entities already queued by rank are skipped when their key range is read
+            new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(UNUSED))),
+        drain(app));
+  }
+
+  @Test
+  void testRemainingEntitiesAreSkippedOnceTheBudgetIsReached() throws Exception {
+    when(cachedEntityDao.warmup(eq(Entity.TABLE), anyList())).thenReturn(600L);
+    CacheWarmupApp app = app(1000);
+
+    app.processWarmupTask(new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(HOTTEST)));
+    app.processWarmupTask(new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(WARM)));
+    app.processWarmupTask(new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(COLD)));
+    app.queueMostUsedEntities();
+    app.processKeyRange(Entity.TABLE, "", "4", new CountDownLatch(1));
+
+    // The write crossing the budget still completes, nothing is written after it
+    verify(cachedEntityDao, times(2)).warmup(eq(Entity.TABLE), anyList());
+    verify(tableDAO, never()).listIdsAfterInRange(anyString(), anyString(), anyInt());
+    assertTrue(drain(app).isEmpty());
+  }
+
+  @Test
+  void testNoBudgetWarmsEverything() {
+    when(cachedEntityDao.warmup(eq(Entity.TABLE), anyList())).thenReturn(600L);
+    CacheWarmupApp app = app(0);
+
+    for (UUID id : List.of(HOTTEST, WARM, COLD)) {
+      app.processWarmupTask(new CacheWarmupApp.WarmupTask(Entity.TABLE, List.of(id)));
+    }
+
+    verify(cachedEntityDao, times(3)).warmup(eq(Entity.TABLE), anyList());
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.apps.bundles.changeEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.events.AlertMetrics;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.EventSubscriptionOffset;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.subscription.AlertUtil;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.util.DIContainer;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+
+/** Runs the consumer end to end against mocked DAOs to check what a batch writes on commit. */
+class AbstractEventConsumerCommitTest {
+  private static final String SUBSCRIPTION_NAME = "commit-test-subscription";
+
+  private final Set<UUID> undeliverable = new HashSet<>();
+  private final UUID subscriptionId = UUID.randomUUID();
+  private final JobDataMap jobDataMap = new JobDataMap();
+  private CollectionDAO.EventSubscriptionDAO eventSubscriptionDAO;
+  private CollectionDAO.ChangeEventDAO changeEventDAO;
+  private JobExecutionContext context;
+  private SimpleMeterRegistry meterRegistry;
+  private MockedStatic<Entity> entityMock;
+  private MockedStatic<AlertUtil> alertUtilMock;
+
+  class RecordingEventConsumer extends AbstractEventConsumer {
+    RecordingEventConsumer() {
+      super(mock(DIContainer.class));
+    }
+
+    @Override
+    public boolean sendAlert(UUID receiverId, ChangeEvent event) {
+      return !undeliverable.contains(event.getId());
+    }
+
+    @Override
+    public boolean getEnabled() {
+      return true;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    Metrics.addRegistry(meterRegistry);
+
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    eventSubscriptionDAO = mock(CollectionDAO.EventSubscriptionDAO.class);
+    changeEventDAO = mock(CollectionDAO.ChangeEventDAO.class);
+    when(collectionDAO.eventSubscriptionDAO()).thenReturn(eventSubscriptionDAO);
+    when(collectionDAO.changeEventDAO()).thenReturn(changeEventDAO);
+    entityMock = mockStatic(Entity.class);
+    entityMock.when(Entity::getCollectionDAO).thenReturn(collectionDAO);
+    alertUtilMock = mockStatic(AlertUtil.class);
+    alertUtilMock
+        .when(() -> AlertUtil.getFilteredEvents(any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+
+    EventSubscription subscription = mock(EventSubscription.class);
+    when(subscription.getId()).thenReturn(subscriptionId);
+    when(subscription.getName()).thenReturn(SUBSCRIPTION_NAME);
+    when(subscription.getBatchSize()).thenReturn(2000);
+
+    Map<UUID, Destination<ChangeEvent>> destinations = new HashMap<>();
+    destinations.put(UUID.randomUUID(), mock(Destination.class));
+    jobDataMap.put(AbstractEventConsumer.ALERT_INFO_KEY, subscription);
+    jobDataMap.put(AbstractEventConsumer.DESTINATION_MAP_KEY, destinations);
+    jobDataMap.put(
+        AbstractEventConsumer.ALERT_OFFSET_KEY,
+        new EventSubscriptionOffset().withCurrentOffset(10L).withStartingOffset(0L));
+    jobDataMap.put(
+        AbstractEventConsumer.METRICS_EXTENSION,
+        new AlertMetrics().withTotalEvents(0).withSuccessEvents(0).withFailedEvents(0));
+
+    JobDetail jobDetail = mock(JobDetail.class);
+    when(jobDetail.getJobDataMap()).thenReturn(jobDataMap);
+    context = mock(JobExecutionContext.class);
+    when(context.getJobDetail()).thenReturn(jobDetail);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+    alertUtilMock.close();
+    Metrics.removeRegistry(meterRegistry);
+  }
+
+  @Test
+  void testBatchIsCommittedInOneWrite() {
+    List<UUID> ids = pollReturns(3);
+    undeliverable.add(ids.get(1));
+
+    new RecordingEventConsumer().execute(context);
+
+    ArgumentCaptor<List<String>> committedIds = listCaptor();
+    ArgumentCaptor<List<String>> extensionJsons = listCaptor();
+    verify(eventSubscriptionDAO)
+        .commitConsumerBatch(
+            eq(subscriptionId.toString()),
+            committedIds.capture(),
+            anyList(),
+            anyLong(),
+            eq(
+                List.of(
+                    AbstractEventConsumer.OFFSET_EXTENSION,
+                    AbstractEventConsumer.METRICS_EXTENSION)),
+            anyList(),
+            extensionJsons.capture());
+    verify(eventSubscriptionDAO, never())
+        .upsertSuccessfulChangeEvents(anyList(), anyString(), anyList(), anyLong());
+
+    assertEquals(Set.of(ids.get(0).toString(), ids.get(2).toString()), toSet(committedIds));
+    EventSubscriptionOffset offset =
+        JsonUtils.readValue(extensionJsons.getValue().get(0), EventSubscriptionOffset.class);
+    assertEquals(13L, offset.getCurrentOffset());
+    AlertMetrics metrics =
+        JsonUtils.readValue(extensionJsons.getValue().get(1), AlertMetrics.class);
+    assertEquals(2, metrics.getSuccessEvents());
+    assertEquals(1, metrics.getFailedEvents());
+    assertEquals(
+        13L,
+        ((EventSubscriptionOffset) jobDataMap.get(AbstractEventConsumer.ALERT_OFFSET_KEY))
+            .getCurrentOffset());
+    assertEquals(1, flushSummary().count());
+    assertEquals(2.0, flushSummary().totalAmount());
+  }
+
+  @Test
+  void testFullBufferIsFlushedBeforeCommit() {
+    int eventCount = AbstractEventConsumer.MAX_PENDING_SUCCESSFUL_EVENTS + 5;
+    pollReturns(eventCount);
+
+    new RecordingEventConsumer().execute(context);
+
+    ArgumentCaptor<List<String>> flushedIds = listCaptor();
+    verify(eventSubscriptionDAO, times(1))
+        .upsertSuccessfulChangeEvents(
+            flushedIds.capture(), eq(subscriptionId.toString()), anyList(), anyLong());
+    ArgumentCaptor<List<String>> committedIds = listCaptor();
+    verify(eventSubscriptionDAO)
+        .commitConsumerBatch(
+            anyString(),
+            committedIds.capture(),
+            anyList(),
+            anyLong(),
+            anyList(),
+            anyList(),
+            anyList());
+
+    assertEquals(AbstractEventConsumer.MAX_PENDING_SUCCESSFUL_EVENTS, flushedIds.getValue().size());
+    assertEquals(5, committedIds.getValue().size());
+    assertEquals(2, flushSummary().count());
+    assertEquals(eventCount, flushSummary().totalAmount());
+  }
+
+  @Test
+  void testFailedCommitKeepsOffset() {
+    pollReturns(2);
+    EventSubscriptionOffset initialOffset =
+        (EventSubscriptionOffset) jobDataMap.get(AbstractEventConsumer.ALERT_OFFSET_KEY);
+    doThrow(new IllegalStateException("database unavailable"))
+        .when(eventSubscriptionDAO)
+        .commitConsumerBatch(
+            anyString(), anyList(), anyList(), anyLong(), anyList(), anyList(), anyList());
+
+    RecordingEventConsumer consumer = new RecordingEventConsumer();
+    assertThrows(IllegalStateException.class, () -> consumer.execute(context));
+
+    // The batch is polled again from the same offset on the next run
+    assertSame(initialOffset, jobDataMap.get(AbstractEventConsumer.ALERT_OFFSET_KEY));
+  }
+
+  private List<UUID> pollReturns(int count) {
+    List<UUID> ids = new ArrayList<>();
+    List<CollectionDAO.ChangeEventRecord> records = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      UUID id = UUID.randomUUID();
+      ChangeEvent event = new ChangeEvent().withId(id).withEntityType("table");
+      ids.add(id);
+      records.add(new CollectionDAO.ChangeEventRecord(11L + i, 0L, JsonUtils.pojoToJson(event)));
+    }
+    when(changeEventDAO.listRecords(anyLong(), eq(10L))).thenReturn(records);
+    return ids;
+  }
+
+  private DistributionSummary flushSummary() {
+    return meterRegistry
+        .get("event_subscription.flush.events")
+        .tag("subscription", SUBSCRIPTION_NAME)
+        .summary();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ArgumentCaptor<List<String>> listCaptor() {
+    return ArgumentCaptor.forClass((Class) List.class);
+  }
+
+  private static Set<String> toSet(ArgumentCaptor<List<String>> captor) {
+    return new HashSet<>(captor.getValue());
+  }
+}
@@ -219,6 +219,49 @@ class AlertPublisherTest {
     verify(destination2, never()).sendMessage(any());
   }
 
+  @Test
+  void testSendAlertsDeliversBatchToDestination() {
+    ChangeEvent otherEvent = createMockChangeEvent();
+    List<ChangeEvent> events = List.of(changeEvent, otherEvent);
+    lenient().when(destination.getEnabled()).thenReturn(true);
+    when(destination.sendMessages(events)).thenReturn(Map.of());
+    alertPublisher.destinationMap.put(receiverId, destination);
+
+    List<ChangeEvent> delivered = alertPublisher.sendAlerts(receiverId, events);
+
+    assertEquals(events, delivered);
+    verify(destination).sendMessages(events);
+  }
+
+  @Test
+  void testSendAlertsReturnsOnlyDeliveredEvents() {
+    TestAlertPublisher testPublisher = new TestAlertPublisher(dependencies);
+    testPublisher.eventSubscription = eventSubscription;
+    testPublisher.destinationMap = new HashMap<>();
+
+    ChangeEvent failingEvent = createMockChangeEvent();
+    List<ChangeEvent> events = List.of(changeEvent, failingEvent);
+    lenient().when(destination.getEnabled()).thenReturn(true);
+    when(destination.sendMessages(events))
+        .thenReturn(Map.of(failingEvent, new EventPublisherException("Test error")));
+    testPublisher.destinationMap.put(receiverId, destination);
+
+    List<ChangeEvent> delivered = testPublisher.sendAlerts(receiverId, events);
+
+    assertEquals(List.of(changeEvent), delivered);
+  }
+
+  @Test
+  void testSendAlertsWithDisabledDestination() {
+    lenient().when(destination.getEnabled()).thenReturn(false);
+    alertPublisher.destinationMap.put(receiverId, destination);
+
+    List<ChangeEvent> delivered = alertPublisher.sendAlerts(receiverId, List.of(changeEvent));
+
+    assertTrue(delivered.isEmpty());
+    verify(destination, never()).sendMessages(any());
+  }
+
   private ChangeEvent createMockChangeEvent() {
     ChangeEvent event = mock(ChangeEvent.class);
     lenient().when(event.getId()).thenReturn(UUID.randomUUID());
@@ -0,0 +1,223 @@
+package org.openmetadata.service.apps.bundles.insights.workflows.dataAssets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.applications.configuration.internal.DataAssetsConfig;
+import org.openmetadata.schema.entity.applications.configuration.internal.ServiceFilter;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.apps.bundles.insights.DataInsightsApp;
+import org.openmetadata.service.apps.bundles.insights.search.DataInsightsSearchInterface;
+import org.openmetadata.service.apps.bundles.insights.utils.TimestampUtils;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.search.SearchClient;
+import org.openmetadata.service.search.SearchRepository;
+import org.openmetadata.service.workflows.searchIndex.PaginatedEntitiesSource;
+
+class DataAssetsWorkflowTest {
+  private static final String DATA_STREAM = DataInsightsApp.getDataStreamName("", Entity.TABLE);
+  private static final String TIMESTAMP = "@timestamp";
+
+  private final long now = System.currentTimeMillis();
+  private final long startOfYesterday =
+      TimestampUtils.getStartOfDayTimestamp(TimestampUtils.subtractDays(now, 1));
+  private final long startOfToday = TimestampUtils.getStartOfDayTimestamp(now);
+  private final long endOfToday = TimestampUtils.getEndOfDayTimestamp(now);
+
+  private CollectionDAO.ChangeEventDAO changeEventDAO;
+  private SearchClient searchClient;
+  private SearchRepository searchRepository;
+  private CollectionDAO collectionDAO;
+  private DataInsightsSearchInterface searchInterface;
+  private PaginatedEntitiesSource source;
+  private MockedStatic<Entity> entityMock;
+
+  @BeforeEach
+  void setUp() {
+    collectionDAO = mock(CollectionDAO.class);
+    changeEventDAO = mock(CollectionDAO.ChangeEventDAO.class);
+    when(collectionDAO.changeEventDAO()).thenReturn(changeEventDAO);
+    searchClient = mock(SearchClient.class);
+    searchRepository = mock(SearchRepository.class);
+    when(searchRepository.getSearchClient()).thenReturn(searchClient);
+    when(searchRepository.getClusterAlias()).thenReturn("");
+    searchInterface = mock(DataInsightsSearchInterface.class);
+    when(searchInterface.getClusterAlias()).thenReturn("");
+
+    source = mock(PaginatedEntitiesSource.class);
+    when(source.getEntityType()).thenReturn(Entity.TABLE);
+    when(source.getName()).thenReturn("[DataAssetsWorkflow] table");
+    when(source.getStats()).thenReturn(new StepStats());
+    when(source.isDone()).thenReturn(new AtomicReference<>(true));
+
+    EntityRepository<?> tableRepository = mock(EntityRepository.class);
+    doReturn(List.of()).when(tableRepository).get(any(), anyList(), any(), any());
+    entityMock = mockStatic(Entity.class);
+    entityMock.when(() -> Entity.getEntityRepository(Entity.TABLE)).thenReturn(tableRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+  }
+
+  private static DataAssetsConfig config(boolean incremental) {
+    return new DataAssetsConfig()
+        .withEnabled(true)
+        .withIncremental(incremental)
+        .withEntities(Set.of("all"))
+        .withRetention(7);
+  }
+
+  private DataAssetsWorkflow workflow(
+      DataAssetsConfig config,
+      Optional<DataInsightsApp.Backfill> backfill,
+      Optional<Long> lastSuccessfulRunTime) {
+    return new DataAssetsWorkflow(
+        config,
+        now,
+        100,
+        backfill,
+        lastSuccessfulRunTime,
+        Set.of(Entity.TABLE),
+        collectionDAO,
+        searchRepository,
+        searchInterface);
+  }
+
+  private void changed(int count) {
+    doReturn(IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList())
+        .when(changeEventDAO)
+        .listEntityIdsChangedAfter(eq(Entity.TABLE), anyLong());
+  }
+
+  @Test
+  void testCheckpointIsTheLastRunWithinTheWindow() {
+    long lastRun = startOfYesterday + 3_600_000;
+    Optional<Long> lastRunTime = Optional.of(lastRun);
+
+    assertEquals(lastRun, workflow(config(true), Optional.empty(), lastRunTime).getCheckpoint());
+    // Before the window, disabled, for a backfill or for a single service: process everything
+    assertNull(
+        workflow(config(true), Optional.empty(), Optional.of(startOfYesterday - 1))
+            .getCheckpoint());
+    assertNull(workflow(config(true), Optional.empty(), Optional.empty()).getCheckpoint());
+    assertNull(workflow(config(false), Optional.empty(), lastRunTime).getCheckpoint());
+    assertNull(
+        workflow(
+                config(true),
+                Optional.of(new DataInsightsApp.Backfill("2025-01-01", "2025-01-02")),
+                lastRunTime)
+            .getCheckpoint());
+    assertNull(
+        workflow(
+                config(true).withServiceFilter(new ServiceFilter().withServiceName("mysql")),
+                Optional.empty(),
+                lastRunTime)
+            .getCheckpoint());
+  }
+
+  @Test
+  void testCarriesYesterdaysSnapshotsForwardBeforeApplyingRetention() throws Exception {
+    changed(2);
+
+    workflow(config(true), Optional.empty(), Optional.of(startOfYesterday + 3_600_000))
+        .processSource(source, new HashMap<>());
+
+    InOrder order = inOrder(searchClient);
+    order
+        .verify(searchClient)
+        .deleteByRangeAndTerms(
+            eq(DATA_STREAM),
+            eq(TIMESTAMP),
+            eq(startOfYesterday),
+            eq(endOfToday),
+            eq("id.keyword"),
+            anyList());
+    order
+        .verify(searchClient)
+        .deleteByRangeQuery(DATA_STREAM, TIMESTAMP, null, startOfToday, null, endOfToday);
+    order
+        .verify(searchClient)
+        .copyByRange(
+            eq(DATA_STREAM),
+            eq(TIMESTAMP),
+            eq(startOfYesterday),
+            eq(startOfToday - 1),
+            eq("id.keyword"),
+            anyList(),
+            eq(TIMESTAMP),
+            eq(startOfToday));
+    // Retention runs last, since the copy reads yesterday's snapshots
+    order
+        .verify(searchClient)
+        .deleteByRangeQuery(eq(DATA_STREAM), eq(TIMESTAMP), isNull(), isNull(), isNull(), any());
+    order.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void testRunLaterTheSameDayOnlyReplacesChangedSnapshots() throws Exception {
+    changed(2);
+
+    workflow(config(true), Optional.empty(), Optional.of(startOfToday + 3_600_000))
+        .processSource(source, new HashMap<>());
+
+    verify(searchClient)
+        .deleteByRangeAndTerms(
+            eq(DATA_STREAM), eq(TIMESTAMP), any(), any(), eq("id.keyword"), anyList());
+    verify(searchClient, never())
+        .copyByRange(
+            anyString(), anyString(), any(), any(), anyString(), anyList(), anyString(), any());
+    verify(searchClient, never())
+        .deleteByRangeQuery(DATA_STREAM, TIMESTAMP, null, startOfToday, null, endOfToday);
+  }
+
+  @Test
+  void testTooManyChangesFallBackToProcessingEveryEntity() throws Exception {
+    changed(10001);
+
+    workflow(config(true), Optional.empty(), Optional.of(startOfYesterday + 3_600_000))
+        .processSource(source, new HashMap<>());
+
+    verify(searchClient, never())
+        .deleteByRangeAndTerms(anyString(), anyString(), any(), any(), anyString(), anyList());
+    verify(searchClient, never())
+        .copyByRange(
+            anyString(), anyString(), any(), any(), anyString(), anyList(), anyString(), any());
+    InOrder order = inOrder(searchClient);
+    order
+        .verify(searchClient)
+        .deleteByRangeQuery(eq(DATA_STREAM), eq(TIMESTAMP), isNull(), isNull(), isNull(), any());
+    order
+        .verify(searchClient)
+        .deleteByRangeQuery(DATA_STREAM, TIMESTAMP, null, startOfYesterday, null, endOfToday);
+    verify(source).isDone();
+  }
+}
@@ -0,0 +1,145 @@
+package org.openmetadata.service.apps.bundles.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.system.EntityStats;
+import org.openmetadata.schema.system.EventPublisherJob;
+import org.openmetadata.schema.system.Stats;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.schema.type.EntityRelationship;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.rdf.RdfRepository;
+
+class RdfIndexAppTest {
+  private static final String FIRST = "40000000-0000-4000-8000-000000000001";
+  private static final String SECOND = "40000000-0000-4000-8000-000000000002";
+  private static final String THIRD = "40000000-0000-4000-8000-000000000003";
+
+  private EntityDAO<?> entityDAO;
+  private CollectionDAO.EntityRelationshipDAO relationshipDAO;
+  private RdfRepository rdfRepository;
+  private RdfIndexCheckpoint checkpoint;
+  private RdfIndexApp app;
+  private MockedStatic<Entity> entityMock;
+
+  @BeforeEach
+  void setUp() {
+    entityDAO = mock(EntityDAO.class);
+    EntityRepository<?> repository = mock(EntityRepository.class);
+    doReturn(entityDAO).when(repository).getDao();
+    doReturn(List.of()).when(repository).get(any(), anyList(), any(), any());
+    entityMock = mockStatic(Entity.class);
+    entityMock.when(() -> Entity.getEntityRepository(Entity.TABLE)).thenReturn(repository);
+
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    relationshipDAO = mock(CollectionDAO.EntityRelationshipDAO.class);
+    when(collectionDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    rdfRepository = mock(RdfRepository.class);
+    when(rdfRepository.bulkSyncEntities(eq(Entity.TABLE), anyList())).thenReturn(2, 1);
+    checkpoint = mock(RdfIndexCheckpoint.class);
+    when(checkpoint.getCursor(Entity.TABLE, "4")).thenReturn("4");
+
+    Stats stats =
+        new Stats()
+            .withEntityStats(new EntityStats())
+            .withJobStats(
+                new StepStats().withTotalRecords(3).withSuccessRecords(0).withFailedRecords(0));
+    stats
+        .getEntityStats()
+        .getAdditionalProperties()
+        .put(
+            Entity.TABLE,
+            new StepStats().withTotalRecords(3).withSuccessRecords(0).withFailedRecords(0));
+    EventPublisherJob jobData = new EventPublisherJob().withBatchSize(2).withStats(stats);
+    app = new RdfIndexApp(collectionDAO, rdfRepository, jobData, checkpoint);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+  }
+
+  @Test
+  void testSyncsTheRangeFromItsCheckpointUntilItIsExhausted() {
+    when(entityDAO.listIdsAfterInRange("4", "8", 2)).thenReturn(List.of(FIRST, SECOND));
+    when(entityDAO.listIdsAfterInRange(SECOND, "8", 2)).thenReturn(List.of(THIRD));
+    when(entityDAO.listIdsAfterInRange(THIRD, "8", 2)).thenReturn(List.of());
+
+    app.processKeyRange(Entity.TABLE, "4", "8");
+
+    InOrder order = inOrder(entityDAO, checkpoint);
+    order.verify(entityDAO).listIdsAfterInRange("4", "8", 2);
+    order.verify(checkpoint).update(Entity.TABLE, "4", SECOND);
+    order.verify(entityDAO).listIdsAfterInRange(SECOND, "8", 2);
+    order.verify(checkpoint).update(Entity.TABLE, "4", THIRD);
+    order.verify(entityDAO).listIdsAfterInRange(THIRD, "8", 2);
+    order.verifyNoMoreInteractions();
+    verify(rdfRepository, times(2)).bulkSyncEntities(eq(Entity.TABLE), anyList());
+  }
+
+  @Test
+  void testFailedBatchIsCountedAndSkipped() {
+    when(entityDAO.listIdsAfterInRange("4", "8", 2)).thenReturn(List.of(FIRST, SECOND));
+    when(entityDAO.listIdsAfterInRange(SECOND, "8", 2)).thenReturn(List.of(THIRD));
+    when(entityDAO.listIdsAfterInRange(THIRD, "8", 2)).thenReturn(List.of());
+    when(rdfRepository.bulkSyncEntities(eq(Entity.TABLE), anyList()))
+        .thenThrow(new IllegalStateException("Fuseki unavailable"))
+        .thenReturn(1);
+
+    app.processKeyRange(Entity.TABLE, "4", "8");
+
+    // The rest of the range is still synced after the failed batch
+    verify(checkpoint).update(Entity.TABLE, "4", SECOND);
+    verify(checkpoint).update(Entity.TABLE, "4", THIRD);
+    verify(entityDAO).listIdsAfterInRange(THIRD, "8", 2);
+    StepStats jobStats = app.getJobData().getStats().getJobStats();
+    assertEquals(1, jobStats.getSuccessRecords());
+    assertEquals(2, jobStats.getFailedRecords());
+  }
+
+  @Test
+  void testRelationshipsWithinTheBatchAreAddedOnce() {
+    CollectionDAO.EntityRelationshipObject contains =
+        CollectionDAO.EntityRelationshipObject.builder()
+            .fromId(FIRST)
+            .toId(SECOND)
+            .fromEntity(Entity.TABLE)
+            .toEntity(Entity.TABLE)
+            .relation(Relationship.CONTAINS.ordinal())
+            .build();
+    when(entityDAO.listIdsAfterInRange("4", "8", 2)).thenReturn(List.of(FIRST, SECOND));
+    when(entityDAO.listIdsAfterInRange(SECOND, "8", 2)).thenReturn(List.of());
+    when(relationshipDAO.findAllToBatch(List.of(FIRST, SECOND))).thenReturn(List.of(contains));
+    when(relationshipDAO.findAllFromBatch(List.of(FIRST, SECOND))).thenReturn(List.of(contains));
+
+    app.processKeyRange(Entity.TABLE, "4", "8");
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<EntityRelationship>> relationships = ArgumentCaptor.forClass(List.class);
+    verify(rdfRepository).bulkAddRelationships(relationships.capture());
+    assertEquals(1, relationships.getValue().size());
+    assertEquals(Relationship.CONTAINS, relationships.getValue().get(0).getRelationshipType());
+    verify(rdfRepository).bulkSyncEntities(eq(Entity.TABLE), anyList());
+  }
+}
@@ -0,0 +1,158 @@
+package org.openmetadata.service.apps.bundles.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openmetadata.schema.entity.app.App;
+import org.openmetadata.schema.entity.app.AppExtension;
+import org.openmetadata.schema.system.EventPublisherJob;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+
+class RdfIndexCheckpointTest {
+  private static final String CUSTOM = AppExtension.ExtensionType.CUSTOM.toString();
+
+  private final App app = new App().withId(UUID.randomUUID()).withName("RdfIndexApp");
+  private final String appId = app.getId().toString();
+  private CollectionDAO.AppExtensionTimeSeries dao;
+  private RdfIndexCheckpoint checkpoint;
+
+  @BeforeEach
+  void setUp() {
+    dao = mock(CollectionDAO.AppExtensionTimeSeries.class);
+    checkpoint = new RdfIndexCheckpoint(app, dao);
+  }
+
+  private void stored(EventPublisherJob.Status status, long updatedAt) {
+    AppExtension extension =
+        new AppExtension()
+            .withAppId(app.getId())
+            .withAppName(app.getName())
+            .withTimestamp(updatedAt)
+            .withExtension(AppExtension.ExtensionType.CUSTOM)
+            .withAdditionalProperty(
+                RdfIndexCheckpoint.CURSORS, Map.of(Entity.TABLE, Map.of("4", "5e2c")))
+            .withAdditionalProperty(RdfIndexCheckpoint.STATUS, status.value())
+            .withAdditionalProperty(RdfIndexCheckpoint.UPDATED_AT, updatedAt);
+    when(dao.listAppExtension(appId, 1, 0, CUSTOM))
+        .thenReturn(List.of(JsonUtils.pojoToJson(extension)));
+  }
+
+  private static Object storedStatus(String json) {
+    return JsonUtils.readValue(json, AppExtension.class)
+        .getAdditionalProperties()
+        .get(RdfIndexCheckpoint.STATUS);
+  }
+
+  @Test
+  void testResumesStoppedAndFailedRuns() {
+    stored(EventPublisherJob.Status.STOPPED, System.currentTimeMillis());
+
+    assertTrue(checkpoint.load());
+    assertEquals("5e2c", checkpoint.getCursor(Entity.TABLE, "4"));
+    assertEquals("8", checkpoint.getCursor(Entity.TABLE, "8"));
+    assertEquals("", checkpoint.getCursor(Entity.DATABASE, ""));
+    verify(dao, never()).delete(anyString(), anyString());
+
+    stored(EventPublisherJob.Status.FAILED, System.currentTimeMillis());
+    assertTrue(new RdfIndexCheckpoint(app, dao).load());
+  }
+
+  @Test
+  void testDiscardsCheckpointOfRunThatWasNotInterrupted() {
+    // Left by a run that was killed with the server, so its progress is unknown
+    stored(EventPublisherJob.Status.RUNNING, System.currentTimeMillis());
+
+    assertFalse(checkpoint.load());
+    assertEquals("4", checkpoint.getCursor(Entity.TABLE, "4"));
+    verify(dao).delete(appId, CUSTOM);
+  }
+
+  @Test
+  void testDiscardsExpiredCheckpoint() {
+    stored(
+        EventPublisherJob.Status.STOPPED,
+        System.currentTimeMillis() - RdfIndexCheckpoint.MAX_AGE_MILLIS - 60_000);
+
+    assertFalse(checkpoint.load());
+    assertEquals("4", checkpoint.getCursor(Entity.TABLE, "4"));
+    verify(dao).delete(appId, CUSTOM);
+  }
+
+  @Test
+  void testNothingToLoad() {
+    when(dao.listAppExtension(appId, 1, 0, CUSTOM)).thenReturn(List.of());
+
+    assertFalse(checkpoint.load());
+    verify(dao, never()).delete(anyString(), anyString());
+  }
+
+  @Test
+  void testRecordsProgressAndHowTheRunEnded() {
+    checkpoint.update(Entity.TABLE, "", "3f1a");
+    checkpoint.update(Entity.TABLE, "4", "7b0c");
+
+    ArgumentCaptor<String> inserted = ArgumentCaptor.forClass(String.class);
+    verify(dao).insert(inserted.capture(), eq(CUSTOM));
+    assertEquals(EventPublisherJob.Status.RUNNING.value(), storedStatus(inserted.getValue()));
+    verify(dao).update(eq(appId), anyString(), anyLong(), eq(CUSTOM));
+
+    checkpoint.finish(EventPublisherJob.Status.STOPPED);
+
+    ArgumentCaptor<String> updated = ArgumentCaptor.forClass(String.class);
+    verify(dao, times(2)).update(eq(appId), updated.capture(), anyLong(), eq(CUSTOM));
+    assertEquals(EventPublisherJob.Status.STOPPED.value(), storedStatus(updated.getValue()));
+    Map<?, ?> cursors =
+        (Map<?, ?>)
+            JsonUtils.readValue(updated.getValue(), AppExtension.class)
+                .getAdditionalProperties()
+                .get(RdfIndexCheckpoint.CURSORS);
+    assertEquals(Map.of("", "3f1a", "4", "7b0c"), cursors.get(Entity.TABLE));
+    verify(dao, never()).delete(anyString(), anyString());
+  }
+
+  @Test
+  void testCompletedRunRemovesTheCheckpoint() {
+    checkpoint.update(Entity.TABLE, "", "3f1a");
+
+    checkpoint.finish(EventPublisherJob.Status.COMPLETED);
+
+    verify(dao).delete(appId, CUSTOM);
+    assertEquals("", checkpoint.getCursor(Entity.TABLE, ""));
+  }
+
+  @Test
+  void testRunWithSkippedBatchesRemovesTheCheckpoint() {
+    // Failed batches were skipped, so resuming the run would not retry them
+    checkpoint.update(Entity.TABLE, "", "3f1a");
+
+    checkpoint.finish(EventPublisherJob.Status.ACTIVE_ERROR);
+
+    verify(dao).delete(appId, CUSTOM);
+  }
+
+  @Test
+  void testRunWithoutProgressLeavesNoCheckpoint() {
+    checkpoint.finish(EventPublisherJob.Status.FAILED);
+
+    verify(dao, never()).insert(anyString(), any());
+    verify(dao, never()).update(anyString(), anyString(), anyLong(), anyString());
+  }
+}
@@ -0,0 +1,68 @@
+package org.openmetadata.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheWarmupTrackerTest {
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+  private CacheWarmupTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new CacheWarmupTracker(now::get);
+  }
+
+  @Test
+  void testReadsBeforeWarmupAreNotMeasured() {
+    tracker.recordRead("om:entity:table:1");
+
+    assertEquals(0.0, tracker.getCoverage());
+  }
+
+  @Test
+  void testCoverageOfReadsAfterWarmup() {
+    tracker.warmupStarted();
+    tracker.recordWarmed(List.of("om:entity:table:1", "om:entity:table:2"));
+    tracker.warmupCompleted();
+
+    tracker.recordRead("om:entity:table:1");
+    tracker.recordRead("om:entity:table:2");
+    tracker.recordRead("om:entity:table:1");
+    tracker.recordRead("om:entity:table:3");
+
+    assertEquals(0.75, tracker.getCoverage());
+  }
+
+  @Test
+  void testReadsAfterMeasurementWindowAreIgnored() {
+    tracker.warmupStarted();
+    tracker.recordWarmed(List.of("om:entity:table:1"));
+    tracker.warmupCompleted();
+    tracker.recordRead("om:entity:table:1");
+
+    now.addAndGet(CacheWarmupTracker.MEASUREMENT_WINDOW_MILLIS + 1);
+    tracker.recordRead("om:entity:table:2");
+    tracker.recordRead("om:entity:table:3");
+
+    assertEquals(1.0, tracker.getCoverage());
+  }
+
+  @Test
+  void testNewWarmupResetsMeasurement() {
+    tracker.warmupStarted();
+    tracker.recordWarmed(List.of("om:entity:table:1"));
+    tracker.warmupCompleted();
+    tracker.recordRead("om:entity:table:2");
+
+    tracker.warmupStarted();
+    tracker.recordWarmed(List.of("om:entity:table:2"));
+    tracker.warmupCompleted();
+    tracker.recordRead("om:entity:table:2");
+
+    assertEquals(1.0, tracker.getCoverage());
+  }
+}
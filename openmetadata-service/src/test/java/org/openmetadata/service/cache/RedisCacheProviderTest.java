@@ -0,0 +1,79 @@
+package org.openmetadata.service.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class RedisCacheProviderTest {
+  private static final Map<String, String> FIELDS = Map.of("base", "{}", "ref", "{}");
+
+  private RedisAsyncCommands<String, String> asyncCommands;
+  private RedisCacheProvider provider;
+
+  @BeforeEach
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void setUp() throws Exception {
+    StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    asyncCommands = mock(RedisAsyncCommands.class);
+    RedisFuture<Object> future = mock(RedisFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class))).thenReturn("OK");
+    when(connection.async()).thenReturn(asyncCommands);
+    when(asyncCommands.hset(anyString(), anyMap())).thenReturn((RedisFuture) future);
+    when(asyncCommands.expire(anyString(), anyLong())).thenReturn((RedisFuture) future);
+    when(asyncCommands.set(anyString(), anyString(), any(SetArgs.class)))
+        .thenReturn((RedisFuture) future);
+    when(asyncCommands.set(anyString(), anyString())).thenReturn((RedisFuture) future);
+    provider = new RedisCacheProvider(new CacheConfig(), connection);
+  }
+
+  @Test
+  void testPipelinesHashesAndValuesWithTheirTtl() {
+    provider.setAll(
+        Map.of("om:entity:table:1", FIELDS),
+        Map.of("om:name:table:db.t1", "{}"),
+        Duration.ofSeconds(60));
+
+    InOrder order = inOrder(asyncCommands);
+    order.verify(asyncCommands).hset("om:entity:table:1", FIELDS);
+    order.verify(asyncCommands).expire("om:entity:table:1", 60L);
+    order.verify(asyncCommands).set(eq("om:name:table:db.t1"), eq("{}"), any(SetArgs.class));
+    verify(asyncCommands, never()).set(anyString(), anyString());
+  }
+
+  @Test
+  void testWritesWithoutExpiryWhenThereIsNoTtl() {
+    provider.setAll(
+        Map.of("om:entity:table:1", FIELDS), Map.of("om:name:table:db.t1", "{}"), Duration.ZERO);
+
+    verify(asyncCommands).hset("om:entity:table:1", FIELDS);
+    verify(asyncCommands).set("om:name:table:db.t1", "{}");
+    verify(asyncCommands, never()).expire(anyString(), anyLong());
+    verify(asyncCommands, never()).set(anyString(), anyString(), any(SetArgs.class));
+  }
+
+  @Test
+  void testNothingToWrite() {
+    provider.setAll(Map.of(), Map.of(), Duration.ofSeconds(60));
+
+    verifyNoInteractions(asyncCommands);
+  }
+}
@@ -0,0 +1,139 @@
+package org.openmetadata.service.governance.workflows;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.service.governance.workflows.Workflow.GLOBAL_NAMESPACE;
+import static org.openmetadata.service.governance.workflows.Workflow.RELATED_ENTITY_VARIABLE;
+import static org.openmetadata.service.governance.workflows.WorkflowVariableHandler.getNamespacedVariableName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.SubscriptionDestination;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.exception.EntityNotFoundException;
+
+class WorkflowEventConsumerTest {
+  private final WorkflowEventConsumer consumer =
+      new WorkflowEventConsumer(
+          new EventSubscription().withId(UUID.randomUUID()),
+          new SubscriptionDestination()
+              .withId(UUID.randomUUID())
+              .withType(
+                  SubscriptionDestination.SubscriptionType.GOVERNANCE_WORKFLOW_CHANGE_EVENT));
+
+  private WorkflowHandler workflowHandler;
+  private MockedStatic<WorkflowHandler> workflowHandlerMock;
+  private MockedStatic<Entity> entityMock;
+
+  @BeforeEach
+  void setUp() {
+    workflowHandler = mock(WorkflowHandler.class);
+    workflowHandlerMock = mockStatic(WorkflowHandler.class);
+    workflowHandlerMock.when(WorkflowHandler::getInstance).thenReturn(workflowHandler);
+    entityMock = mockStatic(Entity.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+    workflowHandlerMock.close();
+  }
+
+  private static ChangeEvent event(String entityType, EventType eventType, String userName) {
+    return new ChangeEvent()
+        .withId(UUID.randomUUID())
+        .withEntityId(UUID.randomUUID())
+        .withEntityType(entityType)
+        .withEventType(eventType)
+        .withUserName(userName)
+        .withTimestamp(System.currentTimeMillis());
+  }
+
+  private void resolves(String entityType, Map<ChangeEvent, String> fqnByEvent) {
+    List<EntityReference> references =
+        fqnByEvent.entrySet().stream()
+            .map(
+                entry ->
+                    new EntityReference()
+                        .withId(entry.getKey().getEntityId())
+                        .withType(entityType)
+                        .withFullyQualifiedName(entry.getValue()))
+            .toList();
+    entityMock
+        .when(() -> Entity.getEntityReferencesByIds(eq(entityType), anyList(), eq(Include.ALL)))
+        .thenReturn(references);
+  }
+
+  @Test
+  void testFailuresAreMappedBackToTheirEvents() {
+    ChangeEvent table = event(Entity.TABLE, EventType.ENTITY_CREATED, "admin");
+    ChangeEvent missing = event(Entity.TABLE, EventType.ENTITY_UPDATED, "admin");
+    ChangeEvent fromBot =
+        event(Entity.TABLE, EventType.ENTITY_CREATED, WorkflowEventConsumer.GOVERNANCE_BOT);
+    ChangeEvent term = event(Entity.GLOSSARY_TERM, EventType.ENTITY_CREATED, "admin");
+    ChangeEvent otherTable = event(Entity.TABLE, EventType.ENTITY_UPDATED, "admin");
+    resolves(Entity.TABLE, Map.of(table, "svc.db.schema.t1", otherTable, "svc.db.schema.t2"));
+    resolves(Entity.GLOSSARY_TERM, Map.of(term, "glossary.term"));
+    entityMock
+        .when(
+            () ->
+                Entity.getEntityReferenceById(Entity.TABLE, missing.getEntityId(), Include.ALL))
+        .thenThrow(EntityNotFoundException.byId(missing.getEntityId().toString()));
+    RuntimeException signalFailure = new RuntimeException("No such signal");
+    // The event skipped before signalling must not shift the indexes of the signalled ones
+    when(workflowHandler.triggerWithSignals(any())).thenReturn(Map.of(1, signalFailure));
+
+    Map<ChangeEvent, EventPublisherException> failures =
+        consumer.sendMessages(List.of(table, missing, fromBot, term, otherTable));
+
+    assertEquals(List.of(missing, term), List.copyOf(failures.keySet()));
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<WorkflowHandler.WorkflowSignal>> signals =
+        ArgumentCaptor.forClass(List.class);
+    verify(workflowHandler).triggerWithSignals(signals.capture());
+    assertEquals(
+        List.of("table-entityCreated", "glossaryTerm-entityCreated", "table-entityUpdated"),
+        signals.getValue().stream().map(WorkflowHandler.WorkflowSignal::signal).toList());
+    assertEquals(
+        "<#E::glossaryTerm::glossary.term>",
+        signals
+            .getValue()
+            .get(1)
+            .variables()
+            .get(getNamespacedVariableName(GLOBAL_NAMESPACE, RELATED_ENTITY_VARIABLE)));
+  }
+
+  @Test
+  void testEngineFailureFailsEverySignalledEvent() {
+    ChangeEvent first = event(Entity.TABLE, EventType.ENTITY_CREATED, "admin");
+    ChangeEvent second = event(Entity.TABLE, EventType.ENTITY_UPDATED, "admin");
+    ChangeEvent deleted = event(Entity.TABLE, EventType.ENTITY_DELETED, "admin");
+    resolves(Entity.TABLE, Map.of(first, "svc.db.schema.t1", second, "svc.db.schema.t2"));
+    when(workflowHandler.triggerWithSignals(any()))
+        .thenThrow(new IllegalStateException("Engine unavailable"));
+
+    Map<ChangeEvent, EventPublisherException> failures =
+        consumer.sendMessages(List.of(first, deleted, second));
+
+    assertEquals(Set.of(first, second), failures.keySet());
+  }
+}
@@ -0,0 +1,108 @@
+package org.openmetadata.service.governance.workflows;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WorkflowHandlerTest {
+  private RuntimeService runtimeService;
+  private ManagementService managementService;
+  private WorkflowHandler workflowHandler;
+
+  @BeforeEach
+  void setUp() {
+    ProcessEngine processEngine = mock(ProcessEngine.class);
+    runtimeService = mock(RuntimeService.class);
+    managementService = mock(ManagementService.class);
+    when(processEngine.getRuntimeService()).thenReturn(runtimeService);
+    when(processEngine.getManagementService()).thenReturn(managementService);
+    // Run the command in place, as the engine would within its transaction
+    when(managementService.executeCommand(any(Command.class)))
+        .thenAnswer(invocation -> invocation.<Command<?>>getArgument(0).execute(null));
+    workflowHandler = new WorkflowHandler(processEngine);
+  }
+
+  private static List<WorkflowHandler.WorkflowSignal> signals(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new WorkflowHandler.WorkflowSignal("table-entityCreated", Map.of("i", i)))
+        .toList();
+  }
+
+  @Test
+  void testDeliversSignalsInBatchedCommands() {
+    Map<Integer, RuntimeException> failures = workflowHandler.triggerWithSignals(signals(150));
+
+    assertTrue(failures.isEmpty());
+    verify(managementService, times(2)).executeCommand(any(Command.class));
+    verify(runtimeService, times(150)).signalEventReceived(eq("table-entityCreated"), anyMap());
+  }
+
+  @Test
+  void testDeliveryResumesAfterTheFailingSignal() {
+    List<WorkflowHandler.WorkflowSignal> signals = new ArrayList<>(signals(120));
+    signals.add(new WorkflowHandler.WorkflowSignal("glossaryTerm-entityUpdated", Map.of()));
+    signals.addAll(signals(29));
+    FlowableException failure = new FlowableException("No such signal");
+    doThrow(failure)
+        .when(runtimeService)
+        .signalEventReceived(eq("glossaryTerm-entityUpdated"), anyMap());
+
+    Map<Integer, RuntimeException> failures = workflowHandler.triggerWithSignals(signals);
+
+    // The rolled back signals of the second chunk are reported, not sent again
+    Map<Integer, RuntimeException> expected = new HashMap<>();
+    IntStream.rangeClosed(100, 120).forEach(i -> expected.put(i, failure));
+    assertEquals(expected, failures);
+    verify(managementService, times(3)).executeCommand(any(Command.class));
+    // 100 in the first chunk, 20 before the failure in the second, then the 29 after it
+    verify(runtimeService, times(100 + 20 + 29))
+        .signalEventReceived(eq("table-entityCreated"), anyMap());
+    verify(runtimeService, times(1))
+        .signalEventReceived(eq("glossaryTerm-entityUpdated"), anyMap());
+  }
+
+  @Test
+  void testFailedCommitFailsTheWholeChunk() {
+    FlowableException failure = new FlowableException("Commit failed");
+    when(managementService.executeCommand(any(Command.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Command<?>>getArgument(0).execute(null);
+              throw failure;
+            });
+
+    Map<Integer, RuntimeException> failures = workflowHandler.triggerWithSignals(signals(3));
+
+    assertEquals(Map.of(0, failure, 1, failure, 2, failure), failures);
+    verify(managementService, times(1)).executeCommand(any(Command.class));
+    verify(runtimeService, times(3)).signalEventReceived(eq("table-entityCreated"), anyMap());
+  }
+
+  @Test
+  void testNothingToDeliver() {
+    assertTrue(workflowHandler.triggerWithSignals(List.of()).isEmpty());
+    verify(runtimeService, never()).signalEventReceived(anyString(), anyMap());
+  }
+}
@@ -0,0 +1,175 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+
+class CascadeDeleterTest {
+  private static final int BATCH_SIZE = 100;
+
+  // In-memory containment tree: parent -> children, and the type of every entity
+  private final Map<UUID, List<UUID>> tree = new HashMap<>();
+  private final Map<UUID, String> types = new HashMap<>();
+  private final Set<UUID> existing = ConcurrentHashMap.newKeySet();
+  private final Set<UUID> failing = ConcurrentHashMap.newKeySet();
+  private final List<UUID> deletionOrder = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicLong largestLookup = new AtomicLong();
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testDeletesDescendantsBeforeTheirParents() {
+    UUID service = UUID.randomUUID();
+    List<UUID> databases = addChildren(service, "database", 2);
+    for (UUID database : databases) {
+      for (UUID schema : addChildren(database, "databaseSchema", 3)) {
+        addChildren(schema, "table", 250);
+      }
+    }
+    AtomicReference<long[]> lastProgress = new AtomicReference<>();
+
+    long failed = newDeleter(lastProgress).delete(childrenOf(service));
+
+    assertEquals(0, failed);
+    assertEquals(Set.of(), existing);
+    assertEquals(types.size(), deletionOrder.size());
+    for (Map.Entry<UUID, List<UUID>> entry : tree.entrySet()) {
+      if (entry.getKey().equals(service)) {
+        continue;
+      }
+      int parentIndex = deletionOrder.indexOf(entry.getKey());
+      for (UUID child : entry.getValue()) {
+        assertTrue(deletionOrder.indexOf(child) < parentIndex, "child deleted after its parent");
+      }
+    }
+    assertTrue(largestLookup.get() <= BATCH_SIZE, "children were looked up for a larger batch");
+    assertEquals(types.size(), lastProgress.get()[0]);
+    assertEquals(types.size(), lastProgress.get()[1]);
+  }
+
+  @Test
+  void testFailureKeepsAncestorsAndRetryResumes() {
+    UUID service = UUID.randomUUID();
+    UUID database = addChildren(service, "database", 1).get(0);
+    List<UUID> schemas = addChildren(database, "databaseSchema", 2);
+    List<UUID> brokenSchemaTables = addChildren(schemas.get(0), "table", 150);
+    List<UUID> healthySchemaTables = addChildren(schemas.get(1), "table", 150);
+    UUID brokenTable = brokenSchemaTables.get(120);
+    failing.add(brokenTable);
+
+    long failed = newDeleter(new AtomicReference<>()).delete(childrenOf(service));
+
+    assertEquals(1, failed);
+    assertTrue(existing.contains(brokenTable));
+    assertTrue(existing.contains(schemas.get(0)), "the parent of a failed entity was deleted");
+    assertTrue(existing.contains(database), "an ancestor of a failed entity was deleted");
+    healthySchemaTables.forEach(table -> assertFalse(existing.contains(table)));
+
+    failing.clear();
+    failed = newDeleter(new AtomicReference<>()).delete(childrenOf(service));
+
+    assertEquals(0, failed);
+    assertEquals(Set.of(), existing);
+  }
+
+  @Test
+  void testRelationshipBackToAnAncestorIsNotFollowed() {
+    UUID service = UUID.randomUUID();
+    UUID database = addChildren(service, "database", 1).get(0);
+    UUID schema = addChildren(database, "databaseSchema", 1).get(0);
+    tree.computeIfAbsent(schema, id -> new ArrayList<>()).add(database);
+
+    long failed = newDeleter(new AtomicReference<>()).delete(childrenOf(service));
+
+    assertEquals(0, failed);
+    assertEquals(List.of(schema, database), deletionOrder);
+  }
+
+  private CascadeDeleter newDeleter(AtomicReference<long[]> lastProgress) {
+    return new CascadeDeleter(
+        BATCH_SIZE,
+        this::findChildren,
+        this::deleteBatch,
+        executor,
+        (deleted, total) -> lastProgress.set(new long[] {deleted, total}));
+  }
+
+  private List<EntityRelationshipObject> findChildren(List<String> parentIds) {
+    largestLookup.accumulateAndGet(parentIds.size(), Math::max);
+    List<EntityRelationshipObject> relationships = new ArrayList<>();
+    for (String parentId : parentIds) {
+      for (UUID child : tree.getOrDefault(UUID.fromString(parentId), List.of())) {
+        if (existing.contains(child)) {
+          relationships.add(
+              EntityRelationshipObject.builder()
+                  .fromId(parentId)
+                  .toId(child.toString())
+                  .toEntity(types.get(child))
+                  .build());
+        }
+      }
+    }
+    return relationships;
+  }
+
+  private Set<UUID> deleteBatch(String entityType, List<UUID> ids) {
+    Set<UUID> notDeleted = new HashSet<>();
+    for (UUID id : ids) {
+      assertEquals(types.get(id), entityType);
+      if (failing.contains(id)) {
+        notDeleted.add(id);
+      } else if (existing.remove(id)) {
+        deletionOrder.add(id);
+      }
+    }
+    return notDeleted;
+  }
+
+  private List<UUID> addChildren(UUID parent, String type, int count) {
+    List<UUID> children = tree.computeIfAbsent(parent, id -> new ArrayList<>());
+    List<UUID> added = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      UUID child = UUID.randomUUID();
+      types.put(child, type);
+      existing.add(child);
+      children.add(child);
+      added.add(child);
+    }
+    return added;
+  }
+
+  private List<EntityRelationshipRecord> childrenOf(UUID parent) {
+    return tree.get(parent).stream()
+        .filter(existing::contains)
+        .map(id -> EntityRelationshipRecord.builder().id(id).type(types.get(id)).build())
+        .toList();
+  }
+}
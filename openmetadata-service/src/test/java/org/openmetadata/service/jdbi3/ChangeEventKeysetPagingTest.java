@@ -0,0 +1,219 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.openmetadata.service.apps.bundles.changeEvent.AbstractEventConsumer.FAILED_EVENT_EXTENSION;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.FailedEvent;
+import org.openmetadata.schema.entity.events.FailedEventResponse;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.OpenMetadataApplicationTest;
+import org.openmetadata.service.apps.bundles.changeEvent.AbstractEventConsumer.FailureTowards;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventRecord;
+
+/**
+ * Tests the keyset paging of unprocessed change events and of the failed events of a
+ * subscription: every page continues right after the last row of the previous one, rows with the
+ * same time are neither skipped nor repeated across a page boundary, and the source filter holds
+ * on every page.
+ */
+class ChangeEventKeysetPagingTest extends OpenMetadataApplicationTest {
+  // Far in the future, so that events other tests write meanwhile sort after the test's own
+  private static final long EVENT_TIME = 32503680000000L;
+  private static final int PAGE_SIZE = 2;
+
+  private CollectionDAO.ChangeEventDAO changeEventDAO;
+  private String entityType;
+  private String subscriptionId;
+  private Map<String, Long> failedAt;
+
+  @BeforeEach
+  void setUp() {
+    changeEventDAO = Entity.getCollectionDAO().changeEventDAO();
+    entityType = "keysetPagingTest" + UUID.randomUUID().toString().replace("-", "");
+    subscriptionId = UUID.randomUUID().toString();
+    failedAt = new HashMap<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    changeEventDAO.deleteAll(entityType);
+    Entity.getCollectionDAO()
+        .eventSubscriptionDAO()
+        .deleteFailedRecordsBySubscriptionId(subscriptionId);
+  }
+
+  @Test
+  void testUnprocessedEventsPageAcrossTies() {
+    long offset = changeEventDAO.getLatestOffset();
+    long[] eventTimes = {
+      EVENT_TIME, EVENT_TIME + 1, EVENT_TIME + 2, EVENT_TIME + 1, EVENT_TIME + 1
+    };
+    for (long eventTime : eventTimes) {
+      changeEventDAO.insert(JsonUtils.pojoToJson(changeEvent(eventTime)));
+    }
+
+    List<ChangeEventRecord> expected =
+        changeEventDAO.listRecords(Integer.MAX_VALUE, offset).stream()
+            .filter(this::isTestEvent)
+            .sorted(
+                Comparator.comparingLong(ChangeEventRecord::eventTime)
+                    .thenComparingLong(ChangeEventRecord::offset)
+                    .reversed())
+            .toList();
+    assertEquals(5, expected.size());
+
+    List<ChangeEventRecord> pages = new ArrayList<>();
+    long afterEventTime = Long.MAX_VALUE;
+    long afterOffset = Long.MAX_VALUE;
+    while (pages.size() < expected.size()) {
+      List<ChangeEventRecord> page =
+          changeEventDAO.listUnprocessedEventsAfter(offset, afterEventTime, afterOffset, PAGE_SIZE);
+      if (page.isEmpty()) {
+        break;
+      }
+      pages.addAll(page);
+      afterEventTime = page.getLast().eventTime();
+      afterOffset = page.getLast().offset();
+    }
+
+    // The three events at EVENT_TIME + 1 straddle the boundary of the first and second pages
+    assertTrue(pages.size() >= expected.size());
+    assertEquals(
+        expected.stream().map(ChangeEventRecord::offset).toList(),
+        pages.subList(0, expected.size()).stream().map(ChangeEventRecord::offset).toList());
+  }
+
+  @Test
+  void testUnprocessedEventsStartAfterTheConsumerOffset() {
+    changeEventDAO.insert(JsonUtils.pojoToJson(changeEvent(EVENT_TIME)));
+    long offset = changeEventDAO.getLatestOffset();
+    changeEventDAO.insert(JsonUtils.pojoToJson(changeEvent(EVENT_TIME)));
+
+    List<ChangeEventRecord> page =
+        changeEventDAO.listUnprocessedEventsAfter(offset, Long.MAX_VALUE, Long.MAX_VALUE, 1);
+
+    assertEquals(1, page.size());
+    assertTrue(page.getFirst().offset() > offset);
+    assertTrue(isTestEvent(page.getFirst()));
+  }
+
+  @Test
+  void testFailedEventsPageAcrossTies() {
+    long timestamp = System.currentTimeMillis();
+    List<String> extensions = new ArrayList<>();
+    for (long time : new long[] {timestamp, timestamp, timestamp, timestamp - 1, timestamp}) {
+      extensions.add(insertFailedEvent(time, FailureTowards.PUBLISHER));
+    }
+
+    List<FailedEventResponse> pages =
+        readAllPages(
+            paginationOffset ->
+                changeEventDAO.listFailedEventsById(subscriptionId, PAGE_SIZE, paginationOffset),
+            last ->
+                changeEventDAO.listFailedEventsByIdAfter(
+                    subscriptionId, last.getTimestamp(), extension(last), PAGE_SIZE));
+
+    assertEquals(sortedNewestFirst(extensions), pages.stream().map(this::extension).toList());
+  }
+
+  @Test
+  void testFailedEventsPageWithinTheirSource() {
+    long timestamp = System.currentTimeMillis();
+    List<String> publisherExtensions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      FailureTowards source = i % 2 == 0 ? FailureTowards.PUBLISHER : FailureTowards.SUBSCRIBER;
+      String extension = insertFailedEvent(timestamp - i / 3, source);
+      if (source == FailureTowards.PUBLISHER) {
+        publisherExtensions.add(extension);
+      }
+    }
+
+    String source = FailureTowards.PUBLISHER.toString();
+    List<FailedEventResponse> pages =
+        readAllPages(
+            paginationOffset ->
+                changeEventDAO.listFailedEventsByIdAndSource(
+                    subscriptionId, source, PAGE_SIZE, paginationOffset),
+            last ->
+                changeEventDAO.listFailedEventsByIdAndSourceAfter(
+                    subscriptionId, source, last.getTimestamp(), extension(last), PAGE_SIZE));
+
+    assertTrue(pages.stream().allMatch(event -> source.equals(event.getSource())));
+    assertEquals(
+        sortedNewestFirst(publisherExtensions), pages.stream().map(this::extension).toList());
+  }
+
+  /** Read the first page by offset, as the endpoints do, then follow the keyset to the end. */
+  private static List<FailedEventResponse> readAllPages(
+      Function<Integer, List<FailedEventResponse>> firstPage,
+      Function<FailedEventResponse, List<FailedEventResponse>> nextPage) {
+    List<FailedEventResponse> pages = new ArrayList<>(firstPage.apply(0));
+    List<FailedEventResponse> page = pages;
+    while (page.size() == PAGE_SIZE) {
+      page = nextPage.apply(pages.getLast());
+      pages.addAll(page);
+    }
+    return pages;
+  }
+
+  private List<String> sortedNewestFirst(List<String> extensions) {
+    return extensions.stream()
+        .sorted(
+            Comparator.comparingLong((String extension) -> failedAt.get(extension))
+                .thenComparing(Function.identity())
+                .reversed())
+        .toList();
+  }
+
+  private String insertFailedEvent(long timestamp, FailureTowards source) {
+    ChangeEvent event = changeEvent(timestamp);
+    String extension = String.format("%s-%s", FAILED_EVENT_EXTENSION, event.getId());
+    Entity.getCollectionDAO()
+        .eventSubscriptionDAO()
+        .upsertFailedEvent(
+            subscriptionId,
+            extension,
+            JsonUtils.pojoToJson(
+                new FailedEvent()
+                    .withFailingSubscriptionId(UUID.fromString(subscriptionId))
+                    .withChangeEvent(event)
+                    .withReason("Test failure")
+                    .withTimestamp(timestamp)),
+            source.toString());
+    failedAt.put(extension, timestamp);
+    return extension;
+  }
+
+  private String extension(FailedEventResponse event) {
+    return String.format("%s-%s", FAILED_EVENT_EXTENSION, event.getChangeEvent().getId());
+  }
+
+  private ChangeEvent changeEvent(long timestamp) {
+    return new ChangeEvent()
+        .withId(UUID.randomUUID())
+        .withEventType(EventType.ENTITY_CREATED)
+        .withEntityType(entityType)
+        .withEntityId(UUID.randomUUID())
+        .withUserName("admin")
+        .withTimestamp(timestamp);
+  }
+
+  private boolean isTestEvent(ChangeEventRecord eventRecord) {
+    return entityType.equals(
+        JsonUtils.readValue(eventRecord.json(), ChangeEvent.class).getEntityType());
+  }
+}
@@ -0,0 +1,219 @@
+package org.openmetadata.service.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.service.Entity.CLASSIFICATION;
+import static org.openmetadata.service.Entity.GLOSSARY;
+import static org.openmetadata.service.Entity.GLOSSARY_TERM;
+import static org.openmetadata.service.Entity.TAG;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.jobs.BackgroundJob;
+import org.openmetadata.schema.jobs.FqnPrefixRenameArgs;
+import org.openmetadata.schema.utils.JsonUtils;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+
+class FqnPrefixRenameHandlerTest {
+  private static final long JOB_ID = 42L;
+
+  private CollectionDAO daoCollection;
+  private CollectionDAO.TagUsageDAO tagUsageDAO;
+  private EntityDAO<?> termDao;
+  private JobDAO jobDao;
+  private MockedStatic<Entity> entityMock;
+
+  @BeforeEach
+  void setUp() {
+    daoCollection = mock(CollectionDAO.class);
+    tagUsageDAO = mock(CollectionDAO.TagUsageDAO.class);
+    when(daoCollection.tagUsageDAO()).thenReturn(tagUsageDAO);
+    jobDao = mock(JobDAO.class);
+    termDao = mock(EntityDAO.class);
+    EntityRepository<?> termRepository = mock(EntityRepository.class);
+    doReturn(termDao).when(termRepository).getDao();
+    entityMock = mockStatic(Entity.class);
+    entityMock.when(() -> Entity.getEntityRepository(GLOSSARY_TERM)).thenReturn(termRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityMock.close();
+  }
+
+  @Test
+  void testSmallHierarchyIsRenamedInline() {
+    when(termDao.countByFqnPrefix("g1")).thenReturn(10);
+    when(termDao.updateFqnBatch("g1", "g2", FqnPrefixRenameHandler.BATCH_SIZE))
+        .thenReturn(10, 0);
+
+    FqnPrefixRenameArgs pending =
+        FqnPrefixRenameHandler.renameDescendants(
+            daoCollection, jobDao, GLOSSARY, UUID.randomUUID(), "g1", "g2");
+
+    assertNull(pending);
+    verify(termDao, times(2)).updateFqnBatch("g1", "g2", FqnPrefixRenameHandler.BATCH_SIZE);
+    verify(tagUsageDAO).updateTagPrefixBatch(anyInt(), eq("g1"), eq("g2"), anyInt());
+    verify(tagUsageDAO).updateTargetFQNHashPrefixBatch(anyInt(), eq("g1"), eq("g2"), anyInt());
+    verify(jobDao, never()).insertJob(any(), any(), anyString(), anyString());
+  }
+
+  @Test
+  void testLargeHierarchyIsLeftToAJobEnqueuedByTheCaller() {
+    UUID glossaryId = UUID.randomUUID();
+    when(termDao.countByFqnPrefix("g1")).thenReturn(FqnPrefixRenameHandler.SYNC_RENAME_LIMIT + 1);
+    when(jobDao.insertJob(any(), any(), anyString(), anyString())).thenReturn(JOB_ID);
+
+    FqnPrefixRenameArgs pending =
+        FqnPrefixRenameHandler.renameDescendants(
+            daoCollection, jobDao, GLOSSARY, glossaryId, "g1", "g2");
+
+    // Nothing is renamed or enqueued until the caller has stored the renamed glossary
+    assertNotNull(pending);
+    assertEquals(glossaryId, pending.getEntityId());
+    assertEquals(FqnPrefixRenameHandler.SYNC_RENAME_LIMIT + 1, pending.getTotalRecords());
+    verify(termDao, never()).updateFqnBatch(anyString(), anyString(), anyInt());
+    verify(jobDao, never()).insertJob(any(), any(), anyString(), anyString());
+
+    long jobId = FqnPrefixRenameHandler.enqueueRename(daoCollection, jobDao, pending, "admin");
+
+    assertEquals(JOB_ID, jobId);
+    ArgumentCaptor<String> jobArgs = ArgumentCaptor.forClass(String.class);
+    verify(jobDao)
+        .insertJob(
+            eq(BackgroundJob.JobType.FQN_PREFIX_RENAME),
+            any(FqnPrefixRenameHandler.class),
+            jobArgs.capture(),
+            eq("admin"));
+    FqnPrefixRenameArgs stored =
+        JsonUtils.readValue(jobArgs.getValue(), FqnPrefixRenameArgs.class);
+    assertEquals("g1", stored.getOldFqn());
+    assertEquals("g2", stored.getNewFqn());
+  }
+
+  @Test
+  void testJobRenamesInBatchesAndCheckpointsProgress() throws BackgroundJobException {
+    when(termDao.updateFqnBatch("g1", "g2", FqnPrefixRenameHandler.BATCH_SIZE))
+        .thenReturn(FqnPrefixRenameHandler.BATCH_SIZE, 500, 0);
+    when(termDao.listByFqnPrefix(anyString(), anyString(), anyInt())).thenReturn(List.of());
+
+    new FqnPrefixRenameHandler(daoCollection, jobDao).runJob(job(renameArgs()));
+
+    List<FqnPrefixRenameArgs> checkpoints = checkpoints();
+    assertEquals(FqnPrefixRenameHandler.BATCH_SIZE, checkpoints.get(0).getProcessedRecords());
+    assertEquals(
+        FqnPrefixRenameHandler.BATCH_SIZE + 500, checkpoints.get(1).getProcessedRecords());
+    FqnPrefixRenameArgs last = checkpoints.getLast();
+    assertEquals(
+        List.of("entities", "tagLabels", "tagTargets", "searchIndex"), last.getCompletedSteps());
+    assertEquals(FqnPrefixRenameHandler.BATCH_SIZE + 500, last.getProcessedRecords());
+    verify(termDao).listByFqnPrefix("g2", "", FqnPrefixRenameHandler.BATCH_SIZE);
+  }
+
+  @Test
+  void testRestartedJobSkipsCompletedSteps() throws BackgroundJobException {
+    FqnPrefixRenameArgs args =
+        renameArgs().withCompletedSteps(List.of("entities", "tagLabels")).withProcessedRecords(7);
+    when(termDao.listByFqnPrefix(anyString(), anyString(), anyInt())).thenReturn(List.of());
+
+    new FqnPrefixRenameHandler(daoCollection, jobDao).runJob(job(args));
+
+    verify(termDao, never()).updateFqnBatch(anyString(), anyString(), anyInt());
+    verify(tagUsageDAO, never()).updateTagPrefixBatch(anyInt(), any(), any(), anyInt());
+    verify(tagUsageDAO)
+        .updateTargetFQNHashPrefixBatch(
+            anyInt(), eq("g1"), eq("g2"), eq(FqnPrefixRenameHandler.BATCH_SIZE));
+    FqnPrefixRenameArgs last = checkpoints().getLast();
+    assertEquals(
+        List.of("entities", "tagLabels", "tagTargets", "searchIndex"), last.getCompletedSteps());
+    assertEquals(7, last.getProcessedRecords());
+  }
+
+  @Test
+  void testPendingOldFqnOfRenamedDescendants() {
+    List<FqnPrefixRenameArgs> renames = List.of(renameArgs());
+
+    assertEquals(
+        "g1.parent.child",
+        FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2.parent.child", renames));
+    assertNull(FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2x.term", renames));
+    assertNull(FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2", renames));
+    assertNull(FqnPrefixRenameHandler.pendingOldFqn(TAG, "g2.term", renames));
+    FqnPrefixRenameArgs classificationRename =
+        renameArgs().withEntityType(CLASSIFICATION).withOldFqn("c1").withNewFqn("c2");
+    assertEquals(
+        "c1.tag",
+        FqnPrefixRenameHandler.pendingOldFqn(TAG, "c2.tag", List.of(classificationRename)));
+  }
+
+  @Test
+  void testActiveRenamesAreRefreshedWhenARenameStartsAndCompletes() throws BackgroundJobException {
+    entityMock.when(Entity::getJobDAO).thenReturn(jobDao);
+    when(jobDao.listJobs(anyString(), anyList())).thenReturn(List.of());
+    when(jobDao.insertJob(any(), any(), anyString(), anyString())).thenReturn(JOB_ID);
+    when(termDao.listByFqnPrefix(anyString(), anyString(), anyInt())).thenReturn(List.of());
+    try {
+      FqnPrefixRenameHandler.refreshActiveRenames(null);
+      assertNull(FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2.term"));
+
+      // The new name resolves right after the rename is enqueued, not once the memo expires
+      when(jobDao.listJobs(anyString(), anyList())).thenReturn(List.of(job(renameArgs())));
+      FqnPrefixRenameHandler.enqueueRename(daoCollection, jobDao, renameArgs(), "admin");
+      assertEquals("g1.term", FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2.term"));
+
+      // The completed job is still marked running until the worker updates its status
+      new FqnPrefixRenameHandler(daoCollection, jobDao).runJob(job(renameArgs()));
+      assertNull(FqnPrefixRenameHandler.pendingOldFqn(GLOSSARY_TERM, "g2.term"));
+    } finally {
+      FqnPrefixRenameHandler.refreshActiveRenames(null);
+    }
+  }
+
+  private static FqnPrefixRenameArgs renameArgs() {
+    return new FqnPrefixRenameArgs()
+        .withEntityType(GLOSSARY)
+        .withEntityId(UUID.randomUUID())
+        .withOldFqn("g1")
+        .withNewFqn("g2")
+        .withTotalRecords(1500)
+        .withProcessedRecords(0);
+  }
+
+  private static BackgroundJob job(FqnPrefixRenameArgs args) {
+    return new BackgroundJob()
+        .withId(JOB_ID)
+        .withJobType(BackgroundJob.JobType.FQN_PREFIX_RENAME)
+        .withJobArgs(args);
+  }
+
+  private List<FqnPrefixRenameArgs> checkpoints() {
+    ArgumentCaptor<String> jobArgs = ArgumentCaptor.forClass(String.class);
+    verify(jobDao, atLeastOnce()).updateJobArgs(anyLong(), jobArgs.capture());
+    return jobArgs.getAllValues().stream()
+        .map(json -> JsonUtils.readValue(json, FqnPrefixRenameArgs.class))
+        .toList();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2025 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.logstorage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LogLineIndexTest {
+
+  private static String buildLog(int lines, boolean trailingNewline) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      builder.append("Log line ").append(i);
+      if (i < lines - 1 || trailingNewline) {
+        builder.append('\n');
+      }
+    }
+    return builder.toString();
+  }
+
+  private static LogLineIndex indexInChunks(byte[] content, int interval, int chunkSize) {
+    LogLineIndex index = new LogLineIndex(interval);
+    for (int off = 0; off < content.length; off += chunkSize) {
+      index.update(content, off, Math.min(chunkSize, content.length - off));
+    }
+    return index;
+  }
+
+  private static List<String> readRange(byte[] content, LogLineIndex.Range range)
+      throws IOException {
+    byte[] slice = Arrays.copyOfRange(content, (int) range.from(), (int) range.to() + 1);
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(new ByteArrayInputStream(slice), StandardCharsets.UTF_8))) {
+      for (long i = 0; i < range.skipLines(); i++) {
+        reader.readLine();
+      }
+      String line;
+      while (lines.size() < range.lines() && (line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  @Test
+  void testCountsLinesLikeBufferedReader() {
+    byte[] withNewline = buildLog(25, true).getBytes(StandardCharsets.UTF_8);
+    byte[] withoutNewline = buildLog(25, false).getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(25, indexInChunks(withNewline, 10, 7).totalLines());
+    assertEquals(25, indexInChunks(withoutNewline, 10, 7).totalLines());
+    assertEquals(0, new LogLineIndex(10).totalLines());
+  }
+
+  @Test
+  void testRangeReturnsRequestedLines() throws IOException {
+    String log = buildLog(95, true);
+    byte[] content = log.getBytes(StandardCharsets.UTF_8);
+    List<String> allLines = Arrays.asList(log.split("\n"));
+    LogLineIndex index = indexInChunks(content, 10, 13);
+
+    for (int start = 0; start < 95; start += 7) {
+      for (int limit : new int[] {1, 5, 10, 33, 200}) {
+        LogLineIndex.Range range = index.rangeFor(start, start + limit);
+        assertNotNull(range);
+        List<String> expected = allLines.subList(start, Math.min(start + limit, 95));
+        assertEquals(expected, readRange(content, range), "start=" + start + " limit=" + limit);
+        assertTrue(range.skipLines() < 10);
+      }
+    }
+    assertNull(index.rangeFor(95, 100));
+  }
+
+  @Test
+  void testSerializeRoundTrip() throws IOException {
+    String log = buildLog(42, false);
+    byte[] content = log.getBytes(StandardCharsets.UTF_8);
+    LogLineIndex index = indexInChunks(content, 10, 64);
+
+    LogLineIndex parsed = LogLineIndex.parse(index.serialize());
+
+    assertNotNull(parsed);
+    assertEquals(index.totalLines(), parsed.totalLines());
+    assertEquals(index.totalBytes(), parsed.totalBytes());
+    assertEquals(
+        readRange(content, index.rangeFor(30, 42)), readRange(content, parsed.rangeFor(30, 42)));
+  }
+
+  @Test
+  void testSingleByteUpdatesMatchBulkUpdates() {
+    byte[] content = buildLog(57, false).getBytes(StandardCharsets.UTF_8);
+    LogLineIndex bulk = indexInChunks(content, 10, 64);
+    LogLineIndex single = new LogLineIndex(10);
+    for (byte b : content) {
+      single.update(b);
+    }
+
+    assertEquals(bulk.serialize(), single.serialize());
+  }
+
+  @Test
+  void testParseRejectsOtherContent() {
+    assertNull(LogLineIndex.parse(null));
+    assertNull(LogLineIndex.parse("Line 1\nLine 2\n"));
+    assertNull(LogLineIndex.parse("OMLOGIDX1\nnot numbers\n"));
+  }
+}
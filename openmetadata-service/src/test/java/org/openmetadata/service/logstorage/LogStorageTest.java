@@ -75,6 +75,21 @@ public class LogStorageTest {
     verify(mockPipelineServiceClient).getLastIngestionLogs(any(IngestionPipeline.class), isNull());
   }
 
+  @Test
+  void testDefaultLogTailReportsTotalBytes() throws IOException {
+    String content = "Line 1\nLine 2\nLine 3\n";
+    Map<String, String> mockLogs = new HashMap<>();
+    mockLogs.put("logs", content);
+    when(mockPipelineServiceClient.getLastIngestionLogs(any(IngestionPipeline.class), any()))
+        .thenReturn(mockLogs);
+
+    Map<String, Object> result = defaultLogStorage.getLogTail(testPipelineFQN, testRunId, 2);
+
+    assertEquals("Line 2\nLine 3", result.get("logs"));
+    assertNull(result.get("after"));
+    assertEquals((long) content.length(), result.get("total"));
+  }
+
   @Test
   void testDefaultLogStorageGetLogsWithPagination() throws IOException {
     // Setup mock response
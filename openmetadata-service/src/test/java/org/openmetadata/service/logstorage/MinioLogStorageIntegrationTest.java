@@ -254,4 +254,40 @@ public class MinioLogStorageIntegrationTest {
     // Test logs exist
     assertFalse(s3LogStorage.logsExist(testPipelineFQN, nonExistentRunId));
   }
+
+  @Test
+  @Order(9)
+  void testIndexedPaginationAndTailAfterFlush() throws Exception {
+    UUID runId = UUID.randomUUID();
+    StringBuilder logs = new StringBuilder();
+    for (int i = 0; i < 2500; i++) {
+      logs.append("Indexed log line ").append(i).append("\n");
+    }
+    s3LogStorage.appendLogs(testPipelineFQN, runId, logs.toString());
+    s3LogStorage.flush(testPipelineFQN, runId);
+
+    // Page from the middle of the object, across an index block boundary
+    Map<String, Object> page = s3LogStorage.getLogs(testPipelineFQN, runId, "995", 10);
+    String[] pageLines = ((String) page.get("logs")).split("\n");
+    assertEquals(10, pageLines.length);
+    assertEquals("Indexed log line 995", pageLines[0]);
+    assertEquals("Indexed log line 1004", pageLines[9]);
+    assertEquals("1005", page.get("after"));
+
+    // Last page has no next cursor
+    Map<String, Object> lastPage = s3LogStorage.getLogs(testPipelineFQN, runId, "2495", 10);
+    assertTrue(((String) lastPage.get("logs")).endsWith("Indexed log line 2499"));
+    assertNull(lastPage.get("after"));
+
+    Map<String, Object> tail = s3LogStorage.getLogTail(testPipelineFQN, runId, 3);
+    assertEquals(
+        "Indexed log line 2497\nIndexed log line 2498\nIndexed log line 2499", tail.get("logs"));
+    assertEquals(
+        (long) logs.toString().getBytes(StandardCharsets.UTF_8).length, tail.get("total"));
+
+    // Full download streams the object unchanged
+    try (InputStream is = s3LogStorage.getLogInputStream(testPipelineFQN, runId)) {
+      assertEquals(logs.toString(), new String(is.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
 }
@@ -29,6 +29,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openmetadata.schema.api.configuration.LogStorageConfiguration;
 import org.openmetadata.schema.security.credentials.AWSCredentials;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.http.AbortableInputStream;
@@ -215,6 +216,42 @@ public class S3LogStorageTest {
     assertEquals("4", result.get("after")); // Next cursor
   }
 
+  @Test
+  void testGetLogsWithLineIndexUsesRangedRead() throws IOException {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 3000; i++) {
+      builder.append("Line ").append(i).append("\n");
+    }
+    byte[] content = builder.toString().getBytes(StandardCharsets.UTF_8);
+    LogLineIndex index = new LogLineIndex(LogLineIndex.DEFAULT_INTERVAL);
+    index.update(content, 0, content.length);
+
+    when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().contentLength((long) content.length).build());
+    when(mockS3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().build(),
+                index.serialize().getBytes(StandardCharsets.UTF_8)));
+    LogLineIndex.Range range = index.rangeFor(1500, 1502);
+    String rangeContent =
+        new String(
+            Arrays.copyOfRange(content, (int) range.from(), (int) range.to() + 1),
+            StandardCharsets.UTF_8);
+    when(mockS3Client.getObject(any(GetObjectRequest.class)))
+        .thenReturn(createResponseInputStream(rangeContent));
+
+    Map<String, Object> result = s3LogStorage.getLogs(testPipelineFQN, testRunId, "1500", 2);
+
+    assertEquals("Line 1500\nLine 1501", result.get("logs"));
+    assertEquals("1502", result.get("after"));
+    verify(mockS3Client)
+        .getObject(
+            argThat(
+                (GetObjectRequest request) ->
+                    ("bytes=" + range.from() + "-" + range.to()).equals(request.range())));
+  }
+
   @Test
   void testGetLogsNonExistent() throws IOException {
     // Mock head object for non-existent
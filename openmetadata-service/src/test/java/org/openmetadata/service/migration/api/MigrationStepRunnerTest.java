@@ -0,0 +1,116 @@
+package org.openmetadata.service.migration.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openmetadata.service.jdbi3.MigrationDAO;
+
+class MigrationStepRunnerTest {
+  private static final String VERSION = "1.7.0";
+  private static final String PATH = "bootstrap/sql/migrations/native/1.7.0";
+  private static final String STEP_KEY = "1.7.0#serviceLineage";
+
+  private MigrationDAO migrationDAO;
+  private MigrationStepRunner runner;
+  private final Set<String> processed = ConcurrentHashMap.newKeySet();
+
+  @BeforeEach
+  void setUp() {
+    migrationDAO = mock(MigrationDAO.class);
+    when(migrationDAO.listMigrationCheckpoints(anyString())).thenReturn(List.of());
+    runner = new MigrationStepRunner(migrationDAO, VERSION, PATH, 2);
+  }
+
+  private void verifyPartitionCompleted(String partition) {
+    verify(migrationDAO)
+        .upsertServerMigration(
+            eq(STEP_KEY + "#" + partition), eq(PATH), eq("PARTITION_COMPLETED"), anyString());
+  }
+
+  private void run(List<String> partitions) {
+    runner.runPartitionedStep(
+        "serviceLineage",
+        partitions,
+        Function.identity(),
+        partition -> {
+          if (partition.startsWith("failing")) {
+            throw new IllegalArgumentException("Cannot migrate " + partition);
+          }
+          processed.add(partition);
+        });
+  }
+
+  @Test
+  void testCompletedStepIsSkipped() {
+    when(migrationDAO.getVersionMigrationChecksum(STEP_KEY)).thenReturn("STEP_COMPLETED");
+
+    run(List.of("a", "b"));
+    runner.runStep("serviceLineage", () -> processed.add("step"));
+
+    assertTrue(processed.isEmpty());
+    verify(migrationDAO, never())
+        .upsertServerMigration(anyString(), anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void testResumesFromTheCompletedPartitions() {
+    when(migrationDAO.listMigrationCheckpoints(STEP_KEY + "#%"))
+        .thenReturn(List.of(STEP_KEY + "#a"));
+
+    run(List.of("a", "b", "c"));
+
+    assertEquals(Set.of("b", "c"), processed);
+    verify(migrationDAO, never())
+        .upsertServerMigration(eq(STEP_KEY + "#a"), anyString(), anyString(), anyString());
+    verifyPartitionCompleted("b");
+    verifyPartitionCompleted("c");
+  }
+
+  @Test
+  void testPartitionFailurePropagatesAndKeepsTheCheckpoints() {
+    IllegalStateException failure =
+        assertThrows(IllegalStateException.class, () -> run(List.of("a", "failing", "c")));
+
+    assertEquals(IllegalArgumentException.class, failure.getCause().getClass());
+    // The other partitions still complete, so that a rerun only retries the failed one
+    assertEquals(Set.of("a", "c"), processed);
+    verifyPartitionCompleted("a");
+    verify(migrationDAO, never())
+        .upsertServerMigration(eq(STEP_KEY), anyString(), anyString(), anyString());
+    verify(migrationDAO, never()).deleteMigrationCheckpoints(anyString());
+  }
+
+  @Test
+  void testPartitionCheckpointsAreClearedOnlyOnceTheStepCompleted() {
+    run(List.of("a", "b"));
+
+    InOrder order = inOrder(migrationDAO);
+    order
+        .verify(migrationDAO)
+        .upsertServerMigration(eq(STEP_KEY), eq(PATH), eq("STEP_COMPLETED"), anyString());
+    order.verify(migrationDAO).deleteMigrationCheckpoints(STEP_KEY + "#%");
+    order.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void testClearCheckpointsOfTheVersion() {
+    MigrationStepRunner.clearCheckpoints(migrationDAO, VERSION);
+
+    verify(migrationDAO).deleteMigrationCheckpoints("1.7.0#%");
+  }
+}
@@ -0,0 +1,114 @@
+package org.openmetadata.service.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.NotificationTemplate;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.NotificationTemplateRepository;
+
+class HandlebarsNotificationMessageEngineCacheTest {
+  private static final String TABLE_CREATED = "system-notification-table-entity-created";
+
+  private NotificationTemplateRepository templateRepository;
+  private HandlebarsNotificationMessageEngine engine;
+  private ChangeEvent event;
+
+  @BeforeEach
+  void setUp() {
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
+    templateRepository = mock(NotificationTemplateRepository.class);
+    engine = new HandlebarsNotificationMessageEngine(templateRepository);
+    event =
+        new ChangeEvent()
+            .withId(UUID.randomUUID())
+            .withEntityType(Entity.TABLE)
+            .withEventType(EventType.ENTITY_CREATED);
+  }
+
+  @AfterEach
+  void tearDown() {
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
+  }
+
+  private static NotificationTemplate template(String name, String body) {
+    return new NotificationTemplate()
+        .withId(UUID.randomUUID())
+        .withName(name)
+        .withTemplateBody(body);
+  }
+
+  @Test
+  void testSystemTemplateIsResolvedOnce() {
+    NotificationTemplate template = template(TABLE_CREATED, "Table created");
+    when(templateRepository.findByNameOrNull(TABLE_CREATED, Include.ALL)).thenReturn(template);
+    EventSubscription subscription = new EventSubscription().withName("alert");
+
+    assertEquals(template, engine.resolveTemplate(event, subscription));
+    assertEquals(template, engine.resolveTemplate(event, subscription));
+
+    verify(templateRepository, times(1)).findByNameOrNull(TABLE_CREATED, Include.ALL);
+  }
+
+  @Test
+  void testUpdatedSystemTemplateIsResolvedAfterInvalidation() {
+    NotificationTemplate template = template(TABLE_CREATED, "Table created");
+    NotificationTemplate updated = template(TABLE_CREATED, "A table was created");
+    when(templateRepository.findByNameOrNull(TABLE_CREATED, Include.ALL))
+        .thenReturn(template, updated);
+    EventSubscription subscription = new EventSubscription().withName("alert");
+
+    assertEquals(template, engine.resolveTemplate(event, subscription));
+    HandlebarsNotificationMessageEngine.invalidateTemplateCache();
+
+    assertEquals(updated, engine.resolveTemplate(event, subscription));
+    verify(templateRepository, times(2)).findByNameOrNull(TABLE_CREATED, Include.ALL);
+  }
+
+  @Test
+  void testEditedCustomTemplateIsPickedUp() {
+    NotificationTemplate custom = template("custom", "Custom");
+    NotificationTemplate edited = template("custom", "Edited custom");
+    EventSubscription subscription =
+        new EventSubscription()
+            .withName("alert")
+            .withNotificationTemplate(
+                new EntityReference()
+                    .withId(custom.getId())
+                    .withType(Entity.NOTIFICATION_TEMPLATE));
+
+    try (MockedStatic<Entity> entity = mockStatic(Entity.class)) {
+      entity
+          .when(
+              () ->
+                  Entity.getEntity(
+                      eq(Entity.NOTIFICATION_TEMPLATE),
+                      eq(custom.getId()),
+                      anyString(),
+                      any(Include.class)))
+          .thenReturn(custom, edited);
+
+      assertEquals(custom, engine.resolveTemplate(event, subscription));
+      assertEquals(edited, engine.resolveTemplate(event, subscription));
+    }
+    verify(templateRepository, never()).findByNameOrNull(anyString(), any(Include.class));
+  }
+}
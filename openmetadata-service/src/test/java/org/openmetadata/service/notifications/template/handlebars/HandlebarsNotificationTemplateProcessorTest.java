@@ -0,0 +1,48 @@
+package org.openmetadata.service.notifications.template.handlebars;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.jknack.handlebars.Handlebars;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HandlebarsNotificationTemplateProcessorTest {
+  private Handlebars handlebars;
+  private HandlebarsNotificationTemplateProcessor processor;
+  // The compiled templates are shared by all processors, so each test uses sources of its own
+  private String marker;
+
+  @BeforeEach
+  void setUp() {
+    handlebars = spy(new Handlebars());
+    processor = new HandlebarsNotificationTemplateProcessor(handlebars);
+    marker = UUID.randomUUID().toString();
+  }
+
+  @Test
+  void testTemplateIsCompiledOnce() throws Exception {
+    String template = marker + " {{name}}";
+
+    assertEquals(marker + " a", processor.process(template, Map.of("name", "a")));
+    assertEquals(marker + " b", processor.process(template, Map.of("name", "b")));
+
+    verify(handlebars, times(1)).compileInline(template);
+  }
+
+  @Test
+  void testEditedTemplateIsCompiledAgain() throws Exception {
+    String template = marker + " Hello {{name}}";
+    String edited = marker + " Goodbye {{name}}";
+
+    assertEquals(marker + " Hello a", processor.process(template, Map.of("name", "a")));
+    assertEquals(marker + " Goodbye a", processor.process(edited, Map.of("name", "a")));
+
+    verify(handlebars, times(1)).compileInline(template);
+    verify(handlebars, times(1)).compileInline(edited);
+  }
+}
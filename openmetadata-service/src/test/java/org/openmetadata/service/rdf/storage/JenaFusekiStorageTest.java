@@ -0,0 +1,103 @@
+package org.openmetadata.service.rdf.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdfconnection.RDFConnection;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs the storage against a local in-memory dataset instead of a Fuseki server. */
+class JenaFusekiStorageTest {
+  private static final String BASE_URI = "https://open-metadata.org/";
+  private static final String TABLE_GRAPH = BASE_URI + "graph/table";
+
+  private RDFConnection connection;
+  private JenaFusekiStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    connection = RDFConnection.connect(DatasetFactory.createTxnMem());
+    storage = new JenaFusekiStorage(connection, BASE_URI);
+  }
+
+  @AfterEach
+  void tearDown() {
+    storage.close();
+  }
+
+  @Test
+  void testBulkStoreEntitiesReplacesStoredTriples() {
+    UUID updatedId = UUID.randomUUID();
+    UUID untouchedId = UUID.randomUUID();
+    UUID newId = UUID.randomUUID();
+    storage.storeEntity("table", updatedId, entityModel(updatedId, "old"));
+    storage.storeEntity("table", untouchedId, entityModel(untouchedId, "untouched"));
+
+    Map<UUID, Model> models = new LinkedHashMap<>();
+    models.put(updatedId, entityModel(updatedId, "new"));
+    models.put(newId, entityModel(newId, "created"));
+    storage.bulkStoreEntities("table", models);
+
+    assertTrue(hasLabel(updatedId, "new"));
+    assertFalse(hasLabel(updatedId, "old"));
+    assertTrue(hasLabel(untouchedId, "untouched"));
+    assertTrue(hasLabel(newId, "created"));
+    assertEquals(3, count(String.format("GRAPH <%s> { ?s ?p ?o }", TABLE_GRAPH)));
+  }
+
+  @Test
+  void testBulkStoreRelationshipsSplitsLargePayloads() {
+    UUID tableId = UUID.randomUUID();
+    List<RdfStorageInterface.RelationshipData> relationships = new ArrayList<>();
+    for (int i = 0; i < 12_345; i++) {
+      relationships.add(
+          new RdfStorageInterface.RelationshipData(
+              "table", tableId, "column", UUID.randomUUID(), "contains"));
+    }
+
+    storage.bulkStoreRelationships(relationships);
+
+    assertEquals(
+        relationships.size(),
+        count(
+            String.format(
+                "GRAPH <https://open-metadata.org/graph/default> { <%sentity/table/%s> ?p ?o }",
+                BASE_URI, tableId)));
+  }
+
+  private static Model entityModel(UUID id, String label) {
+    Model model = ModelFactory.createDefaultModel();
+    model.createResource(BASE_URI + "entity/table/" + id).addProperty(RDFS.label, label);
+    return model;
+  }
+
+  private boolean hasLabel(UUID id, String label) {
+    String ask =
+        String.format(
+            "ASK { GRAPH <%s> { <%sentity/table/%s> <%s> \"%s\" } }",
+            TABLE_GRAPH, BASE_URI, id, RDFS.label.getURI(), label);
+    try (QueryExecution qe = connection.query(ask)) {
+      return qe.execAsk();
+    }
+  }
+
+  private long count(String pattern) {
+    try (QueryExecution qe =
+        connection.query("SELECT (COUNT(*) AS ?count) WHERE { " + pattern + " }")) {
+      return qe.execSelect().next().getLiteral("count").getLong();
+    }
+  }
+}
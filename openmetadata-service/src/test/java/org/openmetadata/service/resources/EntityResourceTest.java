@@ -3339,6 +3339,51 @@ public abstract class EntityResourceTest<T extends EntityInterface, K extends Cr
         "Generated ETag should match response ETag (ignoring compression suffix)");
   }
 
+  @Test
+  @Execution(ExecutionMode.CONCURRENT)
+  void get_notModifiedOnlyWhileContentUnchanged(TestInfo test) throws IOException {
+    if (!supportsEtag) {
+      return;
+    }
+    T entity = createEntity(createRequest(test), ADMIN_AUTH_HEADERS);
+    WebTarget target = getResource(entity.getId());
+    if (supportsFollowers) {
+      target = target.queryParam("fields", FIELD_FOLLOWERS);
+    }
+
+    // The version ETag alone never gets a 304, as browsers revalidate with it
+    Response response = SecurityUtil.addHeaders(target, ADMIN_AUTH_HEADERS).get();
+    String etag = response.getHeaderString(EntityETag.ETAG_HEADER);
+    assertNull(response.getHeaderString(EntityETag.CONTENT_ETAG_HEADER));
+    Map<String, String> headers = new HashMap<>(ADMIN_AUTH_HEADERS);
+    headers.put(EntityETag.IF_NONE_MATCH_HEADER, etag);
+    response = SecurityUtil.addHeaders(target, headers).get();
+    assertEquals(OK.getStatusCode(), response.getStatus());
+
+    // Requests asking for the content ETag are answered 304 while the body is unchanged
+    headers.put(EntityETag.CONTENT_ETAG_HEADER, "true");
+    headers.remove(EntityETag.IF_NONE_MATCH_HEADER);
+    response = SecurityUtil.addHeaders(target, headers).get();
+    assertEquals(OK.getStatusCode(), response.getStatus());
+    String contentETag = response.getHeaderString(EntityETag.CONTENT_ETAG_HEADER);
+    assertNotNull(contentETag);
+    headers.put(EntityETag.IF_NONE_MATCH_HEADER, contentETag);
+    response = SecurityUtil.addHeaders(target, headers).get();
+    assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    assertFalse(response.hasEntity());
+
+    if (!supportsFollowers) {
+      return;
+    }
+    // A new follower does not bump the version but changes the body, so it is returned
+    addFollower(entity.getId(), USER1.getId(), OK, ADMIN_AUTH_HEADERS);
+    response = SecurityUtil.addHeaders(target, headers).get();
+    assertEquals(OK.getStatusCode(), response.getStatus());
+    assertNotEquals(contentETag, response.getHeaderString(EntityETag.CONTENT_ETAG_HEADER));
+    T followed = response.readEntity(entityClass);
+    TestUtils.existsInEntityReferenceList(followed.getFollowers(), USER1.getId(), true);
+  }
+
   @Test
   @Execution(ExecutionMode.CONCURRENT)
   void patch_with_valid_etag(TestInfo test) throws IOException {
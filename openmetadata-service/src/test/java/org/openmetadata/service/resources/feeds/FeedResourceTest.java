@@ -59,11 +59,13 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -118,6 +120,7 @@ import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.formatter.decorators.FeedMessageDecorator;
 import org.openmetadata.service.formatter.decorators.MessageDecorator;
 import org.openmetadata.service.formatter.util.FeedMessage;
+import org.openmetadata.service.jdbi3.FeedRepository;
 import org.openmetadata.service.jdbi3.FeedRepository.FilterType;
 import org.openmetadata.service.jdbi3.RoleRepository;
 import org.openmetadata.service.resources.EntityResourceTest;
@@ -499,6 +502,51 @@ public class FeedResourceTest extends OpenMetadataApplicationTest {
     assertEquals(task2.getId(), tasks.getData().get(0).getTask().getId());
   }
 
+  @Test
+  void get_threadCountsFollowThreadLifecycle_200() throws IOException {
+    Table table =
+        TABLE_RESOURCE_TEST.createAndCheckEntity(
+            TABLE_RESOURCE_TEST.createRequest("thread-count-table-" + UUID.randomUUID()),
+            ADMIN_AUTH_HEADERS);
+    String tableLink = buildEntityLink(Entity.TABLE, table.getFullyQualifiedName());
+    String columnLink = buildColumnLink(table.getFullyQualifiedName(), C1, "description");
+    assertEquals(List.of(0, 0, 0), getEntityThreadCounts(tableLink));
+
+    // Two conversations on different links of the table and two tasks on the table
+    createAndCheck(create().withAbout(tableLink), USER_AUTH_HEADERS);
+    Thread columnConversation = createAndCheck(create().withAbout(columnLink), USER_AUTH_HEADERS);
+    List<Integer> tasks = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      Thread task =
+          createTaskThread(
+              USER2.getName(),
+              tableLink,
+              USER.getEntityReference(),
+              "old",
+              "new " + i,
+              RequestDescription,
+              USER2_AUTH_HEADERS);
+      tasks.add(task.getTask().getId());
+    }
+    assertEquals(List.of(2, 2, 0), getEntityThreadCounts(tableLink));
+
+    // Resolving or closing a task moves it from the open to the closed counter
+    resolveTask(tasks.get(0), new ResolveTask().withNewValue("accepted"), USER_AUTH_HEADERS);
+    assertEquals(List.of(2, 1, 1), getEntityThreadCounts(tableLink));
+    closeTask(tasks.get(1), "closing comment", USER_AUTH_HEADERS);
+    assertEquals(List.of(2, 0, 2), getEntityThreadCounts(tableLink));
+
+    deleteThread(columnConversation.getId(), USER_AUTH_HEADERS);
+    assertEquals(List.of(1, 0, 2), getEntityThreadCounts(tableLink));
+    assertEquals(0, getThreadCount(columnLink, USER_AUTH_HEADERS));
+
+    // The maintained counters match the ones rebuilt from the threads
+    FeedRepository.reconcileThreadCounts(Entity.getCollectionDAO());
+    assertEquals(List.of(1, 0, 2), getEntityThreadCounts(tableLink));
+
+    cleanupTable(table);
+  }
+
   @Test
   void post_validAnnouncementAndList_200() throws IOException {
     int totalAnnouncementCount =
@@ -1231,6 +1279,46 @@ public class FeedResourceTest extends OpenMetadataApplicationTest {
     assertEquals(totalThreadCount + 1, threads.getPaging().getTotal());
   }
 
+  @Test
+  void list_threadsWithOwnerFilterAfterOwnerChange() throws IOException {
+    String user1 = USER1.getId().toString();
+    String user2 = USER2.getId().toString();
+    Table table =
+        TABLE_RESOURCE_TEST.createAndCheckEntity(
+            TABLE_RESOURCE_TEST
+                .createRequest("owner-feed-table-" + UUID.randomUUID())
+                .withOwners(List.of(TableResourceTest.USER1_REF)),
+            ADMIN_AUTH_HEADERS);
+    Thread thread =
+        createAndCheck(
+            create()
+                .withAbout(buildEntityLink(Entity.TABLE, table.getFullyQualifiedName()))
+                .withFrom(ADMIN_USER_NAME),
+            ADMIN_AUTH_HEADERS);
+    int user1ThreadCount =
+        listThreadsWithFilter(user1, FilterType.OWNER, USER_AUTH_HEADERS).getPaging().getTotal();
+    int user2ThreadCount =
+        listThreadsWithFilter(user2, FilterType.OWNER, USER_AUTH_HEADERS).getPaging().getTotal();
+    assertTrue(
+        listThreadsWithFilter(user1, FilterType.OWNER, USER_AUTH_HEADERS).getData().stream()
+            .anyMatch(t -> t.getId().equals(thread.getId())));
+
+    // Hand the table over from user1 to user2
+    String originalJson = JsonUtils.pojoToJson(table);
+    table.setOwners(List.of(USER2_REF));
+    TABLE_RESOURCE_TEST.patchEntity(table.getId(), originalJson, table, ADMIN_AUTH_HEADERS);
+
+    // The thread moves from the owner feed of user1 to the owner feed of user2
+    ThreadList threads = listThreadsWithFilter(user1, FilterType.OWNER, USER_AUTH_HEADERS);
+    assertEquals(user1ThreadCount - 1, threads.getPaging().getTotal());
+    assertFalse(threads.getData().stream().anyMatch(t -> t.getId().equals(thread.getId())));
+    threads = listThreadsWithFilter(user2, FilterType.OWNER, USER_AUTH_HEADERS);
+    assertEquals(user2ThreadCount + 1, threads.getPaging().getTotal());
+    assertTrue(threads.getData().stream().anyMatch(t -> t.getId().equals(thread.getId())));
+
+    cleanupTable(table);
+  }
+
   @Test
   void list_threadsWithOwnerOrFollowerFilter() throws HttpResponseException {
     EventSubscriptionResourceTest eventSubscriptionResourceTest =
@@ -1430,6 +1518,50 @@ public class FeedResourceTest extends OpenMetadataApplicationTest {
     assertEquals(0, getThread.getPostsCount());
   }
 
+  @Test
+  void patch_postsStoredOutsideThread_200() throws IOException {
+    // Add three posts, edit the second one and delete the first one
+    Thread thread = createAndCheck(create(), USER_AUTH_HEADERS);
+    for (int i = 0; i < 3; i++) {
+      thread = addPostAndCheck(thread, createPost("reply " + i), USER_AUTH_HEADERS);
+    }
+    List<Post> posts = thread.getPosts();
+    Post edited = posts.get(1);
+    String originalPostJson = JsonUtils.pojoToJson(edited);
+    edited.withMessage("edited reply");
+    patchPostAndCheck(thread.getId(), edited, originalPostJson, USER_AUTH_HEADERS);
+    deletePost(thread.getId(), posts.get(0).getId(), USER_AUTH_HEADERS);
+
+    // Updating the thread itself must not drop or duplicate the posts
+    Thread current = getThread(thread.getId(), ADMIN_AUTH_HEADERS);
+    String originalThreadJson = JsonUtils.pojoToJson(current);
+    patchThread(
+        current.getId(),
+        originalThreadJson,
+        current.withMessage("updated message"),
+        ADMIN_AUTH_HEADERS);
+
+    Thread getThread = getThread(thread.getId(), USER_AUTH_HEADERS);
+    assertEquals("updated message", getThread.getMessage());
+    assertEquals(2, getThread.getPostsCount());
+    assertEquals(
+        List.of(posts.get(1).getId(), posts.get(2).getId()),
+        getThread.getPosts().stream().map(Post::getId).toList());
+    assertEquals("edited reply", getThread.getPosts().get(0).getMessage());
+
+    // thread_entity only keeps the post summary, the posts are rows of thread_post
+    String storedJson = Entity.getCollectionDAO().feedDAO().findById(thread.getId());
+    Thread stored = JsonUtils.readValue(storedJson, Thread.class);
+    assertTrue(stored.getPosts() == null || stored.getPosts().isEmpty());
+    assertEquals(2, stored.getPostsCount());
+    posts.forEach(post -> assertFalse(storedJson.contains(post.getId().toString())));
+    List<Post> storedPosts =
+        JsonUtils.readObjects(
+            Entity.getCollectionDAO().threadPostDAO().listByThread(thread.getId()), Post.class);
+    assertEquals(
+        List.of("edited reply", "reply 2"), storedPosts.stream().map(Post::getMessage).toList());
+  }
+
   @Test
   void delete_thread_200() throws HttpResponseException {
     // Create a thread
@@ -2352,6 +2484,19 @@ public class FeedResourceTest extends OpenMetadataApplicationTest {
     return 0;
   }
 
+  /** Conversation, open task and closed task counts over all the thread links of an entity. */
+  private List<Integer> getEntityThreadCounts(String entityLink) throws HttpResponseException {
+    int conversations = 0;
+    int openTasks = 0;
+    int closedTasks = 0;
+    for (ThreadCount threadCount : listThreadsCount(entityLink, ADMIN_AUTH_HEADERS).getData()) {
+      conversations += Objects.requireNonNullElse(threadCount.getConversationCount(), 0);
+      openTasks += Objects.requireNonNullElse(threadCount.getOpenTaskCount(), 0);
+      closedTasks += Objects.requireNonNullElse(threadCount.getClosedTaskCount(), 0);
+    }
+    return List.of(conversations, openTasks, closedTasks);
+  }
+
   protected final Thread patchThreadAndCheck(
       Thread updated, String originalJson, Map<String, String> authHeaders) throws IOException {
     // Validate information returned in patch response has the updates
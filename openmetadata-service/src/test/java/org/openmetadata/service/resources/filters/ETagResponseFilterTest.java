@@ -0,0 +1,97 @@
+package org.openmetadata.service.resources.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.service.util.EntityETag;
+
+class ETagResponseFilterTest {
+  private final ETagResponseFilter filter = new ETagResponseFilter();
+
+  private static Table table() {
+    return new Table()
+        .withId(UUID.fromString("6b2ee6f5-4c41-4ea1-a2f6-6d5cd4b1b1d3"))
+        .withName("orders")
+        .withVersion(0.1)
+        .withUpdatedAt(1_700_000_000_000L);
+  }
+
+  private static ContainerRequestContext request(String contentETag, String ifNoneMatch) {
+    ContainerRequestContext request = mock(ContainerRequestContext.class);
+    when(request.getMethod()).thenReturn("GET");
+    when(request.getHeaderString(EntityETag.CONTENT_ETAG_HEADER)).thenReturn(contentETag);
+    when(request.getHeaderString(EntityETag.IF_NONE_MATCH_HEADER)).thenReturn(ifNoneMatch);
+    return request;
+  }
+
+  private static ContainerResponseContext response(Table entity) {
+    ContainerResponseContext response = mock(ContainerResponseContext.class);
+    MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    when(response.getStatus()).thenReturn(200);
+    when(response.getEntity()).thenReturn(entity);
+    when(response.getHeaders()).thenReturn(headers);
+    return response;
+  }
+
+  @Test
+  void testVersionETagNeverAnswersNotModified() throws IOException {
+    Table table = table();
+    String etag = EntityETag.generateETag(table);
+    ContainerResponseContext response = response(table);
+
+    filter.filter(request(null, etag), response);
+
+    assertEquals(etag, response.getHeaders().getFirst(EntityETag.ETAG_HEADER));
+    assertNull(response.getHeaders().getFirst(EntityETag.CONTENT_ETAG_HEADER));
+    verify(response, never()).setStatus(anyInt());
+    verify(response, never()).setEntity(any());
+  }
+
+  @Test
+  void testMatchingContentETagAnswersNotModified() throws IOException {
+    Table table = table();
+    String contentETag = EntityETag.generateContentETag(table);
+    ContainerResponseContext response = response(table);
+
+    filter.filter(request("true", "\"other\", " + contentETag), response);
+
+    assertEquals(contentETag, response.getHeaders().getFirst(EntityETag.CONTENT_ETAG_HEADER));
+    verify(response).setStatus(304);
+    verify(response).setEntity(null);
+  }
+
+  @Test
+  void testRelationshipChangeWithoutNewVersionReturnsBody() throws IOException {
+    Table table = table();
+    String contentETag = EntityETag.generateContentETag(table);
+    Table followed =
+        table()
+            .withFollowers(
+                List.of(new EntityReference().withId(UUID.randomUUID()).withType("user")));
+    ContainerResponseContext response = response(followed);
+
+    filter.filter(request("true", contentETag), response);
+
+    assertEquals(EntityETag.generateETag(table), EntityETag.generateETag(followed));
+    assertNotEquals(contentETag, response.getHeaders().getFirst(EntityETag.CONTENT_ETAG_HEADER));
+    verify(response, never()).setStatus(anyInt());
+    verify(response, never()).setEntity(any());
+  }
+}
@@ -103,6 +103,8 @@ import org.openmetadata.schema.entity.feed.Thread;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.type.CustomProperty;
 import org.openmetadata.schema.entity.type.Style;
+import org.openmetadata.schema.jobs.BackgroundJob;
+import org.openmetadata.schema.jobs.FqnPrefixRenameArgs;
 import org.openmetadata.schema.type.ChangeDescription;
 import org.openmetadata.schema.type.Column;
 import org.openmetadata.schema.type.CustomPropertyConfig;
@@ -121,6 +123,7 @@ import org.openmetadata.schema.utils.ResultList;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.governance.workflows.WorkflowHandler;
 import org.openmetadata.service.jdbi3.GlossaryTermRepository;
+import org.openmetadata.service.jobs.FqnPrefixRenameHandler;
 import org.openmetadata.service.resources.EntityResourceTest;
 import org.openmetadata.service.resources.databases.TableResourceTest;
 import org.openmetadata.service.resources.feeds.FeedResource.ThreadList;
@@ -2889,6 +2892,15 @@ public class GlossaryTermResourceTest extends EntityResourceTest<GlossaryTerm, C
     searchResults = searchGlossaryTerms(queryParams, ADMIN_AUTH_HEADERS);
     assertEquals(5, searchResults.getData().size());
 
+    // Test 3b: Follow the after cursor to the next page
+    List<String> firstPage = searchResults.getData().stream().map(GlossaryTerm::getName).toList();
+    queryParams.put("after", searchResults.getPaging().getAfter());
+    ResultList<GlossaryTerm> nextPage = searchGlossaryTerms(queryParams, ADMIN_AUTH_HEADERS);
+    assertEquals(5, nextPage.getData().size());
+    assertTrue(nextPage.getData().stream().noneMatch(t -> firstPage.contains(t.getName())));
+    assertNull(nextPage.getPaging().getAfter());
+    queryParams.remove("after");
+
     // Test 4: Search with offset
     queryParams.put("offset", "5");
     searchResults = searchGlossaryTerms(queryParams, ADMIN_AUTH_HEADERS);
@@ -2909,6 +2921,129 @@ public class GlossaryTermResourceTest extends EntityResourceTest<GlossaryTerm, C
     glossaryTest.deleteEntity(glossary.getId(), true, true, ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void test_searchGlossaryTermsRanking() throws IOException {
+    Glossary glossary =
+        glossaryTest.createEntity(
+            glossaryTest.createRequest("rankedSearchGlossary"), ADMIN_AUTH_HEADERS);
+    List<CreateGlossaryTerm> requests =
+        List.of(
+            createRequest("Sales").withSynonyms(List.of("turnover", "revenue")),
+            createRequest("NetRevenue"),
+            createRequest("Income").withDisplayName("Quarterly Revenue"),
+            createRequest("RevenueGrowth"),
+            createRequest("Revenue"),
+            createRequest("PlatformCost"),
+            createRequest("Expense"));
+    List<GlossaryTerm> terms = new ArrayList<>();
+    for (CreateGlossaryTerm request : requests) {
+      terms.add(
+          createEntity(
+              request.withGlossary(glossary.getFullyQualifiedName()).withDescription("ranked"),
+              ADMIN_AUTH_HEADERS));
+    }
+
+    // Exact name, then name prefix, then name or displayName substring, then synonym only
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("glossaryFqn", glossary.getFullyQualifiedName());
+    queryParams.put("q", "Revenue");
+    List<String> expected = List.of("Revenue", "RevenueGrowth", "Income", "NetRevenue", "Sales");
+    assertEquals(expected, searchGlossaryTermNames(queryParams));
+
+    // Paging with the after cursor keeps the ranking across pages
+    queryParams.put("limit", "2");
+    List<String> paged = new ArrayList<>();
+    ResultList<GlossaryTerm> page;
+    do {
+      page = searchGlossaryTerms(queryParams, ADMIN_AUTH_HEADERS);
+      page.getData().forEach(term -> paged.add(term.getName()));
+      queryParams.put("after", page.getPaging().getAfter());
+    } while (page.getPaging().getAfter() != null);
+    assertEquals(expected, paged);
+    queryParams.remove("limit");
+    queryParams.remove("after");
+
+    // Substrings match regardless of full-text stopwords and token lengths
+    queryParams.put("q", "for");
+    assertEquals(List.of("PlatformCost"), searchGlossaryTermNames(queryParams));
+    queryParams.put("q", "x");
+    assertEquals(List.of("Expense"), searchGlossaryTermNames(queryParams));
+
+    // Synonyms are matched as words, not as the json text of the synonyms array
+    queryParams.put("q", "turnover revenue");
+    assertEquals(List.of("Sales"), searchGlossaryTermNames(queryParams));
+    queryParams.put("q", "[\"turnover");
+    assertEquals(List.of(), searchGlossaryTermNames(queryParams));
+
+    for (GlossaryTerm term : terms) {
+      deleteEntity(term.getId(), true, true, ADMIN_AUTH_HEADERS);
+    }
+    glossaryTest.deleteEntity(glossary.getId(), true, true, ADMIN_AUTH_HEADERS);
+  }
+
+  private List<String> searchGlossaryTermNames(Map<String, String> queryParams)
+      throws HttpResponseException {
+    return searchGlossaryTerms(queryParams, ADMIN_AUTH_HEADERS).getData().stream()
+        .map(GlossaryTerm::getName)
+        .toList();
+  }
+
+  @Test
+  void test_termResolvesByNewNameDuringPendingRename() throws IOException {
+    Glossary glossary =
+        glossaryTest.createEntity(
+            glossaryTest.createRequest("pendingRenameGlossary"), ADMIN_AUTH_HEADERS);
+    GlossaryTerm term =
+        createEntity(
+            createRequest("pendingRenameTerm").withGlossary(glossary.getFullyQualifiedName()),
+            ADMIN_AUTH_HEADERS);
+    String newGlossaryFqn = glossary.getFullyQualifiedName() + "Renamed";
+    FqnPrefixRenameArgs args =
+        new FqnPrefixRenameArgs()
+            .withEntityType(GLOSSARY)
+            .withEntityId(glossary.getId())
+            .withOldFqn(glossary.getFullyQualifiedName())
+            .withNewFqn(newGlossaryFqn)
+            .withTotalRecords(1)
+            .withProcessedRecords(0);
+    // Scheduled an hour ahead so that the worker leaves the terms under their old name
+    long jobId =
+        Entity.getJobDAO()
+            .insertJob(
+                BackgroundJob.JobType.FQN_PREFIX_RENAME,
+                new FqnPrefixRenameHandler(Entity.getCollectionDAO(), Entity.getJobDAO()),
+                JsonUtils.pojoToJson(args),
+                "admin",
+                System.currentTimeMillis() + 3_600_000L);
+
+    try {
+      String newTermFqn = FullyQualifiedName.add(newGlossaryFqn, term.getName());
+      // Active renames are cached for a few seconds
+      GlossaryTerm renamed =
+          Awaitility.await()
+              .ignoreExceptions()
+              .pollInterval(Duration.ofSeconds(1))
+              .atMost(Duration.ofSeconds(15))
+              .until(() -> getEntityByName(newTermFqn, null, ADMIN_AUTH_HEADERS), Objects::nonNull);
+      assertEquals(term.getId(), renamed.getId());
+      assertEquals(newTermFqn, renamed.getFullyQualifiedName());
+
+      BackgroundJob job =
+          TestUtils.get(
+              getResource("system/jobs/" + jobId), BackgroundJob.class, ADMIN_AUTH_HEADERS);
+      assertEquals(BackgroundJob.JobType.FQN_PREFIX_RENAME, job.getJobType());
+      assertEquals(BackgroundJob.Status.PENDING, job.getStatus());
+      FqnPrefixRenameArgs jobArgs =
+          JsonUtils.convertValue(job.getJobArgs(), FqnPrefixRenameArgs.class);
+      assertEquals(newGlossaryFqn, jobArgs.getNewFqn());
+    } finally {
+      Entity.getJobDAO().updateJobStatus(jobId, BackgroundJob.Status.COMPLETED);
+    }
+
+    deleteEntity(term.getId(), true, true, ADMIN_AUTH_HEADERS);
+    glossaryTest.deleteEntity(glossary.getId(), true, true, ADMIN_AUTH_HEADERS);
+  }
+
   @Test
   void test_searchGlossaryTermsWithHierarchy() throws IOException {
     // Create glossary
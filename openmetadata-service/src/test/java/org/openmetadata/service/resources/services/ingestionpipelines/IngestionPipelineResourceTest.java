@@ -38,10 +38,12 @@ import jakarta.ws.rs.core.Response.Status;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
@@ -795,6 +797,60 @@ public class IngestionPipelineResourceTest
     TestUtils.readResponse(response, PipelineStatus.class, Status.NO_CONTENT.getStatusCode());
   }
 
+  @Test
+  void get_pipelineStatusPages(TestInfo test) throws IOException {
+    CreateIngestionPipeline requestPipeline =
+        createRequest(test)
+            .withName("ingestion_testStatusPages")
+            .withPipelineType(PipelineType.METADATA)
+            .withService(BIGQUERY_REFERENCE)
+            .withAirflowConfig(
+                new AirflowConfig().withScheduleInterval("5 * * * *").withStartDate(START_DATE));
+    IngestionPipeline ingestionPipeline = createAndCheckEntity(requestPipeline, ADMIN_AUTH_HEADERS);
+    String fqn = ingestionPipeline.getFullyQualifiedName();
+
+    // Runs stored out of order, listed latest first
+    Map<Long, String> runIdsByTimestamp = new TreeMap<>(Comparator.reverseOrder());
+    for (long timestamp : List.of(30L, 50L, 10L, 40L, 20L)) {
+      String runId = UUID.randomUUID().toString();
+      TestUtils.put(
+          getPipelineStatusTarget(fqn),
+          new PipelineStatus()
+              .withPipelineState(PipelineStatusType.SUCCESS)
+              .withRunId(runId)
+              .withTimestamp(timestamp),
+          Response.Status.CREATED,
+          ADMIN_AUTH_HEADERS);
+      runIdsByTimestamp.put(timestamp, runId);
+    }
+    List<String> expectedRunIds = List.copyOf(runIdsByTimestamp.headMap(20L, true).values());
+
+    // Page through the window of the runs from 20 to 50, two at a time
+    List<String> runIds = new ArrayList<>();
+    String after = null;
+    int pages = 0;
+    do {
+      WebTarget target =
+          getPipelineStatusTarget(fqn)
+              .queryParam("startTs", 20L)
+              .queryParam("endTs", 50L)
+              .queryParam("limit", 2);
+      target = after == null ? target : target.queryParam("after", after);
+      ResultList<?> page = TestUtils.get(target, ResultList.class, ADMIN_AUTH_HEADERS);
+      for (Object data : page.getData()) {
+        String runId = JsonUtils.convertValue(data, PipelineStatus.class).getRunId();
+        if (expectedRunIds.contains(runId)) {
+          runIds.add(runId);
+        }
+      }
+      after = page.getPaging().getAfter();
+      pages++;
+    } while (after != null);
+
+    assertEquals(expectedRunIds, runIds);
+    assertEquals(2, pages);
+  }
+
   @Test
   void put_pipelineStatus_403(TestInfo test) throws IOException {
     CreateIngestionPipeline requestPipeline = createRequest(getEntityName(test));
@@ -66,6 +66,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -83,6 +84,7 @@ import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.csv.EntityCsv;
 import org.openmetadata.csv.EntityCsvTest;
 import org.openmetadata.schema.api.data.CreateTable;
+import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.api.policies.CreatePolicy;
 import org.openmetadata.schema.api.teams.CreateRole;
 import org.openmetadata.schema.api.teams.CreateTeam;
@@ -113,6 +115,8 @@ import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.schema.utils.ResultList;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamClosureDAO;
+import org.openmetadata.service.jdbi3.TeamRepository;
 import org.openmetadata.service.jdbi3.TeamRepository.TeamCsv;
 import org.openmetadata.service.resources.EntityResourceTest;
 import org.openmetadata.service.resources.databases.DatabaseSchemaResourceTest;
@@ -888,6 +892,85 @@ public class TeamResourceTest extends EntityResourceTest<Team, CreateTeam> {
         List.of(DATA_CONSUMER_ROLE_REF, DATA_STEWARD_ROLE_REF), team21.getInheritedRoles());
   }
 
+  @Test
+  void test_teamClosureFollowsHierarchyChanges() throws IOException {
+    // Organization -> bu1 -> div1 -> dep1 -> group, and Organization -> bu2 -> dep2 -> group
+    Team bu1 = createWithParents("closureBu1", BUSINESS_UNIT, ORG_TEAM.getEntityReference());
+    Team div1 = createWithParents("closureDiv1", DIVISION, bu1.getEntityReference());
+    Team dep1 = createWithParents("closureDep1", DEPARTMENT, div1.getEntityReference());
+    Team bu2 = createWithParents("closureBu2", BUSINESS_UNIT, ORG_TEAM.getEntityReference());
+    Team dep2 = createWithParents("closureDep2", DEPARTMENT, bu2.getEntityReference());
+    Team group =
+        createWithParents(
+            "closureGroup", GROUP, dep1.getEntityReference(), dep2.getEntityReference());
+
+    // Nearest ancestors first, ordered by id within a level
+    List<UUID> expected =
+        byLevel(
+            List.of(
+                List.of(group), List.of(dep1, dep2), List.of(div1, bu2), List.of(bu1, ORG_TEAM)));
+    assertEquals(expected, listAncestorIds(group));
+
+    // Paths through a soft deleted team are cut until it is restored
+    deleteEntity(dep1.getId(), true, false, ADMIN_AUTH_HEADERS);
+    restoreEntity(new RestoreEntity().withId(group.getId()), OK, ADMIN_AUTH_HEADERS);
+    assertEquals(
+        byLevel(List.of(List.of(group), List.of(dep2), List.of(bu2), List.of(ORG_TEAM))),
+        listAncestorIds(group));
+    assertFalse(teamRepository().isInTeam(bu1.getName(), group.getId()));
+    assertTrue(teamRepository().isInTeam(bu2.getName(), group.getId()));
+    restoreEntity(new RestoreEntity().withId(dep1.getId()), OK, ADMIN_AUTH_HEADERS);
+    assertEquals(expected, listAncestorIds(group));
+
+    // Moving dep2 under div1 recomputes the subtree of dep2 with the shortest paths
+    dep2 = getEntity(dep2.getId(), "parents", ADMIN_AUTH_HEADERS);
+    String json = JsonUtils.pojoToJson(dep2);
+    dep2.setParents(List.of(div1.getEntityReference()));
+    patchEntity(dep2.getId(), json, dep2, ADMIN_AUTH_HEADERS);
+    expected =
+        byLevel(
+            List.of(
+                List.of(group),
+                List.of(dep1, dep2),
+                List.of(div1),
+                List.of(bu1),
+                List.of(ORG_TEAM)));
+    assertEquals(expected, listAncestorIds(group));
+
+    // A full rebuild yields the same closure
+    TeamClosureDAO closureDAO = Entity.getCollectionDAO().teamClosureDAO();
+    assertTrue(closureDAO.rebuildAll() > 0);
+    assertEquals(expected, listAncestorIds(group));
+
+    // Hard deleted teams are removed from the closure
+    deleteEntity(bu1.getId(), true, true, ADMIN_AUTH_HEADERS);
+    for (Team deleted : List.of(bu1, div1, dep1, dep2, group)) {
+      assertTrue(closureDAO.listDescendantIds(deleted.getId()).isEmpty());
+      assertTrue(closureDAO.listAncestorIds(List.of(deleted.getId().toString())).isEmpty());
+    }
+    assertEquals(List.of(bu2.getId(), ORG_TEAM.getId()), listAncestorIds(bu2));
+    deleteEntity(bu2.getId(), true, true, ADMIN_AUTH_HEADERS);
+  }
+
+  private static List<UUID> listAncestorIds(Team team) {
+    return teamRepository().listAncestorIds(List.of(team.getEntityReference()));
+  }
+
+  private static List<UUID> byLevel(List<List<Team>> levels) {
+    List<UUID> ids = new ArrayList<>();
+    for (List<Team> level : levels) {
+      level.stream()
+          .map(Team::getId)
+          .sorted(Comparator.comparing(UUID::toString))
+          .forEach(ids::add);
+    }
+    return ids;
+  }
+
+  private static TeamRepository teamRepository() {
+    return (TeamRepository) Entity.getEntityRepository(TEAM);
+  }
+
   @Test
   void testCsvDocumentation() throws HttpResponseException {
     assertEquals(TeamCsv.DOCUMENTATION, getCsvDocumentation());
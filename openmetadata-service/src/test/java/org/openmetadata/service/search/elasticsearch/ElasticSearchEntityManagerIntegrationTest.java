@@ -1326,6 +1326,49 @@ class ElasticSearchEntityManagerIntegrationTest extends OpenMetadataApplicationT
     assertEquals(2, tableEntitiesLeft.hits().total().value());
   }
 
+  @Test
+  void testCopyByRangeAndDeleteByRangeAndTerms() throws Exception {
+    String indexName = testIndexPrefix + "_copy_range_test";
+    createTestIndex(indexName);
+
+    long yesterday = System.currentTimeMillis() - 86400000L;
+    long today = yesterday + 86400000L;
+    for (int i = 1; i <= 3; i++) {
+      final String docId = "copy-range-test-" + i;
+      final String docJson =
+          SAMPLE_ENTITY_JSON
+              .replace("test-entity-1", docId)
+              .replace("\"created\": \"2024-01-01T00:00:00.000Z\"", "\"created\": " + yesterday);
+
+      client.index(
+          idx -> idx.index(indexName).id(docId).document(parseJson(docJson)).refresh(Refresh.True));
+    }
+
+    // The excluded document is not copied, and copying again does not duplicate the copies
+    for (int i = 0; i < 2; i++) {
+      entityManager.copyByRange(
+          indexName,
+          "created",
+          yesterday,
+          yesterday,
+          "id",
+          List.of("copy-range-test-3"),
+          "created",
+          today);
+    }
+
+    SearchResponse<Map> afterCopy =
+        client.search(SearchRequest.of(s -> s.index(indexName).size(10)), Map.class);
+    assertEquals(5, afterCopy.hits().total().value());
+
+    entityManager.deleteByRangeAndTerms(
+        indexName, "created", today, today, "id", List.of("copy-range-test-1"));
+
+    SearchResponse<Map> afterDelete =
+        client.search(SearchRequest.of(s -> s.index(indexName).size(10)), Map.class);
+    assertEquals(4, afterDelete.hits().total().value());
+  }
+
   @Test
   void testReindexEntities_EmptyList() {
     List<org.openmetadata.schema.type.EntityReference> emptyList = new ArrayList<>();
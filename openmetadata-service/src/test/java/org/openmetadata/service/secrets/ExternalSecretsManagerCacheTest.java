@@ -0,0 +1,145 @@
+package org.openmetadata.service.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.exception.SecretsManagerException;
+
+class ExternalSecretsManagerCacheTest {
+  private static final String SECRET_NAME = "/prefix/openmetadata/database/test/password";
+  private static final String SECRET_REFERENCE = "secret:" + SECRET_NAME;
+
+  private CountingSecretsManager secretsManager;
+
+  @BeforeEach
+  void setUp() {
+    secretsManager =
+        new CountingSecretsManager(
+            new SecretsManager.SecretsConfig("openmetadata", "prefix", List.of(), null));
+  }
+
+  @Test
+  void testSecretIsReadOnceWhileCached() {
+    secretsManager.upsertSecret(SECRET_NAME, "password");
+    secretsManager.getSecretCalls.set(0);
+
+    assertEquals("password", secretsManager.getSecretValue(SECRET_REFERENCE));
+    assertEquals("password", secretsManager.getSecretValue(SECRET_REFERENCE));
+    assertEquals(1, secretsManager.getSecretCalls.get());
+  }
+
+  @Test
+  void testUpsertInvalidatesCachedSecret() {
+    secretsManager.upsertSecret(SECRET_NAME, "password");
+    assertEquals("password", secretsManager.getSecretValue(SECRET_REFERENCE));
+
+    secretsManager.upsertSecret(SECRET_NAME, "rotated");
+    assertEquals("rotated", secretsManager.getSecretValue(SECRET_REFERENCE));
+  }
+
+  @Test
+  void testDeleteInvalidatesCachedSecret() {
+    secretsManager.upsertSecret(SECRET_NAME, "password");
+    assertEquals("password", secretsManager.getSecretValue(SECRET_REFERENCE));
+
+    secretsManager.deleteSecret(SECRET_NAME);
+    assertThrows(
+        SecretsManagerException.class, () -> secretsManager.getSecretValue(SECRET_REFERENCE));
+  }
+
+  @Test
+  void testMissingSecretIsCached() {
+    assertThrows(
+        SecretsManagerException.class, () -> secretsManager.getSecretValue(SECRET_REFERENCE));
+    // Written behind the secrets manager's back, the failure is still cached
+    secretsManager.getSecretsMap().put(SECRET_NAME, "password");
+    assertThrows(
+        SecretsManagerException.class, () -> secretsManager.getSecretValue(SECRET_REFERENCE));
+    assertEquals(1, secretsManager.getSecretCalls.get());
+
+    // Storing it through the secrets manager makes it visible right away
+    secretsManager.upsertSecret(SECRET_NAME, "password");
+    assertEquals("password", secretsManager.getSecretValue(SECRET_REFERENCE));
+  }
+
+  @Test
+  void testNullSecretIsCached() {
+    secretsManager.nullSecrets.add(SECRET_NAME);
+
+    assertNull(secretsManager.getSecretValue(SECRET_REFERENCE));
+    assertNull(secretsManager.getSecretValue(SECRET_REFERENCE));
+    assertEquals(1, secretsManager.getSecretCalls.get());
+  }
+
+  @Test
+  void testSecretsAreReadInOneBatch() {
+    Map<String, String> expected = new HashMap<>();
+    for (int i = 0; i < 3; i++) {
+      secretsManager.getSecretsMap().put(SECRET_NAME + i, "password" + i);
+      expected.put(SECRET_REFERENCE + i, "password" + i);
+    }
+
+    assertEquals(expected, secretsManager.getSecretValues(expected.keySet()));
+    assertEquals(List.of(3), secretsManager.batchSizes);
+    assertEquals(0, secretsManager.getSecretCalls.get());
+
+    // Everything is cached now
+    assertEquals(expected, secretsManager.getSecretValues(expected.keySet()));
+    assertEquals(List.of(3), secretsManager.batchSizes);
+    assertEquals(0, secretsManager.getSecretCalls.get());
+  }
+
+  @Test
+  void testSecretsMissingFromBatchAreReadOneByOne() {
+    secretsManager.getSecretsMap().put(SECRET_NAME + 0, "password0");
+    secretsManager.getSecretsMap().put(SECRET_NAME + 1, "password1");
+    secretsManager.nullSecrets.add(SECRET_NAME + 2);
+    Set<String> references =
+        Set.of(SECRET_REFERENCE + 0, SECRET_REFERENCE + 1, SECRET_REFERENCE + 2);
+
+    Map<String, String> values = secretsManager.getSecretValues(references);
+
+    assertEquals("password0", values.get(SECRET_REFERENCE + 0));
+    assertEquals("password1", values.get(SECRET_REFERENCE + 1));
+    assertNull(values.get(SECRET_REFERENCE + 2));
+    assertEquals(1, secretsManager.getSecretCalls.get());
+  }
+
+  /** In-memory secrets manager counting the calls made to the "provider". */
+  static class CountingSecretsManager extends InMemorySecretsManager {
+    private final AtomicInteger getSecretCalls = new AtomicInteger();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final List<String> nullSecrets = new ArrayList<>();
+
+    CountingSecretsManager(SecretsConfig secretsConfig) {
+      super(secretsConfig);
+    }
+
+    @Override
+    String getSecret(String secretName) {
+      getSecretCalls.incrementAndGet();
+      return nullSecrets.contains(secretName) ? null : super.getSecret(secretName);
+    }
+
+    @Override
+    protected Map<String, String> getSecrets(Set<String> secretNames) {
+      batchSizes.add(secretNames.size());
+      Map<String, String> values = new HashMap<>();
+      for (String secretName : secretNames) {
+        if (getSecretsMap().containsKey(secretName)) {
+          values.put(secretName, getSecretsMap().get(secretName));
+        }
+      }
+      return values;
+    }
+  }
+}
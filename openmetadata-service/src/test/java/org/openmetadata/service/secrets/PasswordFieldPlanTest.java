@@ -0,0 +1,154 @@
+package org.openmetadata.service.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openmetadata.annotations.PasswordField;
+import org.openmetadata.common.utils.CommonUtil;
+import org.openmetadata.schema.services.connections.database.MysqlConnection;
+import org.openmetadata.schema.services.connections.database.common.basicAuth;
+import org.openmetadata.service.secrets.converter.ClassConverterFactory;
+import org.openmetadata.service.util.ReflectionUtil;
+
+class PasswordFieldPlanTest {
+  private static final int MAX_DEPTH = 4;
+
+  static Stream<Class<?>> converterClasses() {
+    return ClassConverterFactory.getConverterMap().keySet().stream();
+  }
+
+  /** The plan must reach exactly the password fields found by walking every getter. */
+  @ParameterizedTest
+  @MethodSource("converterClasses")
+  void testPlanFindsSamePasswordFieldsAsFullWalk(Class<?> clazz) throws Exception {
+    Object instance = fill(clazz, clazz.getSimpleName(), 0);
+
+    Map<String, Object> expected = new HashMap<>();
+    walkAllGetters(instance, "", expected);
+    Map<String, Object> actual = new HashMap<>();
+    walkPlan(instance, "", actual);
+
+    assertEquals(expected, actual, clazz.getName());
+  }
+
+  @ParameterizedTest
+  @MethodSource("converterClasses")
+  void testPlanSetsEveryPasswordField(Class<?> clazz) throws Exception {
+    Object instance = fill(clazz, clazz.getSimpleName(), 0);
+
+    maskWithPlan(instance);
+
+    Map<String, Object> passwords = new HashMap<>();
+    walkAllGetters(instance, "", passwords);
+    passwords.forEach((path, value) -> assertEquals("masked", value, path));
+  }
+
+  @Test
+  void testPlanSkipsGettersWithoutPasswords() {
+    PasswordFieldPlan plan = PasswordFieldPlan.of(MysqlConnection.class);
+
+    assertTrue(plan.accessors().stream().anyMatch(a -> a.fieldName().equals("AuthType")));
+    assertFalse(plan.accessors().stream().anyMatch(a -> a.fieldName().equals("HostPort")));
+    assertFalse(plan.accessors().stream().anyMatch(a -> a.fieldName().equals("Type")));
+    assertTrue(
+        PasswordFieldPlan.of(basicAuth.class).accessors().stream()
+            .anyMatch(a -> a.fieldName().equals("Password") && a.password()));
+  }
+
+  /** The reflection walk the plan replaces: every getter of every nested OpenMetadata object. */
+  private static void walkAllGetters(Object object, String path, Map<String, Object> passwords) {
+    for (Method method : object.getClass().getMethods()) {
+      if (!ReflectionUtil.isGetMethodOfObject(method)) {
+        continue;
+      }
+      Object value = ReflectionUtil.getObjectFromMethod(method, object);
+      String fieldPath = path + "." + method.getName().replaceFirst("get", "");
+      if (CommonUtil.isOpenMetadataObject(value)) {
+        walkAllGetters(value, fieldPath, passwords);
+      } else if (value != null && method.getAnnotation(PasswordField.class) != null) {
+        passwords.put(fieldPath, value);
+      }
+    }
+  }
+
+  private static void walkPlan(Object object, String path, Map<String, Object> passwords) {
+    for (PasswordFieldPlan.Accessor accessor :
+        PasswordFieldPlan.of(object.getClass()).accessors()) {
+      Object value = accessor.get(object);
+      String fieldPath = path + "." + accessor.fieldName();
+      if (CommonUtil.isOpenMetadataObject(value)) {
+        walkPlan(value, fieldPath, passwords);
+      } else if (value != null && accessor.password()) {
+        passwords.put(fieldPath, value);
+      }
+    }
+  }
+
+  private static void maskWithPlan(Object object) {
+    for (PasswordFieldPlan.Accessor accessor :
+        PasswordFieldPlan.of(object.getClass()).accessors()) {
+      Object value = accessor.get(object);
+      if (CommonUtil.isOpenMetadataObject(value)) {
+        maskWithPlan(value);
+      } else if (value != null && accessor.password()) {
+        accessor.set(object, "masked");
+      }
+    }
+  }
+
+  /**
+   * Build an instance with every String set and every nested OpenMetadata object created, up to
+   * {@link #MAX_DEPTH}. {@code Object} fields get a {@link basicAuth}, so the walk has to follow
+   * the runtime class of the value.
+   */
+  private static Object fill(Class<?> clazz, String path, int depth) throws Exception {
+    Object instance = clazz.getDeclaredConstructor().newInstance();
+    for (Method getter : clazz.getMethods()) {
+      if (!ReflectionUtil.isGetMethodOfObject(getter)) {
+        continue;
+      }
+      String fieldName = getter.getName().replaceFirst("get", "");
+      Class<?> type = getter.getReturnType();
+      Method setter;
+      try {
+        setter = clazz.getMethod("set" + fieldName, type);
+      } catch (NoSuchMethodException e) {
+        continue;
+      }
+      String fieldPath = path + "." + fieldName;
+      if (type == String.class) {
+        setter.invoke(instance, fieldPath);
+      } else if (depth < MAX_DEPTH && type == Object.class) {
+        setter.invoke(instance, fill(basicAuth.class, fieldPath, depth + 1));
+      } else if (depth < MAX_DEPTH && isInstantiableOpenMetadataClass(type)) {
+        setter.invoke(instance, fill(type, fieldPath, depth + 1));
+      }
+    }
+    return instance;
+  }
+
+  private static boolean isInstantiableOpenMetadataClass(Class<?> type) {
+    if (type.isEnum()
+        || type.isInterface()
+        || Modifier.isAbstract(type.getModifiers())
+        || !type.getPackageName().startsWith("org.openmetadata")) {
+      return false;
+    }
+    for (Constructor<?> constructor : type.getConstructors()) {
+      if (constructor.getParameterCount() == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -23,8 +23,11 @@ import static org.mockito.Mockito.mock;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeAll;
@@ -52,9 +55,11 @@ public class SubjectContextTest {
 
   private static List<Role> team11Roles;
   private static List<Policy> team11Policies;
+  private static Team team11;
 
   private static List<Role> team12Roles;
   private static List<Policy> team12Policies;
+  private static Team team12;
 
   private static List<Policy> team13Policies;
   private static Team team13;
@@ -90,6 +95,10 @@ public class SubjectContextTest {
             i ->
                 EntityRepository.CACHE_WITH_ID.get(
                     new ImmutablePair<>(Entity.TEAM, i.getArgument(1))));
+    Mockito.when(teamRepository.listAncestorIds(any()))
+        .thenAnswer(i -> listAncestorIds(i.getArgument(0)));
+    Mockito.when(teamRepository.isInTeam(anyString(), any(UUID.class)))
+        .thenAnswer(i -> isInTeam(i.getArgument(0), i.getArgument(1)));
 
     RoleRepository roleRepository = mock(RoleRepository.class);
     Entity.registerEntity(Role.class, Entity.ROLE, roleRepository);
@@ -126,11 +135,11 @@ public class SubjectContextTest {
 
     team11Roles = getRoles("team11");
     team11Policies = getPolicies("team11");
-    Team team11 = createTeam("team11", team11Roles, team11Policies, List.of(team1));
+    team11 = createTeam("team11", team11Roles, team11Policies, List.of(team1));
 
     team12Roles = getRoles("team12");
     team12Policies = getPolicies("team12");
-    Team team12 = createTeam("team12", team12Roles, team12Policies, List.of(team1));
+    team12 = createTeam("team12", team12Roles, team12Policies, List.of(team1));
 
     List<Role> team13Roles = getRoles("team13");
     team13Policies = getPolicies("team13");
@@ -165,12 +174,14 @@ public class SubjectContextTest {
         getPolicyListFromRoles(userRoles)); // First polices associated with user roles
     expectedUserPolicyOrder.addAll(
         getAllTeamPolicies(team111Roles, team111Policies)); // Next parent team111 policies
+    // Next the parents of team111, team11 and team12, in the order of their ids
+    List<String> team11PolicyNames = getAllTeamPolicies(team11Roles, team11Policies);
+    List<String> team12PolicyNames = getAllTeamPolicies(team12Roles, team12Policies);
+    boolean team11First = team11.getId().toString().compareTo(team12.getId().toString()) < 0;
+    expectedUserPolicyOrder.addAll(team11First ? team11PolicyNames : team12PolicyNames);
+    expectedUserPolicyOrder.addAll(team11First ? team12PolicyNames : team11PolicyNames);
     expectedUserPolicyOrder.addAll(
-        getAllTeamPolicies(team11Roles, team11Policies)); // Next team111 parent team11 policies
-    expectedUserPolicyOrder.addAll(
-        getAllTeamPolicies(team1Roles, team1Policies)); // Next team11 parent team1 policies
-    expectedUserPolicyOrder.addAll(
-        getAllTeamPolicies(team12Roles, team12Policies)); // Next team111 parent team12 policies
+        getAllTeamPolicies(team1Roles, team1Policies)); // Next their parent team1 policies
     assertPolicyIterator(expectedUserPolicyOrder, policyContextIterator);
 
     // Check iteration order of policies with team13 as the resource owner
@@ -230,6 +241,40 @@ public class SubjectContextTest {
     assertFalse(subjectContext.isTeamAsset("team13", List.of(teamOwner)));
   }
 
+  /**
+   * Ancestors of the given teams nearest first and ordered by id within a level, as returned from
+   * the team closure
+   */
+  private static List<UUID> listAncestorIds(List<EntityReference> teams) {
+    Set<UUID> ancestors = new LinkedHashSet<>();
+    List<UUID> level = teams.stream().map(EntityReference::getId).toList();
+    while (!level.isEmpty()) {
+      List<UUID> unvisited =
+          level.stream()
+              .distinct()
+              .filter(id -> !ancestors.contains(id))
+              .sorted(Comparator.comparing(UUID::toString))
+              .toList();
+      ancestors.addAll(unvisited);
+      level =
+          unvisited.stream()
+              .flatMap(id -> listOrEmpty(getTeam(id).getParents()).stream())
+              .map(EntityReference::getId)
+              .toList();
+    }
+    return new ArrayList<>(ancestors);
+  }
+
+  private static boolean isInTeam(String parentTeam, UUID teamId) {
+    return listAncestorIds(List.of(new EntityReference().withId(teamId))).stream()
+        .anyMatch(ancestorId -> getTeam(ancestorId).getName().equals(parentTeam));
+  }
+
+  private static Team getTeam(UUID teamId) {
+    return (Team)
+        EntityRepository.CACHE_WITH_ID.getIfPresent(new ImmutablePair<>(Entity.TEAM, teamId));
+  }
+
   private static List<Role> getRoles(String prefix) {
     // Create roles with 3 policies each and each policy with 3 rules
     List<Role> roles = new ArrayList<>(3);
@@ -0,0 +1,95 @@
+package org.openmetadata.service.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.socket.WebSocketOutbox.OutboundMessage;
+
+class WebSocketOutboxTest {
+  private final List<String> coalesced = new ArrayList<>();
+  private final List<String> dropped = new ArrayList<>();
+  private final WebSocketOutbox.ChannelListener listener =
+      new WebSocketOutbox.ChannelListener() {
+        @Override
+        public void onCoalesced(String event) {
+          coalesced.add(event);
+        }
+
+        @Override
+        public void onDropped(String event) {
+          dropped.add(event);
+        }
+      };
+
+  @Test
+  void testCoalescesMessagesWithTheSameKey() {
+    WebSocketOutbox outbox = new WebSocketOutbox(10, listener);
+
+    outbox.offer("searchIndexJobStatus", "10%", "searchIndexJobStatus");
+    outbox.offer("taskChannel", "task", null);
+    outbox.offer("searchIndexJobStatus", "20%", "searchIndexJobStatus");
+    outbox.offer("deleteEntityChannel", "job-1 50%", "job-1");
+    outbox.offer("deleteEntityChannel", "job-2 10%", "job-2");
+    outbox.offer("deleteEntityChannel", "job-1 90%", "job-1");
+
+    assertEquals(
+        List.of(
+            new OutboundMessage("searchIndexJobStatus", "20%"),
+            new OutboundMessage("taskChannel", "task"),
+            new OutboundMessage("deleteEntityChannel", "job-1 90%"),
+            new OutboundMessage("deleteEntityChannel", "job-2 10%")),
+        outbox.drain());
+    assertEquals(List.of("searchIndexJobStatus", "deleteEntityChannel"), coalesced);
+  }
+
+  @Test
+  void testKeepsEveryMessageWithoutKey() {
+    WebSocketOutbox outbox = new WebSocketOutbox(10, listener);
+
+    outbox.offer("mentionChannel", "first", null);
+    outbox.offer("mentionChannel", "second", null);
+
+    assertEquals(2, outbox.drain().size());
+    assertEquals(0, outbox.size());
+    assertTrue(coalesced.isEmpty());
+  }
+
+  @Test
+  void testDropsOldestMessagesWhenFull() {
+    WebSocketOutbox outbox = new WebSocketOutbox(2, listener);
+
+    outbox.offer("activityFeed", "1", null);
+    outbox.offer("taskChannel", "2", null);
+    outbox.offer("activityFeed", "3", null);
+    outbox.offer("activityFeed", "4", null);
+
+    assertEquals(
+        List.of(new OutboundMessage("activityFeed", "3"), new OutboundMessage("activityFeed", "4")),
+        outbox.drain());
+    assertEquals(List.of("activityFeed", "taskChannel"), dropped);
+    assertEquals(Map.of("activityFeed", 1, "taskChannel", 1), outbox.drainDropped());
+    assertEquals(Map.of(), outbox.drainDropped());
+  }
+
+  @Test
+  void testDrainsAtMostTheRequestedNumberOfMessages() {
+    WebSocketOutbox outbox = new WebSocketOutbox(10, listener);
+    for (int i = 1; i <= 5; i++) {
+      outbox.offer("activityFeed", String.valueOf(i), null);
+    }
+
+    assertEquals(
+        List.of(new OutboundMessage("activityFeed", "1"), new OutboundMessage("activityFeed", "2")),
+        outbox.drain(2));
+    assertEquals(3, outbox.size());
+    outbox.offer("activityFeed", "6", null);
+    assertEquals(
+        List.of("3", "4", "5", "6"),
+        outbox.drain(10).stream().map(OutboundMessage::message).toList());
+    assertTrue(dropped.isEmpty());
+  }
+}
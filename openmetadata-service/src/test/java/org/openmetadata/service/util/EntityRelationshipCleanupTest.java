@@ -16,11 +16,20 @@ package org.openmetadata.service.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.openmetadata.service.util.TestUtils.ADMIN_AUTH_HEADERS;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +41,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openmetadata.schema.api.data.CreatePipeline;
@@ -41,11 +51,17 @@ import org.openmetadata.schema.entity.data.Database;
 import org.openmetadata.schema.entity.data.DatabaseSchema;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.services.PipelineService;
+import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.LineageDetails;
 import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.schema.utils.JsonUtils;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationTest;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityTypePairCount;
+import org.openmetadata.service.jdbi3.CollectionDAO.LineagePipelineReference;
+import org.openmetadata.service.jdbi3.CollectionDAO.MissingEndpointRelationship;
 import org.openmetadata.service.resources.EntityResourceTest;
 import org.openmetadata.service.resources.databases.TableResourceTest;
 import org.openmetadata.service.resources.services.DatabaseServiceResourceTest;
@@ -1054,4 +1070,246 @@ class EntityRelationshipCleanupTest extends OpenMetadataApplicationTest {
     EntityRelationshipCleanup actualCleanup = new EntityRelationshipCleanup(collectionDAO, false);
     actualCleanup.performCleanup(100);
   }
+
+  /**
+   * Ids sorting after every random UUID, so that the relationships from them form ranges of their
+   * own. Their entities do not exist.
+   */
+  private static UUID syntheticId(int i) {
+    return UUID.fromString(String.format("ffffffff-ffff-ffff-ffff-fffffffff%03d", i));
+  }
+
+  private static void deleteSyntheticRelationships() {
+    for (int i = 0; i < 10; i++) {
+      collectionDAO.relationshipDAO().deleteAll(syntheticId(i), Entity.TABLE);
+    }
+  }
+
+  @Test
+  void test_getRelationshipRangeEnd_keepsTheRelationshipsOfOneFromIdInOneRange() {
+    UUID toId = testTables.getFirst().getId();
+    EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+    try {
+      relationshipDAO.insert(
+          syntheticId(1), toId, Entity.TABLE, Entity.TABLE, Relationship.CONTAINS.ordinal());
+      relationshipDAO.insert(
+          syntheticId(2), toId, Entity.TABLE, Entity.TABLE, Relationship.CONTAINS.ordinal());
+      relationshipDAO.insert(
+          syntheticId(2), toId, Entity.TABLE, Entity.TABLE, Relationship.RELATED_TO.ordinal());
+      relationshipDAO.insert(
+          syntheticId(3), toId, Entity.TABLE, Entity.TABLE, Relationship.CONTAINS.ordinal());
+
+      String start = syntheticId(0).toString();
+      String firstEnd = relationshipDAO.getRelationshipRangeEnd(start, 2);
+      assertEquals(syntheticId(2).toString(), firstEnd);
+      // The range holds three relationships, both of syntheticId(2) are in it
+      assertEquals(
+          3,
+          relationshipDAO.countByEntityTypePair(start, firstEnd).stream()
+              .mapToLong(EntityTypePairCount::getCount)
+              .sum());
+
+      String secondEnd = relationshipDAO.getRelationshipRangeEnd(firstEnd, 2);
+      assertEquals(syntheticId(3).toString(), secondEnd);
+      assertNull(relationshipDAO.getRelationshipRangeEnd(secondEnd, 2));
+    } finally {
+      deleteSyntheticRelationships();
+    }
+  }
+
+  @Test
+  void test_findMissingEndpoints_returnsOnlyRelationshipsWithAMissingEnd() {
+    String tableTable = Entity.getEntityRepository(Entity.TABLE).getDao().getTableName();
+    UUID fromId = testTables.getFirst().getId();
+    UUID existingToId = testTables.get(1).getId();
+    UUID missingToId = UUID.randomUUID();
+    int relatedTo = Relationship.RELATED_TO.ordinal();
+    EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+    try {
+      relationshipDAO.insert(fromId, existingToId, Entity.TABLE, Entity.TABLE, relatedTo);
+      relationshipDAO.insert(fromId, missingToId, Entity.TABLE, Entity.TABLE, relatedTo);
+      relationshipDAO.insert(syntheticId(1), missingToId, Entity.TABLE, Entity.TABLE, relatedTo);
+      relationshipDAO.insert(syntheticId(2), fromId, Entity.TABLE, Entity.TABLE, relatedTo);
+
+      // A proper prefix of the id sorts right before it, so the range holds the first test table
+      String id = fromId.toString();
+      List<MissingEndpointRelationship> missingTo =
+          relationshipDAO.findMissingEndpoints(
+              tableTable,
+              tableTable,
+              Entity.TABLE,
+              Entity.TABLE,
+              id.substring(0, id.length() - 1),
+              id);
+      assertTrue(
+          missingTo.stream().noneMatch(r -> existingToId.toString().equals(r.getToId())),
+          "A relationship with both ends should not be returned");
+      MissingEndpointRelationship toMissing =
+          missingTo.stream()
+              .filter(r -> missingToId.toString().equals(r.getToId()))
+              .findFirst()
+              .orElseThrow();
+      assertFalse(toMissing.isFromMissing());
+      assertTrue(toMissing.isToMissing());
+      assertEquals(relatedTo, toMissing.getRelation());
+
+      List<MissingEndpointRelationship> missingFrom =
+          relationshipDAO.findMissingEndpoints(
+              tableTable,
+              tableTable,
+              Entity.TABLE,
+              Entity.TABLE,
+              syntheticId(0).toString(),
+              syntheticId(2).toString());
+      assertEquals(2, missingFrom.size());
+      MissingEndpointRelationship bothMissing =
+          missingFrom.stream()
+              .filter(r -> syntheticId(1).toString().equals(r.getFromId()))
+              .findFirst()
+              .orElseThrow();
+      assertTrue(bothMissing.isFromMissing() && bothMissing.isToMissing());
+      MissingEndpointRelationship fromMissing =
+          missingFrom.stream()
+              .filter(r -> syntheticId(2).toString().equals(r.getFromId()))
+              .findFirst()
+              .orElseThrow();
+      assertTrue(fromMissing.isFromMissing());
+      assertFalse(fromMissing.isToMissing());
+    } finally {
+      relationshipDAO.delete(fromId, Entity.TABLE, existingToId, Entity.TABLE, relatedTo);
+      relationshipDAO.delete(fromId, Entity.TABLE, missingToId, Entity.TABLE, relatedTo);
+      deleteSyntheticRelationships();
+    }
+  }
+
+  @Test
+  void test_lineagePipelineCheck_reportsEachOrphanOnce(@TempDir Path tempDir) throws IOException {
+    UUID missingPipelineId = UUID.randomUUID();
+    String lineageJson =
+        JsonUtils.pojoToJson(
+            new LineageDetails()
+                .withPipeline(
+                    new EntityReference().withId(missingPipelineId).withType(Entity.PIPELINE)));
+    int upstream = Relationship.UPSTREAM.ordinal();
+    EntityRelationshipDAO relationshipDAO = collectionDAO.relationshipDAO();
+    try {
+      relationshipDAO.insert(
+          syntheticId(1),
+          testTables.getFirst().getId(),
+          Entity.TABLE,
+          Entity.TABLE,
+          upstream,
+          lineageJson);
+
+      List<LineagePipelineReference> lineage =
+          relationshipDAO.findLineagePipelines(
+              syntheticId(0).toString(), syntheticId(1).toString(), upstream);
+      assertEquals(1, lineage.size());
+      assertEquals(missingPipelineId.toString(), lineage.getFirst().getPipelineId());
+      assertEquals(Entity.PIPELINE, lineage.getFirst().getPipelineType());
+      String pipelineTable = Entity.getEntityRepository(Entity.PIPELINE).getDao().getTableName();
+      assertTrue(
+          relationshipDAO
+              .listExistingIds(pipelineTable, List.of(missingPipelineId.toString()))
+              .isEmpty());
+
+      // The relationship misses both its from end and its pipeline, it is reported for the former
+      Path reportFile = tempDir.resolve("orphans.csv");
+      new EntityRelationshipCleanup(collectionDAO, true, reportFile).performCleanup(100);
+      List<String> reported =
+          Files.readAllLines(reportFile, StandardCharsets.UTF_8).stream()
+              .filter(line -> line.contains(syntheticId(1).toString()))
+              .toList();
+      assertEquals(
+          List.of(
+              String.join(
+                  ",",
+                  Entity.TABLE,
+                  syntheticId(1).toString(),
+                  Entity.TABLE,
+                  testTables.getFirst().getId().toString(),
+                  Relationship.UPSTREAM.name(),
+                  "fromEntity does not exist")),
+          reported);
+    } finally {
+      deleteSyntheticRelationships();
+    }
+  }
+
+  @Test
+  void test_reportFile_listsEveryOrphanAsCsv(@TempDir Path tempDir) throws IOException {
+    UUID toId = testTables.getFirst().getId();
+    try {
+      for (int i = 1; i <= 3; i++) {
+        collectionDAO
+            .relationshipDAO()
+            .insert(syntheticId(i), toId, Entity.TABLE, Entity.TABLE, Relationship.HAS.ordinal());
+      }
+
+      Path reportFile = tempDir.resolve("orphans.csv");
+      EntityRelationshipCleanup.EntityCleanupResult result =
+          new EntityRelationshipCleanup(collectionDAO, true, reportFile).performCleanup(100);
+
+      List<String> lines = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+      assertEquals("fromEntity,fromId,toEntity,toId,relation,reason", lines.getFirst());
+      assertEquals(result.getOrphanedRelationshipsFound(), lines.size() - 1);
+      for (int i = 1; i <= 3; i++) {
+        assertTrue(
+            lines.contains(
+                String.join(
+                    ",",
+                    Entity.TABLE,
+                    syntheticId(i).toString(),
+                    Entity.TABLE,
+                    toId.toString(),
+                    Relationship.HAS.name(),
+                    "fromEntity does not exist")),
+            "The report should list the orphan from " + syntheticId(i));
+      }
+    } finally {
+      deleteSyntheticRelationships();
+    }
+  }
+
+  @Test
+  void test_failedDeleteBatch_isCountedInTheResult() {
+    CollectionDAO failingDAO = mock(CollectionDAO.class);
+    EntityRelationshipDAO relationshipDAO = mock(EntityRelationshipDAO.class);
+    when(failingDAO.relationshipDAO()).thenReturn(relationshipDAO);
+    String rangeEnd = syntheticId(2).toString();
+    when(relationshipDAO.getRelationshipRangeEnd("", 100)).thenReturn(rangeEnd);
+    when(relationshipDAO.countByEntityTypePair("", rangeEnd))
+        .thenReturn(
+            List.of(
+                EntityTypePairCount.builder()
+                    .fromEntity(Entity.TABLE)
+                    .toEntity(Entity.TABLE)
+                    .count(2)
+                    .build()));
+    when(relationshipDAO.findMissingEndpoints(
+            anyString(), anyString(), eq(Entity.TABLE), eq(Entity.TABLE), eq(""), eq(rangeEnd)))
+        .thenReturn(
+            List.of(
+                MissingEndpointRelationship.builder()
+                    .fromId(syntheticId(1).toString())
+                    .toId(UUID.randomUUID().toString())
+                    .relation(Relationship.CONTAINS.ordinal())
+                    .fromMissing(true)
+                    .build(),
+                MissingEndpointRelationship.builder()
+                    .fromId(syntheticId(2).toString())
+                    .toId(UUID.randomUUID().toString())
+                    .relation(Relationship.CONTAINS.ordinal())
+                    .fromMissing(true)
+                    .build()));
+    when(relationshipDAO.deleteBatch(anyList(), anyList(), anyList()))
+        .thenThrow(new IllegalStateException("Lock wait timeout exceeded"));
+
+    EntityRelationshipCleanup.EntityCleanupResult result =
+        new EntityRelationshipCleanup(failingDAO, false).performCleanup(100);
+
+    assertEquals(2, result.getOrphanedRelationshipsFound());
+    assertEquals(0, result.getRelationshipsDeleted());
+    assertEquals(2, result.getRelationshipsFailedToDelete());
+  }
 }
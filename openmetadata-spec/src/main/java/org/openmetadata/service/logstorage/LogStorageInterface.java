@@ -13,9 +13,16 @@
 
 package org.openmetadata.service.logstorage;
 
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -69,6 +76,60 @@ public interface LogStorageInterface {
   Map<String, Object> getLogs(String pipelineFQN, UUID runId, String afterCursor, int limit)
       throws IOException;
 
+  /**
+   * Get the last lines of the logs of a pipeline run. Implementations that can locate the tail
+   * without reading the whole log should override this; the default scans the log stream once and
+   * only keeps the requested number of lines in memory.
+   * @param pipelineFQN Fully qualified name of the pipeline
+   * @param runId Unique run identifier
+   * @param lines Maximum number of lines to return
+   * @return Map containing "logs" (content), "after" (always null), and "total" (total size in
+   *     bytes, like {@link #getLogs})
+   */
+  default Map<String, Object> getLogTail(String pipelineFQN, UUID runId, int lines)
+      throws IOException {
+    Deque<String> tail = new ArrayDeque<>(Math.max(1, lines));
+    long[] total = {0};
+    try (InputStream stream = getLogInputStream(pipelineFQN, runId);
+        InputStream counting =
+            new FilterInputStream(stream) {
+              @Override
+              public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                  total[0]++;
+                }
+                return b;
+              }
+
+              @Override
+              public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                  total[0] += read;
+                }
+                return read;
+              }
+            };
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(counting, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (lines > 0) {
+          if (tail.size() == lines) {
+            tail.removeFirst();
+          }
+          tail.addLast(line);
+        }
+      }
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put("logs", String.join("\n", tail));
+    result.put("after", null);
+    result.put("total", total[0]);
+    return result;
+  }
+
   /**
    * Get the latest run ID for a pipeline
    * @param pipelineFQN Fully qualified name of the pipeline
@@ -396,6 +396,20 @@ const NavBar = () => {
           handleDeleteEntityWebsocketResponse(deleteResponseData);
         }
       });
+
+      // Sent with the number of messages per channel the server dropped because
+      // they arrived faster than they could be delivered
+      socket.on(SOCKET_EVENTS.MESSAGES_DROPPED, (droppedResponse) => {
+        if (droppedResponse) {
+          const dropped: Record<string, number> = JSON.parse(droppedResponse);
+          if (dropped[SOCKET_EVENTS.TASK_CHANNEL]) {
+            setHasTaskNotification(true);
+          }
+          if (dropped[SOCKET_EVENTS.MENTION_CHANNEL]) {
+            setHasMentionNotification(true);
+          }
+        }
+      });
     }
 
     return () => {
@@ -405,6 +419,7 @@ const NavBar = () => {
         socket.off(SOCKET_EVENTS.CSV_EXPORT_CHANNEL);
         socket.off(SOCKET_EVENTS.BACKGROUND_JOB_CHANNEL);
         socket.off(SOCKET_EVENTS.DELETE_ENTITY_CHANNEL);
+        socket.off(SOCKET_EVENTS.MESSAGES_DROPPED);
       }
     };
   }, [socket, onUpdateCSVExportJob]);
@@ -327,6 +327,8 @@ export const SOCKET_EVENTS = {
   DELETE_ENTITY_CHANNEL: 'deleteEntityChannel',
   MOVE_GLOSSARY_TERM_CHANNEL: 'moveGlossaryTermChannel',
   CHART_DATA_STREAM: 'chartDataStream',
+  BATCH: 'batch',
+  MESSAGES_DROPPED: 'messagesDropped',
 };
 
 export const IN_PAGE_SEARCH_ROUTES: Record<string, Array<string>> = {
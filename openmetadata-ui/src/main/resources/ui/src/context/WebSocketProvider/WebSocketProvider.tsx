@@ -21,7 +21,7 @@ import {
   useState,
 } from 'react';
 import { io, Socket } from 'socket.io-client';
-import { ROUTES } from '../../constants/constants';
+import { ROUTES, SOCKET_EVENTS } from '../../constants/constants';
 import { useApplicationStore } from '../../hooks/useApplicationStore';
 
 export const WebSocketContext = createContext<{ socket?: Socket }>({});
@@ -30,25 +30,37 @@ interface Props {
   children: ReactNode;
 }
 
+interface SocketBatchMessage {
+  event: string;
+  message: string;
+}
+
 const WebSocketProvider: FC<Props> = ({ children }: Props) => {
   const [socket, setSocket] = useState<Socket>();
   const { currentUser } = useApplicationStore();
 
   // Init websocket for Feed & notification
   const initWebSocket = useCallback(() => {
-    setSocket(
-      io(ROUTES.HOME, {
-        path: ROUTES.ACTIVITY_PUSH_FEED,
-        reconnectionAttempts: 3,
-        query: {
-          userId: currentUser?.id,
-        },
-        // Since we have load balancer in our application
-        // We need to enforce transports to be websocket only
-        // Refer: https://socket.io/docs/v3/using-multiple-nodes/
-        transports: ['websocket'],
-      })
-    );
+    const newSocket = io(ROUTES.HOME, {
+      path: ROUTES.ACTIVITY_PUSH_FEED,
+      reconnectionAttempts: 3,
+      query: {
+        userId: currentUser?.id,
+      },
+      // Since we have load balancer in our application
+      // We need to enforce transports to be websocket only
+      // Refer: https://socket.io/docs/v3/using-multiple-nodes/
+      transports: ['websocket'],
+    });
+    // Messages queued for the user within a flush interval arrive as one batch,
+    // hand each of them to the listeners of its own event
+    newSocket.on(SOCKET_EVENTS.BATCH, (batch: string) => {
+      const messages: SocketBatchMessage[] = JSON.parse(batch);
+      messages.forEach(({ event, message }) =>
+        newSocket.listeners(event).forEach((listener) => listener(message))
+      );
+    });
+    setSocket(newSocket);
   }, [currentUser]);
 
   useEffect(() => {
@@ -106,6 +106,11 @@ export interface DataAssetsConfig {
      * List of Entities to Reindex
      */
     entities?: string[];
+    /**
+     * If Enabled, scheduled runs only process the Data Assets changed since the last successful
+     * run and carry the other Data Assets forward from the previous day.
+     */
+    incremental?: boolean;
     /**
      * Defines the number of days the Data Assets Insights information will be kept. After it
      * they will be deleted.
@@ -85,6 +85,10 @@ export interface Thread {
      * Bot user that performed the action on behalf of the actual user.
      */
     impersonatedBy?: string;
+    /**
+     * Timestamp of the latest post in the thread in Unix epoch time milliseconds.
+     */
+    lastPostTs?: number;
     /**
      * The main message of the thread in Markdown format.
      */
@@ -31,6 +31,11 @@ export interface EventSubscriptionDiagnosticInfo {
      * The latest offset of the event in the system.
      */
     latestOffset?: any;
+    /**
+     * Cursor to fetch the next page of unprocessed events. Unprocessed events are ordered by
+     * event time, newest first.
+     */
+    paging?: Paging;
     /**
      * The number of relevant unprocessed events based on the alert's filtering rules for
      * specific alert.
@@ -222,3 +227,32 @@ export enum EventType {
     ThreadCreated = "threadCreated",
     ThreadUpdated = "threadUpdated",
 }
+
+/**
+ * Cursor to fetch the next page of unprocessed events. Unprocessed events are ordered by
+ * event time, newest first.
+ *
+ * Type used for cursor based pagination information in GET list responses.
+ */
+export interface Paging {
+    /**
+     * After cursor used for getting the next page (see API pagination for details).
+     */
+    after?: string;
+    /**
+     * Before cursor used for getting the previous page (see API pagination for details).
+     */
+    before?: string;
+    /**
+     * Limit used in case of offset based pagination.
+     */
+    limit?: number;
+    /**
+     * Offset used in case of offset based pagination.
+     */
+    offset?: number;
+    /**
+     * Total number of entries available to page through.
+     */
+    total: number;
+}
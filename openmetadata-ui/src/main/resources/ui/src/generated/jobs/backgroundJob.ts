@@ -58,12 +58,37 @@ export interface BackgroundJob {
  * Object containing job arguments.
  *
  * Arguments for enum removal job.
+ *
+ * Arguments and progress of a job that rewrites the fully qualified names of the
+ * descendants of a renamed entity.
  */
 export interface EnumCleanupArgs {
+    /**
+     * Steps of the rename that are completed. A restarted job skips them.
+     */
+    completedSteps?: string[];
+    /**
+     * Id of the renamed entity.
+     */
+    entityId?: string;
     /**
      * Type of the entity.
+     *
+     * Type of the renamed entity.
      */
     entityType?: string;
+    /**
+     * Fully qualified name of the entity after the rename.
+     */
+    newFqn?: string;
+    /**
+     * Fully qualified name of the entity before the rename.
+     */
+    oldFqn?: string;
+    /**
+     * Number of descendant entities renamed so far.
+     */
+    processedRecords?: number;
     /**
      * Name of the property.
      */
@@ -72,6 +97,10 @@ export interface EnumCleanupArgs {
      * List of removed enum keys.
      */
     removedEnumKeys?: string[];
+    /**
+     * Number of descendant entities to rename, counted when the job was created.
+     */
+    totalRecords?: number;
     [property: string]: any;
 }
 
@@ -82,6 +111,7 @@ export enum JobType {
     CustomPropertyEnumCleanup = "CUSTOM_PROPERTY_ENUM_CLEANUP",
     DeleteEntity = "DELETE_ENTITY",
     DeleteToken = "DELETE_TOKEN",
+    FqnPrefixRename = "FQN_PREFIX_RENAME",
 }
 
 /**
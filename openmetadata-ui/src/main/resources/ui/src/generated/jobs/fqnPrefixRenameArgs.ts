@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2025 Collate.
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * Arguments and progress of a job that rewrites the fully qualified names of the
+ * descendants of a renamed entity.
+ */
+export interface FqnPrefixRenameArgs {
+    /**
+     * Steps of the rename that are completed. A restarted job skips them.
+     */
+    completedSteps?: string[];
+    /**
+     * Id of the renamed entity.
+     */
+    entityId: string;
+    /**
+     * Type of the renamed entity.
+     */
+    entityType: string;
+    /**
+     * Fully qualified name of the entity after the rename.
+     */
+    newFqn: string;
+    /**
+     * Fully qualified name of the entity before the rename.
+     */
+    oldFqn: string;
+    /**
+     * Number of descendant entities renamed so far.
+     */
+    processedRecords?: number;
+    /**
+     * Number of descendant entities to rename, counted when the job was created.
+     */
+    totalRecords?: number;
+}